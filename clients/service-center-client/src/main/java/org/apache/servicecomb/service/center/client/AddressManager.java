@@ -19,20 +19,50 @@ package org.apache.servicecomb.service.center.client;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.servicecomb.http.client.common.HttpUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * <pre>
+ * select address by health and latency, without global lock:
+ *   1. addresses not quarantined, prefer less consecutive failures, then lower EWMA latency
+ *   2. quarantined address can be probed by one request after backoff expired,
+ *      long-lived connections like watch do not probe, because they can not report the result in time
+ *   3. if all addresses are quarantined, use the one whose backoff expires first
+ *
+ * address is quarantined after {@link #QUARANTINE_FAILURES} consecutive failures,
+ * backoff is doubled for every more failure, until {@link #MAX_BACKOFF}
+ * </pre>
+ */
 public class AddressManager {
+  private static final Logger LOGGER = LoggerFactory.getLogger(AddressManager.class);
+
+  static final int QUARANTINE_FAILURES = 3;
+
+  static final long MIN_BACKOFF = 1000;
+
+  static final long MAX_BACKOFF = 60 * 1000;
+
+  // weight of the latest latency in EWMA
+  static final double EWMA_ALPHA = 0.3;
+
   private final String projectName;
 
-  private final List<String> addresses;
+  private final List<AddressStatus> addresses;
 
-  private int index = 0;
+  // only used to spread requests when status of addresses are equal
+  private final AtomicInteger index = new AtomicInteger();
 
   public AddressManager(String projectName, List<String> addresses) {
     this.projectName = projectName;
     this.addresses = new ArrayList<>(addresses.size());
-    this.addresses.addAll(addresses);
+    for (String address : addresses) {
+      this.addresses.add(new AddressStatus(address));
+    }
   }
 
   private String formatAddress(String address) {
@@ -44,20 +74,173 @@ public class AddressManager {
   }
 
   public boolean sslEnabled() {
-    return address().startsWith("https://");
+    return addresses.get(0).address.startsWith("https://");
   }
 
   public String address() {
-    synchronized (this) {
-      index++;
-      if (index >= addresses.size()) {
-        index = 0;
+    return address(true);
+  }
+
+  public String address(boolean allowProbe) {
+    return select(currentTimeMillis(), allowProbe).address;
+  }
+
+  protected long currentTimeMillis() {
+    return System.currentTimeMillis();
+  }
+
+  private AddressStatus select(long now, boolean allowProbe) {
+    int size = addresses.size();
+    int start = (index.getAndIncrement() & Integer.MAX_VALUE) % size;
+
+    AddressStatus best = null;
+    AddressStatus earliestQuarantined = null;
+    for (int idx = 0; idx < size; idx++) {
+      AddressStatus status = addresses.get((start + idx) % size);
+      if (status.isQuarantined(now)) {
+        if (earliestQuarantined == null || status.quarantineUntil < earliestQuarantined.quarantineUntil) {
+          earliestQuarantined = status;
+        }
+        continue;
+      }
+
+      if (status.isProbing()) {
+        // backoff expired, only the winner send the probe request, others continue to avoid it
+        if (allowProbe && status.tryProbe(now)) {
+          return status;
+        }
+        continue;
+      }
+
+      if (best == null || status.isBetterThan(best)) {
+        best = status;
       }
-      return addresses.get(index);
     }
+
+    if (best != null) {
+      return best;
+    }
+    return earliestQuarantined != null ? earliestQuarantined : addresses.get(start);
   }
 
   public String formatUrl(String url, boolean absoluteUrl) {
-    return absoluteUrl ? address() + url : formatAddress(address()) + url;
+    return formatUrl(url, absoluteUrl, address());
+  }
+
+  public String formatUrl(String url, boolean absoluteUrl, String address) {
+    return absoluteUrl ? address + url : formatAddress(address) + url;
+  }
+
+  public void recordSuccess(String address, long latencyMillis) {
+    AddressStatus status = findStatus(address);
+    if (status != null) {
+      status.onLatency(latencyMillis);
+      status.onSuccess();
+    }
+  }
+
+  /**
+   * success without a comparable latency, eg: websocket connected
+   */
+  public void recordSuccess(String address) {
+    AddressStatus status = findStatus(address);
+    if (status != null) {
+      status.onSuccess();
+    }
+  }
+
+  public void recordFailure(String address) {
+    AddressStatus status = findStatus(address);
+    if (status == null) {
+      return;
+    }
+
+    long backoff = status.onFailure(currentTimeMillis());
+    if (backoff > 0) {
+      LOGGER.warn("address {} failed {} times continuously, quarantine it for {} ms.", address,
+          status.consecutiveFailures.get(), backoff);
+    }
+  }
+
+  private AddressStatus findStatus(String address) {
+    for (AddressStatus status : addresses) {
+      if (status.address.equals(address)) {
+        return status;
+      }
+    }
+    return null;
+  }
+
+  double getEwmaLatency(String address) {
+    return findStatus(address).ewmaLatency;
+  }
+
+  int getConsecutiveFailures(String address) {
+    return findStatus(address).consecutiveFailures.get();
+  }
+
+  static class AddressStatus {
+    final String address;
+
+    final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    // 0 means not quarantined
+    volatile long quarantineUntil;
+
+    // the quarantineUntil that already probed, avoid more than one probe request
+    final AtomicLong probedQuarantine = new AtomicLong();
+
+    // lost update by concurrent requests is acceptable
+    volatile double ewmaLatency;
+
+    AddressStatus(String address) {
+      this.address = address;
+    }
+
+    boolean isQuarantined(long now) {
+      return quarantineUntil > now;
+    }
+
+    boolean isProbing() {
+      return quarantineUntil != 0;
+    }
+
+    boolean tryProbe(long now) {
+      long until = quarantineUntil;
+      long probed = probedQuarantine.get();
+      return until != 0 && until <= now && probed != until && probedQuarantine.compareAndSet(probed, until);
+    }
+
+    boolean isBetterThan(AddressStatus other) {
+      int failures = consecutiveFailures.get();
+      int otherFailures = other.consecutiveFailures.get();
+      if (failures != otherFailures) {
+        return failures < otherFailures;
+      }
+      return ewmaLatency < other.ewmaLatency;
+    }
+
+    void onLatency(long latencyMillis) {
+      double current = ewmaLatency;
+      ewmaLatency = current == 0 ? latencyMillis : current * (1 - EWMA_ALPHA) + latencyMillis * EWMA_ALPHA;
+    }
+
+    void onSuccess() {
+      consecutiveFailures.set(0);
+      quarantineUntil = 0;
+    }
+
+    // return backoff time if quarantined
+    long onFailure(long now) {
+      int failures = consecutiveFailures.incrementAndGet();
+      if (failures < QUARANTINE_FAILURES) {
+        return 0;
+      }
+
+      int shift = Math.min(failures - QUARANTINE_FAILURES, 16);
+      long backoff = Math.min(MAX_BACKOFF, MIN_BACKOFF << shift);
+      quarantineUntil = now + backoff;
+      return backoff;
+    }
   }
 }
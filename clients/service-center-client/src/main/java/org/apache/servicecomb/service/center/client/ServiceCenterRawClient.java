@@ -20,6 +20,7 @@ package org.apache.servicecomb.service.center.client;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.servicecomb.http.client.common.HttpRequest;
 import org.apache.servicecomb.http.client.common.HttpResponse;
@@ -70,22 +71,20 @@ public class ServiceCenterRawClient {
       String method)
       throws IOException {
 
-    String address = addressManager.formatUrl(url, absoluteUrl);
     if (headers == null) {
       headers = new HashMap<>();
     }
     headers.put(HEADER_TENANT_NAME, tenantName);
-    HttpRequest httpRequest = new HttpRequest(address, headers, content, method);
 
+    String address = addressManager.address();
     try {
-      return httpTransport.doRequest(httpRequest);
+      return doHttpRequest(address, url, absoluteUrl, headers, content, method);
     } catch (IOException e) {
-      String retryAddress = addressManager.formatUrl(url, absoluteUrl);
+      String retryAddress = addressManager.address();
       LOGGER.warn("send request to {} failed and retry to {} once. ", address,
           retryAddress, e);
-      httpRequest = new HttpRequest(retryAddress, headers, content, method);
       try {
-        return httpTransport.doRequest(httpRequest);
+        return doHttpRequest(retryAddress, url, absoluteUrl, headers, content, method);
       } catch (IOException ioException) {
         LOGGER.warn("retry to {} failed again. ", retryAddress, e);
         throw ioException;
@@ -93,6 +92,27 @@ public class ServiceCenterRawClient {
     }
   }
 
+  private HttpResponse doHttpRequest(String address, String url, boolean absoluteUrl, Map<String, String> headers,
+      String content, String method) throws IOException {
+    HttpRequest httpRequest = new HttpRequest(addressManager.formatUrl(url, absoluteUrl, address), headers, content,
+        method);
+
+    long start = System.nanoTime();
+    try {
+      HttpResponse httpResponse = httpTransport.doRequest(httpRequest);
+      if (httpResponse.getStatusCode() >= 500) {
+        // service center is unavailable or overloaded, business errors are 4xx
+        addressManager.recordFailure(address);
+        return httpResponse;
+      }
+      addressManager.recordSuccess(address, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+      return httpResponse;
+    } catch (IOException e) {
+      addressManager.recordFailure(address);
+      throw e;
+    }
+  }
+
   public static class Builder {
     private String tenantName;
 
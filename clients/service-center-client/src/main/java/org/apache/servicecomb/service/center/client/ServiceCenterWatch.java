@@ -75,6 +75,8 @@ public class ServiceCenterWatch implements WebSocketListener {
 
   private String currentServerUri;
 
+  private String currentAddress;
+
   private final ExecutorService connector = Executors.newFixedThreadPool(1, (r) -> new
       Thread(r, "web-socket-connector"));
 
@@ -120,7 +122,9 @@ public class ServiceCenterWatch implements WebSocketListener {
   }
 
   private String convertAddress() {
-    String address = addressManager.address();
+    // watch never send probe request to quarantined address, it can only report result when connected or failed
+    String address = addressManager.address(false);
+    currentAddress = address;
     String url = String.format(WATCH, project, serviceId);
     if (address.startsWith(HTTP)) {
       return WS + address.substring(HTTP.length()) + url;
@@ -170,6 +174,9 @@ public class ServiceCenterWatch implements WebSocketListener {
   @Override
   public void onError(Exception e) {
     LOGGER.warn("web socket receive error [{}], will restart.", e.getMessage());
+    if (currentAddress != null) {
+      addressManager.recordFailure(currentAddress);
+    }
     reconnect();
   }
 
@@ -185,5 +192,8 @@ public class ServiceCenterWatch implements WebSocketListener {
         serverHandshake.getHttpStatusMessage());
     continuousError = 0;
     reconnecting.set(false);
+    if (currentAddress != null) {
+      addressManager.recordSuccess(currentAddress);
+    }
   }
 }
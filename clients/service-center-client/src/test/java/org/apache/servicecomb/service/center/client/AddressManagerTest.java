@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.service.center.client;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AddressManagerTest {
+  static class AddressManagerForTest extends AddressManager {
+    long now = 10000;
+
+    AddressManagerForTest(String... addresses) {
+      super("default", Arrays.asList(addresses));
+    }
+
+    @Override
+    protected long currentTimeMillis() {
+      return now;
+    }
+  }
+
+  AddressManagerForTest addressManager = new AddressManagerForTest("http://a", "http://b");
+
+  @Test
+  public void formatUrl() {
+    Assert.assertEquals("http://a/v4/default/registry", addressManager.formatUrl("/registry", false, "http://a"));
+    Assert.assertEquals("http://a/registry", addressManager.formatUrl("/registry", true, "http://a"));
+    Assert.assertFalse(addressManager.sslEnabled());
+  }
+
+  @Test
+  public void roundRobinWhenEqual() {
+    Assert.assertEquals("http://a", addressManager.address());
+    Assert.assertEquals("http://b", addressManager.address());
+    Assert.assertEquals("http://a", addressManager.address());
+  }
+
+  @Test
+  public void preferLowerLatency() {
+    addressManager.recordSuccess("http://a", 100);
+    addressManager.recordSuccess("http://b", 10);
+
+    for (int idx = 0; idx < 4; idx++) {
+      Assert.assertEquals("http://b", addressManager.address());
+    }
+
+    // EWMA follow the latest latency
+    for (int idx = 0; idx < 10; idx++) {
+      addressManager.recordSuccess("http://b", 200);
+    }
+    Assert.assertEquals("http://a", addressManager.address());
+  }
+
+  @Test
+  public void avoidFailedAddress() {
+    addressManager.recordSuccess("http://a", 10);
+    addressManager.recordSuccess("http://b", 100);
+    addressManager.recordFailure("http://a");
+
+    Assert.assertEquals(1, addressManager.getConsecutiveFailures("http://a"));
+    Assert.assertEquals("http://b", addressManager.address());
+  }
+
+  @Test
+  public void quarantineAndProbe() {
+    for (int idx = 0; idx < AddressManager.QUARANTINE_FAILURES; idx++) {
+      addressManager.recordFailure("http://a");
+    }
+    addressManager.recordFailure("http://b");
+
+    // quarantined address is not used even b failed
+    Assert.assertEquals("http://b", addressManager.address());
+    Assert.assertEquals("http://b", addressManager.address());
+
+    // only one probe after backoff expired
+    addressManager.now += AddressManager.MIN_BACKOFF;
+    Assert.assertEquals("http://a", addressManager.address());
+    Assert.assertEquals("http://b", addressManager.address());
+    Assert.assertEquals("http://b", addressManager.address());
+
+    // probe failed, backoff doubled
+    addressManager.recordFailure("http://a");
+    addressManager.now += AddressManager.MIN_BACKOFF;
+    Assert.assertEquals("http://b", addressManager.address());
+    addressManager.now += AddressManager.MIN_BACKOFF;
+    Assert.assertEquals("http://a", addressManager.address());
+
+    // probe succeed, back to normal
+    addressManager.recordSuccess("http://a", 10);
+    addressManager.recordSuccess("http://b", 100);
+    Assert.assertEquals(0, addressManager.getConsecutiveFailures("http://a"));
+    Assert.assertEquals("http://a", addressManager.address());
+    Assert.assertEquals("http://a", addressManager.address());
+  }
+
+  @Test
+  public void noProbeForWatch() {
+    for (int idx = 0; idx < AddressManager.QUARANTINE_FAILURES; idx++) {
+      addressManager.recordFailure("http://a");
+    }
+    addressManager.now += AddressManager.MIN_BACKOFF;
+
+    // watch does not take the probe chance, it is still available for requests
+    Assert.assertEquals("http://b", addressManager.address(false));
+    Assert.assertEquals("http://b", addressManager.address(false));
+    Assert.assertEquals("http://a", addressManager.address());
+
+    // watch connected
+    addressManager.recordSuccess("http://a");
+    Assert.assertEquals(0, addressManager.getConsecutiveFailures("http://a"));
+    Assert.assertEquals(0, addressManager.getEwmaLatency("http://a"), 0);
+  }
+
+  @Test
+  public void allQuarantined() {
+    for (int idx = 0; idx < AddressManager.QUARANTINE_FAILURES; idx++) {
+      addressManager.recordFailure("http://a");
+    }
+    addressManager.now += 10;
+    for (int idx = 0; idx < AddressManager.QUARANTINE_FAILURES; idx++) {
+      addressManager.recordFailure("http://b");
+    }
+
+    Assert.assertEquals("http://a", addressManager.address());
+    Assert.assertEquals("http://a", addressManager.address());
+  }
+
+  @Test
+  public void backoffNotExceedMax() {
+    for (int idx = 0; idx < 100; idx++) {
+      addressManager.recordFailure("http://a");
+    }
+
+    addressManager.now += AddressManager.MAX_BACKOFF - 1;
+    Assert.assertEquals("http://b", addressManager.address());
+    Assert.assertEquals("http://b", addressManager.address());
+    addressManager.now += 1;
+    Assert.assertEquals("http://a", addressManager.address());
+  }
+}
@@ -18,14 +18,24 @@
 package org.apache.servicecomb.service.center.client;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.servicecomb.http.client.auth.DefaultRequestAuthHeaderProvider;
+import org.apache.servicecomb.http.client.common.HttpConfiguration;
 import org.apache.servicecomb.http.client.common.HttpResponse;
 import org.apache.servicecomb.http.client.common.HttpTransport;
+import org.apache.servicecomb.http.client.common.HttpTransportFactory;
 import org.junit.Assert;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import com.sun.net.httpserver.HttpServer;
+
 /**
  * Created by   on 2019/10/16.
  */
@@ -71,4 +81,74 @@ public class ServiceCenterRawClientTest {
     Assert.assertNotNull(actualDeleteResponse);
     Assert.assertEquals("ok", actualDeleteResponse.getContent());
   }
+
+  @Test
+  public void should_avoid_dead_address() throws IOException {
+    AtomicInteger received = new AtomicInteger();
+    HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/", exchange -> {
+      received.incrementAndGet();
+      byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream os = exchange.getResponseBody()) {
+        os.write(body);
+      }
+    });
+    server.start();
+
+    int deadPort;
+    try (ServerSocket serverSocket = new ServerSocket(0)) {
+      deadPort = serverSocket.getLocalPort();
+    }
+    String deadAddress = "http://127.0.0.1:" + deadPort;
+    String liveAddress = "http://127.0.0.1:" + server.getAddress().getPort();
+
+    try {
+      AddressManager addressManager = new AddressManager(PROJECT_NAME, Arrays.asList(deadAddress, liveAddress));
+      ServiceCenterRawClient client = new ServiceCenterRawClient.Builder()
+          .setHttpTransport(HttpTransportFactory
+              .createHttpTransport(new HttpConfiguration.SSLProperties(), new DefaultRequestAuthHeaderProvider()))
+          .setAddressManager(addressManager)
+          .setTenantName(TENANT_NAME)
+          .build();
+
+      for (int idx = 0; idx < 10; idx++) {
+        Assert.assertEquals("ok", client.getHttpRequest("/registry/microservices", null, null).getContent());
+      }
+
+      Assert.assertEquals(10, received.get());
+      // first request failed and retried, after that dead address is avoided
+      Assert.assertEquals(1, addressManager.getConsecutiveFailures(deadAddress));
+      Assert.assertEquals(0, addressManager.getConsecutiveFailures(liveAddress));
+      Assert.assertTrue(addressManager.getEwmaLatency(liveAddress) >= 0);
+    } finally {
+      server.stop(0);
+    }
+  }
+
+  @Test
+  public void should_record_failure_for_server_error() throws IOException {
+    HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/", exchange -> {
+      exchange.sendResponseHeaders(503, -1);
+      exchange.close();
+    });
+    server.start();
+
+    String address = "http://127.0.0.1:" + server.getAddress().getPort();
+    try {
+      AddressManager addressManager = new AddressManager(PROJECT_NAME, Arrays.asList(address));
+      ServiceCenterRawClient client = new ServiceCenterRawClient.Builder()
+          .setHttpTransport(HttpTransportFactory
+              .createHttpTransport(new HttpConfiguration.SSLProperties(), new DefaultRequestAuthHeaderProvider()))
+          .setAddressManager(addressManager)
+          .setTenantName(TENANT_NAME)
+          .build();
+
+      Assert.assertEquals(503, client.getHttpRequest("/registry/microservices", null, null).getStatusCode());
+      Assert.assertEquals(1, addressManager.getConsecutiveFailures(address));
+    } finally {
+      server.stop(0);
+    }
+  }
 }
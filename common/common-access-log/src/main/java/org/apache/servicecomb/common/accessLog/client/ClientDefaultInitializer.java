@@ -20,35 +20,48 @@ package org.apache.servicecomb.common.accessLog.client;
 import org.apache.servicecomb.common.accessLog.AccessLogConfig;
 import org.apache.servicecomb.common.accessLog.AccessLogInitializer;
 import org.apache.servicecomb.common.accessLog.core.AccessLogGenerator;
+import org.apache.servicecomb.core.Invocation;
 import org.apache.servicecomb.core.event.InvocationFinishEvent;
-
+import org.apache.servicecomb.core.invocation.InvocationLifecycleListener;
+import org.apache.servicecomb.core.invocation.InvocationLifecycleListeners;
 import org.apache.servicecomb.swagger.invocation.InvocationType;
+import org.apache.servicecomb.swagger.invocation.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.eventbus.AllowConcurrentEvents;
 import com.google.common.eventbus.EventBus;
-import com.google.common.eventbus.Subscribe;
 
-public class ClientDefaultInitializer implements AccessLogInitializer {
+/**
+ * listen the invocation lifecycle directly, the finish event is only created when client log enabled
+ */
+public class ClientDefaultInitializer implements AccessLogInitializer, InvocationLifecycleListener {
   private static Logger LOGGER = LoggerFactory.getLogger("requestlog");
 
   private AccessLogGenerator accessLogGenerator;
 
+  @Override
+  public int getOrder() {
+    return AccessLogInitializer.super.getOrder();
+  }
+
   @Override
   public void init(EventBus eventBus, AccessLogConfig accessLogConfig) {
     if (!accessLogConfig.isClientLogEnabled()) {
       return;
     }
     accessLogGenerator = new AccessLogGenerator(accessLogConfig.getClientLogPattern());
-    eventBus.register(this);
+    InvocationLifecycleListeners.register(this);
   }
 
-  @Subscribe
-  @AllowConcurrentEvents
-  public void onRequestOut(InvocationFinishEvent finishEvent) {
-    if (InvocationType.CONSUMER.equals(finishEvent.getInvocation().getInvocationType())) {
-        LOGGER.info(accessLogGenerator.generateClientLog(finishEvent));
+  @Override
+  public void destroy() {
+    InvocationLifecycleListeners.unregister(this);
+  }
+
+  @Override
+  public void onFinish(Invocation invocation, Response response) {
+    if (InvocationType.CONSUMER.equals(invocation.getInvocationType())) {
+      LOGGER.info(accessLogGenerator.generateClientLog(new InvocationFinishEvent(invocation, response)));
     }
   }
 }
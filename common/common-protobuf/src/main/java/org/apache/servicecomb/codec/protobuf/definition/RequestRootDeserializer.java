@@ -22,32 +22,39 @@ import java.util.Map;
 
 import org.apache.servicecomb.foundation.protobuf.RootDeserializer;
 import org.apache.servicecomb.foundation.protobuf.internal.bean.PropertyWrapper;
+import org.apache.servicecomb.swagger.invocation.arguments.ArgumentSlots;
+import org.apache.servicecomb.swagger.invocation.arguments.SlotArguments;
 
 public class RequestRootDeserializer<T> {
   private boolean wrapArgument;
 
   private String parameterName;
 
+  private ArgumentSlots argumentSlots;
+
   private RootDeserializer<T> rootDeserializer;
 
   public RequestRootDeserializer(RootDeserializer<T> rootDeserializer, boolean wrapArgument, String parameterName) {
     this.rootDeserializer = rootDeserializer;
     this.wrapArgument = wrapArgument;
     this.parameterName = parameterName;
+    if (parameterName != null) {
+      this.argumentSlots = new ArgumentSlots(parameterName);
+    }
   }
 
   @SuppressWarnings("unchecked")
   public Map<String, Object> deserialize(byte[] bytes) throws IOException {
     if (!wrapArgument) {
-      Map<String, Object> result = new HashMap<>(1);
       Object obj = rootDeserializer.deserialize(bytes);
       if (obj instanceof PropertyWrapper) {
         obj = ((PropertyWrapper) obj).getValue();
       }
       if (parameterName == null) {
-        return result;
+        return new HashMap<>(1);
       }
-      result.put(parameterName, obj);
+      SlotArguments result = argumentSlots.createArguments();
+      result.setValue(0, obj);
       return result;
     } else {
       return (Map<String, Object>) rootDeserializer.deserialize(bytes);
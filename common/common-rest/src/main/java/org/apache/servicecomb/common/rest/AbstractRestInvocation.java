@@ -17,16 +17,14 @@
 
 package org.apache.servicecomb.common.rest;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response.Status;
 
-import org.apache.commons.lang3.StringUtils;
+import org.apache.servicecomb.common.rest.codec.InvocationContextCodec;
 import org.apache.servicecomb.common.rest.codec.produce.ProduceProcessor;
 import org.apache.servicecomb.common.rest.codec.produce.ProduceProcessorManager;
 import org.apache.servicecomb.common.rest.definition.RestOperationMeta;
@@ -41,7 +39,6 @@ import org.apache.servicecomb.core.Invocation;
 import org.apache.servicecomb.core.definition.MicroserviceMeta;
 import org.apache.servicecomb.core.definition.OperationMeta;
 import org.apache.servicecomb.foundation.common.Holder;
-import org.apache.servicecomb.foundation.common.utils.JsonUtils;
 import org.apache.servicecomb.foundation.vertx.http.HttpServletRequestEx;
 import org.apache.servicecomb.foundation.vertx.http.HttpServletResponseEx;
 import org.apache.servicecomb.swagger.invocation.Response;
@@ -99,15 +96,7 @@ public abstract class AbstractRestInvocation {
   }
 
   protected void setContext() throws Exception {
-    String strCseContext = requestEx.getHeader(Const.CSE_CONTEXT);
-    if (StringUtils.isEmpty(strCseContext)) {
-      return;
-    }
-
-    @SuppressWarnings("unchecked")
-    Map<String, String> cseContext =
-        JsonUtils.readValue(strCseContext.getBytes(StandardCharsets.UTF_8), Map.class);
-    invocation.mergeContext(cseContext);
+    InvocationContextCodec.decode(invocation, requestEx.getHeader(Const.CSE_CONTEXT));
   }
 
   public String getContext(String key) {
@@ -21,13 +21,12 @@ import static javax.ws.rs.core.Response.Status.NOT_FOUND;
 import static org.apache.servicecomb.core.exception.ExceptionCodes.GENERIC_CLIENT;
 import static org.apache.servicecomb.core.exception.ExceptionCodes.NOT_DEFINED_ANY_SCHEMA;
 
-import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.Nonnull;
 import javax.ws.rs.core.HttpHeaders;
 
-import org.apache.commons.lang3.StringUtils;
+import org.apache.servicecomb.common.rest.codec.InvocationContextCodec;
 import org.apache.servicecomb.common.rest.codec.produce.ProduceProcessor;
 import org.apache.servicecomb.common.rest.definition.RestOperationMeta;
 import org.apache.servicecomb.common.rest.locator.OperationLocator;
@@ -44,7 +43,6 @@ import org.apache.servicecomb.foundation.vertx.http.HttpServletResponseEx;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.vertx.core.json.Json;
 
 public abstract class RestProducerInvocationCreator implements InvocationCreator {
   private static final Logger LOGGER = LoggerFactory.getLogger(RestVertxProducerInvocationCreator.class);
@@ -89,14 +87,7 @@ public abstract class RestProducerInvocationCreator implements InvocationCreator
   }
 
   protected void initInvocationContext(Invocation invocation) {
-    String strCseContext = requestEx.getHeader(Const.CSE_CONTEXT);
-    if (StringUtils.isEmpty(strCseContext)) {
-      return;
-    }
-
-    @SuppressWarnings("unchecked")
-    Map<String, String> invocationContext = Json.decodeValue(strCseContext, Map.class);
-    invocation.mergeContext(invocationContext);
+    InvocationContextCodec.decode(invocation, requestEx.getHeader(Const.CSE_CONTEXT));
   }
 
   protected abstract void initTransportContext(Invocation invocation);
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.common.rest.codec;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.servicecomb.foundation.common.utils.JsonUtils;
+import org.apache.servicecomb.swagger.invocation.context.InvocationContext;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.annotations.VisibleForTesting;
+import com.netflix.config.DynamicPropertyFactory;
+
+/**
+ * <pre>
+ * encode/decode invocation context to/from x-cse-context header
+ *
+ * two formats:
+ *   json: {"k1":"v1","k2":"v2"}
+ *   compact: ~2:k12:v12:k22:v2, every key and value is prefixed by its length, -1 means null
+ *
+ * decoder always accept both formats, so must upgrade all providers before consumers enable compact format
+ * if context contains control characters, always use json format, and the json result is not reused
+ *
+ * a producer keeps the received header in local context, when it invokes other microservice with the context
+ * it received, and the context is not changed, will reuse the received header without encoding again
+ * </pre>
+ */
+public final class InvocationContextCodec {
+  public static final String CONFIG_ENCODING = "servicecomb.rest.client.context.encoding";
+
+  public static final String ENCODING_JSON = "json";
+
+  public static final String ENCODING_COMPACT = "compact";
+
+  static final char COMPACT_PREFIX = '~';
+
+  // local context key of the received header, child invocations inherit it from the parent context
+  static final String RECEIVED_CONTEXT = "servicecomb-rest-received-context";
+
+  static class ReceivedContext {
+    final String header;
+
+    // the context decoded from header, never changed
+    final Map<String, String> context;
+
+    ReceivedContext(String header, Map<String, String> context) {
+      this.header = header;
+      this.context = context;
+    }
+  }
+
+  private InvocationContextCodec() {
+  }
+
+  public static boolean isCompactEnabled() {
+    return ENCODING_COMPACT.equalsIgnoreCase(
+        DynamicPropertyFactory.getInstance().getStringProperty(CONFIG_ENCODING, ENCODING_JSON).get());
+  }
+
+  public static String encode(Map<String, String> context) throws JsonProcessingException {
+    if (context == null) {
+      return JsonUtils.writeValueAsString(null);
+    }
+
+    return isCompactEnabled() && canEncodeCompact(context) ?
+        encodeCompact(context) : JsonUtils.writeValueAsString(context);
+  }
+
+  /**
+   * reuse the header received by the producer if the context is not changed
+   */
+  public static String encode(InvocationContext invocationContext) throws JsonProcessingException {
+    Map<String, String> context = invocationContext.getContext();
+    ReceivedContext received = invocationContext.getLocalContext(RECEIVED_CONTEXT);
+    if (received != null && isCompact(received.header) == isCompactEnabled() && received.context.equals(context)) {
+      return received.header;
+    }
+
+    return encode(context);
+  }
+
+  /**
+   * @return a new mutable map, or null if header is empty
+   */
+  public static Map<String, String> decode(String header) {
+    if (StringUtils.isEmpty(header)) {
+      return null;
+    }
+
+    return isCompact(header) ? decodeCompact(header) : decodeJson(header);
+  }
+
+  /**
+   * decode header and merge into the invocation context, and keep the header in local context
+   */
+  public static void decode(InvocationContext invocationContext, String header) {
+    Map<String, String> context = decode(header);
+    if (context == null) {
+      return;
+    }
+
+    invocationContext.addLocalContext(RECEIVED_CONTEXT, new ReceivedContext(header, context));
+    invocationContext.mergeContext(new HashMap<>(context));
+  }
+
+  private static boolean isCompact(String header) {
+    return header.charAt(0) == COMPACT_PREFIX;
+  }
+
+  private static boolean canEncodeCompact(Map<String, String> context) {
+    for (Entry<String, String> entry : context.entrySet()) {
+      if (hasControlChar(entry.getKey()) || hasControlChar(entry.getValue())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean hasControlChar(String value) {
+    if (value == null) {
+      return false;
+    }
+
+    for (int idx = 0; idx < value.length(); idx++) {
+      char ch = value.charAt(idx);
+      if (ch < ' ' || ch == 0x7f) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @VisibleForTesting
+  static String encodeCompact(Map<String, String> context) {
+    StringBuilder sb = new StringBuilder();
+    sb.append(COMPACT_PREFIX);
+    for (Entry<String, String> entry : context.entrySet()) {
+      appendCompact(sb, entry.getKey());
+      appendCompact(sb, entry.getValue());
+    }
+    return sb.toString();
+  }
+
+  private static void appendCompact(StringBuilder sb, String value) {
+    if (value == null) {
+      sb.append("-1:");
+      return;
+    }
+
+    sb.append(value.length()).append(':').append(value);
+  }
+
+  private static Map<String, String> decodeCompact(String header) {
+    Map<String, String> context = new HashMap<>();
+    int[] pos = {1};
+    while (pos[0] < header.length()) {
+      String key = readCompact(header, pos, false);
+      String value = readCompact(header, pos, true);
+      context.put(key, value);
+    }
+    return context;
+  }
+
+  private static String readCompact(String header, int[] pos, boolean nullable) {
+    int colon = header.indexOf(':', pos[0]);
+    if (colon < 0) {
+      throw new IllegalArgumentException("invalid compact invocation context: " + header);
+    }
+
+    int length;
+    try {
+      length = Integer.parseInt(header.substring(pos[0], colon));
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("invalid compact invocation context: " + header, e);
+    }
+
+    if (length < 0) {
+      if (!nullable || length != -1) {
+        throw new IllegalArgumentException("invalid compact invocation context: " + header);
+      }
+      pos[0] = colon + 1;
+      return null;
+    }
+
+    int end = colon + 1 + length;
+    if (end > header.length()) {
+      throw new IllegalArgumentException("invalid compact invocation context: " + header);
+    }
+    pos[0] = end;
+    return header.substring(colon + 1, end);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, String> decodeJson(String header) {
+    try {
+      return JsonUtils.OBJ_MAPPER.readValue(header, HashMap.class);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("invalid json invocation context: " + header, e);
+    }
+  }
+}
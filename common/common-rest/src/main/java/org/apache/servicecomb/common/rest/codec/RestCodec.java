@@ -17,7 +17,6 @@
 
 package org.apache.servicecomb.common.rest.codec;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -56,28 +55,33 @@ public final class RestCodec {
       RestOperationMeta restOperation) throws InvocationException {
     List<RestParam> paramList = restOperation.getParamList();
 
-    Map<String, Object> paramValues = new HashMap<>();
+    Map<String, Object> paramValues = restOperation.createSwaggerArguments();
     for (int idx = 0; idx < paramList.size(); idx++) {
       RestParam param = paramList.get(idx);
       try {
         paramValues.put(param.getParamName(), param.getParamProcessor().getValue(request));
       } catch (Exception e) {
-        // Avoid information leak of user input, and add option for debug use.
-        String message = String
-            .format("Parameter is not valid for operation [%s]. Parameter is [%s]. Processor is [%s].",
-                restOperation.getOperationMeta().getMicroserviceQualifiedName(),
-                param.getParamName(),
-                param.getParamProcessor().getProcessorType());
-        if (DynamicPropertyFactory.getInstance().getBooleanProperty(
-            RestConst.PRINT_CODEC_ERROR_MESSGAGE, false).get()) {
-          LOG.error(message, e);
-        } else {
-          LOG.error("{} Add {}=true to print the details.", message, RestConst.PRINT_CODEC_ERROR_MESSGAGE);
-        }
-        throw new InvocationException(Status.BAD_REQUEST, message);
+        throw createInvalidParamException(restOperation, param, e);
       }
     }
 
     return paramValues;
   }
+
+  public static InvocationException createInvalidParamException(RestOperationMeta restOperation, RestParam param,
+      Exception e) {
+    // Avoid information leak of user input, and add option for debug use.
+    String message = String
+        .format("Parameter is not valid for operation [%s]. Parameter is [%s]. Processor is [%s].",
+            restOperation.getOperationMeta().getMicroserviceQualifiedName(),
+            param.getParamName(),
+            param.getParamProcessor().getProcessorType());
+    if (DynamicPropertyFactory.getInstance().getBooleanProperty(
+        RestConst.PRINT_CODEC_ERROR_MESSGAGE, false).get()) {
+      LOG.error(message, e);
+    } else {
+      LOG.error("{} Add {}=true to print the details.", message, RestConst.PRINT_CODEC_ERROR_MESSGAGE);
+    }
+    return new InvocationException(Status.BAD_REQUEST, message);
+  }
 }
@@ -30,6 +30,9 @@ public abstract class AbstractParamProcessor implements ParamValueProcessor {
 
   protected boolean required = false;
 
+  // null if targetType is not supported by ParamValueConverters
+  protected ParamValueConverter valueConverter;
+
   public Object getDefaultValue() {
     return defaultValue;
   }
@@ -43,6 +46,18 @@ public abstract class AbstractParamProcessor implements ParamValueProcessor {
         targetType != null && targetType.getRawClass().isPrimitive()) {
       this.defaultValue = Defaults.defaultValue(targetType.getRawClass());
     }
+    this.valueConverter = ParamValueConverters.compile(targetType);
+  }
+
+  @Override
+  public Object convertValue(Object value, JavaType targetType) {
+    if (valueConverter != null && value != null && targetType == this.targetType && getSerialViewClass() == null) {
+      Object result = valueConverter.convert(value);
+      if (result != ParamValueConverter.NOT_CONVERTED) {
+        return result;
+      }
+    }
+    return ParamValueProcessor.super.convertValue(value, targetType);
   }
 
   @Override
@@ -96,11 +96,18 @@ public class BodyProcessorCreator implements ParamValueProcessorCreator {
       return serialViewClass;
     }
 
+    /**
+     * for consumers that already have the body object, eg: RestTemplate
+     */
+    public Object convertBody(Object body) {
+      return convertValue(body, targetType);
+    }
+
     @Override
     public Object getValue(HttpServletRequest request) throws Exception {
       Object body = request.getAttribute(RestConst.BODY_PARAMETER);
       if (body != null) {
-        return convertValue(body, targetType);
+        return convertBody(body);
       }
 
       // edge support convert from form-data or x-www-form-urlencoded to json automatically
@@ -207,7 +214,7 @@ public class BodyProcessorCreator implements ParamValueProcessorCreator {
     public Object getValue(HttpServletRequest request) throws Exception {
       Object body = request.getAttribute(RestConst.BODY_PARAMETER);
       if (body != null) {
-        return convertValue(body, targetType);
+        return convertBody(body);
       }
 
       InputStream inputStream = request.getInputStream();
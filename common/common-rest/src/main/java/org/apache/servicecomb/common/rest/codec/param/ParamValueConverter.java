@@ -0,0 +1,34 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.common.rest.codec.param;
+
+/**
+ * convert raw value of query/path/header/cookie/form parameter to the target type without ObjectMapper
+ * <pre>
+ * only handle canonical values, eg: "42" to int
+ * for other values, eg: empty, out of range, textual null, return {@link #NOT_CONVERTED},
+ * caller must fall back to ObjectMapper, so the result and error are the same as ObjectMapper
+ * </pre>
+ * see {@link ParamValueConverters}
+ */
+@FunctionalInterface
+public interface ParamValueConverter {
+  Object NOT_CONVERTED = new Object();
+
+  Object convert(Object value);
+}
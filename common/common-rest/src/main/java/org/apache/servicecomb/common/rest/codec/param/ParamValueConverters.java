@@ -0,0 +1,278 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.common.rest.codec.param;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.apache.servicecomb.common.rest.codec.RestObjectMapperFactory;
+import org.apache.servicecomb.foundation.common.utils.RestObjectMapper;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.util.ClassUtil;
+
+/**
+ * compile {@link ParamValueConverter} for a target type when operation meta created
+ * <pre>
+ * supported: String, primitives and boxed types except char, enum without jackson customization,
+ *   and List/Set/Collection/array of them
+ * others, eg: date, BigDecimal, POJO, return null, and will always be converted by ObjectMapper
+ * also return null if the rest mapper is not the stock {@link RestObjectMapper}, or any jackson module
+ *   registered a custom deserializer for the target type, they must be converted by the mapper
+ * </pre>
+ */
+public final class ParamValueConverters {
+  private static final int MAX_LONG_DIGITS = 18;
+
+  private static final Map<Class<?>, ParamValueConverter> SCALAR_CONVERTERS = new HashMap<>();
+
+  static {
+    SCALAR_CONVERTERS.put(String.class, value -> value instanceof String ? value : ParamValueConverter.NOT_CONVERTED);
+    registerScalar(ParamValueConverters::convertBoolean, boolean.class, Boolean.class);
+    registerScalar(value -> convertLong(value, Byte.MIN_VALUE, Byte.MAX_VALUE, Long::byteValue),
+        byte.class, Byte.class);
+    registerScalar(value -> convertLong(value, Short.MIN_VALUE, Short.MAX_VALUE, Long::shortValue),
+        short.class, Short.class);
+    registerScalar(value -> convertLong(value, Integer.MIN_VALUE, Integer.MAX_VALUE, Long::intValue),
+        int.class, Integer.class);
+    registerScalar(value -> convertLong(value, Long.MIN_VALUE, Long.MAX_VALUE, v -> v),
+        long.class, Long.class);
+    registerScalar(value -> convertDouble(value, Float::parseFloat), float.class, Float.class);
+    registerScalar(value -> convertDouble(value, Double::parseDouble), double.class, Double.class);
+  }
+
+  private interface LongNarrower {
+    Object narrow(Long value);
+  }
+
+  private interface DoubleParser {
+    Object parse(String value);
+  }
+
+  private ParamValueConverters() {
+  }
+
+  private static void registerScalar(ParamValueConverter converter, Class<?>... types) {
+    for (Class<?> type : types) {
+      SCALAR_CONVERTERS.put(type, converter);
+    }
+  }
+
+  /**
+   * @return null if the target type is not supported
+   */
+  public static ParamValueConverter compile(JavaType targetType) {
+    if (targetType == null) {
+      return null;
+    }
+
+    // customized mapper may override convertValue
+    ObjectMapper mapper = RestObjectMapperFactory.getRestObjectMapper();
+    if (mapper.getClass() != RestObjectMapper.class || !isStdDeserializer(mapper, targetType)) {
+      return null;
+    }
+
+    if (targetType.isArrayType()) {
+      ParamValueConverter elementConverter = compileScalar(mapper, targetType.getContentType());
+      Class<?> elementType = targetType.getContentType().getRawClass();
+      return elementConverter == null ? null : value -> convertArray(value, elementConverter, elementType);
+    }
+
+    if (targetType.isCollectionLikeType()) {
+      Supplier<Collection<Object>> factory = findCollectionFactory(targetType.getRawClass());
+      ParamValueConverter elementConverter = compileScalar(mapper, targetType.getContentType());
+      return factory == null || elementConverter == null ? null
+          : value -> convertCollection(value, elementConverter, factory);
+    }
+
+    return compileScalar(mapper, targetType);
+  }
+
+  private static ParamValueConverter compileScalar(ObjectMapper mapper, JavaType targetType) {
+    if (targetType.hasGenericTypes() || !isStdDeserializer(mapper, targetType)) {
+      return null;
+    }
+
+    Class<?> cls = targetType.getRawClass();
+    if (cls.isEnum()) {
+      return compileEnum(mapper, cls);
+    }
+    return SCALAR_CONVERTERS.get(cls);
+  }
+
+  private static boolean isStdDeserializer(ObjectMapper mapper, JavaType targetType) {
+    try {
+      DefaultDeserializationContext context = ((DefaultDeserializationContext) mapper.getDeserializationContext())
+          .createInstance(mapper.getDeserializationConfig(), null, null);
+      JsonDeserializer<Object> deserializer = context.findRootValueDeserializer(targetType);
+      return ClassUtil.isJacksonStdImpl(deserializer);
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  private static Supplier<Collection<Object>> findCollectionFactory(Class<?> cls) {
+    // same with the default implementations of jackson
+    if (cls == List.class || cls == Collection.class || cls == ArrayList.class) {
+      return ArrayList::new;
+    }
+    if (cls == Set.class || cls == HashSet.class) {
+      return HashSet::new;
+    }
+    return null;
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static ParamValueConverter compileEnum(ObjectMapper mapper, Class<?> cls) {
+    if (mapper.isEnabled(DeserializationFeature.READ_ENUMS_USING_TO_STRING)
+        || mapper.findMixInClassFor(cls) != null
+        || hasAnnotation(cls.getDeclaredFields())
+        || hasAnnotation(cls.getDeclaredMethods())) {
+      // maybe customized by @JsonProperty/@JsonValue/@JsonCreator and so on
+      return null;
+    }
+
+    Map<String, Object> values = new HashMap<>();
+    for (Object value : cls.getEnumConstants()) {
+      values.put(((Enum) value).name(), value);
+    }
+    return value -> value instanceof String ?
+        values.getOrDefault(value, ParamValueConverter.NOT_CONVERTED) : ParamValueConverter.NOT_CONVERTED;
+  }
+
+  private static boolean hasAnnotation(AnnotatedElement[] elements) {
+    return Arrays.stream(elements).anyMatch(element -> element.getAnnotations().length != 0);
+  }
+
+  private static Object convertArray(Object value, ParamValueConverter elementConverter, Class<?> elementType) {
+    Object[] values = toArray(value);
+    if (values == null) {
+      return ParamValueConverter.NOT_CONVERTED;
+    }
+
+    Object result = Array.newInstance(elementType, values.length);
+    for (int idx = 0; idx < values.length; idx++) {
+      Object element = elementConverter.convert(values[idx]);
+      if (element == ParamValueConverter.NOT_CONVERTED) {
+        return ParamValueConverter.NOT_CONVERTED;
+      }
+      Array.set(result, idx, element);
+    }
+    return result;
+  }
+
+  private static Object convertCollection(Object value, ParamValueConverter elementConverter,
+      Supplier<Collection<Object>> factory) {
+    Object[] values = toArray(value);
+    if (values == null) {
+      return ParamValueConverter.NOT_CONVERTED;
+    }
+
+    Collection<Object> result = factory.get();
+    for (Object raw : values) {
+      Object element = elementConverter.convert(raw);
+      if (element == ParamValueConverter.NOT_CONVERTED) {
+        return ParamValueConverter.NOT_CONVERTED;
+      }
+      result.add(element);
+    }
+    return result;
+  }
+
+  private static Object[] toArray(Object value) {
+    if (value instanceof Object[]) {
+      return (Object[]) value;
+    }
+    if (value instanceof Collection) {
+      return ((Collection<?>) value).toArray();
+    }
+    return null;
+  }
+
+  private static Object convertBoolean(Object value) {
+    if ("true".equals(value)) {
+      return Boolean.TRUE;
+    }
+    if ("false".equals(value)) {
+      return Boolean.FALSE;
+    }
+    return ParamValueConverter.NOT_CONVERTED;
+  }
+
+  private static Object convertLong(Object value, long min, long max, LongNarrower narrower) {
+    if (!(value instanceof String)) {
+      return ParamValueConverter.NOT_CONVERTED;
+    }
+
+    String text = (String) value;
+    int start = text.startsWith("-") ? 1 : 0;
+    int digits = text.length() - start;
+    if (digits == 0 || digits > MAX_LONG_DIGITS) {
+      return ParamValueConverter.NOT_CONVERTED;
+    }
+
+    long result = 0;
+    for (int idx = start; idx < text.length(); idx++) {
+      char ch = text.charAt(idx);
+      if (ch < '0' || ch > '9') {
+        return ParamValueConverter.NOT_CONVERTED;
+      }
+      result = result * 10 + (ch - '0');
+    }
+    if (start == 1) {
+      result = -result;
+    }
+    if (result < min || result > max) {
+      return ParamValueConverter.NOT_CONVERTED;
+    }
+    return narrower.narrow(result);
+  }
+
+  private static Object convertDouble(Object value, DoubleParser parser) {
+    if (!(value instanceof String) || ((String) value).isEmpty()) {
+      return ParamValueConverter.NOT_CONVERTED;
+    }
+
+    String text = (String) value;
+    for (int idx = 0; idx < text.length(); idx++) {
+      char ch = text.charAt(idx);
+      if ((ch < '0' || ch > '9') && ch != '.' && ch != '-' && ch != '+' && ch != 'e' && ch != 'E') {
+        return ParamValueConverter.NOT_CONVERTED;
+      }
+    }
+
+    try {
+      return parser.parse(text);
+    } catch (NumberFormatException e) {
+      return ParamValueConverter.NOT_CONVERTED;
+    }
+  }
+}
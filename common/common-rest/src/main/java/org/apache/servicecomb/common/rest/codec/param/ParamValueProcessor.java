@@ -17,12 +17,16 @@
 
 package org.apache.servicecomb.common.rest.codec.param;
 
+import java.io.IOException;
+
 import javax.servlet.http.HttpServletRequest;
 
 import org.apache.servicecomb.common.rest.codec.RestClientRequest;
 import org.apache.servicecomb.common.rest.codec.RestObjectMapperFactory;
 
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 public interface ParamValueProcessor {
   Object getValue(HttpServletRequest request) throws Exception;
@@ -34,9 +38,15 @@ public interface ParamValueProcessor {
       return value;
     }
     if (getSerialViewClass() != null) {
-      return RestObjectMapperFactory.getRestViewMapper().setConfig(
-          RestObjectMapperFactory.getRestViewMapper().getDeserializationConfig().withView(getSerialViewClass()))
-          .convertValue(value, targetType);
+      // not change config of the shared view mapper, that is not thread safe
+      ObjectMapper viewMapper = RestObjectMapperFactory.getRestViewMapper();
+      try {
+        return viewMapper.readerWithView(getSerialViewClass())
+            .forType(targetType)
+            .readValue(viewMapper.<JsonNode>valueToTree(value));
+      } catch (IOException e) {
+        throw new IllegalArgumentException(e.getMessage(), e);
+      }
     }
     return RestObjectMapperFactory.getRestObjectMapper()
         .convertValue(value, targetType);
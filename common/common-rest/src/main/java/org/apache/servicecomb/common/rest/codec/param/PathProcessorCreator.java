@@ -46,6 +46,13 @@ public class PathProcessorCreator implements ParamValueProcessorCreator {
     public Object getValue(HttpServletRequest request) {
       @SuppressWarnings("unchecked")
       Map<String, String> pathVarMap = (Map<String, String>) request.getAttribute(RestConst.PATH_PARAMETERS);
+      return getValue(pathVarMap);
+    }
+
+    /**
+     * for consumers that already matched path variables, eg: RestTemplate
+     */
+    public Object getValue(Map<String, String> pathVarMap) {
       if (pathVarMap == null) {
         return null;
       }
@@ -18,6 +18,8 @@
 package org.apache.servicecomb.common.rest.codec.param;
 
 import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.core.Response.Status;
@@ -56,11 +58,14 @@ public class QueryProcessorCreator implements ParamValueProcessorCreator {
 
     private QueryCodec queryCodec;
 
+    private boolean valuesDecodable;
+
     public QueryProcessor(QueryParameter queryParameter, JavaType targetType) {
       super(queryParameter.getName(), targetType, queryParameter.getDefaultValue(), queryParameter.getRequired());
 
       this.repeatedType = ArrayProperty.isType(queryParameter.getType());
       this.queryCodec = QueryCodecsUtils.find(queryParameter.getCollectionFormat());
+      this.valuesDecodable = QueryCodec.isValuesDecodable(queryCodec);
     }
 
     @Override
@@ -68,8 +73,23 @@ public class QueryProcessorCreator implements ParamValueProcessorCreator {
       return queryCodec.decode(this, request);
     }
 
+    /**
+     * for consumers that already decoded query to map, eg: RestTemplate
+     * only available when {@link #isValuesDecodable()}
+     */
+    public Object getValue(Map<String, List<String>> queryParams) {
+      return queryCodec.decode(this, queryParams.get(paramPath));
+    }
+
     public Object getAndCheckParameter(HttpServletRequest request) {
-      Object value = request.getParameter(paramPath);
+      return checkParameter(request.getParameter(paramPath));
+    }
+
+    public Object getAndCheckParameter(List<String> values) {
+      return checkParameter(values == null || values.isEmpty() ? null : values.get(0));
+    }
+
+    private Object checkParameter(Object value) {
       // make some old systems happy
       if (emptyAsNull && StringUtils.isEmpty((String) value)) {
         value = null;
@@ -108,6 +128,10 @@ public class QueryProcessorCreator implements ParamValueProcessorCreator {
       return repeatedType;
     }
 
+    public boolean isValuesDecodable() {
+      return valuesDecodable;
+    }
+
     public Object convertValue(Object value) {
       return convertValue(value, targetType);
     }
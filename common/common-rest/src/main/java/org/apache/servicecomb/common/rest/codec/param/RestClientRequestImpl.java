@@ -93,6 +93,10 @@ public class RestClientRequestImpl implements RestClientRequest {
     return bodyBuffer;
   }
 
+  public boolean hasUploads() {
+    return !uploads.isEmpty();
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public void attach(String name, Object partOrList) {
@@ -19,6 +19,7 @@ package org.apache.servicecomb.common.rest.codec.query;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -52,4 +53,25 @@ public interface QueryCodec extends Ordered {
   void encode(URLPathStringBuilder builder, String name, @Nullable Object value) throws Exception;
 
   Object decode(QueryProcessor processor, HttpServletRequest request);
+
+  /**
+   * decode from values already parsed from query string, for consumers like RestTemplate
+   * @param values null if the parameter not exists
+   */
+  default Object decode(QueryProcessor processor, @Nullable List<String> values) {
+    throw new UnsupportedOperationException(getClass().getName() + " can only decode from request.");
+  }
+
+  static boolean isValuesDecodable(@Nullable QueryCodec codec) {
+    if (codec == null) {
+      return false;
+    }
+
+    try {
+      return codec.getClass().getMethod("decode", QueryProcessor.class, List.class).getDeclaringClass()
+          != QueryCodec.class;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
 }
@@ -16,6 +16,8 @@
  */
 package org.apache.servicecomb.common.rest.codec.query;
 
+import java.util.List;
+
 import javax.annotation.Nullable;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.core.Response.Status;
@@ -54,7 +56,15 @@ public class QueryCodecJson implements QueryCodec {
 
   @Override
   public Object decode(QueryProcessor processor, HttpServletRequest request) {
-    Object value = processor.getAndCheckParameter(request);
+    return readValue(processor, processor.getAndCheckParameter(request));
+  }
+
+  @Override
+  public Object decode(QueryProcessor processor, @Nullable List<String> values) {
+    return readValue(processor, processor.getAndCheckParameter(values));
+  }
+
+  private Object readValue(QueryProcessor processor, Object value) {
     if (value == null) {
       return null;
     }
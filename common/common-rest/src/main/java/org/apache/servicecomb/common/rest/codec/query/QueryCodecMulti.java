@@ -17,8 +17,10 @@
 package org.apache.servicecomb.common.rest.codec.query;
 
 import java.util.Collection;
+import java.util.List;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.servlet.http.HttpServletRequest;
 
 import org.apache.servicecomb.common.rest.codec.param.QueryProcessorCreator.QueryProcessor;
@@ -56,4 +58,14 @@ public class QueryCodecMulti extends AbstractQueryCodec {
     Object value = processor.getAndCheckParameter(request);
     return processor.convertValue(value);
   }
+
+  @Override
+  public Object decode(QueryProcessor processor, @Nullable List<String> values) {
+    if (processor.isRepeatedType()) {
+      return processor.convertValue(values == null ? new String[0] : values.toArray(new String[0]));
+    }
+
+    Object value = processor.getAndCheckParameter(values);
+    return processor.convertValue(value);
+  }
 }
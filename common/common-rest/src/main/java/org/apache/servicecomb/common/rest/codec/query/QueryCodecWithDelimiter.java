@@ -17,9 +17,11 @@
 package org.apache.servicecomb.common.rest.codec.query;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.StringJoiner;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.servlet.http.HttpServletRequest;
 
 import org.apache.servicecomb.common.rest.codec.param.QueryProcessorCreator.QueryProcessor;
@@ -87,7 +89,15 @@ public class QueryCodecWithDelimiter extends AbstractQueryCodec {
 
   @Override
   public Object decode(QueryProcessor processor, HttpServletRequest request) {
-    Object value = processor.getAndCheckParameter(request);
+    return split(processor, processor.getAndCheckParameter(request));
+  }
+
+  @Override
+  public Object decode(QueryProcessor processor, @Nullable List<String> values) {
+    return split(processor, processor.getAndCheckParameter(values));
+  }
+
+  private Object split(QueryProcessor processor, Object value) {
     value = value != null ? value.toString().split(splitDelimiter, -1) : new String[0];
     return processor.convertValue(value);
   }
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.common.rest.compression;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.servicecomb.core.definition.OperationConfig;
+import org.apache.servicecomb.foundation.vertx.stream.BufferOutputStream;
+
+import com.netflix.config.DynamicPropertyFactory;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * <pre>
+ * decide whether a http body is worth compressing, and compress it by gzip
+ *
+ * compress only when:
+ *   1.operation allowed, see {@link OperationConfig}
+ *   2.body size not less than {@link OperationConfig#getCompressionMinSize()}
+ *   3.mime type in the allow list, eg: application/json,text/*
+ * </pre>
+ */
+public class CompressionPolicy {
+  public static final String GZIP = "gzip";
+
+  public static final String IDENTITY = "identity";
+
+  public static final String DEFAULT_MIME_TYPES = "application/json,application/xml,application/javascript,text/*";
+
+  public static final CompressionPolicy SERVER = new CompressionPolicy("servicecomb.rest.server.compressionPolicy.");
+
+  public static final CompressionPolicy CLIENT = new CompressionPolicy("servicecomb.rest.client.compressionPolicy.");
+
+  private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+  private final String configPrefix;
+
+  private volatile MimeTypes mimeTypes = new MimeTypes(null, null);
+
+  private final LongAdder compressed = new LongAdder();
+
+  private final LongAdder originalBytes = new LongAdder();
+
+  private final LongAdder compressedBytes = new LongAdder();
+
+  private final LongAdder compressNanos = new LongAdder();
+
+  private static class MimeTypes {
+    final String config;
+
+    final List<String> values;
+
+    MimeTypes(String config, List<String> values) {
+      this.config = config;
+      this.values = values;
+    }
+  }
+
+  public CompressionPolicy(String configPrefix) {
+    this.configPrefix = configPrefix;
+  }
+
+  /**
+   * compression level of gzip, 1 is the fastest, 9 is the best compression
+   */
+  public int getLevel() {
+    return DynamicPropertyFactory.getInstance().getIntProperty(configPrefix + "level", 6).get();
+  }
+
+  /**
+   * body not less than this size is too large to compress in event loop
+   */
+  public int getLargeSize() {
+    return DynamicPropertyFactory.getInstance().getIntProperty(configPrefix + "largeSize", 64 * 1024).get();
+  }
+
+  public boolean isMimeTypeAllowed(String contentType) {
+    if (StringUtils.isEmpty(contentType)) {
+      return false;
+    }
+
+    int idx = contentType.indexOf(';');
+    String mimeType = (idx == -1 ? contentType : contentType.substring(0, idx)).trim().toLowerCase(Locale.US);
+    for (String allowed : getMimeTypes()) {
+      if (allowed.endsWith("/*") ?
+          mimeType.startsWith(allowed.substring(0, allowed.length() - 1)) : mimeType.equals(allowed)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private List<String> getMimeTypes() {
+    String config = DynamicPropertyFactory.getInstance()
+        .getStringProperty(configPrefix + "mimeTypes", DEFAULT_MIME_TYPES).get();
+    MimeTypes current = mimeTypes;
+    if (!StringUtils.equals(config, current.config)) {
+      current = new MimeTypes(config, Arrays.stream(StringUtils.split(StringUtils.defaultString(config), ','))
+          .map(value -> value.trim().toLowerCase(Locale.US))
+          .filter(StringUtils::isNotEmpty)
+          .collect(Collectors.toList()));
+      mimeTypes = current;
+    }
+    return current.values;
+  }
+
+  public boolean isCompressible(String contentType, int bodySize, int minSize) {
+    return bodySize >= minSize && isMimeTypeAllowed(contentType);
+  }
+
+  public Buffer compress(Buffer body) throws IOException {
+    boolean cpuTimeSupported = THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported();
+    long start = cpuTimeSupported ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : System.nanoTime();
+
+    int level = getLevel();
+    BufferOutputStream output = new BufferOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(output) {
+      {
+        def.setLevel(level);
+      }
+    }) {
+      body.getByteBuf().getBytes(0, gzip, body.length());
+    }
+    Buffer result = output.getBuffer();
+
+    long end = cpuTimeSupported ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : System.nanoTime();
+    compressed.increment();
+    originalBytes.add(body.length());
+    compressedBytes.add(result.length());
+    compressNanos.add(end - start);
+    return result;
+  }
+
+  public long getCompressed() {
+    return compressed.sum();
+  }
+
+  public long getOriginalBytes() {
+    return originalBytes.sum();
+  }
+
+  public long getCompressedBytes() {
+    return compressedBytes.sum();
+  }
+
+  /**
+   * cpu time of the compress thread if supported by jvm, otherwise wall time
+   */
+  public long getCompressNanos() {
+    return compressNanos.sum();
+  }
+}
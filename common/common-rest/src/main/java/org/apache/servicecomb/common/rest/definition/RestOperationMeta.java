@@ -20,6 +20,7 @@ package org.apache.servicecomb.common.rest.definition;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
@@ -40,6 +41,7 @@ import org.apache.servicecomb.core.definition.OperationMeta;
 import org.apache.servicecomb.foundation.common.utils.MimeTypesUtils;
 import org.apache.servicecomb.foundation.vertx.http.HttpServletRequestEx;
 import org.apache.servicecomb.swagger.engine.SwaggerProducerOperation;
+import org.apache.servicecomb.swagger.invocation.arguments.ArgumentSlots;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -75,6 +77,9 @@ public class RestOperationMeta {
 
   protected List<String> fileKeys = new ArrayList<>();
 
+  // compiled by operationMeta, null means not support slots
+  protected ArgumentSlots argumentSlots;
+
   // key为数据类型，比如json之类
   private Map<String, ProduceProcessor> produceProcessorMap = new LinkedHashMap<>();
 
@@ -115,6 +120,7 @@ public class RestOperationMeta {
       RestParam param = new RestParam(parameter, type);
       addParam(param);
     }
+    this.argumentSlots = operationMeta.getSwaggerArgumentSlots();
 
     setAbsolutePath(concatPath(swagger.getBasePath(), operationMeta.getOperationPath()));
   }
@@ -283,6 +289,16 @@ public class RestOperationMeta {
     return paramList;
   }
 
+  /**
+   * @return map of swagger arguments, backed by slots if supported
+   */
+  public Map<String, Object> createSwaggerArguments() {
+    if (argumentSlots == null) {
+      return new HashMap<>(paramList.size());
+    }
+    return argumentSlots.createArguments();
+  }
+
   private void addParam(RestParam param) {
     if (param.getParamProcessor() instanceof PartProcessor) {
       fileKeys.add(param.getParamName());
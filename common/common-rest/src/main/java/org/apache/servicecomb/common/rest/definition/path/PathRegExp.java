@@ -57,6 +57,9 @@ public class PathRegExp {
 
   protected final List<String> varNames = new ArrayList<>();
 
+  // literal chars before the first group, path not starts with it can not match
+  protected final String staticPrefix;
+
   public static String ensureEndWithSlash(String path) {
     if (path.endsWith(SLASH)) {
       return path;
@@ -97,6 +100,18 @@ public class PathRegExp {
     pathPattern.append("(.*)");
 
     pattern = Pattern.compile(pathPattern.toString());
+    staticPrefix = readStaticPrefix(path);
+  }
+
+  // stop at chars that have special meaning in regular expression
+  private static String readStaticPrefix(String path) {
+    for (int idx = 0; idx < path.length(); idx++) {
+      char c = path.charAt(idx);
+      if (!Character.isLetterOrDigit(c) && "/-_~%".indexOf(c) < 0) {
+        return path.substring(0, idx);
+      }
+    }
+    return path;
   }
 
   protected int processGroup(final String path, final int braceIndex,
@@ -196,6 +211,11 @@ public class PathRegExp {
   // 则addressId取值为456
   // 即后面的总是覆盖前面的
   public String match(String path, Map<String, String> varValues) {
+    // dynamic paths are matched one by one, reject most of them without regular expression
+    if (!path.startsWith(staticPrefix)) {
+      return null;
+    }
+
     Matcher matcher = pattern.matcher(path);
     if (!matcher.matches()) {
       return null;
@@ -225,6 +245,10 @@ public class PathRegExp {
     return groupCount;
   }
 
+  public String getStaticPrefix() {
+    return staticPrefix;
+  }
+
   public int getGroupWithRegExpCount() {
     return groupWithRegExpCount;
   }
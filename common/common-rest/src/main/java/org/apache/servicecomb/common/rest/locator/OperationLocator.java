@@ -109,7 +109,7 @@ public class OperationLocator {
 
   // TODO: almost always change path, this make performance lower.
   // Path: /a/b/c -> /a/b/c/
-  static String getStandardPath(String path) {
+  public static String getStandardPath(String path) {
     if (path.length() > 0 && !path.endsWith(SLASH)) {
       path += SLASH;
     }
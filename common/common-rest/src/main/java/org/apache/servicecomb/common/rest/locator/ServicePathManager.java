@@ -93,6 +93,11 @@ public class ServicePathManager {
     return locator;
   }
 
+  // paths used by consumerLocateOperation
+  public MicroservicePaths getConsumerPaths() {
+    return swaggerPaths;
+  }
+
   public void addResource(RestOperationMeta swaggerRestOperation) {
     swaggerPaths.addResource(swaggerRestOperation);
   }
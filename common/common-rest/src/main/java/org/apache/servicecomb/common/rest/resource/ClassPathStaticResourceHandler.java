@@ -18,6 +18,7 @@ package org.apache.servicecomb.common.rest.resource;
 
 import java.io.IOException;
 import java.net.URL;
+import java.net.URLConnection;
 
 import javax.servlet.http.Part;
 
@@ -32,4 +33,16 @@ public class ClassPathStaticResourceHandler extends StaticResourceHandler {
 
     return new InputStreamPart(null, url.openStream()).setSubmittedFileName(path);
   }
+
+  @Override
+  protected long findLastModified(String path) throws IOException {
+    URL url = this.getClass().getClassLoader().getResource(path);
+    if (url == null) {
+      return 0;
+    }
+
+    // for resource in jar, it's the time of jar entry
+    URLConnection connection = url.openConnection();
+    return connection.getLastModified();
+  }
 }
@@ -14,60 +14,347 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
+
 package org.apache.servicecomb.common.rest.resource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.servlet.http.Part;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response.Status;
 
+import org.apache.commons.lang3.StringUtils;
+import org.apache.servicecomb.foundation.common.part.InputStreamPart;
 import org.apache.servicecomb.swagger.invocation.Response;
 import org.apache.servicecomb.swagger.invocation.exception.InvocationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-// TODO: LRU cache for small resource in jar?
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.common.io.BaseEncoding;
+import com.netflix.config.DynamicPropertyFactory;
+
+/**
+ * <pre>
+ * small resources are cached in memory by LRU, together with the pre-gzipped variant "{path}.gz" if exists
+ *   servicecomb.rest.staticResource.cache.maxBytes: total bytes of cache, 0 to disable cache
+ *   servicecomb.rest.staticResource.cache.maxResourceBytes: resource larger than this is not cached
+ *
+ * cached resources have strong ETag and Last-Modified(if known), support If-None-Match and If-Modified-Since
+ * Cache-Control can be set for path prefix by {@link #setCacheControl(String, String)}
+ * </pre>
+ */
 public abstract class StaticResourceHandler {
   private static final Logger LOGGER = LoggerFactory.getLogger(StaticResourceHandler.class);
 
+  public static final String CONFIG_PREFIX = "servicecomb.rest.staticResource.cache.";
+
+  static final String GZIP = "gzip";
+
+  static final String GZIP_SUFFIX = ".gz";
+
   private String webRoot = "webroot/";
 
+  // key is path prefix relate to webRoot
+  private final Map<String, String> cacheControls = new ConcurrentHashMap<>();
+
+  private final int maxResourceBytes;
+
+  // value is null when cache is disabled
+  private final Cache<String, CachedResource> cache;
+
+  public StaticResourceHandler() {
+    long maxBytes = DynamicPropertyFactory.getInstance()
+        .getLongProperty(CONFIG_PREFIX + "maxBytes", 10 * 1024 * 1024).get();
+    this.maxResourceBytes = DynamicPropertyFactory.getInstance()
+        .getIntProperty(CONFIG_PREFIX + "maxResourceBytes", 512 * 1024).get();
+    this.cache = maxBytes <= 0 ? null : CacheBuilder.newBuilder()
+        .maximumWeight(maxBytes)
+        .weigher((String path, CachedResource resource) -> resource.weight())
+        .build();
+  }
+
   public void setWebRoot(String webRoot) {
     this.webRoot = webRoot;
   }
 
+  /**
+   * @param pathPrefix relate to webRoot, empty string means all resources, the longest prefix wins
+   * @param cacheControl value of Cache-Control header
+   */
+  public void setCacheControl(String pathPrefix, String cacheControl) {
+    cacheControls.put(pathPrefix, cacheControl);
+  }
+
   protected abstract Part findResource(String path) throws IOException;
 
+  /**
+   * @return milliseconds, 0 if unknown
+   */
+  protected long findLastModified(String path) throws IOException {
+    return 0;
+  }
+
   public Response handle(String path) {
+    return handle(path, null, null, null);
+  }
+
+  public Response handle(String path, String ifNoneMatch, String ifModifiedSince, String acceptEncoding) {
     path = URI.create(webRoot + path).normalize().getPath();
     if (!path.startsWith(webRoot)) {
       // maybe request of attack, just return 404
       return Response.failResp(new InvocationException(Status.NOT_FOUND, Status.NOT_FOUND.getReasonPhrase()));
     }
 
+    CachedResource cachedResource = null;
     Part part;
     try {
-      part = findResource(path);
+      cachedResource = findCachedResource(path);
+      part = cachedResource != null ? null : findResource(path);
     } catch (Throwable e) {
       LOGGER.error("failed to process static resource, path={}", path, e);
       return Response
           .failResp(new InvocationException(Status.INTERNAL_SERVER_ERROR, "failed to process static resource."));
     }
 
+    String cacheControl = findCacheControl(path.substring(webRoot.length()));
+    if (cachedResource != null) {
+      return handler(cachedResource, cacheControl, ifNoneMatch, ifModifiedSince, acceptEncoding);
+    }
+
     if (part == null) {
       return Response.failResp(new InvocationException(Status.NOT_FOUND, Status.NOT_FOUND.getReasonPhrase()));
     }
 
-    return handler(part);
+    Response response = handler(part);
+    if (cacheControl != null) {
+      response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+    }
+    return response;
   }
 
   public Response handler(Part part) {
-    // todo: cache control
     Response response = Response.ok(part);
     response.setHeader(HttpHeaders.CONTENT_TYPE, part.getContentType());
     response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "inline");
     return response;
   }
+
+  private Response handler(CachedResource resource, String cacheControl, String ifNoneMatch,
+      String ifModifiedSince, String acceptEncoding) {
+    boolean gzip = resource.gzipContent != null && acceptsGzip(acceptEncoding);
+    String etag = gzip ? resource.gzipEtag : resource.etag;
+
+    Response response;
+    if (isNotModified(resource, etag, ifNoneMatch, ifModifiedSince)) {
+      // errorData is null, so body is empty
+      response = Response.create(Status.NOT_MODIFIED, null);
+    } else {
+      Part part = new InputStreamPart(null,
+          new ByteArrayInputStream(gzip ? resource.gzipContent : resource.content))
+          .contentType(resource.contentType);
+      response = handler(part);
+      if (gzip) {
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+      }
+    }
+
+    response.setHeader(HttpHeaders.ETAG, etag);
+    if (resource.lastModified > 0) {
+      response.setHeader(HttpHeaders.LAST_MODIFIED, formatHttpDate(resource.lastModified));
+    }
+    if (resource.gzipContent != null) {
+      response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    }
+    if (cacheControl != null) {
+      response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+    }
+    return response;
+  }
+
+  /**
+   * gzip is accepted if listed or matched by "*", and the quality value is not 0, eg: "gzip;q=0" means refuse gzip
+   */
+  static boolean acceptsGzip(String acceptEncoding) {
+    if (StringUtils.isEmpty(acceptEncoding)) {
+      return false;
+    }
+
+    Boolean wildcard = null;
+    for (String item : acceptEncoding.split(",")) {
+      String[] params = item.split(";");
+      String coding = params[0].trim();
+      boolean accepted = parseQuality(params) > 0;
+      if (GZIP.equalsIgnoreCase(coding) || "x-gzip".equalsIgnoreCase(coding)) {
+        return accepted;
+      }
+      if ("*".equals(coding)) {
+        wildcard = accepted;
+      }
+    }
+    return Boolean.TRUE.equals(wildcard);
+  }
+
+  private static double parseQuality(String[] params) {
+    for (int idx = 1; idx < params.length; idx++) {
+      String param = params[idx].trim();
+      if (param.length() > 2 && Character.toLowerCase(param.charAt(0)) == 'q' && param.charAt(1) == '=') {
+        try {
+          return Double.parseDouble(param.substring(2).trim());
+        } catch (NumberFormatException e) {
+          // invalid quality value, treat as not acceptable
+          return 0;
+        }
+      }
+    }
+    return 1;
+  }
+
+  private boolean isNotModified(CachedResource resource, String etag, String ifNoneMatch, String ifModifiedSince) {
+    // If-Modified-Since is ignored when If-None-Match exists
+    if (ifNoneMatch != null) {
+      for (String candidate : ifNoneMatch.split(",")) {
+        candidate = candidate.trim();
+        // weak comparison
+        if (candidate.equals("*") || StringUtils.removeStart(candidate, "W/").equals(etag)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    if (ifModifiedSince == null || resource.lastModified <= 0) {
+      return false;
+    }
+
+    try {
+      long since = ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME).toEpochSecond();
+      return resource.lastModified / 1000 <= since;
+    } catch (Throwable e) {
+      // invalid date is ignored
+      return false;
+    }
+  }
+
+  private static String formatHttpDate(long millis) {
+    return DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(millis).atZone(ZoneOffset.UTC));
+  }
+
+  @VisibleForTesting
+  String findCacheControl(String relativePath) {
+    String cacheControl = null;
+    int matchedLength = -1;
+    for (Entry<String, String> entry : cacheControls.entrySet()) {
+      String prefix = entry.getKey();
+      if (relativePath.startsWith(prefix) && prefix.length() > matchedLength) {
+        cacheControl = entry.getValue();
+        matchedLength = prefix.length();
+      }
+    }
+    return cacheControl;
+  }
+
+  // return null if not cacheable or not exists
+  private CachedResource findCachedResource(String path) throws IOException {
+    if (cache == null) {
+      return null;
+    }
+
+    CachedResource resource = cache.getIfPresent(path);
+    if (resource == null) {
+      // not exists resource is not cached, to avoid pollute the cache by random path
+      resource = loadResource(path);
+      if (resource == null) {
+        return null;
+      }
+      cache.put(path, resource);
+    }
+    return resource.content != null ? resource : null;
+  }
+
+  private CachedResource loadResource(String path) throws IOException {
+    Part part = findResource(path);
+    if (part == null) {
+      return null;
+    }
+
+    byte[] content = readSmallContent(part);
+    if (content == null) {
+      // too large, only remember that it's not cacheable
+      return new CachedResource(part.getContentType(), null, null, 0);
+    }
+
+    Part gzipPart = findResource(path + GZIP_SUFFIX);
+    byte[] gzipContent = gzipPart == null ? null : readSmallContent(gzipPart);
+    return new CachedResource(part.getContentType(), content, gzipContent, findLastModified(path));
+  }
+
+  // return null if larger than maxResourceBytes
+  private byte[] readSmallContent(Part part) throws IOException {
+    try (InputStream is = part.getInputStream()) {
+      ByteArrayOutputStream os = new ByteArrayOutputStream();
+      byte[] buffer = new byte[8192];
+      for (; ; ) {
+        int len = is.read(buffer);
+        if (len < 0) {
+          return os.toByteArray();
+        }
+
+        os.write(buffer, 0, len);
+        if (os.size() > maxResourceBytes) {
+          return null;
+        }
+      }
+    }
+  }
+
+  static class CachedResource {
+    final String contentType;
+
+    // null means not cacheable
+    final byte[] content;
+
+    final byte[] gzipContent;
+
+    final String etag;
+
+    final String gzipEtag;
+
+    final long lastModified;
+
+    CachedResource(String contentType, byte[] content, byte[] gzipContent, long lastModified) {
+      this.contentType = contentType;
+      this.content = content;
+      this.gzipContent = gzipContent;
+      this.etag = computeEtag(content);
+      this.gzipEtag = computeEtag(gzipContent);
+      this.lastModified = lastModified;
+    }
+
+    private static String computeEtag(byte[] content) {
+      if (content == null) {
+        return null;
+      }
+      return "\"" + BaseEncoding.base64Url().omitPadding().encode(Hashing.sha256().hashBytes(content).asBytes())
+          + "\"";
+    }
+
+    int weight() {
+      return 64 + (content == null ? 0 : content.length) + (gzipContent == null ? 0 : gzipContent.length);
+    }
+  }
 }
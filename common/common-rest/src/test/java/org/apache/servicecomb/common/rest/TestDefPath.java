@@ -17,6 +17,9 @@
 
 package org.apache.servicecomb.common.rest;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.apache.servicecomb.common.rest.definition.path.PathRegExp;
 import org.junit.Assert;
 import org.junit.Test;
@@ -35,4 +38,20 @@ public class TestDefPath {
     Assert.assertEquals("test/", PathRegExp.ensureEndWithSlash("test"));
     Assert.assertEquals(null, oSecondPathRegExp.match("{test/test}", null));
   }
+
+  @Test
+  public void testStaticPrefix() throws Exception {
+    Map<String, String> varValues = new HashMap<>();
+    PathRegExp pathRegExp = new PathRegExp("/v1/users/{id}/address");
+    Assert.assertEquals("/v1/users/", pathRegExp.getStaticPrefix());
+    Assert.assertNull(pathRegExp.match("/v1/orders/1/address/", varValues));
+    Assert.assertTrue(varValues.isEmpty());
+    Assert.assertEquals("", pathRegExp.match("/v1/users/1/address/", varValues));
+    Assert.assertEquals("1", varValues.get("id"));
+
+    // regular expression chars are not part of prefix
+    pathRegExp = new PathRegExp("/a.b/{id}");
+    Assert.assertEquals("/a", pathRegExp.getStaticPrefix());
+    Assert.assertEquals("", pathRegExp.match("/axb/1/", varValues));
+  }
 }
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.common.rest.codec;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.servicecomb.config.ConfigUtil;
+import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
+import org.apache.servicecomb.swagger.invocation.context.InvocationContext;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestInvocationContextCodec {
+  Map<String, String> context = new HashMap<>();
+
+  @Before
+  public void setUp() {
+    ConfigUtil.installDynamicConfig();
+    context.put("k", "v:1");
+    context.put("empty", "");
+    context.put("null", null);
+  }
+
+  @After
+  public void tearDown() {
+    ArchaiusUtils.resetConfig();
+  }
+
+  @Test
+  public void should_encode_json_by_default() throws Exception {
+    String encoded = InvocationContextCodec.encode(context);
+
+    Assert.assertTrue(encoded.startsWith("{"));
+    Assert.assertEquals(context, InvocationContextCodec.decode(encoded));
+  }
+
+  @Test
+  public void should_encode_compact_when_enabled() throws Exception {
+    ArchaiusUtils.setProperty(InvocationContextCodec.CONFIG_ENCODING, InvocationContextCodec.ENCODING_COMPACT);
+    String encoded = InvocationContextCodec.encode(context);
+
+    Assert.assertTrue(encoded.startsWith("~"));
+    Assert.assertEquals(context, InvocationContextCodec.decode(encoded));
+  }
+
+  @Test
+  public void should_encode_json_when_has_control_char() throws Exception {
+    ArchaiusUtils.setProperty(InvocationContextCodec.CONFIG_ENCODING, InvocationContextCodec.ENCODING_COMPACT);
+    context.put("k", "a\r\nb");
+
+    String encoded = InvocationContextCodec.encode(context);
+    Assert.assertTrue(encoded.startsWith("{"));
+    Assert.assertEquals(context, InvocationContextCodec.decode(encoded));
+  }
+
+  @Test
+  public void should_reuse_received_header_when_context_not_changed() throws Exception {
+    String received = "{\"k\" : \"v\"}";
+    InvocationContext producer = new InvocationContext();
+    InvocationContextCodec.decode(producer, received);
+    Assert.assertEquals("v", producer.getContext("k"));
+
+    // consumer invocation inherits contexts of the producer
+    InvocationContext consumer = new InvocationContext();
+    consumer.addContext(producer);
+    consumer.addLocalContext(producer.getLocalContext());
+    Assert.assertSame(received, InvocationContextCodec.encode(consumer));
+
+    consumer.addContext("k2", "v2");
+    Assert.assertEquals("{\"k\":\"v\",\"k2\":\"v2\"}", InvocationContextCodec.encode(consumer));
+
+    // changes of the invocation context never affect the received context
+    producer.addContext("k", "v2");
+    producer.addContext("k2", "v2");
+    consumer.getContext().remove("k2");
+    Assert.assertSame(received, InvocationContextCodec.encode(consumer));
+  }
+
+  @Test
+  public void should_not_reuse_compact_header_when_compact_disabled() throws Exception {
+    String received = InvocationContextCodec.encodeCompact(context);
+    InvocationContext invocationContext = new InvocationContext();
+    InvocationContextCodec.decode(invocationContext, received);
+
+    Assert.assertTrue(InvocationContextCodec.encode(invocationContext).startsWith("{"));
+  }
+
+  @Test
+  public void should_return_null_when_empty() {
+    Assert.assertNull(InvocationContextCodec.decode(null));
+    Assert.assertNull(InvocationContextCodec.decode(""));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_when_compact_invalid() {
+    InvocationContextCodec.decode("~5:k");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_when_compact_key_is_null() {
+    InvocationContextCodec.decode("~-1:1:v");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_when_compact_value_length_is_invalid() {
+    InvocationContextCodec.decode("~1:k-2:");
+  }
+}
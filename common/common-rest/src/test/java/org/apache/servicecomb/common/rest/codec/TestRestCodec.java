@@ -106,6 +106,8 @@ public class TestRestCodec {
       {
         restOperation.getParamList();
         result = params;
+        restOperation.createSwaggerArguments();
+        result = new HashMap<>();
         restParam.getParamProcessor();
         result = processer;
         processer.getValue(request);
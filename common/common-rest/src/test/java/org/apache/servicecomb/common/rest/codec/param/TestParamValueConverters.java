@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.common.rest.codec.param;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.servicecomb.common.rest.codec.RestObjectMapperFactory;
+import org.apache.servicecomb.foundation.common.utils.AbstractRestObjectMapper;
+import org.apache.servicecomb.foundation.common.utils.RestObjectMapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+public class TestParamValueConverters {
+  enum Color {
+    RED,
+    GREEN
+  }
+
+  enum CustomColor {
+    @JsonProperty("red")
+    RED
+  }
+
+  private static final String[] SCALAR_INPUTS = {"0", "42", "-42", "007", "-", "", " 1", "1.5", "1e3", "true",
+      "false", "True", "null", "abc", "127", "128", "-129", "32768", "2147483648", "-2147483649",
+      "9223372036854775807", "99999999999999999999", "RED", "GREEN", "BLUE", "NaN", "Infinity"};
+
+  private static JavaType type(Type type) {
+    return TypeFactory.defaultInstance().constructType(type);
+  }
+
+  // fast converted result must be the same as ObjectMapper
+  private void checkSameWithObjectMapper(JavaType targetType, Object value) {
+    ParamValueConverter converter = ParamValueConverters.compile(targetType);
+    Assert.assertNotNull(targetType.toString(), converter);
+
+    Object result = converter.convert(value);
+    if (result == ParamValueConverter.NOT_CONVERTED) {
+      return;
+    }
+
+    Object expected = RestObjectMapperFactory.getRestObjectMapper().convertValue(value, targetType);
+    if (expected != null && expected.getClass().isArray()) {
+      Assert.assertEquals(Arrays.deepToString(new Object[] {expected}), Arrays.deepToString(new Object[] {result}));
+      Assert.assertSame(expected.getClass(), result.getClass());
+      return;
+    }
+    Assert.assertEquals(targetType + ": " + value, expected, result);
+    Assert.assertSame(expected.getClass(), result.getClass());
+  }
+
+  @Test
+  public void should_convert_scalar_same_as_object_mapper() {
+    for (Class<?> cls : Arrays.asList(String.class, boolean.class, Boolean.class, byte.class, Byte.class,
+        short.class, Short.class, int.class, Integer.class, long.class, Long.class, float.class, Float.class,
+        double.class, Double.class, Color.class)) {
+      for (String input : SCALAR_INPUTS) {
+        checkSameWithObjectMapper(type(cls), input);
+      }
+    }
+  }
+
+  @Test
+  public void should_convert_collection_same_as_object_mapper() {
+    String[] values = {"1", "2", "2"};
+    checkSameWithObjectMapper(type(new TypeReference<List<Integer>>() {
+    }.getType()), values);
+    checkSameWithObjectMapper(type(new TypeReference<Set<Long>>() {
+    }.getType()), Arrays.asList(values));
+    checkSameWithObjectMapper(type(int[].class), values);
+    checkSameWithObjectMapper(type(String[].class), Arrays.asList(values));
+    checkSameWithObjectMapper(type(Color[].class), new String[] {"RED"});
+  }
+
+  @Test
+  public void should_not_convert_non_canonical_value() {
+    ParamValueConverter converter = ParamValueConverters.compile(type(int.class));
+    Assert.assertSame(ParamValueConverter.NOT_CONVERTED, converter.convert(""));
+    Assert.assertSame(ParamValueConverter.NOT_CONVERTED, converter.convert("2147483648"));
+    Assert.assertSame(ParamValueConverter.NOT_CONVERTED, converter.convert(new String[] {"1"}));
+
+    converter = ParamValueConverters.compile(type(new TypeReference<List<Integer>>() {
+    }.getType()));
+    Assert.assertSame(ParamValueConverter.NOT_CONVERTED, converter.convert(Arrays.asList("1", null)));
+    Assert.assertSame(ParamValueConverter.NOT_CONVERTED, converter.convert("1"));
+  }
+
+  @Test
+  public void should_not_compile_unsupported_type() {
+    Assert.assertNull(ParamValueConverters.compile(null));
+    Assert.assertNull(ParamValueConverters.compile(type(Date.class)));
+    Assert.assertNull(ParamValueConverters.compile(type(BigDecimal.class)));
+    Assert.assertNull(ParamValueConverters.compile(type(char.class)));
+    Assert.assertNull(ParamValueConverters.compile(type(CustomColor.class)));
+    Assert.assertNull(ParamValueConverters.compile(type(new TypeReference<List<List<String>>>() {
+    }.getType())));
+  }
+
+  static class PlusOneDeserializer extends JsonDeserializer<Integer> {
+    @Override
+    public Integer deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+      return Integer.parseInt(p.getValueAsString()) + 1;
+    }
+  }
+
+  @Test
+  public void should_not_compile_when_customized_by_mapper() {
+    AbstractRestObjectMapper defaultMapper = RestObjectMapperFactory.getRestObjectMapper();
+    try {
+      RestObjectMapper mapper = new RestObjectMapper();
+      mapper.registerModule(new SimpleModule().addDeserializer(Integer.class, new PlusOneDeserializer()));
+      RestObjectMapperFactory.setDefaultRestObjectMapper(mapper);
+
+      Assert.assertNull(ParamValueConverters.compile(type(Integer.class)));
+      Assert.assertNull(ParamValueConverters.compile(type(new TypeReference<List<Integer>>() {
+      }.getType())));
+      Assert.assertNull(ParamValueConverters.compile(type(Integer[].class)));
+      Assert.assertEquals(2, (int) mapper.convertValue("1", Integer.class));
+      Assert.assertNotNull(ParamValueConverters.compile(type(Long.class)));
+
+      // subclass may override convertValue
+      RestObjectMapperFactory.setDefaultRestObjectMapper(new RestObjectMapper() {
+        private static final long serialVersionUID = 1L;
+      });
+      Assert.assertNull(ParamValueConverters.compile(type(Long.class)));
+    } finally {
+      RestObjectMapperFactory.setDefaultRestObjectMapper(defaultMapper);
+    }
+  }
+}
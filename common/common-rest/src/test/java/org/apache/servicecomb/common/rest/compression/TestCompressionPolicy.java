@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.common.rest.compression;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.core.buffer.Buffer;
+
+public class TestCompressionPolicy {
+  CompressionPolicy policy = new CompressionPolicy("test.compression.");
+
+  @Before
+  public void setUp() {
+    ArchaiusUtils.resetConfig();
+  }
+
+  @After
+  public void tearDown() {
+    ArchaiusUtils.resetConfig();
+  }
+
+  @Test
+  public void mimeType_default() {
+    Assert.assertTrue(policy.isMimeTypeAllowed("application/json"));
+    Assert.assertTrue(policy.isMimeTypeAllowed("Application/JSON; charset=utf-8"));
+    Assert.assertTrue(policy.isMimeTypeAllowed("text/plain"));
+    Assert.assertFalse(policy.isMimeTypeAllowed("image/png"));
+    Assert.assertFalse(policy.isMimeTypeAllowed("multipart/form-data; boundary=xx"));
+    Assert.assertFalse(policy.isMimeTypeAllowed(null));
+  }
+
+  @Test
+  public void mimeType_configChanged() {
+    Assert.assertFalse(policy.isMimeTypeAllowed("image/svg+xml"));
+
+    ArchaiusUtils.setProperty("test.compression.mimeTypes", "image/svg+xml, application/*");
+    Assert.assertTrue(policy.isMimeTypeAllowed("image/svg+xml"));
+    Assert.assertTrue(policy.isMimeTypeAllowed("application/octet-stream"));
+    Assert.assertFalse(policy.isMimeTypeAllowed("text/plain"));
+  }
+
+  @Test
+  public void compressible() {
+    Assert.assertTrue(policy.isCompressible("application/json", 1024, 1024));
+    Assert.assertFalse(policy.isCompressible("application/json", 1023, 1024));
+    Assert.assertFalse(policy.isCompressible("image/png", 1024, 1024));
+  }
+
+  @Test
+  public void compress() throws IOException {
+    ArchaiusUtils.setProperty("test.compression.level", 9);
+    String body = StringUtils.repeat("{\"name\":\"value\"}", 100);
+
+    Buffer compressed = policy.compress(Buffer.buffer(body));
+
+    try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(compressed.getBytes()))) {
+      Assert.assertEquals(body, IOUtils.toString(input, StandardCharsets.UTF_8));
+    }
+    Assert.assertEquals(1, policy.getCompressed());
+    Assert.assertEquals(body.length(), policy.getOriginalBytes());
+    Assert.assertEquals(compressed.length(), policy.getCompressedBytes());
+    Assert.assertTrue(policy.getCompressedBytes() < policy.getOriginalBytes());
+    Assert.assertTrue(policy.getCompressNanos() >= 0);
+  }
+}
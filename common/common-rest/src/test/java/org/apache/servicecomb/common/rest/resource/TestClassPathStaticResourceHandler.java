@@ -19,31 +19,43 @@ package org.apache.servicecomb.common.rest.resource;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.zip.GZIPInputStream;
 
 import javax.servlet.http.Part;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response.Status;
 
 import org.apache.commons.io.IOUtils;
+import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
 import org.apache.servicecomb.foundation.test.scaffolding.exception.RuntimeExceptionWithoutStackTrace;
 import org.apache.servicecomb.foundation.test.scaffolding.log.LogCollector;
 import org.apache.servicecomb.swagger.invocation.Response;
 import org.apache.servicecomb.swagger.invocation.exception.CommonExceptionData;
 import org.apache.servicecomb.swagger.invocation.exception.InvocationException;
+import org.junit.After;
 import org.junit.Assert;
-import org.junit.BeforeClass;
+import org.junit.Before;
 import org.junit.Test;
 
 import mockit.Expectations;
 
 public class TestClassPathStaticResourceHandler {
-  static ClassPathStaticResourceHandler handler = new ClassPathStaticResourceHandler();
+  ClassPathStaticResourceHandler handler;
 
-  @BeforeClass
-  public static void setup() {
+  @Before
+  public void setup() {
+    handler = new ClassPathStaticResourceHandler();
     handler.setWebRoot("web-root/");
   }
 
+  @After
+  public void tearDown() {
+    ArchaiusUtils.resetConfig();
+  }
+
   @Test
   public void normal() throws IOException {
     Response response = handler.handle("index.html");
@@ -104,4 +116,137 @@ public class TestClassPathStaticResourceHandler {
       Assert.assertEquals(Status.INTERNAL_SERVER_ERROR.getReasonPhrase(), response.getReasonPhrase());
     }
   }
+
+  @Test
+  public void cached() throws IOException {
+    Response response = handler.handle("index.html");
+    String etag = response.getHeader(HttpHeaders.ETAG);
+    Assert.assertNotNull(etag);
+    Assert.assertNotNull(response.getHeader(HttpHeaders.LAST_MODIFIED));
+    Assert.assertNull(response.getHeader(HttpHeaders.CACHE_CONTROL));
+
+    new Expectations(handler) {
+      {
+        handler.findResource(anyString);
+        times = 0;
+      }
+    };
+    response = handler.handle("index.html");
+    Assert.assertEquals(etag, response.getHeader(HttpHeaders.ETAG));
+    try (InputStream is = response.<Part>getResult().getInputStream()) {
+      Assert.assertTrue(IOUtils.toString(is, StandardCharsets.UTF_8).endsWith("<html></html>"));
+    }
+  }
+
+  @Test
+  public void ifNoneMatch() {
+    String etag = handler.handle("index.html").getHeader(HttpHeaders.ETAG);
+
+    Response response = handler.handle("index.html", "\"other\", W/" + etag, null, null);
+    Assert.assertEquals(Status.NOT_MODIFIED.getStatusCode(), response.getStatusCode());
+    Assert.assertNull(((InvocationException) response.getResult()).getErrorData());
+    Assert.assertEquals(etag, response.getHeader(HttpHeaders.ETAG));
+
+    response = handler.handle("index.html", "\"other\"", null, null);
+    Assert.assertEquals(Status.OK.getStatusCode(), response.getStatusCode());
+  }
+
+  @Test
+  public void ifModifiedSince() {
+    String lastModified = handler.handle("index.html").getHeader(HttpHeaders.LAST_MODIFIED);
+
+    Response response = handler.handle("index.html", null, lastModified, null);
+    Assert.assertEquals(Status.NOT_MODIFIED.getStatusCode(), response.getStatusCode());
+
+    String old = DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(0).atZone(ZoneOffset.UTC));
+    response = handler.handle("index.html", null, old, null);
+    Assert.assertEquals(Status.OK.getStatusCode(), response.getStatusCode());
+
+    response = handler.handle("index.html", null, "invalid date", null);
+    Assert.assertEquals(Status.OK.getStatusCode(), response.getStatusCode());
+  }
+
+  @Test
+  public void gzipVariant() throws IOException {
+    Response response = handler.handle("app.js", null, null, "gzip, deflate");
+    Assert.assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+    Assert.assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeader(HttpHeaders.VARY));
+    // content type is the same as the original resource, not gzip
+    Assert.assertEquals(handler.handle("app.js").getHeader(HttpHeaders.CONTENT_TYPE),
+        response.getHeader(HttpHeaders.CONTENT_TYPE));
+    try (InputStream is = new GZIPInputStream(response.<Part>getResult().getInputStream())) {
+      Assert.assertEquals("var app = \"static resource\";\n", IOUtils.toString(is, StandardCharsets.UTF_8));
+    }
+    String gzipEtag = response.getHeader(HttpHeaders.ETAG);
+
+    response = handler.handle("app.js");
+    Assert.assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+    Assert.assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeader(HttpHeaders.VARY));
+    Assert.assertNotEquals(gzipEtag, response.getHeader(HttpHeaders.ETAG));
+    try (InputStream is = response.<Part>getResult().getInputStream()) {
+      Assert.assertEquals("var app = \"static resource\";\n", IOUtils.toString(is, StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  public void gzipRefused() {
+    Response response = handler.handle("app.js", null, null, "gzip;q=0, deflate");
+    Assert.assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+
+    response = handler.handle("app.js", null, null, "*;q=0");
+    Assert.assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+  }
+
+  @Test
+  public void acceptsGzip() {
+    Assert.assertTrue(StaticResourceHandler.acceptsGzip("deflate, GZIP"));
+    Assert.assertTrue(StaticResourceHandler.acceptsGzip("gzip;q=0.5"));
+    Assert.assertTrue(StaticResourceHandler.acceptsGzip("br, *"));
+    Assert.assertTrue(StaticResourceHandler.acceptsGzip("*;q=0, gzip"));
+    Assert.assertFalse(StaticResourceHandler.acceptsGzip(null));
+    Assert.assertFalse(StaticResourceHandler.acceptsGzip("deflate"));
+    Assert.assertFalse(StaticResourceHandler.acceptsGzip("gzip;q=0"));
+    Assert.assertFalse(StaticResourceHandler.acceptsGzip("gzip; q=0.0, *"));
+    // not gzip, only contains "gzip"
+    Assert.assertFalse(StaticResourceHandler.acceptsGzip("gzipx"));
+  }
+
+  @Test
+  public void cacheControl() {
+    handler.setCacheControl("", "no-cache");
+    handler.setCacheControl("app", "max-age=3600");
+
+    Assert.assertEquals("no-cache", handler.handle("index.html").getHeader(HttpHeaders.CACHE_CONTROL));
+    Assert.assertEquals("max-age=3600", handler.handle("app.js").getHeader(HttpHeaders.CACHE_CONTROL));
+  }
+
+  @Test
+  public void largeResourceNotCached() throws IOException {
+    ArchaiusUtils.setProperty(StaticResourceHandler.CONFIG_PREFIX + "maxResourceBytes", 10);
+    handler = new ClassPathStaticResourceHandler();
+    handler.setWebRoot("web-root/");
+    handler.setCacheControl("", "no-cache");
+
+    Response response = handler.handle("index.html");
+    Assert.assertNull(response.getHeader(HttpHeaders.ETAG));
+    Assert.assertEquals("no-cache", response.getHeader(HttpHeaders.CACHE_CONTROL));
+    try (InputStream is = response.<Part>getResult().getInputStream()) {
+      Assert.assertTrue(IOUtils.toString(is, StandardCharsets.UTF_8).endsWith("<html></html>"));
+    }
+
+    // still stream from resource
+    response = handler.handle("index.html", "*", null, null);
+    Assert.assertEquals(Status.OK.getStatusCode(), response.getStatusCode());
+  }
+
+  @Test
+  public void cacheDisabled() {
+    ArchaiusUtils.setProperty(StaticResourceHandler.CONFIG_PREFIX + "maxBytes", 0);
+    handler = new ClassPathStaticResourceHandler();
+    handler.setWebRoot("web-root/");
+
+    Response response = handler.handle("index.html");
+    Assert.assertEquals(Status.OK.getStatusCode(), response.getStatusCode());
+    Assert.assertNull(response.getHeader(HttpHeaders.ETAG));
+  }
 }
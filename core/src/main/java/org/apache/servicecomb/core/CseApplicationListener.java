@@ -19,6 +19,7 @@ package org.apache.servicecomb.core;
 
 import org.apache.servicecomb.config.priority.PriorityPropertyManager;
 import org.apache.servicecomb.core.filter.FilterChainsManager;
+import org.apache.servicecomb.core.invocation.InvocationLifecycleListener;
 import org.apache.servicecomb.foundation.common.utils.BeanUtils;
 import org.apache.servicecomb.foundation.vertx.client.http.HttpClients;
 import org.apache.servicecomb.registry.DiscoveryManager;
@@ -85,6 +86,8 @@ public class CseApplicationListener
       scbEngine.getProducerProviderManager().getProducerProviderList()
           .addAll(applicationContext.getBeansOfType(ProducerProvider.class).values());
       scbEngine.addBootListeners(applicationContext.getBeansOfType(BootListener.class).values());
+      scbEngine.addInvocationLifecycleListeners(
+          applicationContext.getBeansOfType(InvocationLifecycleListener.class).values());
 
       scbEngine.run();
     } else if (event instanceof ContextClosedEvent) {
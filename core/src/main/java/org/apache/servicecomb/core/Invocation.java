@@ -18,6 +18,7 @@
 package org.apache.servicecomb.core;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -32,17 +33,8 @@ import org.apache.servicecomb.core.definition.InvocationRuntimeType;
 import org.apache.servicecomb.core.definition.MicroserviceMeta;
 import org.apache.servicecomb.core.definition.OperationMeta;
 import org.apache.servicecomb.core.definition.SchemaMeta;
-import org.apache.servicecomb.core.event.InvocationBusinessFinishEvent;
-import org.apache.servicecomb.core.event.InvocationBusinessMethodFinishEvent;
-import org.apache.servicecomb.core.event.InvocationBusinessMethodStartEvent;
-import org.apache.servicecomb.core.event.InvocationEncodeResponseStartEvent;
-import org.apache.servicecomb.core.event.InvocationFinishEvent;
-import org.apache.servicecomb.core.event.InvocationHandlersStartEvent;
-import org.apache.servicecomb.core.event.InvocationRunInExecutorFinishEvent;
-import org.apache.servicecomb.core.event.InvocationRunInExecutorStartEvent;
-import org.apache.servicecomb.core.event.InvocationStartEvent;
-import org.apache.servicecomb.core.event.InvocationStartSendRequestEvent;
 import org.apache.servicecomb.core.event.InvocationTimeoutCheckEvent;
+import org.apache.servicecomb.core.invocation.InvocationLifecycleListeners;
 import org.apache.servicecomb.core.invocation.InvocationStageTrace;
 import org.apache.servicecomb.core.provider.consumer.InvokerUtils;
 import org.apache.servicecomb.core.provider.consumer.ReferenceConfig;
@@ -52,10 +44,14 @@ import org.apache.servicecomb.foundation.common.event.EventManager;
 import org.apache.servicecomb.foundation.common.utils.AsyncUtils;
 import org.apache.servicecomb.foundation.common.utils.SPIServiceUtils;
 import org.apache.servicecomb.foundation.vertx.http.HttpServletRequestEx;
+import org.apache.servicecomb.swagger.engine.SwaggerProducerOperation;
 import org.apache.servicecomb.swagger.invocation.AsyncResponse;
 import org.apache.servicecomb.swagger.invocation.InvocationType;
 import org.apache.servicecomb.swagger.invocation.Response;
 import org.apache.servicecomb.swagger.invocation.SwaggerInvocation;
+import org.apache.servicecomb.swagger.invocation.arguments.ArgumentSlots;
+import org.apache.servicecomb.swagger.invocation.arguments.SlotArguments;
+import org.apache.servicecomb.swagger.invocation.arguments.producer.ProducerArgumentsMapper;
 import org.apache.servicecomb.swagger.invocation.exception.InvocationException;
 
 import com.fasterxml.jackson.databind.JavaType;
@@ -263,10 +259,27 @@ public class Invocation extends SwaggerInvocation {
       return producerArguments;
     }
 
-    Method method = operationMeta.getSwaggerProducerOperation().getProducerMethod();
-    Object[] args = new Object[method.getParameterCount()];
-    for (int i = 0; i < method.getParameterCount(); i++) {
-      args[i] = this.invocationArguments.get(method.getParameters()[i].getName());
+    SwaggerProducerOperation swaggerProducerOperation = operationMeta.getSwaggerProducerOperation();
+    ProducerArgumentsMapper argumentsMapper = swaggerProducerOperation.getArgumentsMapper();
+    ArgumentSlots slots = argumentsMapper == null ? null : argumentsMapper.getProducerArgumentSlots();
+    if (slots != null) {
+      if (invocationArguments instanceof SlotArguments && ((SlotArguments) invocationArguments).getSlots() == slots) {
+        // built by producer arguments mapper, slots are exactly the producer method parameters
+        return producerArguments = ((SlotArguments) invocationArguments).getValues();
+      }
+
+      Object[] args = new Object[slots.size()];
+      for (int i = 0; i < args.length; i++) {
+        args[i] = this.invocationArguments.get(slots.getName(i));
+      }
+      return producerArguments = args;
+    }
+
+    Method method = swaggerProducerOperation.getProducerMethod();
+    Parameter[] parameters = method.getParameters();
+    Object[] args = new Object[parameters.length];
+    for (int i = 0; i < parameters.length; i++) {
+      args[i] = this.invocationArguments.get(parameters[i].getName());
     }
     return producerArguments = args;
   }
@@ -291,6 +304,49 @@ public class Invocation extends SwaggerInvocation {
     this.handlerIndex = handlerIndex;
   }
 
+  /**
+   * create an invocation to send this request one more time concurrently, eg: hedging<br>
+   * the attempt shares arguments with this invocation, but has its own endpoint, handler index,
+   * contexts and stage trace, handlers after {@link #getHandlerIndex()} run on the attempt
+   */
+  public Invocation createAttempt() {
+    Invocation attempt = newAttemptInstance();
+    attempt.invocationType = invocationType;
+    attempt.referenceConfig = referenceConfig;
+    attempt.invocationRuntimeType = invocationRuntimeType;
+    attempt.schemaMeta = schemaMeta;
+    attempt.operationMeta = operationMeta;
+    attempt.swaggerArguments = swaggerArguments;
+    attempt.invocationArguments = invocationArguments;
+    attempt.handlerList = handlerList;
+    attempt.handlerIndex = handlerIndex;
+    attempt.responseExecutor = responseExecutor;
+    attempt.sync = sync;
+    attempt.edge = edge;
+    attempt.requestEx = requestEx;
+    attempt.invocationId = invocationId;
+    attempt.httpStatus = httpStatus;
+    attempt.context = new HashMap<>(context);
+    attempt.localContext = new HashMap<>(localContext);
+    attempt.handlerContext = attempt.localContext;
+    attempt.invocationStageTrace.copyPrepareStages(invocationStageTrace);
+    return attempt;
+  }
+
+  protected Invocation newAttemptInstance() {
+    return new Invocation();
+  }
+
+  /**
+   * the attempt produced the final response, take its state
+   */
+  public void mergeAttempt(Invocation attempt) {
+    endpoint = attempt.endpoint;
+    addContext(attempt.context);
+    addLocalContext(attempt.localContext);
+    invocationStageTrace.mergeSendStages(attempt.invocationStageTrace);
+  }
+
   public void next(AsyncResponse asyncResp) throws Exception {
     // 不必判断有效性，因为整个流程都是内部控制的
     int runIndex = handlerIndex;
@@ -306,6 +362,10 @@ public class Invocation extends SwaggerInvocation {
     return operationMeta.getOperationId();
   }
 
+  public ReferenceConfig getReferenceConfig() {
+    return referenceConfig;
+  }
+
   public String getConfigTransportName() {
     return referenceConfig.getTransport();
   }
@@ -384,7 +444,7 @@ public class Invocation extends SwaggerInvocation {
   public void onStart(long start) {
     invocationStageTrace.start(start);
     initTraceId();
-    EventManager.post(new InvocationStartEvent(this));
+    InvocationLifecycleListeners.onStart(this);
   }
 
   public void onStart(HttpServletRequestEx requestEx, long start) {
@@ -395,42 +455,42 @@ public class Invocation extends SwaggerInvocation {
 
   public void onExecuteStart() {
     invocationStageTrace.startExecution();
-    EventManager.post(new InvocationRunInExecutorStartEvent(this));
+    InvocationLifecycleListeners.onExecuteStart(this);
   }
 
   public void onExecuteFinish() {
-    EventManager.post(new InvocationRunInExecutorFinishEvent(this));
+    InvocationLifecycleListeners.onExecuteFinish(this);
   }
 
   public void onStartHandlersRequest() {
     invocationStageTrace.startHandlersRequest();
-    EventManager.post(new InvocationHandlersStartEvent(this));
+    InvocationLifecycleListeners.onStartHandlersRequest(this);
   }
 
   public void onStartSendRequest() {
     invocationStageTrace.startSend();
-    EventManager.post(new InvocationStartSendRequestEvent(this));
+    InvocationLifecycleListeners.onStartSendRequest(this);
   }
 
   @Override
   public void onBusinessMethodStart() {
     invocationStageTrace.startBusinessMethod();
-    EventManager.post(new InvocationBusinessMethodStartEvent(this));
+    InvocationLifecycleListeners.onBusinessMethodStart(this);
   }
 
   @Override
   public void onBusinessMethodFinish() {
-    EventManager.post(new InvocationBusinessMethodFinishEvent(this));
+    InvocationLifecycleListeners.onBusinessMethodFinish(this);
   }
 
   public void onEncodeResponseStart(Response response) {
-    EventManager.post(new InvocationEncodeResponseStartEvent(this, response));
+    InvocationLifecycleListeners.onEncodeResponseStart(this, response);
   }
 
   @Override
   public void onBusinessFinish() {
     invocationStageTrace.finishBusiness();
-    EventManager.post(new InvocationBusinessFinishEvent(this));
+    InvocationLifecycleListeners.onBusinessFinish(this);
   }
 
   public void onFinish(Response response) {
@@ -440,7 +500,7 @@ public class Invocation extends SwaggerInvocation {
     }
 
     invocationStageTrace.finish();
-    EventManager.post(new InvocationFinishEvent(this, response));
+    InvocationLifecycleListeners.onFinish(this, response);
     finished = true;
   }
 
@@ -497,6 +557,8 @@ public class Invocation extends SwaggerInvocation {
    *  after timeout.
    */
   public void ensureInvocationNotTimeout() throws InvocationException {
-    EventManager.post(new InvocationTimeoutCheckEvent(this));
+    if (EventManager.hasSubscriber(InvocationTimeoutCheckEvent.class)) {
+      EventManager.post(new InvocationTimeoutCheckEvent(this));
+    }
   }
 }
@@ -70,6 +70,11 @@ public class NonSwaggerInvocation extends Invocation {
     return versionRule;
   }
 
+  @Override
+  protected Invocation newAttemptInstance() {
+    return new NonSwaggerInvocation(appId, microserviceName, versionRule, nextHandler);
+  }
+
   @Override
   public void next(AsyncResponse asyncResp) throws Exception {
     nextHandler.handle(this, asyncResp);
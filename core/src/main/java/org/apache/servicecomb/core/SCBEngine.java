@@ -37,13 +37,15 @@ import org.apache.servicecomb.core.definition.CoreMetaUtils;
 import org.apache.servicecomb.core.definition.MicroserviceMeta;
 import org.apache.servicecomb.core.definition.MicroserviceVersionsMeta;
 import org.apache.servicecomb.core.definition.ServiceRegistryListener;
-import org.apache.servicecomb.core.event.InvocationFinishEvent;
-import org.apache.servicecomb.core.event.InvocationStartEvent;
+import org.apache.servicecomb.core.event.SCBStatusChangedEvent;
 import org.apache.servicecomb.core.executor.ExecutorManager;
 import org.apache.servicecomb.core.filter.FilterChainsManager;
 import org.apache.servicecomb.core.handler.ConsumerHandlerManager;
 import org.apache.servicecomb.core.handler.HandlerConfigUtils;
 import org.apache.servicecomb.core.handler.ProducerHandlerManager;
+import org.apache.servicecomb.core.invocation.EventBusInvocationLifecycleListener;
+import org.apache.servicecomb.core.invocation.InvocationLifecycleListener;
+import org.apache.servicecomb.core.invocation.InvocationLifecycleListeners;
 import org.apache.servicecomb.core.provider.consumer.ConsumerProviderManager;
 import org.apache.servicecomb.core.provider.consumer.MicroserviceReferenceConfig;
 import org.apache.servicecomb.core.provider.producer.ProducerProviderManager;
@@ -62,6 +64,7 @@ import org.apache.servicecomb.registry.consumer.MicroserviceVersions;
 import org.apache.servicecomb.registry.definition.MicroserviceNameParser;
 import org.apache.servicecomb.registry.swagger.SwaggerLoader;
 import org.apache.servicecomb.swagger.engine.SwaggerEnvironment;
+import org.apache.servicecomb.swagger.invocation.Response;
 import org.apache.servicecomb.swagger.invocation.exception.CommonExceptionData;
 import org.apache.servicecomb.swagger.invocation.exception.InvocationException;
 import org.slf4j.Logger;
@@ -69,7 +72,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationContext;
 import org.springframework.util.StringUtils;
 
-import com.google.common.eventbus.AllowConcurrentEvents;
 import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
 import com.netflix.config.DynamicPropertyFactory;
@@ -83,6 +85,9 @@ public class SCBEngine {
 
   static final String CFG_KEY_TURN_DOWN_STATUS_WAIT_SEC = "servicecomb.boot.turnDown.waitInSeconds";
 
+  // post old style invocation events to EventBus, event object is only created when there is subscriber
+  static final String CFG_KEY_INVOCATION_EVENTS_ENABLED = "servicecomb.invocation.eventbus-adapter.enabled";
+
   static final long DEFAULT_TURN_DOWN_STATUS_WAIT_SEC = 0;
 
   private static final Object initializationLock = new Object();
@@ -112,6 +117,21 @@ public class SCBEngine {
 
   private final AtomicLong invocationFinishedCounter = new AtomicLong();
 
+  private final InvocationLifecycleListener invocationCounter = new InvocationLifecycleListener() {
+    @Override
+    public void onStart(Invocation invocation) {
+      invocationStartedCounter.incrementAndGet();
+    }
+
+    @Override
+    public void onFinish(Invocation invocation, Response response) {
+      invocationFinishedCounter.incrementAndGet();
+    }
+  };
+
+  private List<InvocationLifecycleListener> invocationLifecycleListeners = new ArrayList<>(
+      SPIServiceUtils.getOrLoadSortedService(InvocationLifecycleListener.class));
+
   private volatile SCBStatus status = SCBStatus.DOWN;
 
   private EventBus eventBus;
@@ -160,6 +180,7 @@ public class SCBEngine {
 
   public void setStatus(SCBStatus status) {
     this.status = status;
+    eventBus.post(new SCBStatusChangedEvent(this, status));
   }
 
   public SCBStatus getStatus() {
@@ -261,6 +282,14 @@ public class SCBEngine {
     this.bootListeners.addAll(bootListeners);
   }
 
+  public Collection<InvocationLifecycleListener> getInvocationLifecycleListeners() {
+    return invocationLifecycleListeners;
+  }
+
+  public void addInvocationLifecycleListeners(Collection<InvocationLifecycleListener> listeners) {
+    this.invocationLifecycleListeners.addAll(listeners);
+  }
+
   public SCBEngine addProducerMeta(String schemaId, Object instance) {
     getProducerProviderManager().addProducerMeta(schemaId, instance);
     return this;
@@ -306,16 +335,14 @@ public class SCBEngine {
     eventBus.register(new AfterRegistryEventHanlder(this));
   }
 
-  @AllowConcurrentEvents
-  @Subscribe
-  public void onInvocationStart(InvocationStartEvent event) {
-    invocationStartedCounter.incrementAndGet();
-  }
-
-  @AllowConcurrentEvents
-  @Subscribe
-  public void onInvocationFinish(InvocationFinishEvent event) {
-    invocationFinishedCounter.incrementAndGet();
+  private void initInvocationLifecycleListeners() {
+    List<InvocationLifecycleListener> listeners = new ArrayList<>();
+    listeners.add(invocationCounter);
+    listeners.addAll(invocationLifecycleListeners);
+    if (DynamicPropertyFactory.getInstance().getBooleanProperty(CFG_KEY_INVOCATION_EVENTS_ENABLED, true).get()) {
+      listeners.add(EventBusInvocationLifecycleListener.INSTANCE);
+    }
+    InvocationLifecycleListeners.init(listeners);
   }
 
   public synchronized SCBEngine run() {
@@ -332,7 +359,7 @@ public class SCBEngine {
         } catch (Exception exception) {
           LOGGER.info("destroy has some error.", exception);
         }
-        status = SCBStatus.FAILED;
+        setStatus(SCBStatus.FAILED);
         throw new IllegalStateException("ServiceComb init failed.", e);
       } finally {
         printServiceInfo();
@@ -360,9 +387,10 @@ public class SCBEngine {
   }
 
   private void doRun() throws Exception {
-    status = SCBStatus.STARTING;
+    setStatus(SCBStatus.STARTING);
 
     bootListeners.sort(Comparator.comparingInt(BootListener::getOrder));
+    initInvocationLifecycleListeners();
 
     triggerEvent(EventType.BEFORE_HANDLER);
     HandlerConfigUtils.init(consumerHandlerManager, producerHandlerManager);
@@ -419,7 +447,7 @@ public class SCBEngine {
     if (SCBStatus.UP.equals(status) || SCBStatus.STARTING.equals(status)) {
       LOGGER.info("ServiceComb is closing now...");
       doDestroy();
-      status = SCBStatus.DOWN;
+      setStatus(SCBStatus.DOWN);
       LOGGER.info("ServiceComb had closed");
     }
   }
@@ -438,7 +466,7 @@ public class SCBEngine {
     safeTriggerEvent(EventType.BEFORE_CLOSE);
 
     //Step 2: forbid create new consumer invocation
-    status = SCBStatus.STOPPING;
+    setStatus(SCBStatus.STOPPING);
 
     //Step 3: Unregister microservice instance from Service Center and close vertx
     // Forbidden other consumers find me
@@ -469,6 +497,8 @@ public class SCBEngine {
 
     //Step 7: notify all component do clean works via AFTER_CLOSE Event
     safeTriggerEvent(EventType.AFTER_CLOSE);
+
+    InvocationLifecycleListeners.reset();
   }
 
   private void turnDownInstanceStatus() {
@@ -25,6 +25,8 @@ import java.util.concurrent.TimeUnit;
 import org.apache.servicecomb.config.inject.InjectProperties;
 import org.apache.servicecomb.config.inject.InjectProperty;
 import org.apache.servicecomb.core.Const;
+import org.apache.servicecomb.core.executor.TaskPriority;
+import org.apache.servicecomb.core.provider.consumer.ReferenceConfig;
 
 @InjectProperties(prefix = "servicecomb")
 public class OperationConfig {
@@ -102,15 +104,63 @@ public class OperationConfig {
 
   private long nanoRestRequestWaitInPoolTimeout;
 
+  /**
+   * producer task priority in thread pool queue, only works when priority queue enabled
+   */
+  @InjectProperty(keys = "Provider.priority${op-priority}", defaultValue = "NORMAL")
+  private String priority;
+
+  private TaskPriority taskPriority = TaskPriority.NORMAL;
+
   @InjectProperty(keys = {
       "operation${op-priority}.transport", // Deprecated
       "references.transport${op-priority}"
   })
   private String transport;
 
+  /**
+   * how sync consumer waits for response, {@link ReferenceConfig#SYNC_WAIT_LATCH} or
+   * {@link ReferenceConfig#SYNC_WAIT_SPIN_PARK}
+   */
+  @InjectProperty(keys = "references.sync.waitStrategy${op-priority}", defaultValue = ReferenceConfig.SYNC_WAIT_LATCH)
+  private String syncWaitStrategy;
+
+  /**
+   * sync consumer check response this times before park the waiting thread, only for spinPark strategy
+   */
+  @InjectProperty(keys = "references.sync.spinCount${op-priority}", defaultValue = "0")
+  private int syncWaitSpinCount;
+
+  /**
+   * time to live of cached response in response-cache filter, not cache if less than or equal to 0
+   */
+  @InjectProperty(keys = "${consumer-producer}.responseCache.msTtl${op-priority}", defaultValue = "0")
+  private long msResponseCacheTtl;
+
+  @InjectProperty(keys = "${consumer-producer}.responseCache.maxSize${op-priority}", defaultValue = "1000")
+  private long responseCacheMaxSize;
+
   @InjectProperty(keys = {"governance.${op-any-priority}.matchType", "governance.matchType"}, defaultValue = "rest")
   private String governanceMatchType;
 
+  /**
+   * producer allow to compress response, only works when rest server compression is enabled
+   */
+  @InjectProperty(keys = "Provider.responseCompression.enabled${op-priority}", defaultValue = "true")
+  private boolean responseCompressionEnabled;
+
+  /**
+   * consumer compress request body, producer must support decompression
+   */
+  @InjectProperty(keys = "request.compression.enabled${consumer-op-priority}", defaultValue = "false")
+  private boolean requestCompressionEnabled;
+
+  /**
+   * not compress body less than this size, it is not worth the cpu
+   */
+  @InjectProperty(keys = "${consumer-producer}.compression.minSize${op-priority}", defaultValue = "1024")
+  private int compressionMinSize;
+
   public boolean isSlowInvocationEnabled() {
     return slowInvocationEnabled;
   }
@@ -189,6 +239,19 @@ public class OperationConfig {
     return nanoRestRequestWaitInPoolTimeout;
   }
 
+  public String getPriority() {
+    return priority;
+  }
+
+  public void setPriority(String priority) {
+    this.priority = priority;
+    this.taskPriority = TaskPriority.parse(priority);
+  }
+
+  public TaskPriority getTaskPriority() {
+    return taskPriority;
+  }
+
   public long getMsInvocationTimeout() {
     return msInvocationTimeout;
   }
@@ -228,4 +291,60 @@ public class OperationConfig {
     }
     this.transport = transport;
   }
+
+  public String getSyncWaitStrategy() {
+    return syncWaitStrategy;
+  }
+
+  public void setSyncWaitStrategy(String syncWaitStrategy) {
+    this.syncWaitStrategy = syncWaitStrategy;
+  }
+
+  public int getSyncWaitSpinCount() {
+    return syncWaitSpinCount;
+  }
+
+  public void setSyncWaitSpinCount(int syncWaitSpinCount) {
+    this.syncWaitSpinCount = syncWaitSpinCount;
+  }
+
+  public long getMsResponseCacheTtl() {
+    return msResponseCacheTtl;
+  }
+
+  public void setMsResponseCacheTtl(long msResponseCacheTtl) {
+    this.msResponseCacheTtl = msResponseCacheTtl;
+  }
+
+  public long getResponseCacheMaxSize() {
+    return responseCacheMaxSize;
+  }
+
+  public void setResponseCacheMaxSize(long responseCacheMaxSize) {
+    this.responseCacheMaxSize = responseCacheMaxSize;
+  }
+
+  public boolean isResponseCompressionEnabled() {
+    return responseCompressionEnabled;
+  }
+
+  public void setResponseCompressionEnabled(boolean responseCompressionEnabled) {
+    this.responseCompressionEnabled = responseCompressionEnabled;
+  }
+
+  public boolean isRequestCompressionEnabled() {
+    return requestCompressionEnabled;
+  }
+
+  public void setRequestCompressionEnabled(boolean requestCompressionEnabled) {
+    this.requestCompressionEnabled = requestCompressionEnabled;
+  }
+
+  public int getCompressionMinSize() {
+    return compressionMinSize;
+  }
+
+  public void setCompressionMinSize(int compressionMinSize) {
+    this.compressionMinSize = compressionMinSize;
+  }
 }
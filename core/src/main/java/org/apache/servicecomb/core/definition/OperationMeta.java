@@ -16,6 +16,7 @@
  */
 package org.apache.servicecomb.core.definition;
 
+import java.util.List;
 import java.util.concurrent.Executor;
 
 import org.apache.servicecomb.core.Const;
@@ -23,9 +24,11 @@ import org.apache.servicecomb.core.Handler;
 import org.apache.servicecomb.foundation.common.VendorExtensions;
 import org.apache.servicecomb.swagger.engine.SwaggerProducerOperation;
 import org.apache.servicecomb.swagger.generator.core.model.SwaggerOperation;
+import org.apache.servicecomb.swagger.invocation.arguments.ArgumentSlots;
 import org.apache.servicecomb.swagger.invocation.response.ResponsesMeta;
 
 import io.swagger.models.Operation;
+import io.swagger.models.parameters.Parameter;
 
 public class OperationMeta {
   private SchemaMeta schemaMeta;
@@ -51,6 +54,9 @@ public class OperationMeta {
 
   private VendorExtensions vendorExtensions = new VendorExtensions();
 
+  // swagger parameter name to slot, null means too many parameters to use slots
+  private ArgumentSlots swaggerArgumentSlots;
+
   public OperationMeta init(SchemaMeta schemaMeta, SwaggerOperation swaggerOperation) {
     this.schemaMeta = schemaMeta;
     this.schemaQualifiedName = schemaMeta.getSchemaId() + "." + swaggerOperation.getOperationId();
@@ -62,10 +68,24 @@ public class OperationMeta {
     this.executor = schemaMeta.getMicroserviceMeta().getScbEngine().getExecutorManager().findExecutor(this);
     this.config = schemaMeta.getMicroserviceMeta().getMicroserviceVersionsMeta().getOrCreateOperationConfig(this);
     this.responsesMeta.init(schemaMeta.getSwagger(), swaggerOperation.getOperation());
+    this.swaggerArgumentSlots = createSwaggerArgumentSlots();
 
     return this;
   }
 
+  private ArgumentSlots createSwaggerArgumentSlots() {
+    List<Parameter> parameters = swaggerOperation.getParameters();
+    if (!ArgumentSlots.isSupported(parameters.size())) {
+      return null;
+    }
+
+    String[] names = new String[parameters.size()];
+    for (int idx = 0; idx < names.length; idx++) {
+      names[idx] = parameters.get(idx).getName();
+    }
+    return new ArgumentSlots(names);
+  }
+
   public void setSwaggerProducerOperation(SwaggerProducerOperation swaggerProducerOperation) {
     this.putExtData(Const.PRODUCER_OPERATION, swaggerProducerOperation);
   }
@@ -130,6 +150,10 @@ public class OperationMeta {
     return swaggerOperation.getOperationId();
   }
 
+  public ArgumentSlots getSwaggerArgumentSlots() {
+    return swaggerArgumentSlots;
+  }
+
   // invoker make sure idx is valid
   public String getParamName(int idx) {
     return swaggerOperation.getParameters().get(idx).getName();
@@ -24,4 +24,8 @@ public interface ExceptionCodes {
   String INVOCATION_TIMEOUT = "SCB.00000004";
 
   String GENERIC_SERVER = "SCB.50000000";
+
+  String CONCURRENCY_LIMITED = "SCB.50000001";
+
+  String REQUEST_SHED = "SCB.50000002";
 }
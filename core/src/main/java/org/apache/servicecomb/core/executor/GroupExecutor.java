@@ -21,6 +21,7 @@ import java.io.Closeable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -49,6 +50,14 @@ public class GroupExecutor implements Executor, Closeable {
 
   public static final String KEY_MAX_QUEUE_SIZE = "servicecomb.executor.default.maxQueueSize-per-group";
 
+  public static final String KEY_PRIORITY_QUEUE_ENABLED = "servicecomb.executor.default.priorityQueue.enabled";
+
+  public static final String KEY_PRIORITY_QUEUE_TARGET_DELAY =
+      "servicecomb.executor.default.priorityQueue.targetDelayInMilliseconds";
+
+  public static final String KEY_PRIORITY_QUEUE_INTERVAL =
+      "servicecomb.executor.default.priorityQueue.intervalInMilliseconds";
+
   private static final AtomicBoolean LOG_PRINTED = new AtomicBoolean();
 
   protected String groupName;
@@ -63,6 +72,12 @@ public class GroupExecutor implements Executor, Closeable {
 
   protected int maxQueueSize;
 
+  protected boolean priorityQueueEnabled;
+
+  protected int priorityQueueTargetDelay;
+
+  protected int priorityQueueInterval;
+
   // to avoid multiple network thread conflicted when put tasks to executor queue
   private List<ExecutorService> executorList = new ArrayList<>();
 
@@ -87,7 +102,7 @@ public class GroupExecutor implements Executor, Closeable {
           maxThreads,
           maxIdleInSecond,
           TimeUnit.SECONDS,
-          new LinkedBlockingQueueEx(maxQueueSize),
+          createQueue(),
           factory);
       executorList.add(executor);
     }
@@ -95,6 +110,14 @@ public class GroupExecutor implements Executor, Closeable {
     return this;
   }
 
+  protected BlockingQueue<Runnable> createQueue() {
+    if (priorityQueueEnabled) {
+      return new PriorityBlockingQueueEx(maxQueueSize, priorityQueueTargetDelay, priorityQueueInterval,
+          TimeUnit.MILLISECONDS);
+    }
+    return new LinkedBlockingQueueEx(maxQueueSize);
+  }
+
   public void initConfig() {
     if (LOG_PRINTED.compareAndSet(false, true)) {
       LOGGER.info("thread pool rules:\n"
@@ -124,9 +147,20 @@ public class GroupExecutor implements Executor, Closeable {
     maxIdleInSecond = DynamicPropertyFactory.getInstance().getIntProperty(KEY_MAX_IDLE_SECOND, 60).get();
     maxQueueSize = DynamicPropertyFactory.getInstance().getIntProperty(KEY_MAX_QUEUE_SIZE, Integer.MAX_VALUE).get();
 
+    priorityQueueEnabled = DynamicPropertyFactory.getInstance().getBooleanProperty(KEY_PRIORITY_QUEUE_ENABLED, false)
+        .get();
+    priorityQueueTargetDelay = DynamicPropertyFactory.getInstance().getIntProperty(KEY_PRIORITY_QUEUE_TARGET_DELAY, 5)
+        .get();
+    priorityQueueInterval = DynamicPropertyFactory.getInstance().getIntProperty(KEY_PRIORITY_QUEUE_INTERVAL, 100)
+        .get();
+
     LOGGER.info(
         "executor name={}, group={}. per group settings, coreThreads={}, maxThreads={}, maxIdleInSecond={}, maxQueueSize={}.",
         groupName, groupCount, coreThreads, maxThreads, maxIdleInSecond, maxQueueSize);
+    if (priorityQueueEnabled) {
+      LOGGER.info("executor name={} use priority queue, targetDelayInMilliseconds={}, intervalInMilliseconds={}.",
+          groupName, priorityQueueTargetDelay, priorityQueueInterval);
+    }
   }
 
   public List<ExecutorService> getExecutorList() {
@@ -0,0 +1,357 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.core.executor;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <pre>
+ * bounded queue for {@link ThreadPoolExecutorEx}, with the same thread creation rules as {@link LinkedBlockingQueueEx}
+ *
+ * 1.tasks are dequeued by {@link TaskPriority}, FIFO in the same priority
+ * 2.CoDel style load shedding:
+ *   if the min queue delay of last interval is bigger than targetDelay, the queue is overloaded,
+ *   then tasks waited more than 2 * targetDelay are shed before any work is spent on them.
+ *   HIGH tasks and tasks not implement {@link PrioritizedTask} are never shed.
+ * </pre>
+ */
+public class PriorityBlockingQueueEx extends AbstractQueue<Runnable> implements BlockingQueue<Runnable> {
+  private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+  private static class Node {
+    final Runnable task;
+
+    final long enqueueNanos;
+
+    Node(Runnable task, long enqueueNanos) {
+      this.task = task;
+      this.enqueueNanos = enqueueNanos;
+    }
+  }
+
+  private final int capacity;
+
+  private final long targetDelayNanos;
+
+  private final long intervalNanos;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private final Condition notEmpty = lock.newCondition();
+
+  // index is TaskPriority.ordinal(), guarded by lock
+  private final List<ArrayDeque<Node>> queues = new ArrayList<>(PRIORITIES.length);
+
+  private int count;
+
+  // CoDel state, guarded by lock
+  private long intervalEnd;
+
+  private long minDelayInInterval;
+
+  private boolean overloaded;
+
+  private final LongAdder shedCount = new LongAdder();
+
+  private volatile ThreadPoolExecutorEx owner = null;
+
+  public PriorityBlockingQueueEx(int capacity, long targetDelay, long interval, TimeUnit timeUnit) {
+    this.capacity = capacity;
+    this.targetDelayNanos = timeUnit.toNanos(targetDelay);
+    this.intervalNanos = timeUnit.toNanos(interval);
+    for (int idx = 0; idx < PRIORITIES.length; idx++) {
+      queues.add(new ArrayDeque<>());
+    }
+    this.intervalEnd = System.nanoTime() + intervalNanos;
+  }
+
+  public void setOwner(ThreadPoolExecutorEx owner) {
+    this.owner = owner;
+  }
+
+  public long getShedCount() {
+    return shedCount.sum();
+  }
+
+  @Override
+  public boolean offer(Runnable runnable) {
+    // task can come before owner available
+    if (owner == null) {
+      return enqueue(runnable);
+    }
+    // can not create more thread, just queue the task
+    if (owner.getPoolSize() == owner.getMaximumPoolSize()) {
+      return enqueue(runnable);
+    }
+    // no need to create more thread, just queue the task
+    if (owner.getNotFinished() <= owner.getPoolSize()) {
+      return enqueue(runnable);
+    }
+    // all threads are busy, and can create new thread, not queue the task
+    return false;
+  }
+
+  /*
+   * when task is rejected (thread pool if full), force the item onto queue.
+   */
+  public boolean force(Runnable runnable) {
+    if (owner == null || owner.isShutdown()) {
+      throw new RejectedExecutionException("queue is not running.");
+    }
+    return enqueue(runnable);
+  }
+
+  private boolean enqueue(Runnable runnable) {
+    if (runnable == null) {
+      throw new NullPointerException();
+    }
+
+    lock.lock();
+    try {
+      if (count >= capacity) {
+        return false;
+      }
+      queues.get(priorityOf(runnable).ordinal()).addLast(new Node(runnable, System.nanoTime()));
+      count++;
+      notEmpty.signal();
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static TaskPriority priorityOf(Runnable runnable) {
+    return runnable instanceof PrioritizedTask ? ((PrioritizedTask) runnable).getPriority() : TaskPriority.NORMAL;
+  }
+
+  // guarded by lock
+  private Runnable dequeue() {
+    for (ArrayDeque<Node> queue : queues) {
+      Node node = queue.pollFirst();
+      if (node != null) {
+        count--;
+        return checkShed(node);
+      }
+    }
+    return null;
+  }
+
+  private Runnable checkShed(Node node) {
+    long now = System.nanoTime();
+    long delay = now - node.enqueueNanos;
+    if (now - intervalEnd >= 0) {
+      overloaded = minDelayInInterval > targetDelayNanos;
+      minDelayInInterval = delay;
+      intervalEnd = now + intervalNanos;
+    } else {
+      minDelayInInterval = Math.min(minDelayInInterval, delay);
+    }
+
+    if (overloaded && delay > 2 * targetDelayNanos && node.task instanceof PrioritizedTask) {
+      PrioritizedTask task = (PrioritizedTask) node.task;
+      if (task.getPriority() != TaskPriority.HIGH) {
+        shedCount.increment();
+        return task::shed;
+      }
+    }
+    return node.task;
+  }
+
+  @Override
+  public void put(Runnable runnable) throws InterruptedException {
+    if (!offer(runnable)) {
+      throw new RejectedExecutionException("queue is full.");
+    }
+  }
+
+  @Override
+  public boolean offer(Runnable runnable, long timeout, TimeUnit unit) {
+    return offer(runnable);
+  }
+
+  @Override
+  public Runnable take() throws InterruptedException {
+    lock.lockInterruptibly();
+    try {
+      while (count == 0) {
+        notEmpty.await();
+      }
+      return dequeue();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public Runnable poll(long timeout, TimeUnit unit) throws InterruptedException {
+    long nanos = unit.toNanos(timeout);
+    lock.lockInterruptibly();
+    try {
+      while (count == 0) {
+        if (nanos <= 0) {
+          return null;
+        }
+        nanos = notEmpty.awaitNanos(nanos);
+      }
+      return dequeue();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public Runnable poll() {
+    lock.lock();
+    try {
+      return dequeue();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public Runnable peek() {
+    lock.lock();
+    try {
+      for (ArrayDeque<Node> queue : queues) {
+        Node node = queue.peekFirst();
+        if (node != null) {
+          return node.task;
+        }
+      }
+      return null;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public int size() {
+    lock.lock();
+    try {
+      return count;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public int remainingCapacity() {
+    lock.lock();
+    try {
+      return capacity - count;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    lock.lock();
+    try {
+      for (ArrayDeque<Node> queue : queues) {
+        Iterator<Node> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+          if (iterator.next().task.equals(o)) {
+            iterator.remove();
+            count--;
+            return true;
+          }
+        }
+      }
+      return false;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * drain without shedding, used when thread pool shutdown
+   */
+  @Override
+  public int drainTo(Collection<? super Runnable> c) {
+    return drainTo(c, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public int drainTo(Collection<? super Runnable> c, int maxElements) {
+    lock.lock();
+    try {
+      int drained = 0;
+      for (ArrayDeque<Node> queue : queues) {
+        while (drained < maxElements && !queue.isEmpty()) {
+          c.add(queue.pollFirst().task);
+          count--;
+          drained++;
+        }
+      }
+      return drained;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * snapshot iterator, remove operation is delegated to {@link #remove(Object)}
+   */
+  @Override
+  public Iterator<Runnable> iterator() {
+    List<Runnable> snapshot = new ArrayList<>();
+    lock.lock();
+    try {
+      for (ArrayDeque<Node> queue : queues) {
+        for (Node node : queue) {
+          snapshot.add(node.task);
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+
+    Iterator<Runnable> iterator = snapshot.iterator();
+    return new Iterator<Runnable>() {
+      Runnable current;
+
+      @Override
+      public boolean hasNext() {
+        return iterator.hasNext();
+      }
+
+      @Override
+      public Runnable next() {
+        current = iterator.next();
+        return current;
+      }
+
+      @Override
+      public void remove() {
+        PriorityBlockingQueueEx.this.remove(current);
+      }
+    };
+  }
+}
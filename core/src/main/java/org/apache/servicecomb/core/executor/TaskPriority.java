@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.core.executor;
+
+/**
+ * priority of task in {@link PriorityBlockingQueueEx}
+ * HIGH tasks are always dequeued first and never shed, eg: health check
+ */
+public enum TaskPriority {
+  HIGH,
+  NORMAL,
+  LOW;
+
+  /**
+   * case insensitive, invalid value is treated as NORMAL
+   */
+  public static TaskPriority parse(String value) {
+    for (TaskPriority priority : values()) {
+      if (priority.name().equalsIgnoreCase(value)) {
+        return priority;
+      }
+    }
+    return NORMAL;
+  }
+}
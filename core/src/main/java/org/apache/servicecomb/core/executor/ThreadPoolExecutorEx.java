@@ -35,6 +35,8 @@ public class ThreadPoolExecutorEx extends ThreadPoolExecutor {
     super(coreThreads, maxThreads, maxIdleInSecond, timeUnit, queue, threadFactory);
     if (queue instanceof LinkedBlockingQueueEx) {
       ((LinkedBlockingQueueEx) queue).setOwner(this);
+    } else if (queue instanceof PriorityBlockingQueueEx) {
+      ((PriorityBlockingQueueEx) queue).setOwner(this);
     }
     setRejectedExecutionHandler(this::rejectedExecution);
   }
@@ -50,6 +52,10 @@ public class ThreadPoolExecutorEx extends ThreadPoolExecutor {
         if (!queue.force(command)) {
           throw new RejectedExecutionException("thread pool queue is full");
         }
+      } else if (getQueue() instanceof PriorityBlockingQueueEx) {
+        if (!((PriorityBlockingQueueEx) getQueue()).force(command)) {
+          throw new RejectedExecutionException("thread pool queue is full");
+        }
       } else {
         throw e;
       }
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.core.filter.impl;
+
+import static org.apache.servicecomb.core.exception.ExceptionCodes.CONCURRENCY_LIMITED;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import javax.annotation.Nonnull;
+import javax.ws.rs.core.Response.Status;
+
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.exception.Exceptions;
+import org.apache.servicecomb.core.filter.Filter;
+import org.apache.servicecomb.core.filter.FilterNode;
+import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
+import org.apache.servicecomb.foundation.common.utils.AsyncUtils;
+import org.apache.servicecomb.swagger.invocation.InvocationType;
+import org.apache.servicecomb.swagger.invocation.Response;
+import org.springframework.stereotype.Component;
+
+/**
+ * <pre>
+ * limit concurrent invocations of each operation, the limit is adjusted by measured rtt
+ * see {@link GradientConcurrencyLimiter}
+ *
+ * can be used in both consumer and producer filter chains, eg:
+ *   scb-producer: adaptive-concurrency-limit, scb-producer-transport, schedule, producer-operation
+ * when used in producer, put it before "schedule", so that queue time is measured and rejected early
+ * </pre>
+ */
+@Component
+public class AdaptiveConcurrencyLimitFilter implements Filter {
+  public static final String NAME = "adaptive-concurrency-limit";
+
+  // key is microserviceQualifiedName
+  private final Map<String, GradientConcurrencyLimiter> consumerLimiters = new ConcurrentHashMapEx<>();
+
+  // key is microserviceQualifiedName
+  private final Map<String, GradientConcurrencyLimiter> producerLimiters = new ConcurrentHashMapEx<>();
+
+  @Nonnull
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  public Map<String, GradientConcurrencyLimiter> getLimiters(InvocationType invocationType) {
+    return InvocationType.CONSUMER.equals(invocationType) ? consumerLimiters : producerLimiters;
+  }
+
+  @Override
+  public CompletableFuture<Response> onFilter(Invocation invocation, FilterNode nextNode) {
+    GradientConcurrencyLimiter limiter = getLimiters(invocation.getInvocationType())
+        .computeIfAbsent(invocation.getMicroserviceQualifiedName(), key -> new GradientConcurrencyLimiter());
+    if (!limiter.tryAcquire()) {
+      return AsyncUtils.completeExceptionally(Exceptions.create(Status.SERVICE_UNAVAILABLE, CONCURRENCY_LIMITED,
+          "Too many concurrent requests, limit=" + limiter.getLimit() + "."));
+    }
+
+    long start = System.nanoTime();
+    CompletableFuture<Response> future;
+    try {
+      future = nextNode.onFilter(invocation);
+    } catch (Throwable e) {
+      limiter.release(System.nanoTime() - start);
+      throw e;
+    }
+    return future.whenComplete((response, throwable) -> limiter.release(System.nanoTime() - start));
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.core.filter.impl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.netflix.config.DynamicPropertyFactory;
+
+/**
+ * <pre>
+ * concurrency limit of one operation, adjusted by gradient of rtt:
+ *   gradient = max(0.5, min(1.0, tolerance * longRtt / shortRtt))
+ *   newLimit = limit * gradient + sqrt(limit)
+ *
+ * shortRtt: average rtt in current sample window
+ * longRtt: exponential moving average of shortRtt, the baseline when not overloaded
+ *
+ * when rtt grows, gradient less than 1 and limit decreased
+ * when rtt is stable, sqrt(limit) is the queue allowed to probe for more capacity
+ * </pre>
+ */
+public class GradientConcurrencyLimiter {
+  public static final String CONFIG_PREFIX = "servicecomb.filters.adaptive-concurrency-limit.";
+
+  // about 600 windows to follow the baseline change
+  private static final double LONG_RTT_DECAY = 2.0 / 601;
+
+  private final int minLimit;
+
+  private final int maxLimit;
+
+  private final double tolerance;
+
+  private final double smoothing;
+
+  private final long windowNanos;
+
+  private final int minWindowSamples;
+
+  private final AtomicInteger inflight = new AtomicInteger();
+
+  private final LongAdder rejected = new LongAdder();
+
+  private volatile int limit;
+
+  // keep fraction, otherwise small limit can not grow, guarded by this
+  private double estimatedLimit;
+
+  private double longRtt;
+
+  // sample window, guarded by this
+  private long windowStart;
+
+  private long windowRttSum;
+
+  private int windowSamples;
+
+  private int windowMaxInflight;
+
+  public GradientConcurrencyLimiter() {
+    this(getIntProperty("initialLimit", 20),
+        getIntProperty("minLimit", 4),
+        getIntProperty("maxLimit", 1000),
+        getDoubleProperty("tolerance", 1.5),
+        getDoubleProperty("smoothing", 0.2),
+        TimeUnit.MILLISECONDS.toNanos(getIntProperty("windowInMilliseconds", 1000)),
+        getIntProperty("minWindowSamples", 10));
+  }
+
+  public GradientConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double tolerance,
+      double smoothing, long windowNanos, int minWindowSamples) {
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.tolerance = tolerance;
+    this.smoothing = smoothing;
+    this.windowNanos = windowNanos;
+    this.minWindowSamples = minWindowSamples;
+    this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    this.limit = (int) estimatedLimit;
+  }
+
+  private static int getIntProperty(String key, int defaultValue) {
+    return DynamicPropertyFactory.getInstance().getIntProperty(CONFIG_PREFIX + key, defaultValue).get();
+  }
+
+  private static double getDoubleProperty(String key, double defaultValue) {
+    return DynamicPropertyFactory.getInstance().getDoubleProperty(CONFIG_PREFIX + key, defaultValue).get();
+  }
+
+  public int getLimit() {
+    return limit;
+  }
+
+  public int getInflight() {
+    return inflight.get();
+  }
+
+  public long getRejected() {
+    return rejected.sum();
+  }
+
+  public boolean tryAcquire() {
+    for (; ; ) {
+      int current = inflight.get();
+      if (current >= limit) {
+        rejected.increment();
+        return false;
+      }
+      if (inflight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  public void release(long rttNanos) {
+    int current = inflight.getAndDecrement();
+    onSample(System.nanoTime(), rttNanos, current);
+  }
+
+  @VisibleForTesting
+  synchronized void onSample(long nanoNow, long rttNanos, int currentInflight) {
+    if (windowSamples == 0) {
+      windowStart = nanoNow;
+    }
+    windowRttSum += rttNanos;
+    windowSamples++;
+    windowMaxInflight = Math.max(windowMaxInflight, currentInflight);
+
+    if (nanoNow - windowStart < windowNanos || windowSamples < minWindowSamples) {
+      return;
+    }
+
+    updateLimit((double) windowRttSum / windowSamples, windowMaxInflight);
+    windowRttSum = 0;
+    windowSamples = 0;
+    windowMaxInflight = 0;
+  }
+
+  private void updateLimit(double shortRtt, int maxInflight) {
+    if (longRtt == 0) {
+      longRtt = shortRtt;
+    } else {
+      longRtt = longRtt * (1 - LONG_RTT_DECAY) + shortRtt * LONG_RTT_DECAY;
+    }
+
+    // load decreased a lot, baseline should follow faster
+    if (longRtt / shortRtt > 2) {
+      longRtt *= 0.95;
+    }
+
+    // not enough load to probe the limit
+    if (maxInflight < limit / 2) {
+      return;
+    }
+
+    double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / shortRtt));
+    double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+    newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+    estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    limit = (int) estimatedLimit;
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.core.filter.impl;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.servicecomb.swagger.invocation.Response;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * <pre>
+ * cached responses of one operation, key is swagger arguments
+ *
+ * cache the future instead of the response, so that concurrent misses of the same key share one invocation
+ * failed response is removed when completed, and not cached
+ * </pre>
+ */
+public class ResponseCache {
+  private final long msTtl;
+
+  private final long maxSize;
+
+  private final ConcurrentMap<Map<String, Object>, CompletableFuture<Response>> futures;
+
+  private final LongAdder hits = new LongAdder();
+
+  private final LongAdder misses = new LongAdder();
+
+  public ResponseCache(long msTtl, long maxSize) {
+    this.msTtl = msTtl;
+    this.maxSize = maxSize;
+
+    Cache<Map<String, Object>, CompletableFuture<Response>> cache = CacheBuilder.newBuilder()
+        .expireAfterWrite(msTtl, TimeUnit.MILLISECONDS)
+        .maximumSize(Math.max(0, maxSize))
+        .build();
+    this.futures = cache.asMap();
+  }
+
+  public long getMsTtl() {
+    return msTtl;
+  }
+
+  public long getMaxSize() {
+    return maxSize;
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  public long getSize() {
+    return futures.size();
+  }
+
+  /**
+   * @return null if not cached, caller must invoke and complete the future created by {@link #startLoad(Map)}
+   */
+  public CompletableFuture<Response> find(Map<String, Object> key) {
+    CompletableFuture<Response> future = futures.get(key);
+    if (future != null) {
+      hits.increment();
+    }
+    return future;
+  }
+
+  /**
+   * @return the future of the invocation already started by other caller, or null if this caller should invoke
+   */
+  public CompletableFuture<Response> startLoad(Map<String, Object> key, CompletableFuture<Response> future) {
+    CompletableFuture<Response> existing = futures.putIfAbsent(key, future);
+    if (existing != null) {
+      hits.increment();
+      return existing;
+    }
+
+    misses.increment();
+    future.whenComplete((response, throwable) -> {
+      if (throwable != null || response.isFailed()) {
+        futures.remove(key, future);
+      }
+    });
+    return null;
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.core.filter.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import javax.annotation.Nonnull;
+
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.definition.OperationConfig;
+import org.apache.servicecomb.core.filter.Filter;
+import org.apache.servicecomb.core.filter.FilterNode;
+import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
+import org.apache.servicecomb.swagger.invocation.InvocationType;
+import org.apache.servicecomb.swagger.invocation.Response;
+import org.springframework.stereotype.Component;
+
+import io.vertx.core.MultiMap;
+
+/**
+ * <pre>
+ * cache successful responses of GET operations, key is swagger arguments
+ * see {@link ResponseCache}
+ *
+ * only works for operations configured with time to live, eg:
+ *   servicecomb.Consumer.responseCache.msTtl.${service}.${schema}.${operation}: 1000
+ *   servicecomb.Provider.responseCache.msTtl.${schema}.${operation}: 1000
+ * invocation context and headers are not part of the key,
+ * so only use it for operations whose response only depends on arguments
+ *
+ * can be used in both consumer and producer filter chains, eg:
+ *   scb-producer: scb-producer-transport, response-cache, schedule, producer-operation
+ * when used in producer, put it after transport filters, so that swagger arguments are decoded
+ * </pre>
+ */
+@Component
+public class ResponseCacheFilter implements Filter {
+  public static final String NAME = "response-cache";
+
+  private static final String GET = "GET";
+
+  // key is microserviceQualifiedName
+  private final Map<String, ResponseCache> consumerCaches = new ConcurrentHashMapEx<>();
+
+  // key is microserviceQualifiedName
+  private final Map<String, ResponseCache> producerCaches = new ConcurrentHashMapEx<>();
+
+  @Nonnull
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  public Map<String, ResponseCache> getCaches(InvocationType invocationType) {
+    return InvocationType.CONSUMER.equals(invocationType) ? consumerCaches : producerCaches;
+  }
+
+  @Override
+  public CompletableFuture<Response> onFilter(Invocation invocation, FilterNode nextNode) {
+    ResponseCache cache = findCache(invocation);
+    if (cache == null) {
+      return nextNode.onFilter(invocation);
+    }
+
+    Map<String, Object> key = new HashMap<>(invocation.getSwaggerArguments());
+    CompletableFuture<Response> cached = cache.find(key);
+    if (cached == null) {
+      CompletableFuture<Response> future = new CompletableFuture<>();
+      cached = cache.startLoad(key, future);
+      if (cached == null) {
+        invoke(invocation, nextNode, future);
+        return future.thenApply(this::copyResponse);
+      }
+    }
+    return cached.thenApply(this::copyResponse);
+  }
+
+  private ResponseCache findCache(Invocation invocation) {
+    if (!GET.equals(invocation.getOperationMeta().getHttpMethod())) {
+      return null;
+    }
+
+    OperationConfig config = invocation.getOperationMeta().getConfig();
+    long msTtl = config.getMsResponseCacheTtl();
+    if (msTtl <= 0) {
+      return null;
+    }
+
+    long maxSize = config.getResponseCacheMaxSize();
+    Map<String, ResponseCache> caches = getCaches(invocation.getInvocationType());
+    ResponseCache cache = caches.get(invocation.getMicroserviceQualifiedName());
+    if (isSameConfig(cache, msTtl, maxSize)) {
+      return cache;
+    }
+
+    // configuration changed, just drop the old one
+    // compute atomically, so that concurrent invocations share the same new cache
+    return caches.compute(invocation.getMicroserviceQualifiedName(),
+        (name, old) -> isSameConfig(old, msTtl, maxSize) ? old : new ResponseCache(msTtl, maxSize));
+  }
+
+  private static boolean isSameConfig(ResponseCache cache, long msTtl, long maxSize) {
+    return cache != null && cache.getMsTtl() == msTtl && cache.getMaxSize() == maxSize;
+  }
+
+  private void invoke(Invocation invocation, FilterNode nextNode, CompletableFuture<Response> future) {
+    try {
+      nextNode.onFilter(invocation).whenComplete((response, throwable) -> {
+        if (throwable != null) {
+          future.completeExceptionally(throwable);
+          return;
+        }
+        future.complete(response);
+      });
+    } catch (Throwable e) {
+      future.completeExceptionally(e);
+    }
+  }
+
+  // response and headers may be changed by later process, result object is shared
+  private Response copyResponse(Response response) {
+    Response copy = Response.create(response.getStatus(), response.getResult());
+    if (response.getHeaders() != null) {
+      copy.setHeaders(MultiMap.caseInsensitiveMultiMap().addAll(response.getHeaders()));
+    }
+    return copy;
+  }
+}
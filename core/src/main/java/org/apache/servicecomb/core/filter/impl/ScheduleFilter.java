@@ -16,13 +16,18 @@
  */
 package org.apache.servicecomb.core.filter.impl;
 
+import static org.apache.servicecomb.core.exception.ExceptionCodes.REQUEST_SHED;
+
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
 import javax.annotation.Nonnull;
+import javax.ws.rs.core.Response.Status;
 
 import org.apache.servicecomb.core.Invocation;
 import org.apache.servicecomb.core.exception.Exceptions;
+import org.apache.servicecomb.core.executor.PrioritizedTask;
+import org.apache.servicecomb.core.executor.TaskPriority;
 import org.apache.servicecomb.core.filter.FilterNode;
 import org.apache.servicecomb.core.filter.ProducerFilter;
 import org.apache.servicecomb.core.invocation.InvocationStageTrace;
@@ -39,15 +44,69 @@ public class ScheduleFilter implements ProducerFilter {
     return NAME;
   }
 
+  class ScheduleTask implements PrioritizedTask {
+    private final Invocation invocation;
+
+    private final FilterNode next;
+
+    private final CompletableFuture<Response> future = new CompletableFuture<>();
+
+    ScheduleTask(Invocation invocation, FilterNode next) {
+      this.invocation = invocation;
+      this.next = next;
+    }
+
+    @Override
+    public TaskPriority getPriority() {
+      return invocation.getOperationMeta().getConfig().getTaskPriority();
+    }
+
+    @Override
+    public void run() {
+      execute(false);
+    }
+
+    @Override
+    public void shed() {
+      execute(true);
+    }
+
+    private void execute(boolean shed) {
+      try {
+        runInExecutor(invocation, next, shed).whenComplete((response, throwable) -> {
+          if (throwable != null) {
+            future.completeExceptionally(throwable);
+            return;
+          }
+          future.complete(response);
+        });
+      } catch (Throwable e) {
+        future.completeExceptionally(e);
+      }
+    }
+  }
+
   @Override
   public CompletableFuture<Response> onFilter(Invocation invocation, FilterNode next) {
     invocation.getInvocationStageTrace().startSchedule();
     Executor executor = invocation.getOperationMeta().getExecutor();
-    return CompletableFuture.completedFuture(null)
-        .thenComposeAsync(response -> runInExecutor(invocation, next), executor);
+    ScheduleTask task = new ScheduleTask(invocation, next);
+    try {
+      executor.execute(task);
+    } catch (Throwable e) {
+      task.future.completeExceptionally(e);
+    }
+    return task.future;
   }
 
   protected CompletableFuture<Response> runInExecutor(Invocation invocation, FilterNode next) {
+    return runInExecutor(invocation, next, false);
+  }
+
+  /**
+   * @param shed true when the task is shed by overloaded queue, just reject the invocation
+   */
+  protected CompletableFuture<Response> runInExecutor(Invocation invocation, FilterNode next, boolean shed) {
     invocation.onExecuteStart();
 
     try {
@@ -55,6 +114,9 @@ public class ScheduleFilter implements ProducerFilter {
       trace.startServerFiltersRequest();
       invocation.onStartHandlersRequest();
 
+      if (shed) {
+        throw Exceptions.create(Status.SERVICE_UNAVAILABLE, REQUEST_SHED, "Request shed by overloaded queue.");
+      }
       checkInQueueTimeout(invocation);
 
       return next.onFilter(invocation)
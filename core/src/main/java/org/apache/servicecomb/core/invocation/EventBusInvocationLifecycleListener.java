@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.core.invocation;
+
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.event.InvocationBusinessFinishEvent;
+import org.apache.servicecomb.core.event.InvocationBusinessMethodFinishEvent;
+import org.apache.servicecomb.core.event.InvocationBusinessMethodStartEvent;
+import org.apache.servicecomb.core.event.InvocationEncodeResponseStartEvent;
+import org.apache.servicecomb.core.event.InvocationFinishEvent;
+import org.apache.servicecomb.core.event.InvocationHandlersStartEvent;
+import org.apache.servicecomb.core.event.InvocationRunInExecutorFinishEvent;
+import org.apache.servicecomb.core.event.InvocationRunInExecutorStartEvent;
+import org.apache.servicecomb.core.event.InvocationStartEvent;
+import org.apache.servicecomb.core.event.InvocationStartSendRequestEvent;
+import org.apache.servicecomb.foundation.common.event.EventManager;
+import org.apache.servicecomb.swagger.invocation.Response;
+
+/**
+ * adapter for the old style invocation events
+ * event object is only created when there is subscriber of the event
+ * exception is propagated, subscribers decide it by {@link org.apache.servicecomb.foundation.common.event.EnableExceptionPropagation}
+ */
+public class EventBusInvocationLifecycleListener implements InvocationLifecycleListener {
+  public static final EventBusInvocationLifecycleListener INSTANCE = new EventBusInvocationLifecycleListener();
+
+  @Override
+  public boolean isPropagateException() {
+    return true;
+  }
+
+  @Override
+  public void onStart(Invocation invocation) {
+    if (EventManager.hasSubscriber(InvocationStartEvent.class)) {
+      EventManager.post(new InvocationStartEvent(invocation));
+    }
+  }
+
+  @Override
+  public void onExecuteStart(Invocation invocation) {
+    if (EventManager.hasSubscriber(InvocationRunInExecutorStartEvent.class)) {
+      EventManager.post(new InvocationRunInExecutorStartEvent(invocation));
+    }
+  }
+
+  @Override
+  public void onExecuteFinish(Invocation invocation) {
+    if (EventManager.hasSubscriber(InvocationRunInExecutorFinishEvent.class)) {
+      EventManager.post(new InvocationRunInExecutorFinishEvent(invocation));
+    }
+  }
+
+  @Override
+  public void onStartHandlersRequest(Invocation invocation) {
+    if (EventManager.hasSubscriber(InvocationHandlersStartEvent.class)) {
+      EventManager.post(new InvocationHandlersStartEvent(invocation));
+    }
+  }
+
+  @Override
+  public void onStartSendRequest(Invocation invocation) {
+    if (EventManager.hasSubscriber(InvocationStartSendRequestEvent.class)) {
+      EventManager.post(new InvocationStartSendRequestEvent(invocation));
+    }
+  }
+
+  @Override
+  public void onBusinessMethodStart(Invocation invocation) {
+    if (EventManager.hasSubscriber(InvocationBusinessMethodStartEvent.class)) {
+      EventManager.post(new InvocationBusinessMethodStartEvent(invocation));
+    }
+  }
+
+  @Override
+  public void onBusinessMethodFinish(Invocation invocation) {
+    if (EventManager.hasSubscriber(InvocationBusinessMethodFinishEvent.class)) {
+      EventManager.post(new InvocationBusinessMethodFinishEvent(invocation));
+    }
+  }
+
+  @Override
+  public void onEncodeResponseStart(Invocation invocation, Response response) {
+    if (EventManager.hasSubscriber(InvocationEncodeResponseStartEvent.class)) {
+      EventManager.post(new InvocationEncodeResponseStartEvent(invocation, response));
+    }
+  }
+
+  @Override
+  public void onBusinessFinish(Invocation invocation) {
+    if (EventManager.hasSubscriber(InvocationBusinessFinishEvent.class)) {
+      EventManager.post(new InvocationBusinessFinishEvent(invocation));
+    }
+  }
+
+  @Override
+  public void onFinish(Invocation invocation, Response response) {
+    if (EventManager.hasSubscriber(InvocationFinishEvent.class)) {
+      EventManager.post(new InvocationFinishEvent(invocation, response));
+    }
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.core.invocation;
+
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.swagger.invocation.Response;
+
+/**
+ * <pre>
+ * typed listener of invocation stages, invoked directly without allocate any event object
+ * load from SPI and spring beans, resolved when SCBEngine run
+ *
+ * only override the stages cared, stages not overridden by any listener cost nothing
+ * all methods run in the invocation hot path, must be fast and must not throw exception
+ * exception thrown by listener is logged and ignored, unless {@link #isPropagateException()} is true
+ * </pre>
+ */
+public interface InvocationLifecycleListener {
+  default int getOrder() {
+    return 0;
+  }
+
+  /**
+   * true to rethrow exception of this listener to the invocation, that will abort the invocation
+   */
+  default boolean isPropagateException() {
+    return false;
+  }
+
+  default void onStart(Invocation invocation) {
+  }
+
+  default void onExecuteStart(Invocation invocation) {
+  }
+
+  default void onExecuteFinish(Invocation invocation) {
+  }
+
+  default void onStartHandlersRequest(Invocation invocation) {
+  }
+
+  default void onStartSendRequest(Invocation invocation) {
+  }
+
+  default void onBusinessMethodStart(Invocation invocation) {
+  }
+
+  default void onBusinessMethodFinish(Invocation invocation) {
+  }
+
+  default void onEncodeResponseStart(Invocation invocation, Response response) {
+  }
+
+  default void onBusinessFinish(Invocation invocation) {
+  }
+
+  default void onFinish(Invocation invocation, Response response) {
+  }
+}
@@ -0,0 +1,240 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.core.invocation;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.swagger.invocation.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <pre>
+ * flat listener arrays of every stage, only contains listeners that override the stage
+ * before SCBEngine run, only contains {@link EventBusInvocationLifecycleListener}
+ * a failed listener is logged and never breaks the invocation or the other listeners
+ * except listeners that propagate exception, eg: timeout check subscribers of {@link EventBusInvocationLifecycleListener}
+ * </pre>
+ */
+public final class InvocationLifecycleListeners {
+  private static final Logger LOGGER = LoggerFactory.getLogger(InvocationLifecycleListeners.class);
+
+  private static final InvocationLifecycleListener[] EMPTY = new InvocationLifecycleListener[0];
+
+  private static volatile InvocationLifecycleListeners current = createDefault();
+
+  private final List<InvocationLifecycleListener> listeners;
+
+  private final InvocationLifecycleListener[] onStart;
+
+  private final InvocationLifecycleListener[] onExecuteStart;
+
+  private final InvocationLifecycleListener[] onExecuteFinish;
+
+  private final InvocationLifecycleListener[] onStartHandlersRequest;
+
+  private final InvocationLifecycleListener[] onStartSendRequest;
+
+  private final InvocationLifecycleListener[] onBusinessMethodStart;
+
+  private final InvocationLifecycleListener[] onBusinessMethodFinish;
+
+  private final InvocationLifecycleListener[] onEncodeResponseStart;
+
+  private final InvocationLifecycleListener[] onBusinessFinish;
+
+  private final InvocationLifecycleListener[] onFinish;
+
+  private InvocationLifecycleListeners(List<InvocationLifecycleListener> listeners) {
+    this.listeners = listeners;
+    this.onStart = collect("onStart", Invocation.class);
+    this.onExecuteStart = collect("onExecuteStart", Invocation.class);
+    this.onExecuteFinish = collect("onExecuteFinish", Invocation.class);
+    this.onStartHandlersRequest = collect("onStartHandlersRequest", Invocation.class);
+    this.onStartSendRequest = collect("onStartSendRequest", Invocation.class);
+    this.onBusinessMethodStart = collect("onBusinessMethodStart", Invocation.class);
+    this.onBusinessMethodFinish = collect("onBusinessMethodFinish", Invocation.class);
+    this.onEncodeResponseStart = collect("onEncodeResponseStart", Invocation.class, Response.class);
+    this.onBusinessFinish = collect("onBusinessFinish", Invocation.class);
+    this.onFinish = collect("onFinish", Invocation.class, Response.class);
+  }
+
+  private InvocationLifecycleListener[] collect(String name, Class<?>... parameterTypes) {
+    List<InvocationLifecycleListener> overridden = new ArrayList<>();
+    for (InvocationLifecycleListener listener : listeners) {
+      try {
+        Method method = listener.getClass().getMethod(name, parameterTypes);
+        if (method.getDeclaringClass() != InvocationLifecycleListener.class) {
+          overridden.add(listener);
+        }
+      } catch (NoSuchMethodException e) {
+        throw new IllegalStateException("unknown invocation stage " + name, e);
+      }
+    }
+    return overridden.isEmpty() ? EMPTY : overridden.toArray(EMPTY);
+  }
+
+  private static InvocationLifecycleListeners createDefault() {
+    return new InvocationLifecycleListeners(Collections.singletonList(EventBusInvocationLifecycleListener.INSTANCE));
+  }
+
+  public static void reset() {
+    current = createDefault();
+  }
+
+  public static synchronized void init(List<InvocationLifecycleListener> listeners) {
+    List<InvocationLifecycleListener> sorted = new ArrayList<>(listeners);
+    sorted.sort(Comparator.comparingInt(InvocationLifecycleListener::getOrder));
+    current = new InvocationLifecycleListeners(sorted);
+  }
+
+  /**
+   * for components initialized after SCBEngine run, eg: metrics
+   */
+  public static synchronized void register(InvocationLifecycleListener listener) {
+    List<InvocationLifecycleListener> listeners = new ArrayList<>(current.listeners);
+    listeners.add(listener);
+    init(listeners);
+  }
+
+  public static synchronized void unregister(InvocationLifecycleListener listener) {
+    List<InvocationLifecycleListener> listeners = new ArrayList<>(current.listeners);
+    if (listeners.remove(listener)) {
+      init(listeners);
+    }
+  }
+
+  public static List<InvocationLifecycleListener> getListeners() {
+    return current.listeners;
+  }
+
+  public static void onStart(Invocation invocation) {
+    for (InvocationLifecycleListener listener : current.onStart) {
+      try {
+        listener.onStart(invocation);
+      } catch (Throwable e) {
+        handleFailure(listener, "onStart", e);
+      }
+    }
+  }
+
+  public static void onExecuteStart(Invocation invocation) {
+    for (InvocationLifecycleListener listener : current.onExecuteStart) {
+      try {
+        listener.onExecuteStart(invocation);
+      } catch (Throwable e) {
+        handleFailure(listener, "onExecuteStart", e);
+      }
+    }
+  }
+
+  public static void onExecuteFinish(Invocation invocation) {
+    for (InvocationLifecycleListener listener : current.onExecuteFinish) {
+      try {
+        listener.onExecuteFinish(invocation);
+      } catch (Throwable e) {
+        handleFailure(listener, "onExecuteFinish", e);
+      }
+    }
+  }
+
+  public static void onStartHandlersRequest(Invocation invocation) {
+    for (InvocationLifecycleListener listener : current.onStartHandlersRequest) {
+      try {
+        listener.onStartHandlersRequest(invocation);
+      } catch (Throwable e) {
+        handleFailure(listener, "onStartHandlersRequest", e);
+      }
+    }
+  }
+
+  public static void onStartSendRequest(Invocation invocation) {
+    for (InvocationLifecycleListener listener : current.onStartSendRequest) {
+      try {
+        listener.onStartSendRequest(invocation);
+      } catch (Throwable e) {
+        handleFailure(listener, "onStartSendRequest", e);
+      }
+    }
+  }
+
+  public static void onBusinessMethodStart(Invocation invocation) {
+    for (InvocationLifecycleListener listener : current.onBusinessMethodStart) {
+      try {
+        listener.onBusinessMethodStart(invocation);
+      } catch (Throwable e) {
+        handleFailure(listener, "onBusinessMethodStart", e);
+      }
+    }
+  }
+
+  public static void onBusinessMethodFinish(Invocation invocation) {
+    for (InvocationLifecycleListener listener : current.onBusinessMethodFinish) {
+      try {
+        listener.onBusinessMethodFinish(invocation);
+      } catch (Throwable e) {
+        handleFailure(listener, "onBusinessMethodFinish", e);
+      }
+    }
+  }
+
+  public static void onEncodeResponseStart(Invocation invocation, Response response) {
+    for (InvocationLifecycleListener listener : current.onEncodeResponseStart) {
+      try {
+        listener.onEncodeResponseStart(invocation, response);
+      } catch (Throwable e) {
+        handleFailure(listener, "onEncodeResponseStart", e);
+      }
+    }
+  }
+
+  public static void onBusinessFinish(Invocation invocation) {
+    for (InvocationLifecycleListener listener : current.onBusinessFinish) {
+      try {
+        listener.onBusinessFinish(invocation);
+      } catch (Throwable e) {
+        handleFailure(listener, "onBusinessFinish", e);
+      }
+    }
+  }
+
+  public static void onFinish(Invocation invocation, Response response) {
+    for (InvocationLifecycleListener listener : current.onFinish) {
+      try {
+        listener.onFinish(invocation, response);
+      } catch (Throwable e) {
+        handleFailure(listener, "onFinish", e);
+      }
+    }
+  }
+
+  private static void handleFailure(InvocationLifecycleListener listener, String stage, Throwable e) {
+    if (listener.isPropagateException()) {
+      if (e instanceof Error) {
+        throw (Error) e;
+      }
+      // listener methods not declare checked exception
+      throw (RuntimeException) e;
+    }
+    LOGGER.error("invocation lifecycle listener {} failed to process {}.", listener.getClass().getName(), stage, e);
+  }
+}
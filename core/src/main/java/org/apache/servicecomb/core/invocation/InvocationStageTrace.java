@@ -236,6 +236,28 @@ public class InvocationStageTrace {
     this.finishClientFiltersResponse = System.nanoTime();
   }
 
+  /**
+   * stages before send of a new attempt are the same as this invocation
+   */
+  public void copyPrepareStages(InvocationStageTrace from) {
+    this.startTimeMillis = from.startTimeMillis;
+    this.start = from.start;
+    this.startHandlersRequest = from.startHandlersRequest;
+  }
+
+  /**
+   * take the send stages of the attempt that produced the response
+   */
+  public void mergeSendStages(InvocationStageTrace attempt) {
+    this.startClientFiltersRequest = attempt.startClientFiltersRequest;
+    this.startSend = attempt.startSend;
+    this.finishGetConnection = attempt.finishGetConnection;
+    this.finishWriteToBuffer = attempt.finishWriteToBuffer;
+    this.finishReceiveResponse = attempt.finishReceiveResponse;
+    this.startClientFiltersResponse = attempt.startClientFiltersResponse;
+    this.finishClientFiltersResponse = attempt.finishClientFiltersResponse;
+  }
+
   public long getFinishHandlersResponse() {
     return finishHandlersResponse;
   }
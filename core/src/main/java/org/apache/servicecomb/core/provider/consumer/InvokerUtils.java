@@ -152,7 +152,7 @@ public final class InvokerUtils {
         throw new IllegalStateException("Can not execute sync logic in event loop. ");
       }
       invocation.onStart(null, System.nanoTime());
-      SyncResponseExecutor respExecutor = new SyncResponseExecutor();
+      SyncResponseExecutor respExecutor = SyncResponseExecutor.create(invocation.getReferenceConfig());
       invocation.setResponseExecutor(respExecutor);
 
       invocation.onStartHandlersRequest();
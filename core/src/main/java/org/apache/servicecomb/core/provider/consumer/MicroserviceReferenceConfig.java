@@ -94,7 +94,9 @@ public class MicroserviceReferenceConfig {
     if (transport == null) {
       transport = operationMeta.getConfig().getTransport();
     }
-    final ReferenceConfig referenceConfig = new ReferenceConfig(transport, versionRule);
+    final ReferenceConfig referenceConfig = new ReferenceConfig(transport, versionRule)
+        .setSyncWaitStrategy(operationMeta.getConfig().getSyncWaitStrategy())
+        .setSyncWaitSpinCount(operationMeta.getConfig().getSyncWaitSpinCount());
     mark3rdPartyService(operationMeta, referenceConfig);
     return referenceConfig;
   }
@@ -19,12 +19,26 @@ package org.apache.servicecomb.core.provider.consumer;
 
 // operation level, to keep compatible, not change name
 public class ReferenceConfig {
+  /**
+   * wait sync response by CountDownLatch
+   */
+  public static final String SYNC_WAIT_LATCH = "latch";
+
+  /**
+   * wait sync response by spin some times, and then park by LockSupport
+   */
+  public static final String SYNC_WAIT_SPIN_PARK = "spinPark";
+
   protected String transport;
 
   protected String versionRule;
 
   private boolean thirdPartyService;
 
+  private String syncWaitStrategy = SYNC_WAIT_LATCH;
+
+  private int syncWaitSpinCount;
+
   public ReferenceConfig(String transport, String versionRule) {
     this.transport = transport;
     this.versionRule = versionRule;
@@ -54,4 +68,22 @@ public class ReferenceConfig {
     this.thirdPartyService = thirdPartyService;
     return this;
   }
+
+  public String getSyncWaitStrategy() {
+    return syncWaitStrategy;
+  }
+
+  public ReferenceConfig setSyncWaitStrategy(String syncWaitStrategy) {
+    this.syncWaitStrategy = syncWaitStrategy;
+    return this;
+  }
+
+  public int getSyncWaitSpinCount() {
+    return syncWaitSpinCount;
+  }
+
+  public ReferenceConfig setSyncWaitSpinCount(int syncWaitSpinCount) {
+    this.syncWaitSpinCount = syncWaitSpinCount;
+    return this;
+  }
 }
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.core.provider.consumer;
+
+import static javax.ws.rs.core.Response.Status.REQUEST_TIMEOUT;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.exception.ExceptionCodes;
+import org.apache.servicecomb.swagger.invocation.exception.InvocationException;
+
+/**
+ * 业务线程先自旋检查spinCount次，仍未应答才通过LockSupport park，
+ * 应答很快时可以避免park/unpark引起的线程切换，也不必每次调用创建CountDownLatch
+ */
+public class SpinParkSyncResponseExecutor extends SyncResponseExecutor {
+  private final int spinCount;
+
+  private volatile boolean done;
+
+  private volatile Thread waiter;
+
+  public SpinParkSyncResponseExecutor(int spinCount) {
+    super(null);
+    this.spinCount = spinCount;
+  }
+
+  @Override
+  protected void wakeUp() {
+    // done must be written before read waiter, pair with guardedWait
+    done = true;
+    Thread thread = waiter;
+    if (thread != null) {
+      LockSupport.unpark(thread);
+    }
+  }
+
+  @Override
+  protected void guardedWait(Invocation invocation) throws InvocationException {
+    if (spinWait()) {
+      return;
+    }
+
+    long wait = getWaitTime(invocation);
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(wait);
+    waiter = Thread.currentThread();
+    try {
+      while (!done) {
+        if (Thread.interrupted()) {
+          break;
+        }
+
+        if (wait <= 0) {
+          LockSupport.park(this);
+          continue;
+        }
+
+        long nanos = deadline - System.nanoTime();
+        if (nanos <= 0) {
+          break;
+        }
+        LockSupport.parkNanos(this, nanos);
+      }
+    } finally {
+      waiter = null;
+    }
+
+    if (done) {
+      return;
+    }
+    throw new InvocationException(REQUEST_TIMEOUT, ExceptionCodes.INVOCATION_TIMEOUT, "Invocation Timeout.");
+  }
+
+  private boolean spinWait() {
+    for (int idx = 0; idx < spinCount; idx++) {
+      if (done) {
+        return true;
+      }
+    }
+    return done;
+  }
+}
@@ -31,16 +31,33 @@ import org.apache.servicecomb.swagger.invocation.exception.InvocationException;
 /**
  * 业务线程在阻塞等待着，不必另起线程
  * 将应答流程包装为Runnable，先唤醒业务线程，再在业务线程中执行runnable
+ *
+ * 默认使用CountDownLatch等待，可以通过ReferenceConfig选择{@link SpinParkSyncResponseExecutor}
  */
 public class SyncResponseExecutor implements Executor {
-  private CountDownLatch latch;
+  private final CountDownLatch latch;
 
   private Runnable cmd;
 
   private Response response;
 
   public SyncResponseExecutor() {
-    latch = new CountDownLatch(1);
+    this(new CountDownLatch(1));
+  }
+
+  /**
+   * for subclasses that do not wait by latch, they can pass null and override wakeUp and guardedWait
+   */
+  protected SyncResponseExecutor(CountDownLatch latch) {
+    this.latch = latch;
+  }
+
+  public static SyncResponseExecutor create(ReferenceConfig referenceConfig) {
+    if (referenceConfig != null
+        && ReferenceConfig.SYNC_WAIT_SPIN_PARK.equals(referenceConfig.getSyncWaitStrategy())) {
+      return new SpinParkSyncResponseExecutor(referenceConfig.getSyncWaitSpinCount());
+    }
+    return new SyncResponseExecutor();
   }
 
   @Override
@@ -51,7 +68,7 @@ public class SyncResponseExecutor implements Executor {
     // if save to a queue, and other thread(s) to invoke countDown, will get good performance
     // but if have multiple network thread, this "optimization" will reduce performance
     // now not change this.
-    latch.countDown();
+    wakeUp();
   }
 
   public Response waitResponse(Invocation invocation) throws InvocationException {
@@ -70,11 +87,15 @@ public class SyncResponseExecutor implements Executor {
     if (cmd == null) {
       // 1. 走到这里，没有cmd，说明没走到网络线程，直接就返回了。
       // 2. 或者在网络线程中没使用execute的方式返回，这会导致返回流程在网络线程中执行，虽然不合适，但是也不应该导致业务线程无法唤醒
-      latch.countDown();
+      wakeUp();
     }
   }
 
-  private void guardedWait(Invocation invocation) throws InvocationException {
+  protected void wakeUp() {
+    latch.countDown();
+  }
+
+  protected void guardedWait(Invocation invocation) throws InvocationException {
     long wait = getWaitTime(invocation);
     try {
       if (wait <= 0) {
@@ -90,7 +111,7 @@ public class SyncResponseExecutor implements Executor {
     throw new InvocationException(REQUEST_TIMEOUT, ExceptionCodes.INVOCATION_TIMEOUT, "Invocation Timeout.");
   }
 
-  private long getWaitTime(Invocation invocation) {
+  protected long getWaitTime(Invocation invocation) {
     if (invocation.getOperationMeta().getConfig().getMsRequestTimeout() <= 0) {
       return invocation.getOperationMeta().getConfig().getMsInvocationTimeout();
     }
@@ -17,6 +17,7 @@
 package org.apache.servicecomb.core;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.servicecomb.core.definition.InvocationRuntimeType;
@@ -33,7 +34,12 @@ import org.apache.servicecomb.foundation.common.Holder;
 import org.apache.servicecomb.foundation.common.event.EventManager;
 import org.apache.servicecomb.foundation.common.utils.SPIServiceUtils;
 import org.apache.servicecomb.foundation.vertx.http.HttpServletRequestEx;
+import org.apache.servicecomb.swagger.engine.SwaggerProducerOperation;
 import org.apache.servicecomb.swagger.invocation.Response;
+import org.apache.servicecomb.swagger.invocation.arguments.ArgumentSlots;
+import org.apache.servicecomb.swagger.invocation.arguments.SlotArguments;
+import org.apache.servicecomb.swagger.invocation.arguments.producer.ProducerArgumentSame;
+import org.apache.servicecomb.swagger.invocation.arguments.producer.ProducerArgumentsMapper;
 import org.hamcrest.Matchers;
 import org.junit.AfterClass;
 import org.junit.Assert;
@@ -327,4 +333,54 @@ public class TestInvocation {
     };
     Assert.assertTrue(invocation.isThirdPartyInvocation());
   }
+
+  @Test
+  public void toProducerArguments_slotArguments(@Mocked SwaggerProducerOperation swaggerProducerOperation) {
+    ArgumentSlots slots = new ArgumentSlots("a", "b");
+    ProducerArgumentsMapper mapper = new ProducerArgumentsMapper(
+        Arrays.asList(new ProducerArgumentSame("a", "a"), new ProducerArgumentSame("b", "b")), slots);
+    new Expectations() {
+      {
+        operationMeta.getSwaggerProducerOperation();
+        result = swaggerProducerOperation;
+        swaggerProducerOperation.getArgumentsMapper();
+        result = mapper;
+      }
+    };
+    Map<String, Object> swaggerArguments = new HashMap<>();
+    swaggerArguments.put("a", 1);
+    swaggerArguments.put("b", "2");
+
+    Invocation invocation = new Invocation(endpoint, operationMeta, swaggerArguments);
+    Object[] producerArguments = invocation.toProducerArguments();
+
+    Assert.assertSame(((SlotArguments) invocation.getInvocationArguments()).getValues(), producerArguments);
+    Assert.assertArrayEquals(new Object[] {1, "2"}, producerArguments);
+  }
+
+  @Test
+  public void createAndMergeAttempt(@Mocked ReferenceConfig referenceConfig, @Mocked Endpoint attemptEndpoint) {
+    Invocation invocation = new Invocation(referenceConfig, operationMeta, invocationRuntimeType, arguments);
+    invocation.addContext("k", "v");
+    invocation.addLocalContext("lk", "lv");
+    invocation.setHandlerIndex(1);
+
+    Invocation attempt = invocation.createAttempt();
+    Assert.assertNotSame(invocation, attempt);
+    Assert.assertEquals(1, attempt.getHandlerIndex());
+    Assert.assertSame(operationMeta, attempt.getOperationMeta());
+    Assert.assertEquals("v", attempt.getContext("k"));
+    Assert.assertEquals("lv", attempt.getLocalContext("lk"));
+
+    attempt.setEndpoint(attemptEndpoint);
+    attempt.addContext("k2", "v2");
+    attempt.setHandlerIndex(2);
+    Assert.assertNull(invocation.getEndpoint());
+    Assert.assertNull(invocation.getContext("k2"));
+
+    invocation.mergeAttempt(attempt);
+    Assert.assertSame(attemptEndpoint, invocation.getEndpoint());
+    Assert.assertEquals("v2", invocation.getContext("k2"));
+    Assert.assertEquals(1, invocation.getHandlerIndex());
+  }
 }
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.core.executor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestPriorityBlockingQueueEx {
+  static class Task implements PrioritizedTask {
+    TaskPriority priority;
+
+    boolean executed;
+
+    boolean shed;
+
+    Task(TaskPriority priority) {
+      this.priority = priority;
+    }
+
+    @Override
+    public TaskPriority getPriority() {
+      return priority;
+    }
+
+    @Override
+    public void run() {
+      executed = true;
+    }
+
+    @Override
+    public void shed() {
+      shed = true;
+    }
+  }
+
+  PriorityBlockingQueueEx queue = new PriorityBlockingQueueEx(10, 1, 1, TimeUnit.SECONDS);
+
+  @Test
+  public void priority() {
+    Task low = new Task(TaskPriority.LOW);
+    Runnable normal = () -> {
+    };
+    Task high = new Task(TaskPriority.HIGH);
+    Assert.assertTrue(queue.offer(low));
+    Assert.assertTrue(queue.offer(normal));
+    Assert.assertTrue(queue.offer(high));
+    Assert.assertEquals(3, queue.size());
+
+    Assert.assertSame(high, queue.peek());
+    Assert.assertSame(high, queue.poll());
+    Assert.assertSame(normal, queue.poll());
+    Assert.assertSame(low, queue.poll());
+    Assert.assertNull(queue.poll());
+  }
+
+  @Test
+  public void capacity() {
+    queue = new PriorityBlockingQueueEx(2, 1, 1, TimeUnit.SECONDS);
+    Assert.assertTrue(queue.offer(new Task(TaskPriority.LOW)));
+    Assert.assertTrue(queue.offer(new Task(TaskPriority.LOW)));
+    Assert.assertFalse(queue.offer(new Task(TaskPriority.HIGH)));
+    Assert.assertEquals(0, queue.remainingCapacity());
+  }
+
+  @Test
+  public void drainAndRemove() {
+    Task low = new Task(TaskPriority.LOW);
+    Task high = new Task(TaskPriority.HIGH);
+    queue.offer(low);
+    queue.offer(high);
+
+    Assert.assertTrue(queue.remove(low));
+    Assert.assertFalse(queue.remove(low));
+
+    List<Runnable> drained = new ArrayList<>();
+    Assert.assertEquals(1, queue.drainTo(drained));
+    Assert.assertSame(high, drained.get(0));
+    Assert.assertTrue(queue.isEmpty());
+  }
+
+  @Test
+  public void shed() throws InterruptedException {
+    queue = new PriorityBlockingQueueEx(10, 1, 1, TimeUnit.MICROSECONDS);
+    Task high = new Task(TaskPriority.HIGH);
+    Task normal1 = new Task(TaskPriority.NORMAL);
+    Task normal2 = new Task(TaskPriority.NORMAL);
+    Runnable notPrioritized = () -> {
+    };
+    queue.offer(normal1);
+    TimeUnit.MILLISECONDS.sleep(2);
+
+    // first interval is not overloaded
+    Assert.assertSame(normal1, queue.poll(1, TimeUnit.SECONDS));
+
+    queue.offer(high);
+    queue.offer(normal2);
+    queue.offer(notPrioritized);
+    TimeUnit.MILLISECONDS.sleep(2);
+
+    // min delay of last interval is bigger than target delay, high is never shed
+    Assert.assertSame(high, queue.take());
+    TimeUnit.MILLISECONDS.sleep(2);
+
+    Runnable runnable = queue.take();
+    Assert.assertNotSame(normal2, runnable);
+    runnable.run();
+    Assert.assertTrue(normal2.shed);
+    Assert.assertFalse(normal2.executed);
+    Assert.assertEquals(1, queue.getShedCount());
+
+    Assert.assertSame(notPrioritized, queue.take());
+  }
+}
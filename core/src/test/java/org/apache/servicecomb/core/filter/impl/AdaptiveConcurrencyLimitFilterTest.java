@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.core.filter.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.exception.ExceptionCodes;
+import org.apache.servicecomb.core.filter.FilterNode;
+import org.apache.servicecomb.swagger.invocation.InvocationType;
+import org.apache.servicecomb.swagger.invocation.Response;
+import org.apache.servicecomb.swagger.invocation.exception.CommonExceptionData;
+import org.apache.servicecomb.swagger.invocation.exception.InvocationException;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class AdaptiveConcurrencyLimitFilterTest {
+  AdaptiveConcurrencyLimitFilter filter = new AdaptiveConcurrencyLimitFilter();
+
+  Invocation invocation = Mockito.mock(Invocation.class);
+
+  FilterNode nextNode = Mockito.mock(FilterNode.class);
+
+  GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(1, 1, 1, 1.5, 0.2,
+      TimeUnit.SECONDS.toNanos(1), 10);
+
+  @Before
+  public void setUp() {
+    Mockito.when(invocation.getInvocationType()).thenReturn(InvocationType.PRODUCER);
+    Mockito.when(invocation.getMicroserviceQualifiedName()).thenReturn("ms.schema.op");
+  }
+
+  @Test
+  public void should_create_limiter_of_invocation_type_and_operation() {
+    Mockito.when(nextNode.onFilter(invocation)).thenReturn(CompletableFuture.completedFuture(Response.ok("ok")));
+
+    filter.onFilter(invocation, nextNode).join();
+
+    assertThat(filter.getLimiters(InvocationType.PRODUCER)).containsOnlyKeys("ms.schema.op");
+    assertThat(filter.getLimiters(InvocationType.CONSUMER)).isEmpty();
+    assertThat(filter.getLimiters(InvocationType.PRODUCER).get("ms.schema.op").getInflight()).isEqualTo(0);
+  }
+
+  @Test
+  public void should_reject_when_reach_limit() {
+    filter.getLimiters(InvocationType.PRODUCER).put("ms.schema.op", limiter);
+    CompletableFuture<Response> next = new CompletableFuture<>();
+    Mockito.when(nextNode.onFilter(invocation)).thenReturn(next);
+
+    CompletableFuture<Response> first = filter.onFilter(invocation, nextNode);
+    CompletableFuture<Response> second = filter.onFilter(invocation, nextNode);
+
+    Throwable throwable = catchThrowable(second::join);
+    assertThat(throwable).isInstanceOf(CompletionException.class).hasCauseInstanceOf(InvocationException.class);
+    InvocationException exception = (InvocationException) throwable.getCause();
+    assertThat(exception.getStatusCode()).isEqualTo(503);
+    assertThat(((CommonExceptionData) exception.getErrorData()).getCode())
+        .isEqualTo(ExceptionCodes.CONCURRENCY_LIMITED);
+    assertThat(limiter.getRejected()).isEqualTo(1);
+    Mockito.verify(nextNode, Mockito.times(1)).onFilter(invocation);
+
+    // released after response, accept again
+    next.complete(Response.ok("ok"));
+    assertThat(first.join().<String>getResult()).isEqualTo("ok");
+    assertThat(limiter.getInflight()).isEqualTo(0);
+    assertThat(filter.onFilter(invocation, nextNode).join().<String>getResult()).isEqualTo("ok");
+  }
+
+  @Test
+  public void should_release_when_next_throw_exception() {
+    filter.getLimiters(InvocationType.PRODUCER).put("ms.schema.op", limiter);
+    Mockito.when(nextNode.onFilter(invocation)).thenThrow(new IllegalStateException("failed"));
+
+    Throwable throwable = catchThrowable(() -> filter.onFilter(invocation, nextNode));
+
+    assertThat(throwable).isInstanceOf(IllegalStateException.class);
+    assertThat(limiter.getInflight()).isEqualTo(0);
+  }
+}
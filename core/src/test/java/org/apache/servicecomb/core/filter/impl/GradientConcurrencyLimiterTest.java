@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.core.filter.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class GradientConcurrencyLimiterTest {
+  // window is closed by every sample
+  GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(10, 4, 100, 1.5, 1.0, 0, 1);
+
+  @Test
+  public void should_increase_limit_when_rtt_is_stable() {
+    limiter.onSample(0, 100, 10);
+    assertThat(limiter.getLimit()).isEqualTo(13);
+
+    limiter.onSample(1, 100, 13);
+    assertThat(limiter.getLimit()).isEqualTo(16);
+  }
+
+  @Test
+  public void should_decrease_limit_when_rtt_grows() {
+    limiter.onSample(0, 100, 10);
+    int limit = limiter.getLimit();
+
+    limiter.onSample(1, 1000, limit);
+    assertThat(limiter.getLimit()).isLessThan(limit);
+  }
+
+  @Test
+  public void should_not_change_limit_when_load_is_low() {
+    limiter.onSample(0, 100, 1);
+    assertThat(limiter.getLimit()).isEqualTo(10);
+  }
+
+  @Test
+  public void should_keep_limit_in_range() {
+    for (int idx = 0; idx < 100; idx++) {
+      limiter.onSample(idx, 100, limiter.getLimit());
+    }
+    assertThat(limiter.getLimit()).isEqualTo(100);
+  }
+
+  @Test
+  public void should_reject_when_reach_limit() {
+    limiter = new GradientConcurrencyLimiter(4, 4, 100, 1.5, 1.0, 0, 1);
+    for (int idx = 0; idx < 4; idx++) {
+      assertThat(limiter.tryAcquire()).isTrue();
+    }
+    assertThat(limiter.tryAcquire()).isFalse();
+    assertThat(limiter.getInflight()).isEqualTo(4);
+    assertThat(limiter.getRejected()).isEqualTo(1);
+
+    limiter.release(100);
+    assertThat(limiter.tryAcquire()).isTrue();
+  }
+}
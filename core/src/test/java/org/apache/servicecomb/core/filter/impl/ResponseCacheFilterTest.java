@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.core.filter.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.definition.OperationConfig;
+import org.apache.servicecomb.core.definition.OperationMeta;
+import org.apache.servicecomb.core.filter.FilterNode;
+import org.apache.servicecomb.swagger.invocation.InvocationType;
+import org.apache.servicecomb.swagger.invocation.Response;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class ResponseCacheFilterTest {
+  ResponseCacheFilter filter = new ResponseCacheFilter();
+
+  Invocation invocation = Mockito.mock(Invocation.class);
+
+  OperationMeta operationMeta = Mockito.mock(OperationMeta.class);
+
+  OperationConfig config = new OperationConfig();
+
+  FilterNode nextNode = Mockito.mock(FilterNode.class);
+
+  @Before
+  public void setUp() {
+    Mockito.when(invocation.getOperationMeta()).thenReturn(operationMeta);
+    Mockito.when(invocation.getInvocationType()).thenReturn(InvocationType.CONSUMER);
+    Mockito.when(invocation.getMicroserviceQualifiedName()).thenReturn("ms.schema.op");
+    Mockito.when(invocation.getSwaggerArguments()).thenReturn(Collections.singletonMap("id", 1));
+    Mockito.when(operationMeta.getHttpMethod()).thenReturn("GET");
+    Mockito.when(operationMeta.getConfig()).thenReturn(config);
+    config.setMsResponseCacheTtl(60_000);
+    config.setResponseCacheMaxSize(10);
+  }
+
+  @Test
+  public void should_not_cache_when_ttl_not_configured() {
+    config.setMsResponseCacheTtl(0);
+    Mockito.when(nextNode.onFilter(invocation)).thenReturn(CompletableFuture.completedFuture(Response.ok("ok")));
+
+    filter.onFilter(invocation, nextNode).join();
+    filter.onFilter(invocation, nextNode).join();
+
+    Mockito.verify(nextNode, Mockito.times(2)).onFilter(invocation);
+    assertThat(filter.getCaches(InvocationType.CONSUMER)).isEmpty();
+  }
+
+  @Test
+  public void should_not_cache_when_not_get() {
+    Mockito.when(operationMeta.getHttpMethod()).thenReturn("POST");
+    Mockito.when(nextNode.onFilter(invocation)).thenReturn(CompletableFuture.completedFuture(Response.ok("ok")));
+
+    filter.onFilter(invocation, nextNode).join();
+    filter.onFilter(invocation, nextNode).join();
+
+    Mockito.verify(nextNode, Mockito.times(2)).onFilter(invocation);
+  }
+
+  @Test
+  public void should_share_one_invocation_for_concurrent_misses() {
+    CompletableFuture<Response> next = new CompletableFuture<>();
+    Mockito.when(nextNode.onFilter(invocation)).thenReturn(next);
+
+    CompletableFuture<Response> first = filter.onFilter(invocation, nextNode);
+    CompletableFuture<Response> second = filter.onFilter(invocation, nextNode);
+    assertThat(second.isDone()).isFalse();
+
+    Response response = Response.ok("ok");
+    next.complete(response);
+    Response third = filter.onFilter(invocation, nextNode).join();
+
+    Mockito.verify(nextNode, Mockito.times(1)).onFilter(invocation);
+    assertThat(first.join().<String>getResult()).isEqualTo("ok");
+    assertThat(second.join().<String>getResult()).isEqualTo("ok");
+    assertThat(third.<String>getResult()).isEqualTo("ok");
+    // every caller get its own response
+    assertThat(third).isNotSameAs(response);
+
+    ResponseCache cache = filter.getCaches(InvocationType.CONSUMER).get("ms.schema.op");
+    assertThat(cache.getMisses()).isEqualTo(1);
+    assertThat(cache.getHits()).isEqualTo(2);
+    assertThat(cache.getSize()).isEqualTo(1);
+  }
+
+  @Test
+  public void should_not_cache_failed_response() {
+    Mockito.when(nextNode.onFilter(invocation))
+        .thenReturn(CompletableFuture.completedFuture(Response.consumerFailResp(new RuntimeException("failed"))));
+
+    assertThat(filter.onFilter(invocation, nextNode).join().isFailed()).isTrue();
+    filter.onFilter(invocation, nextNode).join();
+
+    Mockito.verify(nextNode, Mockito.times(2)).onFilter(invocation);
+    assertThat(filter.getCaches(InvocationType.CONSUMER).get("ms.schema.op").getSize()).isEqualTo(0);
+  }
+}
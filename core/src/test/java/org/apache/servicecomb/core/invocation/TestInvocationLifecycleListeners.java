@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.core.invocation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.ws.rs.core.Response.Status;
+
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.event.InvocationStartEvent;
+import org.apache.servicecomb.core.invocation.timeout.PassingTimeStrategy;
+import org.apache.servicecomb.foundation.common.event.EventManager;
+import org.apache.servicecomb.swagger.invocation.Response;
+import org.apache.servicecomb.swagger.invocation.exception.InvocationException;
+import org.assertj.core.api.Assertions;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.core.env.Environment;
+
+import com.google.common.eventbus.Subscribe;
+
+public class TestInvocationLifecycleListeners {
+  List<String> records = new ArrayList<>();
+
+  Invocation invocation = Mockito.mock(Invocation.class);
+
+  @After
+  public void tearDown() {
+    InvocationLifecycleListeners.reset();
+  }
+
+  class StartListener implements InvocationLifecycleListener {
+    private final int order;
+
+    StartListener(int order) {
+      this.order = order;
+    }
+
+    @Override
+    public int getOrder() {
+      return order;
+    }
+
+    @Override
+    public void onStart(Invocation invocation) {
+      records.add("start" + order);
+    }
+  }
+
+  @Test
+  public void should_only_call_overridden_stage_in_order() {
+    InvocationLifecycleListener finishListener = new InvocationLifecycleListener() {
+      @Override
+      public void onFinish(Invocation invocation, Response response) {
+        records.add("finish");
+      }
+    };
+    InvocationLifecycleListeners.init(Arrays.asList(new StartListener(2), finishListener, new StartListener(1)));
+
+    InvocationLifecycleListeners.onStart(invocation);
+    InvocationLifecycleListeners.onBusinessMethodStart(invocation);
+    InvocationLifecycleListeners.onFinish(invocation, Response.ok(null));
+
+    Assert.assertEquals(Arrays.asList("start1", "start2", "finish"), records);
+  }
+
+  @Test
+  public void should_isolate_failed_listener() {
+    InvocationLifecycleListener failedListener = new InvocationLifecycleListener() {
+      @Override
+      public void onStart(Invocation invocation) {
+        throw new IllegalStateException("mock failed");
+      }
+    };
+    InvocationLifecycleListeners.init(Arrays.asList(failedListener, new StartListener(1)));
+
+    InvocationLifecycleListeners.onStart(invocation);
+
+    Assert.assertEquals(Arrays.asList("start1"), records);
+  }
+
+  @Test
+  public void should_register_and_unregister_after_init() {
+    StartListener listener = new StartListener(1);
+    InvocationLifecycleListeners.init(Arrays.asList(new StartListener(2)));
+
+    InvocationLifecycleListeners.register(listener);
+    InvocationLifecycleListeners.onStart(invocation);
+    Assert.assertEquals(Arrays.asList("start1", "start2"), records);
+
+    records.clear();
+    InvocationLifecycleListeners.unregister(listener);
+    InvocationLifecycleListeners.onStart(invocation);
+    Assert.assertEquals(Arrays.asList("start2"), records);
+  }
+
+  public static class StartEventSubscriber {
+    int count;
+
+    @Subscribe
+    public void onStart(InvocationStartEvent event) {
+      count++;
+    }
+  }
+
+  @Test
+  public void should_post_event_only_when_subscribed() {
+    StartEventSubscriber subscriber = new StartEventSubscriber();
+    EventManager.register(subscriber);
+    try {
+      Assert.assertTrue(EventManager.hasSubscriber(InvocationStartEvent.class));
+
+      InvocationLifecycleListeners.onStart(invocation);
+      Assert.assertEquals(1, subscriber.count);
+    } finally {
+      EventManager.unregister(subscriber);
+    }
+  }
+
+  @Test
+  public void should_abort_invocation_when_timeout_check_failed() {
+    InvocationTimeoutStrategy strategy = new InvocationTimeoutStrategy() {
+      @Override
+      public String name() {
+        return "mock";
+      }
+
+      @Override
+      public void start(Invocation invocation) {
+      }
+
+      @Override
+      public void startBusinessMethod(Invocation invocation) {
+        throw new InvocationException(Status.REQUEST_TIMEOUT, "Invocation Timeout.");
+      }
+
+      @Override
+      public long calculateElapsedNanoTime(Invocation invocation) {
+        return 0;
+      }
+    };
+    Environment environment = Mockito.mock(Environment.class);
+    Mockito.when(environment.getProperty(InvocationTimeoutBootListener.ENABLED, boolean.class, false))
+        .thenReturn(true);
+    Mockito.when(environment.getProperty(InvocationTimeoutBootListener.STRATEGY, PassingTimeStrategy.NAME))
+        .thenReturn("mock");
+    InvocationTimeoutBootListener timeoutListener = new InvocationTimeoutBootListener(EventManager.getEventBus(),
+        Collections.singletonList(strategy), environment);
+    InvocationLifecycleListeners.init(Arrays.asList(new StartListener(1), EventBusInvocationLifecycleListener.INSTANCE));
+    try {
+      InvocationLifecycleListeners.onStart(invocation);
+
+      Throwable throwable = Assertions
+          .catchThrowable(() -> InvocationLifecycleListeners.onBusinessMethodStart(invocation));
+      Assertions.assertThat(throwable).isInstanceOf(InvocationException.class);
+      Assert.assertEquals(Status.REQUEST_TIMEOUT.getStatusCode(), ((InvocationException) throwable).getStatusCode());
+      Assert.assertEquals(Arrays.asList("start1"), records);
+    } finally {
+      EventManager.unregister(timeoutListener);
+    }
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.core.provider.consumer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.definition.OperationConfig;
+import org.apache.servicecomb.core.definition.OperationMeta;
+import org.apache.servicecomb.swagger.invocation.Response;
+import org.apache.servicecomb.swagger.invocation.exception.InvocationException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class TestSyncResponseExecutor {
+  SyncResponseExecutor executor = createExecutor();
+
+  Invocation invocation = Mockito.mock(Invocation.class);
+
+  OperationConfig config = new OperationConfig();
+
+  Response response = Response.ok("result");
+
+  protected SyncResponseExecutor createExecutor() {
+    return new SyncResponseExecutor();
+  }
+
+  @Before
+  public void setUp() {
+    OperationMeta operationMeta = Mockito.mock(OperationMeta.class);
+    Mockito.when(invocation.getOperationMeta()).thenReturn(operationMeta);
+    Mockito.when(operationMeta.getConfig()).thenReturn(config);
+    config.setMsRequestTimeout(10_000);
+    config.setMsInvocationTimeout(-1);
+  }
+
+  @Test
+  public void should_return_when_response_before_wait() {
+    executor.setResponse(response);
+
+    Assert.assertSame(response, executor.waitResponse(invocation));
+  }
+
+  @Test
+  public void should_run_cmd_in_waiting_thread() throws Exception {
+    CompletableFuture<Thread> cmdThread = new CompletableFuture<>();
+    new Thread(() -> {
+      sleep(50);
+      executor.execute(() -> {
+        cmdThread.complete(Thread.currentThread());
+        executor.setResponse(response);
+      });
+    }).start();
+
+    Assert.assertSame(response, executor.waitResponse(invocation));
+    Assert.assertSame(Thread.currentThread(), cmdThread.get(1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void should_wake_up_by_set_response() {
+    new Thread(() -> {
+      sleep(50);
+      executor.setResponse(response);
+    }).start();
+
+    Assert.assertSame(response, executor.waitResponse(invocation));
+  }
+
+  @Test
+  public void should_create_by_reference_config() {
+    Assert.assertEquals(SyncResponseExecutor.class, SyncResponseExecutor.create(null).getClass());
+
+    ReferenceConfig referenceConfig = new ReferenceConfig("rest", "0+");
+    Assert.assertEquals(SyncResponseExecutor.class, SyncResponseExecutor.create(referenceConfig).getClass());
+
+    referenceConfig.setSyncWaitStrategy(ReferenceConfig.SYNC_WAIT_SPIN_PARK);
+    Assert.assertEquals(SpinParkSyncResponseExecutor.class, SyncResponseExecutor.create(referenceConfig).getClass());
+  }
+
+  @Test
+  public void should_throw_timeout() {
+    config.setMsRequestTimeout(10);
+
+    try {
+      executor.waitResponse(invocation);
+      Assert.fail("must throw exception");
+    } catch (InvocationException e) {
+      Assert.assertEquals(408, e.getStatusCode());
+    }
+  }
+
+  protected static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
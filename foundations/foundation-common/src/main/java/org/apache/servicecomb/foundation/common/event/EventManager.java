@@ -48,6 +48,13 @@ public class EventManager {
     eventBus.post(event);
   }
 
+  /**
+   * always true if eventBus is not {@link SimpleEventBus}
+   */
+  public static boolean hasSubscriber(Class<?> eventClass) {
+    return !(eventBus instanceof SimpleEventBus) || ((SimpleEventBus) eventBus).hasSubscriber(eventClass);
+  }
+
   /**
    * Unregistering listener.
    */
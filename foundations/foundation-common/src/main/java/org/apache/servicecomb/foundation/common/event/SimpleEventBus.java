@@ -75,6 +75,13 @@ public class SimpleEventBus extends EventBus {
     }
   }
 
+  /**
+   * used to avoid creating event object when nobody care about it
+   */
+  public boolean hasSubscriber(Class<?> eventClass) {
+    return !subscribersCache.computeIfAbsent(eventClass, this::collectSubscriberForEvent).isEmpty();
+  }
+
   /**
    * subscribersMap almost stable<br>
    * so we not care for performance of collectSubscriberForEvent
@@ -35,4 +35,8 @@ public class ResourcePart extends AbstractPart {
   public InputStream getInputStream() throws IOException {
     return resource.getInputStream();
   }
+
+  public Resource getResource() {
+    return resource;
+  }
 }
@@ -33,6 +33,7 @@ import org.apache.servicecomb.registry.DiscoveryManager;
 import org.apache.servicecomb.registry.api.event.CreateMicroserviceEvent;
 import org.apache.servicecomb.registry.api.event.DestroyMicroserviceEvent;
 import org.apache.servicecomb.registry.api.event.MicroserviceInstanceChangedEvent;
+import org.apache.servicecomb.registry.api.event.MicroserviceVersionsChangedEvent;
 import org.apache.servicecomb.registry.api.event.task.SafeModeChangeEvent;
 import org.apache.servicecomb.registry.api.registry.MicroserviceInstance;
 import org.apache.servicecomb.registry.api.registry.MicroserviceInstanceStatus;
@@ -105,6 +106,7 @@ public class MicroserviceVersions {
 
   public MicroserviceVersions markWaitingDelete() {
     this.waitingDelete = true;
+    appManager.getEventBus().post(new MicroserviceVersionsChangedEvent(this));
     return this;
   }
 
@@ -168,7 +170,7 @@ public class MicroserviceVersions {
     }
     if (microserviceInstances.isMicroserviceNotExist()) {
       // pulled failed, SC said target not exist
-      waitingDelete = true;
+      markWaitingDelete();
       return;
     }
 
@@ -203,7 +205,7 @@ public class MicroserviceVersions {
       }
       setInstances(filteredInstance, rev);
     } catch (Throwable e) {
-      waitingDelete = true;
+      markWaitingDelete();
       LOGGER.error("Failed to setInstances, appId={}, microserviceName={}.",
           getAppId(),
           getMicroserviceName(),
@@ -244,6 +246,7 @@ public class MicroserviceVersions {
       }
       revision = rev;
     }
+    appManager.getEventBus().post(new MicroserviceVersionsChangedEvent(this));
   }
 
   protected MicroserviceVersion createMicroserviceVersion(String microserviceId, List<MicroserviceInstance> instances) {
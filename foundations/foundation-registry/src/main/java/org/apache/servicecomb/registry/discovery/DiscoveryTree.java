@@ -21,8 +21,10 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.servicecomb.foundation.common.cache.VersionedCache;
+import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
 import org.apache.servicecomb.foundation.common.exceptions.ServiceCombException;
 import org.apache.servicecomb.foundation.common.utils.SPIServiceUtils;
 import org.apache.servicecomb.registry.DiscoveryManager;
@@ -48,6 +50,8 @@ import org.slf4j.LoggerFactory;
  *   eg: if there is no available instances in self AZ, can refilter in other AZ
  *   red arrows in <a href="https://servicecomb.atlassian.net/browse/JAV-479">help to understand DiscoveryTree</a>, show the refilter logic
  * 3.every filter must try to cache result, avoid calculate every time.
+ * 4.every app/microserviceName/versionRule has its own root and version,
+ *   instances change of one microservice will not invalidate cached result of others.
  *
  * usage:
  * 1.declare a field: DiscoveryTree discoveryTree = new DiscoveryTree();
@@ -76,9 +80,8 @@ import org.slf4j.LoggerFactory;
 public class DiscoveryTree {
   private static final Logger LOGGER = LoggerFactory.getLogger(DiscoveryTree.class);
 
-  private volatile DiscoveryTreeNode root;
-
-  private final Object lock = new Object();
+  // key is appId/microserviceName/versionRule, or name of input cache
+  private final Map<String, DiscoveryTreeNode> roots = new ConcurrentHashMapEx<>();
 
   private List<DiscoveryFilter> filters = new ArrayList<>();
 
@@ -119,33 +122,39 @@ public class DiscoveryTree {
         .getInstanceCacheManager()
         .getOrCreateVersionedCache(appId, microserviceName, versionRule);
 
-    return discovery(context, instanceVersionedCache);
+    return discovery(context, appId + "/" + microserviceName + "/" + versionRule, instanceVersionedCache);
   }
 
   public DiscoveryTreeNode discovery(DiscoveryContext context, VersionedCache inputCache) {
-    DiscoveryTreeNode tmpRoot = getOrCreateRoot(inputCache);
+    return discovery(context, inputCache.name(), inputCache);
+  }
+
+  protected DiscoveryTreeNode discovery(DiscoveryContext context, String rootKey, VersionedCache inputCache) {
+    DiscoveryTreeNode tmpRoot = getOrCreateRoot(rootKey, inputCache);
     DiscoveryTreeNode parent = tmpRoot.children()
         .computeIfAbsent(inputCache.name(), name -> new DiscoveryTreeNode().fromCache(inputCache));
     return doDiscovery(context, parent);
   }
 
-  protected DiscoveryTreeNode getOrCreateRoot(VersionedCache inputCache) {
-    DiscoveryTreeNode tmpRoot = root;
+  public DiscoveryTreeNode getRoot(String rootKey) {
+    return roots.get(rootKey);
+  }
+
+  protected DiscoveryTreeNode getOrCreateRoot(String rootKey, VersionedCache inputCache) {
+    DiscoveryTreeNode tmpRoot = roots.get(rootKey);
     if (isMatch(tmpRoot, inputCache)) {
       return tmpRoot;
     }
 
-    synchronized (lock) {
-      if (isExpired(root, inputCache)) {
+    tmpRoot = roots.compute(rootKey, (key, existing) -> {
+      if (isExpired(existing, inputCache)) {
         // not initialized or inputCache newer than root, create new root
-        root = new DiscoveryTreeNode().cacheVersion(inputCache.cacheVersion());
-        return root;
-      }
-
-      if (root.isSameVersion(inputCache)) {
-        // reuse root directly
-        return root;
+        return new DiscoveryTreeNode().cacheVersion(inputCache.cacheVersion());
       }
+      return existing;
+    });
+    if (tmpRoot.isSameVersion(inputCache)) {
+      return tmpRoot;
     }
 
     // root newer than inputCache, it's a minimal probability event:
@@ -19,6 +19,8 @@ package org.apache.servicecomb.registry.discovery;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.servicecomb.config.ConfigUtil;
 import org.apache.servicecomb.foundation.common.cache.VersionedCache;
@@ -262,7 +264,8 @@ public class TestDiscoveryTree {
 
   @Test
   public void avoidConcurrentProblem() {
-    Deencapsulation.setField(discoveryTree, "root", parent.cacheVersion(1));
+    Map<String, DiscoveryTreeNode> roots = Deencapsulation.getField(discoveryTree, "roots");
+    roots.put("input", parent.cacheVersion(1));
     Assert.assertTrue(parent.children().isEmpty());
 
     discoveryTree.discovery(context, new VersionedCache().cacheVersion(0).name("input"));
@@ -271,32 +274,90 @@ public class TestDiscoveryTree {
 
   @Test
   public void getOrCreateRoot_match() {
-    Deencapsulation.setField(discoveryTree, "root", parent);
+    Map<String, DiscoveryTreeNode> roots = Deencapsulation.getField(discoveryTree, "roots");
+    roots.put("parent", parent);
 
-    DiscoveryTreeNode root = discoveryTree.getOrCreateRoot(parent);
+    DiscoveryTreeNode root = discoveryTree.getOrCreateRoot("parent", parent);
 
     Assert.assertSame(parent, root);
   }
 
   @Test
   public void getOrCreateRoot_expired() {
-    Deencapsulation.setField(discoveryTree, "root", parent);
+    Map<String, DiscoveryTreeNode> roots = Deencapsulation.getField(discoveryTree, "roots");
+    roots.put("parent", parent);
 
     VersionedCache inputCache = new VersionedCache().cacheVersion(parent.cacheVersion() + 1);
-    DiscoveryTreeNode root = discoveryTree.getOrCreateRoot(inputCache);
+    DiscoveryTreeNode root = discoveryTree.getOrCreateRoot("parent", inputCache);
 
     Assert.assertEquals(inputCache.cacheVersion(), root.cacheVersion());
-    Assert.assertSame(Deencapsulation.getField(discoveryTree, "root"), root);
+    Assert.assertSame(discoveryTree.getRoot("parent"), root);
   }
 
   @Test
   public void getOrCreateRoot_tempRoot() {
-    Deencapsulation.setField(discoveryTree, "root", parent);
+    Map<String, DiscoveryTreeNode> roots = Deencapsulation.getField(discoveryTree, "roots");
+    roots.put("parent", parent);
 
     VersionedCache inputCache = new VersionedCache().cacheVersion(parent.cacheVersion() - 1);
-    DiscoveryTreeNode root = discoveryTree.getOrCreateRoot(inputCache);
+    DiscoveryTreeNode root = discoveryTree.getOrCreateRoot("parent", inputCache);
 
     Assert.assertEquals(inputCache.cacheVersion(), root.cacheVersion());
-    Assert.assertNotSame(Deencapsulation.getField(discoveryTree, "root"), root);
+    Assert.assertNotSame(discoveryTree.getRoot("parent"), root);
+  }
+
+  @Test
+  public void getOrCreateRoot_independentVersions() {
+    VersionedCache ms1 = new VersionedCache().autoCacheVersion().name("0.0.0.0+");
+    VersionedCache ms2 = new VersionedCache().autoCacheVersion().name("0.0.0.0+");
+    DiscoveryTreeNode root1 = discoveryTree.getOrCreateRoot("app/ms1/0.0.0.0+", ms1);
+    DiscoveryTreeNode root2 = discoveryTree.getOrCreateRoot("app/ms2/0.0.0.0+", ms2);
+
+    // newer version of ms2 does not invalidate ms1
+    VersionedCache newMs2 = new VersionedCache().autoCacheVersion().name("0.0.0.0+");
+    Assert.assertNotSame(root2, discoveryTree.getOrCreateRoot("app/ms2/0.0.0.0+", newMs2));
+    Assert.assertSame(root1, discoveryTree.getOrCreateRoot("app/ms1/0.0.0.0+", ms1));
+  }
+
+  @Test
+  public void discovery_manyMicroservicesChurning() throws InterruptedException {
+    int microserviceCount = 300;
+    AtomicInteger discoveryCount = new AtomicInteger();
+    discoveryTree.addFilter(new DiscoveryFilterForTest(null) {
+      @Override
+      public DiscoveryTreeNode discovery(DiscoveryContext context, DiscoveryTreeNode parent) {
+        return parent.children().computeIfAbsent("result", key -> {
+          discoveryCount.incrementAndGet();
+          return new DiscoveryTreeNode().cacheVersion(parent.cacheVersion()).data(parent.data());
+        });
+      }
+    });
+
+    VersionedCache[] caches = new VersionedCache[microserviceCount];
+    for (int idx = 0; idx < microserviceCount; idx++) {
+      caches[idx] = new VersionedCache().autoCacheVersion().name("0.0.0.0+").data("ms" + idx);
+    }
+
+    // only ms0 is churning, others keep cached result
+    Thread churn = new Thread(() -> {
+      for (int idx = 0; idx < 1000; idx++) {
+        caches[0] = new VersionedCache().autoCacheVersion().name("0.0.0.0+").data("ms0");
+      }
+    });
+    churn.start();
+    for (int round = 0; round < 10; round++) {
+      for (int idx = 1; idx < microserviceCount; idx++) {
+        VersionedCache cache = caches[idx];
+        DiscoveryTreeNode result = discoveryTree
+            .discovery(new DiscoveryContext(), "app/ms" + idx + "/0.0.0.0+", cache);
+        Assert.assertEquals("ms" + idx, result.data());
+        Assert.assertEquals(cache.cacheVersion(), result.cacheVersion());
+      }
+      discoveryTree.discovery(new DiscoveryContext(), "app/ms0/0.0.0.0+", caches[0]);
+    }
+    churn.join();
+
+    // every stable microservice only discovered once
+    Assert.assertTrue(discoveryCount.get() <= microserviceCount - 1 + 10);
   }
 }
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.foundation.vertx;
+
+import com.netflix.config.DynamicPropertyFactory;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.net.NetServerOptions;
+
+/**
+ * <pre>
+ * opt-in native transport(epoll on linux), require netty-transport-native-epoll in classpath
+ * if native transport is not available, vertx will fall back to NIO
+ *
+ * socket options only take effect when native transport is really enabled:
+ *   reusePort: SO_REUSEPORT, default true
+ *   tcpFastOpen: TCP_FASTOPEN, default false
+ *   tcpQuickAck: TCP_QUICKACK, default false
+ * </pre>
+ */
+public final class NativeTransportConfig {
+  public static final String PREFIX = "servicecomb.transport.native.";
+
+  public static final String ENABLED = PREFIX + "enabled";
+
+  public static final String REUSE_PORT = PREFIX + "reusePort";
+
+  public static final String TCP_FAST_OPEN = PREFIX + "tcpFastOpen";
+
+  public static final String TCP_QUICK_ACK = PREFIX + "tcpQuickAck";
+
+  private NativeTransportConfig() {
+  }
+
+  public static boolean isEnabled() {
+    return getBooleanProperty(ENABLED, false);
+  }
+
+  public static boolean isReusePort() {
+    return getBooleanProperty(REUSE_PORT, true);
+  }
+
+  public static boolean isTcpFastOpen() {
+    return getBooleanProperty(TCP_FAST_OPEN, false);
+  }
+
+  public static boolean isTcpQuickAck() {
+    return getBooleanProperty(TCP_QUICK_ACK, false);
+  }
+
+  private static boolean getBooleanProperty(String key, boolean defaultValue) {
+    return DynamicPropertyFactory.getInstance().getBooleanProperty(key, defaultValue).get();
+  }
+
+  public static void configureVertxOptions(VertxOptions vertxOptions) {
+    if (isEnabled()) {
+      vertxOptions.setPreferNativeTransport(true);
+    }
+  }
+
+  public static <T extends NetServerOptions> T configureServerOptions(Vertx vertx, T serverOptions) {
+    if (!vertx.isNativeTransportEnabled()) {
+      return serverOptions;
+    }
+
+    serverOptions.setReusePort(isReusePort());
+    serverOptions.setTcpFastOpen(isTcpFastOpen());
+    serverOptions.setTcpQuickAck(isTcpQuickAck());
+    return serverOptions;
+  }
+}
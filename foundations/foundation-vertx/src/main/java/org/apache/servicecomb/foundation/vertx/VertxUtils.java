@@ -134,7 +134,11 @@ public final class VertxUtils {
     }
 
     configureVertxFileCaching(vertxOptions);
+    NativeTransportConfig.configureVertxOptions(vertxOptions);
     Vertx vertx = Vertx.vertx(vertxOptions);
+    if (vertxOptions.getPreferNativeTransport() && !vertx.isNativeTransportEnabled()) {
+      LOGGER.warn("native transport is not available, fall back to NIO, name={}.", name);
+    }
     enhanceVertx(name, vertx);
     return vertx;
   }
@@ -21,4 +21,8 @@ import io.vertx.core.Context;
 
 public interface ClientPoolFactory<CLIENT_POOL> {
   CLIENT_POOL createClientPool(Context context);
+
+  default void closeClientPool(CLIENT_POOL pool) {
+
+  }
 }
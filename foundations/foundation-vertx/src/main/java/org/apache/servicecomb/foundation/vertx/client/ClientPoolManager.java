@@ -67,6 +67,20 @@ public class ClientPoolManager<CLIENT_POOL> {
     pools.add(pool);
   }
 
+  /**
+   * when the owner verticle stopped, the pool of the context will never be used again
+   */
+  public void closeClientPool(Context context) {
+    CLIENT_POOL pool = context.get(id);
+    if (pool == null) {
+      return;
+    }
+
+    context.remove(id);
+    pools.remove(pool);
+    factory.closeClientPool(pool);
+  }
+
   public CLIENT_POOL findClientPool(boolean sync) {
     return findClientPool(sync, null);
   }
@@ -105,6 +119,13 @@ public class ClientPoolManager<CLIENT_POOL> {
     // 2.vertx worker thread
     // 3.other vertx thread
     // select a existing context
+    return findNextClientPool();
+  }
+
+  /**
+   * select pools one by one, ignore the current context
+   */
+  public CLIENT_POOL findNextClientPool() {
     assertPoolsInitialized();
     int idx = reactiveNextIndex.getAndIncrement() % pools.size();
     if (idx < 0) {
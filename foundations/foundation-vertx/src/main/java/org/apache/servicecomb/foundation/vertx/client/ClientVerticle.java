@@ -39,4 +39,11 @@ public class ClientVerticle<CLIENT_POOL> extends AbstractVerticle {
       throw e;
     }
   }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public void stop() throws Exception {
+    ClientPoolManager<CLIENT_POOL> clientMgr = (ClientPoolManager<CLIENT_POOL>) config().getValue(CLIENT_MGR);
+    clientMgr.closeClientPool(context);
+  }
 }
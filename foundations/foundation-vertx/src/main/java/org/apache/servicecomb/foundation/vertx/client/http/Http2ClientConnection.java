@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.foundation.vertx.client.http;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import io.vertx.core.Context;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpConnection;
+
+/**
+ * one multiplexed http2 connection, the httpClient is created with http2MaxPoolSize=1
+ */
+public class Http2ClientConnection extends HttpClientWithContext {
+  private final int multiplexingLimit;
+
+  private final AtomicInteger activeStreams = new AtomicInteger();
+
+  private final LongAdder totalStreams = new LongAdder();
+
+  private volatile HttpConnection connection;
+
+  private volatile boolean closed;
+
+  private volatile Consumer<Http2ClientConnection> closeListener;
+
+  public Http2ClientConnection(HttpClient httpClient, Context context, int multiplexingLimit) {
+    super(httpClient, context);
+    this.multiplexingLimit = multiplexingLimit;
+    httpClient.connectionHandler(connection -> {
+      this.connection = connection;
+      connection.closeHandler(v -> onConnectionClosed());
+    });
+  }
+
+  /**
+   * invoked once when the connection is closed, the pool evict this connection
+   */
+  public void setCloseListener(Consumer<Http2ClientConnection> closeListener) {
+    this.closeListener = closeListener;
+  }
+
+  void onConnectionClosed() {
+    this.connection = null;
+    this.closed = true;
+    Consumer<Http2ClientConnection> listener = closeListener;
+    if (listener != null) {
+      listener.accept(this);
+    }
+  }
+
+  /**
+   * a closed connection is never used again, the http client is closed too
+   */
+  public boolean isClosed() {
+    return closed;
+  }
+
+  public void close() {
+    getHttpClient().close();
+  }
+
+  /**
+   * min of local multiplexingLimit and SETTINGS_MAX_CONCURRENT_STREAMS of server
+   */
+  public long getMaxConcurrentStreams() {
+    long limit = multiplexingLimit > 0 ? multiplexingLimit : Long.MAX_VALUE;
+    HttpConnection current = connection;
+    if (current != null && current.remoteSettings() != null) {
+      limit = Math.min(limit, current.remoteSettings().getMaxConcurrentStreams());
+    }
+    return limit;
+  }
+
+  public boolean isFull() {
+    return activeStreams.get() >= getMaxConcurrentStreams();
+  }
+
+  public boolean isConnected() {
+    return connection != null;
+  }
+
+  public int getActiveStreams() {
+    return activeStreams.get();
+  }
+
+  public long getTotalStreams() {
+    return totalStreams.sum();
+  }
+
+  public void acquireStream() {
+    activeStreams.incrementAndGet();
+    totalStreams.increment();
+  }
+
+  public void releaseStream() {
+    activeStreams.decrementAndGet();
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.foundation.vertx.client.http;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientOptions;
+
+/**
+ * <pre>
+ * http2 aware client pool, shared by all event loops
+ * {@link org.apache.servicecomb.foundation.vertx.client.ClientPoolManager} create one http client for every event loop, and every client has a pool to every
+ * endpoint, that will create eventLoopCount * http2MaxPoolSize connections to every endpoint.
+ *
+ * this pool create at most http2MaxPoolSize multiplexed connections to every endpoint,
+ * and balance streams by active stream count of connections.
+ * new connections are assigned to event loops of the client by round robin, not to the caller's event loop.
+ * </pre>
+ */
+public class Http2ClientPool {
+  private final Vertx vertx;
+
+  private final Supplier<Context> contextSupplier;
+
+  private final HttpClientOptions connectionOptions;
+
+  private final int maxConnections;
+
+  private final int multiplexingLimit;
+
+  // key is host:port
+  private final Map<String, Http2EndpointPool> endpointPools = new ConcurrentHashMapEx<>();
+
+  public Http2ClientPool(Vertx vertx, Supplier<Context> contextSupplier, HttpClientOptions httpClientOptions) {
+    this.vertx = vertx;
+    this.contextSupplier = contextSupplier;
+    this.maxConnections = httpClientOptions.getHttp2MaxPoolSize();
+    this.multiplexingLimit = httpClientOptions.getHttp2MultiplexingLimit();
+    // every http client only hold one connection, then we can control which connection to use
+    this.connectionOptions = new HttpClientOptions(httpClientOptions)
+        .setHttp2MaxPoolSize(1);
+  }
+
+  public Map<String, Http2EndpointPool> getEndpointPools() {
+    return endpointPools;
+  }
+
+  /**
+   * the stream is acquired, must invoke {@link Http2ClientConnection#releaseStream()} after finished
+   */
+  public Http2ClientConnection acquire(String host, int port) {
+    String address = host + ":" + port;
+    return endpointPools
+        .computeIfAbsent(address, key -> new Http2EndpointPool(key, maxConnections, this::createConnection))
+        .acquire();
+  }
+
+  protected Http2ClientConnection createConnection() {
+    return new Http2ClientConnection(vertx.createHttpClient(connectionOptions), contextSupplier.get(),
+        multiplexingLimit);
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.foundation.vertx.client.http;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * <pre>
+ * multiplexed connections to one endpoint
+ * 1.select the connection with least active streams
+ * 2.only when all connections reach max concurrent streams, open a new connection
+ * 3.when reach max connections, still use the least active one, vert.x will queue the stream
+ * 4.closed connections are evicted, streams in flight on them still release to the evicted connection
+ * </pre>
+ */
+public class Http2EndpointPool {
+  private final String address;
+
+  private final int maxConnections;
+
+  private final Supplier<Http2ClientConnection> connectionFactory;
+
+  private final List<Http2ClientConnection> connections = new CopyOnWriteArrayList<>();
+
+  public Http2EndpointPool(String address, int maxConnections, Supplier<Http2ClientConnection> connectionFactory) {
+    this.address = address;
+    this.maxConnections = Math.max(1, maxConnections);
+    this.connectionFactory = connectionFactory;
+  }
+
+  public String getAddress() {
+    return address;
+  }
+
+  public List<Http2ClientConnection> getConnections() {
+    return connections;
+  }
+
+  /**
+   * the stream is acquired, must invoke {@link Http2ClientConnection#releaseStream()} after finished
+   */
+  public Http2ClientConnection acquire() {
+    Http2ClientConnection selected = selectLeastActive();
+    if (selected == null || selected.isFull()) {
+      selected = tryCreateConnection();
+    }
+
+    selected.acquireStream();
+    return selected;
+  }
+
+  private Http2ClientConnection selectLeastActive() {
+    Http2ClientConnection selected = null;
+    for (Http2ClientConnection connection : connections) {
+      if (connection.isClosed()) {
+        continue;
+      }
+      if (selected == null || connection.getActiveStreams() < selected.getActiveStreams()) {
+        selected = connection;
+      }
+    }
+    return selected;
+  }
+
+  private synchronized Http2ClientConnection tryCreateConnection() {
+    // double check, maybe other thread already created one
+    Http2ClientConnection selected = selectLeastActive();
+    if (selected != null && (!selected.isFull() || connections.size() >= maxConnections)) {
+      return selected;
+    }
+
+    Http2ClientConnection connection = connectionFactory.get();
+    connection.setCloseListener(this::evict);
+    connections.add(connection);
+    return connection;
+  }
+
+  protected void evict(Http2ClientConnection connection) {
+    if (connections.remove(connection)) {
+      connection.close();
+    }
+  }
+}
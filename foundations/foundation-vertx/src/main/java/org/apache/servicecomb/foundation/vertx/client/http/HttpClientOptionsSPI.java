@@ -85,6 +85,13 @@ public interface HttpClientOptionsSPI {
   int getHttp2MaxPoolSize();
 
   boolean isUseAlpn();
+
+  /* share at most http2MaxPoolSize multiplexed connections to every endpoint by all event loops,
+   * see {@link Http2ClientPool} */
+  default boolean isHttp2MultiplexedPoolEnabled() {
+    return false;
+  }
+
   /*****************  proxy settings ***************************/
   boolean isProxyEnable();
 
@@ -37,6 +37,7 @@ import io.vertx.core.DeploymentOptions;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
 import io.vertx.core.dns.AddressResolverOptions;
+import io.vertx.core.http.HttpVersion;
 
 /**
  *  load and manages a set of HttpClient at boot up.
@@ -46,6 +47,8 @@ public class HttpClients {
 
   private static final Map<String, ClientPoolManager<HttpClientWithContext>> httpClients = new HashMap<>();
 
+  private static final Map<String, Http2ClientPool> http2ClientPools = new HashMap<>();
+
   /* load at boot up, call this method once and only once. */
   public static void load() {
     List<HttpClientOptionsSPI> clientOptionsList = SPIServiceUtils.getOrLoadSortedService(HttpClientOptionsSPI.class);
@@ -55,11 +58,25 @@ public class HttpClients {
         if (clientPoolManager != null) {
           LOGGER.warn("client pool {} initialized again.", option.clientName());
         }
-        httpClients.put(option.clientName(), createClientPoolManager(option));
+        clientPoolManager = createClientPoolManager(option);
+        httpClients.put(option.clientName(), clientPoolManager);
+        createHttp2ClientPool(option, clientPoolManager);
       }
     });
   }
 
+  private static void createHttp2ClientPool(HttpClientOptionsSPI option,
+      ClientPoolManager<HttpClientWithContext> clientPoolManager) {
+    if (option.getHttpVersion() != HttpVersion.HTTP_2 || !option.isHttp2MultiplexedPoolEnabled()) {
+      return;
+    }
+
+    // connections are distributed to event loops of the client verticles
+    http2ClientPools.put(option.clientName(),
+        new Http2ClientPool(getOrCreateVertx(option), () -> clientPoolManager.findNextClientPool().context(),
+            HttpClientOptionsSPI.createHttpClientOptions(option)));
+  }
+
   @VisibleForTesting
   public static void mockClientPoolManager(String name, ClientPoolManager<HttpClientWithContext> clientPool) {
     httpClients.put(name, clientPool);
@@ -74,6 +91,7 @@ public class HttpClients {
   /* destroy at shutdown. */
   public static void destroy() {
     httpClients.clear();
+    http2ClientPools.clear();
     List<HttpClientOptionsSPI> clientOptionsList = SPIServiceUtils.getOrLoadSortedService(HttpClientOptionsSPI.class);
     clientOptionsList.forEach(option -> {
       VertxUtils.blockCloseVertxByName(option.clientName());
@@ -113,6 +131,19 @@ public class HttpClients {
     return VertxUtils.getOrCreateVertxByName(option.clientName(), vertxOptions);
   }
 
+  /**
+   * get http2 multiplexed pool by name
+   * @param clientName instance name
+   * @return null if not enabled
+   */
+  public static Http2ClientPool getHttp2ClientPool(String clientName) {
+    return http2ClientPools.get(clientName);
+  }
+
+  public static Map<String, Http2ClientPool> getHttp2ClientPools() {
+    return http2ClientPools;
+  }
+
   /**
    * get client instance by name
    * @param clientName instance name
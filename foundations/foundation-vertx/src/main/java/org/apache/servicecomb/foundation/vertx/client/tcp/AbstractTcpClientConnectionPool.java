@@ -17,7 +17,12 @@
 
 package org.apache.servicecomb.foundation.vertx.client.tcp;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
@@ -25,6 +30,9 @@ import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
 import io.vertx.core.Context;
 
 public abstract class AbstractTcpClientConnectionPool<T extends TcpClientConnection> {
+  // all pools not closed, for metrics
+  private static final List<AbstractTcpClientConnectionPool<?>> POOLS = new CopyOnWriteArrayList<>();
+
   // 是在哪个context中创建的
   protected Context context;
 
@@ -33,26 +41,93 @@ public abstract class AbstractTcpClientConnectionPool<T extends TcpClientConnect
   // key为address
   protected Map<String, T> tcpClientMap = new ConcurrentHashMapEx<>();
 
+  // key为address, only used when connectionsPerEndpoint greater than 1
+  protected Map<String, List<T>> multiClientMap = new ConcurrentHashMapEx<>();
+
+  private long checkTimeoutTimerId;
+
   public AbstractTcpClientConnectionPool(Context context,
       NetClientWrapper netClientWrapper) {
     this.context = context;
     this.netClientWrapper = netClientWrapper;
 
     startCheckTimeout(context);
+    POOLS.add(this);
+  }
+
+  public static List<AbstractTcpClientConnectionPool<?>> getPools() {
+    return POOLS;
   }
 
   protected void startCheckTimeout(Context context) {
-    context.owner().setPeriodic(TimeUnit.SECONDS.toMillis(1), this::onCheckTimeout);
+    checkTimeoutTimerId = context.owner().setPeriodic(TimeUnit.SECONDS.toMillis(1), this::onCheckTimeout);
+  }
+
+  /**
+   * stop checking timeout and not export metrics any more, connections are closed together with vertx
+   */
+  public void close() {
+    context.owner().cancelTimer(checkTimeoutTimerId);
+    POOLS.remove(this);
   }
 
   private void onCheckTimeout(Long event) {
     for (TcpClientConnection client : tcpClientMap.values()) {
       client.checkTimeout();
     }
+    for (List<T> clients : multiClientMap.values()) {
+      for (TcpClientConnection client : clients) {
+        client.checkTimeout();
+      }
+    }
   }
 
   public T findOrCreateClient(String endpoint) {
-    return tcpClientMap.computeIfAbsent(endpoint, this::create);
+    int connectionsPerEndpoint = getConnectionsPerEndpoint();
+    if (connectionsPerEndpoint <= 1) {
+      return tcpClientMap.computeIfAbsent(endpoint, this::create);
+    }
+
+    List<T> clients = multiClientMap.computeIfAbsent(endpoint, key -> createClients(key, connectionsPerEndpoint));
+    return selectLeastPending(clients);
+  }
+
+  protected int getConnectionsPerEndpoint() {
+    TcpClientConfig clientConfig = netClientWrapper.getClientConfig(false);
+    return clientConfig == null ? 1 : clientConfig.getConnectionsPerEndpoint();
+  }
+
+  private List<T> createClients(String endpoint, int count) {
+    List<T> clients = new ArrayList<>(count);
+    for (int idx = 0; idx < count; idx++) {
+      clients.add(create(endpoint));
+    }
+    return Collections.unmodifiableList(clients);
+  }
+
+  // requests in write queue are counted in pending requests too,
+  // so the connection that can not write out in time is more unlikely to be selected
+  protected T selectLeastPending(List<T> clients) {
+    T selected = clients.get(0);
+    long minLoad = Long.MAX_VALUE;
+    for (T client : clients) {
+      long load = client.getPendingRequestCount() + client.getWriteQueueSize();
+      if (load < minLoad) {
+        minLoad = load;
+        selected = client;
+      }
+    }
+    return selected;
+  }
+
+  /**
+   * @return all connections of every endpoint
+   */
+  public Map<String, List<T>> getClients() {
+    Map<String, List<T>> clients = new HashMap<>();
+    tcpClientMap.forEach((endpoint, client) -> clients.put(endpoint, Collections.singletonList(client)));
+    clients.putAll(multiClientMap);
+    return clients;
   }
 
   protected abstract T create(String endpoint);
@@ -39,5 +39,12 @@ public abstract class AbstractTcpClientPoolFactory<CLIENT_POOL> implements Clien
     return doCreateClientPool(context, netClientWrapper);
   }
 
+  @Override
+  public void closeClientPool(CLIENT_POOL pool) {
+    if (pool instanceof AbstractTcpClientConnectionPool) {
+      ((AbstractTcpClientConnectionPool<?>) pool).close();
+    }
+  }
+
   protected abstract CLIENT_POOL doCreateClientPool(Context context, NetClientWrapper netClientWrapper);
 }
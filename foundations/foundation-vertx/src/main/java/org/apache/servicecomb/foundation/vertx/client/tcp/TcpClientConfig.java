@@ -24,10 +24,21 @@ public class TcpClientConfig extends NetClientOptions {
 
   private long msLoginTimeout;
 
+  // connections to one endpoint in one pool, select the least pending one when send
+  private int connectionsPerEndpoint = 1;
+
   public TcpClientConfig() {
     msLoginTimeout = DEFAULT_LOGIN_TIMEOUT;
   }
 
+  public int getConnectionsPerEndpoint() {
+    return connectionsPerEndpoint;
+  }
+
+  public void setConnectionsPerEndpoint(int connectionsPerEndpoint) {
+    this.connectionsPerEndpoint = connectionsPerEndpoint;
+  }
+
   public long getMsLoginTimeout() {
     return msLoginTimeout;
   }
@@ -92,6 +92,10 @@ public class TcpClientConnection extends TcpConnection {
     return clientConfig;
   }
 
+  public int getPendingRequestCount() {
+    return requestMap.size();
+  }
+
   public void setLocalSupportLogin(boolean localSupportLogin) {
     this.localSupportLogin = localSupportLogin;
   }
@@ -153,6 +157,7 @@ public class TcpClientConnection extends TcpConnection {
     return false;
   }
 
+  // packages saved before login and packages in write queue are merged to the same batch
   @Override
   protected void writeInContext() {
     writePackageInContext();
@@ -168,8 +173,7 @@ public class TcpClientConnection extends TcpConnection {
       }
 
       try (TcpOutputStream os = pkg.createStream()) {
-        Buffer buf = os.getBuffer();
-        netSocket.write(buf);
+        addToWriteBatch(os.getByteBuf());
         pkg.finishWriteToBuffer();
       }
     }
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.foundation.vertx.http;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * single byte range of http "Range" header, see https://tools.ietf.org/html/rfc7233
+ * <pre>
+ * multiple ranges are not supported, the whole content will be sent
+ * </pre>
+ */
+public final class ByteRange {
+  private static final String BYTES_UNIT = "bytes=";
+
+  public static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+  private final long start;
+
+  // inclusive
+  private final long end;
+
+  private ByteRange(long start, long end) {
+    this.start = start;
+    this.end = end;
+  }
+
+  public long getStart() {
+    return start;
+  }
+
+  public long getEnd() {
+    return end;
+  }
+
+  public long getLength() {
+    return end - start + 1;
+  }
+
+  public String toContentRange(long contentLength) {
+    if (this == UNSATISFIABLE) {
+      return "bytes */" + contentLength;
+    }
+    return "bytes " + start + "-" + end + "/" + contentLength;
+  }
+
+  /**
+   * @return null if header is absent, malformed or has multiple ranges, means send the whole content<br>
+   *   {@link #UNSATISFIABLE} if the range is out of content
+   */
+  public static ByteRange parse(String header, long contentLength) {
+    if (header == null || !header.startsWith(BYTES_UNIT) || header.indexOf(',') >= 0) {
+      return null;
+    }
+
+    String spec = header.substring(BYTES_UNIT.length()).trim();
+    int idx = spec.indexOf('-');
+    if (idx < 0) {
+      return null;
+    }
+
+    String first = spec.substring(0, idx).trim();
+    String last = spec.substring(idx + 1).trim();
+    if ((!first.isEmpty() && !StringUtils.isNumeric(first)) || (!last.isEmpty() && !StringUtils.isNumeric(last))) {
+      return null;
+    }
+
+    try {
+      if (first.isEmpty()) {
+        // suffix range: the last N bytes
+        if (last.isEmpty()) {
+          return null;
+        }
+        long suffix = Long.parseLong(last);
+        if (suffix == 0 || contentLength == 0) {
+          return UNSATISFIABLE;
+        }
+        return new ByteRange(Math.max(0, contentLength - suffix), contentLength - 1);
+      }
+
+      long start = Long.parseLong(first);
+      long end = last.isEmpty() ? contentLength - 1 : Math.min(Long.parseLong(last), contentLength - 1);
+      if (start >= contentLength) {
+        return UNSATISFIABLE;
+      }
+      if (end < start) {
+        return null;
+      }
+      return new ByteRange(start, end);
+    } catch (NumberFormatException e) {
+      // too large
+      return null;
+    }
+  }
+}
@@ -16,12 +16,14 @@
  */
 package org.apache.servicecomb.foundation.vertx.http;
 
+import java.io.File;
 import java.io.IOException;
 
 import javax.servlet.http.Part;
 
 import org.apache.servicecomb.foundation.common.http.HttpUtils;
 import org.apache.servicecomb.foundation.common.part.FilePartForSend;
+import org.apache.servicecomb.foundation.common.part.ResourcePart;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -54,6 +56,28 @@ public final class DownloadUtils {
     }
   }
 
+  /**
+   * @return the file of file backed part, that can be sent by zero-copy, otherwise null
+   */
+  public static File getPartFile(Part part) {
+    if (part instanceof FilePartForSend) {
+      File file = new File(((FilePartForSend) part).getAbsolutePath());
+      return file.isFile() ? file : null;
+    }
+
+    if (part instanceof ResourcePart) {
+      try {
+        // resource in jar is not a file
+        File file = ((ResourcePart) part).getResource().getFile();
+        return file.isFile() ? file : null;
+      } catch (IOException e) {
+        return null;
+      }
+    }
+
+    return null;
+  }
+
   public static void clearPartResource(Part part) {
     if (part instanceof FilePartForSend && ((FilePartForSend) part).isDeleteAfterFinished()) {
       try {
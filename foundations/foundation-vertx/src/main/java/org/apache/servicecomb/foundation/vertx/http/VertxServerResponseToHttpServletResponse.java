@@ -17,19 +17,23 @@
 
 package org.apache.servicecomb.foundation.vertx.http;
 
+import java.io.File;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 
 import javax.servlet.http.Part;
 import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.core.Response.StatusType;
 
 import org.apache.servicecomb.foundation.common.http.HttpStatus;
 import org.apache.servicecomb.foundation.vertx.stream.PumpFromPart;
 
+import io.netty.handler.codec.http.HttpHeaderNames;
 import io.vertx.core.Context;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 
 public class VertxServerResponseToHttpServletResponse extends AbstractHttpServletResponse {
@@ -37,11 +41,20 @@ public class VertxServerResponseToHttpServletResponse extends AbstractHttpServle
 
   private HttpServerResponse serverResponse;
 
+  // to support range download, can be null
+  private HttpServerRequest serverRequest;
+
   private StatusType statusType;
 
   public VertxServerResponseToHttpServletResponse(HttpServerResponse serverResponse) {
+    this(serverResponse, null);
+  }
+
+  public VertxServerResponseToHttpServletResponse(HttpServerResponse serverResponse,
+      HttpServerRequest serverRequest) {
     this.context = Vertx.currentContext();
     this.serverResponse = serverResponse;
+    this.serverRequest = serverRequest;
 
     Objects.requireNonNull(context, "must run in vertx context.");
   }
@@ -112,6 +125,11 @@ public class VertxServerResponseToHttpServletResponse extends AbstractHttpServle
   }
 
   public void internalFlushBuffer() {
+    if (serverResponse.ended()) {
+      // already ended by sendFile
+      return;
+    }
+
     if (bodyBuffer == null) {
       serverResponse.end();
       return;
@@ -122,11 +140,71 @@ public class VertxServerResponseToHttpServletResponse extends AbstractHttpServle
 
   @Override
   public CompletableFuture<Void> sendPart(Part part) {
+    File file = DownloadUtils.getPartFile(part);
+    if (file != null) {
+      return sendFile(part, file);
+    }
+
     DownloadUtils.prepareDownloadHeader(this, part);
 
     return new PumpFromPart(context, part).toWriteStream(serverResponse, null);
   }
 
+  // send by FileRegion, no copy to user space except ssl connection
+  protected CompletableFuture<Void> sendFile(Part part, File file) {
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    long fileLength = file.length();
+    String rangeHeader = serverRequest == null ? null
+        : serverRequest.getHeader(HttpHeaderNames.RANGE.toString());
+    ByteRange range = ByteRange.parse(rangeHeader, fileLength);
+    if (range == ByteRange.UNSATISFIABLE) {
+      setStatusType(Status.REQUESTED_RANGE_NOT_SATISFIABLE);
+      setHeader(HttpHeaderNames.CONTENT_RANGE.toString(), range.toContentRange(fileLength));
+      DownloadUtils.clearPartResource(part);
+      future.complete(null);
+      return future;
+    }
+
+    long offset = 0;
+    long length = fileLength;
+    if (range != null && getStatus() == Status.OK.getStatusCode()) {
+      offset = range.getStart();
+      length = range.getLength();
+      setStatusType(Status.PARTIAL_CONTENT);
+      setHeader(HttpHeaderNames.CONTENT_RANGE.toString(), range.toContentRange(fileLength));
+    }
+    setHeader(HttpHeaderNames.ACCEPT_RANGES.toString(), "bytes");
+    setHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(length));
+    DownloadUtils.prepareDownloadHeader(this, part);
+
+    long sendOffset = offset;
+    long sendLength = length;
+    runOnContext(() -> serverResponse.sendFile(file.getAbsolutePath(), sendOffset, sendLength, ar -> {
+      DownloadUtils.clearPartResource(part);
+      if (ar.succeeded()) {
+        future.complete(null);
+        return;
+      }
+      future.completeExceptionally(ar.cause());
+    }));
+    return future;
+  }
+
+  @SuppressWarnings("deprecation")
+  private void setStatusType(Status status) {
+    setStatus(status.getStatusCode(), status.getReasonPhrase());
+    statusType = null;
+  }
+
+  private void runOnContext(Runnable action) {
+    if (context == Vertx.currentContext()) {
+      action.run();
+      return;
+    }
+
+    context.runOnContext(V -> action.run());
+  }
+
   @Override
   public void setChunked(boolean chunked) {
     serverResponse.setChunked(chunked);
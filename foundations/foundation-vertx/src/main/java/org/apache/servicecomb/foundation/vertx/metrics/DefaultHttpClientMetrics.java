@@ -49,12 +49,16 @@ public class DefaultHttpClientMetrics implements
   @Override
   public Object enqueueRequest(DefaultClientEndpointMetric endpointMetric) {
     endpointMetric.enqueueRequest();
-    return null;
+    // the time begin to wait for connection pool
+    return System.nanoTime();
   }
 
   @Override
   public void dequeueRequest(DefaultClientEndpointMetric endpointMetric, Object taskMetric) {
     endpointMetric.dequeueRequest();
+    if (taskMetric != null) {
+      endpointMetric.addPoolWaitTime(System.nanoTime() - (long) taskMetric);
+    }
   }
 
   @Override
@@ -71,6 +75,7 @@ public class DefaultHttpClientMetrics implements
   public DefaultHttpSocketMetric requestBegin(DefaultClientEndpointMetric endpointMetric,
       DefaultHttpSocketMetric socketMetric, SocketAddress localAddress, SocketAddress remoteAddress,
       HttpClientRequest request) {
+    endpointMetric.incrementInflight();
     socketMetric.requestBegin();
     return socketMetric;
   }
@@ -94,10 +99,19 @@ public class DefaultHttpClientMetrics implements
 
   @Override
   public void requestReset(DefaultHttpSocketMetric requestMetric) {
+    decrementInflight(requestMetric);
+  }
+
+  private void decrementInflight(DefaultHttpSocketMetric requestMetric) {
+    DefaultClientEndpointMetric endpointMetric = requestMetric.getEndpointMetric();
+    if (endpointMetric != null) {
+      endpointMetric.decrementInflight();
+    }
   }
 
   @Override
   public void responseEnd(DefaultHttpSocketMetric requestMetric, HttpClientResponse response) {
+    decrementInflight(requestMetric);
     requestMetric.responseEnd();
   }
 
@@ -16,31 +16,71 @@
  */
 package org.apache.servicecomb.foundation.vertx.metrics.metric;
 
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 
 /**
  * for one listen address, include multiple httpClient or httpServer
  */
 public class DefaultClientEndpointMetric extends DefaultEndpointMetric {
+  // System.nanoTime() will not return this value in practice
+  private static final long RETIRED = Long.MIN_VALUE;
+
   private LongAdder queue = new LongAdder();
 
-  // control if the metric instance will be expired
-  // all invoker about incRefCount/isExpired, must lock: DefaultClientEndpointMetricManager
-  // decRefCount no need to lock, because that only cause to be expired later.
-  private long lastNanoTime = System.nanoTime();
+  private LongAdder inflight = new LongAdder();
+
+  private LongAdder poolWaitCount = new LongAdder();
+
+  private LongAdder poolWaitTime = new LongAdder();
+
+  // control if the metric instance will be expired, without lock:
+  //   getOrCreate must touch successfully, expire check must retire successfully
+  //   both of them are CAS of this field, so a touched instance will not be retired, vice versa
+  private final AtomicLong lastNanoTime = new AtomicLong(System.nanoTime());
 
   public DefaultClientEndpointMetric(String address) {
     super(address);
   }
 
   public long getLastNanoTime() {
-    return lastNanoTime;
+    return lastNanoTime.get();
   }
 
   @Override
   public void onDisconnect() {
     super.onDisconnect();
-    lastNanoTime = System.nanoTime();
+    touch();
+  }
+
+  /**
+   * @return false if already retired, should not be used any more
+   */
+  public boolean touch() {
+    for (; ; ) {
+      long last = lastNanoTime.get();
+      if (last == RETIRED) {
+        return false;
+      }
+      if (lastNanoTime.compareAndSet(last, System.nanoTime())) {
+        return true;
+      }
+    }
+  }
+
+  public boolean isRetired() {
+    return lastNanoTime.get() == RETIRED;
+  }
+
+  /**
+   * @return true if expired and retired by this invocation
+   */
+  public boolean tryRetire(long nsTimeout) {
+    long last = lastNanoTime.get();
+    return last != RETIRED
+        && getCurrentConnectionCount() == 0
+        && (System.nanoTime() - last) > nsTimeout
+        && lastNanoTime.compareAndSet(last, RETIRED);
   }
 
   public long getQueueCount() {
@@ -55,8 +95,34 @@ public class DefaultClientEndpointMetric extends DefaultEndpointMetric {
     queue.decrement();
   }
 
+  public long getInflight() {
+    return inflight.longValue();
+  }
+
+  public void incrementInflight() {
+    inflight.increment();
+  }
+
+  public void decrementInflight() {
+    inflight.decrement();
+  }
+
+  public long getPoolWaitCount() {
+    return poolWaitCount.longValue();
+  }
+
+  public long getPoolWaitTime() {
+    return poolWaitTime.longValue();
+  }
+
+  public void addPoolWaitTime(long nanoTime) {
+    poolWaitCount.increment();
+    poolWaitTime.add(nanoTime);
+  }
+
   public boolean isExpired(long nsTimeout) {
-    return getCurrentConnectionCount() == 0
-        && (System.nanoTime() - lastNanoTime) > nsTimeout;
+    long last = lastNanoTime.get();
+    return last == RETIRED || (getCurrentConnectionCount() == 0
+        && (System.nanoTime() - last) > nsTimeout);
   }
 }
@@ -17,8 +17,6 @@
 package org.apache.servicecomb.foundation.vertx.metrics.metric;
 
 import java.util.Map;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
 import org.apache.servicecomb.foundation.vertx.metrics.MetricsOptionsEx;
@@ -35,24 +33,24 @@ public class DefaultClientEndpointMetricManager {
   private Map<String, DefaultClientEndpointMetric> clientEndpointMetricMap = new ConcurrentHashMapEx<>();
 
   // clientEndpointMetricMap is thread safe
-  // but get/isExpired/remove is not safe
-  //  1.isExpired
-  //  2.get
-  //  3.remove
-  // will get a removed instance
-  // so must lock the logic
-  private final ReadWriteLock rwlock = new ReentrantReadWriteLock();
+  // but get/isExpired/remove is not atomic, maybe get a removed instance
+  // so getOrCreate must touch the instance, and expire check must retire the instance, both by CAS
+  // a retired instance is removed from the map, and never be returned again
 
   public DefaultClientEndpointMetricManager(MetricsOptionsEx metricsOptionsEx) {
     this.metricsOptionsEx = metricsOptionsEx;
   }
 
   public DefaultClientEndpointMetric getOrCreateEndpointMetric(String address) {
-    rwlock.readLock().lock();
-    try {
-      return clientEndpointMetricMap.computeIfAbsent(address, DefaultClientEndpointMetric::new);
-    } finally {
-      rwlock.readLock().unlock();
+    for (; ; ) {
+      DefaultClientEndpointMetric metric = clientEndpointMetricMap
+          .computeIfAbsent(address, DefaultClientEndpointMetric::new);
+      if (metric.touch()) {
+        return metric;
+      }
+
+      // retired by expire check, but not removed yet
+      clientEndpointMetricMap.remove(address, metric);
     }
   }
 
@@ -68,15 +66,8 @@ public class DefaultClientEndpointMetricManager {
   @VisibleForTesting
   public void onCheckClientEndpointMetricExpired(long periodic) {
     for (DefaultClientEndpointMetric metric : clientEndpointMetricMap.values()) {
-      if (metric.isExpired(metricsOptionsEx.getCheckClientEndpointMetricExpiredInNano())) {
-        rwlock.writeLock().lock();
-        try {
-          if (metric.isExpired(metricsOptionsEx.getCheckClientEndpointMetricExpiredInNano())) {
-            clientEndpointMetricMap.remove(metric.getAddress());
-          }
-        } finally {
-          rwlock.writeLock().unlock();
-        }
+      if (metric.tryRetire(metricsOptionsEx.getCheckClientEndpointMetricExpiredInNano())) {
+        clientEndpointMetricMap.remove(metric.getAddress(), metric);
       }
     }
   }
@@ -17,6 +17,7 @@
 package org.apache.servicecomb.foundation.vertx.metrics.metric;
 
 import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
 
 /**
  * for one listen address, include multiple httpClient or httpServer
@@ -40,6 +41,9 @@ public class DefaultEndpointMetric {
 
   private LongAdder latency = new LongAdder();
 
+  // optional, eg: record latency distribution
+  private volatile LongConsumer latencyRecorder;
+
   public DefaultEndpointMetric(String address) {
     this.address = address;
   }
@@ -94,6 +98,15 @@ public class DefaultEndpointMetric {
 
   public void addLatency(long delta) {
     latency.add(delta);
+
+    LongConsumer recorder = latencyRecorder;
+    if (recorder != null) {
+      recorder.accept(delta);
+    }
+  }
+
+  public void setLatencyRecorder(LongConsumer latencyRecorder) {
+    this.latencyRecorder = latencyRecorder;
   }
 
   public long getLatency() {
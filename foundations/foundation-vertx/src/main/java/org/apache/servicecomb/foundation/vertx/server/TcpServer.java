@@ -25,6 +25,7 @@ import org.apache.servicecomb.foundation.ssl.SSLCustom;
 import org.apache.servicecomb.foundation.ssl.SSLOption;
 import org.apache.servicecomb.foundation.ssl.SSLOptionFactory;
 import org.apache.servicecomb.foundation.vertx.AsyncResultCallback;
+import org.apache.servicecomb.foundation.vertx.NativeTransportConfig;
 import org.apache.servicecomb.foundation.vertx.VertxTLSBuilder;
 import org.apache.servicecomb.foundation.vertx.metrics.DefaultTcpServerMetrics;
 import org.apache.servicecomb.foundation.vertx.metrics.metric.DefaultServerEndpointMetric;
@@ -46,7 +47,7 @@ public class TcpServer {
   }
 
   public void init(Vertx vertx, String sslKey, AsyncResultCallback<InetSocketAddress> callback) {
-    NetServer netServer;
+    NetServerOptions serverOptions = NativeTransportConfig.configureServerOptions(vertx, new NetServerOptions());
     if (endpointObject.isSslEnabled()) {
       SSLOptionFactory factory =
           SSLOptionFactory.createSSLOptionFactory(sslKey, null);
@@ -57,12 +58,9 @@ public class TcpServer {
         sslOption = factory.createSSLOption();
       }
       SSLCustom sslCustom = SSLCustom.createSSLCustom(sslOption.getSslCustomClass());
-      NetServerOptions serverOptions = new NetServerOptions();
       VertxTLSBuilder.buildNetServerOptions(sslOption, sslCustom, serverOptions);
-      netServer = vertx.createNetServer(serverOptions);
-    } else {
-      netServer = vertx.createNetServer();
     }
+    NetServer netServer = vertx.createNetServer(serverOptions);
 
     netServer.connectHandler(netSocket -> {
       DefaultTcpServerMetrics serverMetrics = (DefaultTcpServerMetrics) ((NetSocketImpl) netSocket).metrics();
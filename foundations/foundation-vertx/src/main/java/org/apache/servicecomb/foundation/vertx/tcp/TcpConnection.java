@@ -19,6 +19,9 @@ package org.apache.servicecomb.foundation.vertx.tcp;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.netflix.config.DynamicPropertyFactory;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
@@ -29,6 +32,13 @@ import io.vertx.core.net.NetSocket;
 import io.vertx.core.net.impl.NetSocketImpl;
 
 public class TcpConnection {
+  // max packages merged into one write, one write is one flush
+  public static final String KEY_MAX_WRITE_BATCH_SIZE = "servicecomb.tcp.write.maxBatchSize";
+
+  private static final LongAdder WRITE_BATCHES = new LongAdder();
+
+  private static final LongAdder WRITE_PACKAGES = new LongAdder();
+
   protected String protocol;
 
   // 压缩算法名字
@@ -53,6 +63,23 @@ public class TcpConnection {
 
   private AtomicLong writeQueueSize = new AtomicLong();
 
+  // only access in context thread
+  private CompositeByteBuf writeBatch;
+
+  private int maxWriteBatchSize;
+
+  public long getWriteQueueSize() {
+    return writeQueueSize.get();
+  }
+
+  public static long getWriteBatches() {
+    return WRITE_BATCHES.sum();
+  }
+
+  public static long getWritePackages() {
+    return WRITE_PACKAGES.sum();
+  }
+
   public String getProtocol() {
     return protocol;
   }
@@ -99,7 +126,6 @@ public class TcpConnection {
   }
 
   protected void writeInContext() {
-    CompositeByteBuf cbb = ByteBufAllocator.DEFAULT.compositeBuffer();
     for (; ; ) {
       ByteBuf buf = writeQueue.poll();
       if (buf == null) {
@@ -107,15 +133,36 @@ public class TcpConnection {
       }
 
       writeQueueSize.decrementAndGet();
-      cbb.addComponent(true, buf);
+      addToWriteBatch(buf);
+    }
+    flushWriteBatch();
+  }
 
-      if (cbb.numComponents() == cbb.maxNumComponents()) {
-        netSocket.write(Buffer.buffer(cbb));
-        cbb = ByteBufAllocator.DEFAULT.compositeBuffer();
-      }
+  /**
+   * must be invoked in context thread, and {@link #flushWriteBatch()} must be invoked before leave context thread
+   */
+  protected void addToWriteBatch(ByteBuf buf) {
+    if (writeBatch == null) {
+      maxWriteBatchSize = Math.max(2,
+          DynamicPropertyFactory.getInstance().getIntProperty(KEY_MAX_WRITE_BATCH_SIZE, 16).get());
+      writeBatch = ByteBufAllocator.DEFAULT.compositeBuffer(maxWriteBatchSize);
     }
-    if (cbb.isReadable()) {
-      netSocket.write(Buffer.buffer(cbb));
+
+    writeBatch.addComponent(true, buf);
+    if (writeBatch.numComponents() >= maxWriteBatchSize) {
+      flushWriteBatch();
     }
   }
+
+  protected void flushWriteBatch() {
+    CompositeByteBuf batch = writeBatch;
+    if (batch == null) {
+      return;
+    }
+
+    writeBatch = null;
+    WRITE_BATCHES.increment();
+    WRITE_PACKAGES.add(batch.numComponents());
+    netSocket.write(Buffer.buffer(batch));
+  }
 }
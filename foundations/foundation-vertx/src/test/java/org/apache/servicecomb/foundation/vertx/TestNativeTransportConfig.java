@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.foundation.vertx;
+
+import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.net.NetServerOptions;
+import mockit.Expectations;
+import mockit.Mocked;
+
+public class TestNativeTransportConfig {
+  @After
+  public void tearDown() {
+    ArchaiusUtils.resetConfig();
+  }
+
+  @Test
+  public void configureVertxOptions_default() {
+    VertxOptions vertxOptions = new VertxOptions();
+    NativeTransportConfig.configureVertxOptions(vertxOptions);
+
+    Assert.assertFalse(vertxOptions.getPreferNativeTransport());
+  }
+
+  @Test
+  public void configureVertxOptions_enabled() {
+    ArchaiusUtils.setProperty(NativeTransportConfig.ENABLED, true);
+    VertxOptions vertxOptions = new VertxOptions();
+    NativeTransportConfig.configureVertxOptions(vertxOptions);
+
+    Assert.assertTrue(vertxOptions.getPreferNativeTransport());
+  }
+
+  @Test
+  public void configureServerOptions_nativeNotEnabled(@Mocked Vertx vertx) {
+    new Expectations() {
+      {
+        vertx.isNativeTransportEnabled();
+        result = false;
+      }
+    };
+    ArchaiusUtils.setProperty(NativeTransportConfig.TCP_FAST_OPEN, true);
+    NetServerOptions serverOptions = NativeTransportConfig.configureServerOptions(vertx, new NetServerOptions());
+
+    Assert.assertFalse(serverOptions.isReusePort());
+    Assert.assertFalse(serverOptions.isTcpFastOpen());
+  }
+
+  @Test
+  public void configureServerOptions_nativeEnabled(@Mocked Vertx vertx) {
+    new Expectations() {
+      {
+        vertx.isNativeTransportEnabled();
+        result = true;
+      }
+    };
+    ArchaiusUtils.setProperty(NativeTransportConfig.TCP_QUICK_ACK, true);
+    HttpServerOptions serverOptions = NativeTransportConfig.configureServerOptions(vertx, new HttpServerOptions());
+
+    Assert.assertTrue(serverOptions.isReusePort());
+    Assert.assertFalse(serverOptions.isTcpFastOpen());
+    Assert.assertTrue(serverOptions.isTcpQuickAck());
+  }
+
+  @Test
+  public void init_fallbackToNio() {
+    // netty-transport-native-epoll is not in test classpath
+    ArchaiusUtils.setProperty(NativeTransportConfig.ENABLED, true);
+    Vertx vertx = VertxUtils.init(null);
+
+    Assert.assertFalse(vertx.isNativeTransportEnabled());
+    VertxUtils.blockCloseVertx(vertx);
+  }
+}
@@ -35,6 +35,7 @@ import mockit.Expectations;
 import mockit.Mock;
 import mockit.MockUp;
 import mockit.Mocked;
+import mockit.Verifications;
 
 public class TestClientPoolManager {
   @Mocked
@@ -71,6 +72,11 @@ public class TestClientPoolManager {
         return (T) contextMap.get(key);
       }
 
+      @Mock
+      boolean remove(String key) {
+        return contextMap.remove(key) != null;
+      }
+
       @Mock
       Vertx owner() {
         return vertx;
@@ -97,6 +103,28 @@ public class TestClientPoolManager {
     Assert.assertThat(pools, Matchers.contains(pool));
   }
 
+  @Test
+  public void closeClientPool(@Mocked HttpClientWithContext pool) {
+    new Expectations(VertxImpl.class) {
+      {
+        factory.createClientPool(context);
+        result = pool;
+      }
+    };
+    poolMgr.createClientPool(context);
+
+    poolMgr.closeClientPool(context);
+
+    Assert.assertNull(context.get(id));
+    Assert.assertTrue(pools.isEmpty());
+    new Verifications() {
+      {
+        factory.closeClientPool(pool);
+        times = 1;
+      }
+    };
+  }
+
   @Test
   public void findClientPool_sync(@Mocked HttpClientWithContext pool1, @Mocked HttpClientWithContext pool2) {
     new Expectations(poolMgr) {
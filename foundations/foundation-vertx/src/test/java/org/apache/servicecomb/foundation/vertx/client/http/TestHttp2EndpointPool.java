@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.foundation.vertx.client.http;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.vertx.core.Context;
+import io.vertx.core.http.HttpClient;
+import mockit.Mocked;
+
+public class TestHttp2EndpointPool {
+  @Mocked
+  HttpClient httpClient;
+
+  @Mocked
+  Context context;
+
+  Http2EndpointPool pool = new Http2EndpointPool("127.0.0.1:8080", 2,
+      () -> new Http2ClientConnection(httpClient, context, 2));
+
+  @Test
+  public void should_open_new_connection_only_when_streams_reach_limit() {
+    Http2ClientConnection c1 = pool.acquire();
+    Http2ClientConnection c2 = pool.acquire();
+    Assert.assertSame(c1, c2);
+    Assert.assertEquals(1, pool.getConnections().size());
+
+    Http2ClientConnection c3 = pool.acquire();
+    Assert.assertNotSame(c1, c3);
+    Assert.assertEquals(2, pool.getConnections().size());
+    Assert.assertEquals(2, c1.getActiveStreams());
+    Assert.assertEquals(1, c3.getActiveStreams());
+  }
+
+  @Test
+  public void should_select_least_active_connection() {
+    Http2ClientConnection c1 = pool.acquire();
+    pool.acquire();
+    Http2ClientConnection c2 = pool.acquire();
+
+    c1.releaseStream();
+    c1.releaseStream();
+    Assert.assertSame(c1, pool.acquire());
+
+    c2.releaseStream();
+    Assert.assertSame(c2, pool.acquire());
+    Assert.assertEquals(3, c1.getTotalStreams());
+  }
+
+  @Test
+  public void should_reuse_connection_when_reach_max_connections() {
+    for (int idx = 0; idx < 10; idx++) {
+      pool.acquire();
+    }
+    Assert.assertEquals(2, pool.getConnections().size());
+    Assert.assertEquals(5, pool.getConnections().get(0).getActiveStreams());
+    Assert.assertEquals(5, pool.getConnections().get(1).getActiveStreams());
+  }
+
+  @Test
+  public void should_evict_closed_connection() {
+    Http2ClientConnection c1 = pool.acquire();
+    c1.onConnectionClosed();
+    Assert.assertTrue(c1.isClosed());
+    Assert.assertTrue(pool.getConnections().isEmpty());
+
+    // stream in flight release to the evicted connection, new stream use a new connection
+    c1.releaseStream();
+    Http2ClientConnection c2 = pool.acquire();
+    Assert.assertNotSame(c1, c2);
+    Assert.assertEquals(1, pool.getConnections().size());
+  }
+}
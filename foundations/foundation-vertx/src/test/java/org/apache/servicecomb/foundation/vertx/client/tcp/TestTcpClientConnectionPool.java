@@ -16,12 +16,18 @@
  */
 package org.apache.servicecomb.foundation.vertx.client.tcp;
 
+import java.util.List;
+import java.util.Map;
+
 import org.hamcrest.Matchers;
+import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
 import io.vertx.core.impl.ContextInternal;
+import mockit.Deencapsulation;
+import mockit.Expectations;
 import mockit.Mocked;
 
 public class TestTcpClientConnectionPool {
@@ -38,8 +44,62 @@ public class TestTcpClientConnectionPool {
     pool = new TcpClientConnectionPool(context, netClientWrapper);
   }
 
+  @After
+  public void teardown() {
+    pool.close();
+  }
+
+  @Test
+  public void close() {
+    Assert.assertThat(AbstractTcpClientConnectionPool.getPools(), Matchers.hasItem(pool));
+
+    pool.close();
+
+    Assert.assertThat(AbstractTcpClientConnectionPool.getPools(), Matchers.not(Matchers.hasItem(pool)));
+  }
+
   @Test
   public void create() {
     Assert.assertThat(pool.create("rest://localhost:8765"), Matchers.instanceOf(TcpClientConnection.class));
   }
+
+  @Test
+  public void findOrCreateClient_single() {
+    TcpClientConnection client = pool.findOrCreateClient("rest://localhost:8765");
+
+    Assert.assertSame(client, pool.findOrCreateClient("rest://localhost:8765"));
+    Assert.assertEquals(1, pool.getClients().get("rest://localhost:8765").size());
+  }
+
+  @Test
+  public void findOrCreateClient_leastPending() {
+    TcpClientConfig clientConfig = new TcpClientConfig();
+    clientConfig.setConnectionsPerEndpoint(3);
+    new Expectations() {
+      {
+        netClientWrapper.getClientConfig(false);
+        result = clientConfig;
+      }
+    };
+
+    TcpClientConnection first = pool.findOrCreateClient("rest://localhost:8765");
+    List<TcpClientConnection> clients = pool.getClients().get("rest://localhost:8765");
+    Assert.assertEquals(3, clients.size());
+    Assert.assertSame(clients.get(0), first);
+
+    addPendingRequest(clients.get(0), 2);
+    addPendingRequest(clients.get(1), 1);
+    Assert.assertSame(clients.get(2), pool.findOrCreateClient("rest://localhost:8765"));
+
+    addPendingRequest(clients.get(2), 2);
+    Assert.assertSame(clients.get(1), pool.findOrCreateClient("rest://localhost:8765"));
+  }
+
+  private void addPendingRequest(TcpClientConnection client, int count) {
+    Map<Long, TcpRequest> requestMap = Deencapsulation.getField(client, "requestMap");
+    for (int idx = 0; idx < count; idx++) {
+      requestMap.put((long) requestMap.size(), new TcpRequest(1000, ar -> {
+      }));
+    }
+  }
 }
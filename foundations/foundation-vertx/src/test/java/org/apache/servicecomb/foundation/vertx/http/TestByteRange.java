@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.foundation.vertx.http;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestByteRange {
+  private void checkRange(String header, long start, long end) {
+    ByteRange range = ByteRange.parse(header, 100);
+    Assert.assertEquals(start, range.getStart());
+    Assert.assertEquals(end, range.getEnd());
+  }
+
+  @Test
+  public void should_parse_single_range() {
+    checkRange("bytes=0-9", 0, 9);
+    checkRange("bytes=10-", 10, 99);
+    checkRange("bytes=90-200", 90, 99);
+    checkRange("bytes=-10", 90, 99);
+    checkRange("bytes=-200", 0, 99);
+    Assert.assertEquals("bytes 0-9/100", ByteRange.parse("bytes=0-9", 100).toContentRange(100));
+    Assert.assertEquals(10, ByteRange.parse("bytes=0-9", 100).getLength());
+  }
+
+  @Test
+  public void should_send_whole_content_when_not_supported() {
+    Assert.assertNull(ByteRange.parse(null, 100));
+    Assert.assertNull(ByteRange.parse("items=0-9", 100));
+    Assert.assertNull(ByteRange.parse("bytes=0-9,20-29", 100));
+    Assert.assertNull(ByteRange.parse("bytes=a-9", 100));
+    Assert.assertNull(ByteRange.parse("bytes=9-0", 100));
+    Assert.assertNull(ByteRange.parse("bytes=-", 100));
+  }
+
+  @Test
+  public void should_be_unsatisfiable_when_out_of_content() {
+    Assert.assertSame(ByteRange.UNSATISFIABLE, ByteRange.parse("bytes=100-", 100));
+    Assert.assertSame(ByteRange.UNSATISFIABLE, ByteRange.parse("bytes=-0", 100));
+    Assert.assertEquals("bytes */100", ByteRange.UNSATISFIABLE.toContentRange(100));
+  }
+}
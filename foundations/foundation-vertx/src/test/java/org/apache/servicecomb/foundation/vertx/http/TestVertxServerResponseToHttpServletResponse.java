@@ -40,13 +40,16 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import io.netty.handler.codec.http.HttpHeaderNames;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.impl.SyncContext;
 import io.vertx.core.streams.WriteStream;
@@ -80,6 +83,8 @@ public class TestVertxServerResponseToHttpServletResponse {
 
   boolean chunked;
 
+  String sendFileArgs;
+
   @Before
   public void setup() {
     serverResponse = new MockUp<HttpServerResponse>() {
@@ -136,6 +141,14 @@ public class TestVertxServerResponseToHttpServletResponse {
       boolean isChunked() {
         return chunked;
       }
+
+      @Mock
+      HttpServerResponse sendFile(String filename, long offset, long length,
+          Handler<AsyncResult<Void>> resultHandler) {
+        sendFileArgs = offset + "-" + length;
+        resultHandler.handle(Future.succeededFuture());
+        return serverResponse;
+      }
     }.getMockInstance();
 
     new Expectations() {
@@ -397,6 +410,63 @@ public class TestVertxServerResponseToHttpServletResponse {
     Assert.assertNull(future.get());
   }
 
+  @Test
+  public void sendPart_filePart() throws IOException, InterruptedException, ExecutionException {
+    File file = new File("target", UUID.randomUUID().toString() + ".txt");
+    FileUtils.write(file, "content", StandardCharsets.UTF_8);
+    FilePart part = new FilePart(null, file).setDeleteAfterFinished(true);
+
+    Assert.assertNull(response.sendPart(part).get());
+    Assert.assertEquals("0-7", sendFileArgs);
+    Assert.assertEquals("7", headers.get(HttpHeaders.CONTENT_LENGTH));
+    Assert.assertEquals("bytes", headers.get("Accept-Ranges"));
+    Assert.assertFalse(chunked);
+    Assert.assertFalse(file.exists());
+  }
+
+  @Test
+  public void sendPart_filePartRange(@Mocked HttpServerRequest serverRequest)
+      throws IOException, InterruptedException, ExecutionException {
+    File file = new File("target", UUID.randomUUID().toString() + ".txt");
+    FileUtils.write(file, "content", StandardCharsets.UTF_8);
+    FilePart part = new FilePart(null, file).setDeleteAfterFinished(true);
+    new Expectations() {
+      {
+        serverRequest.getHeader(HttpHeaderNames.RANGE.toString());
+        result = "bytes=2-";
+      }
+    };
+    response = new VertxServerResponseToHttpServletResponse(serverResponse, serverRequest);
+    serverResponse.setStatusCode(200);
+
+    Assert.assertNull(response.sendPart(part).get());
+    Assert.assertEquals("2-5", sendFileArgs);
+    Assert.assertEquals(206, response.getStatus());
+    Assert.assertEquals("5", headers.get(HttpHeaders.CONTENT_LENGTH));
+    Assert.assertEquals("bytes 2-6/7", headers.get("Content-Range"));
+  }
+
+  @Test
+  public void sendPart_filePartRangeNotSatisfiable(@Mocked HttpServerRequest serverRequest)
+      throws IOException, InterruptedException, ExecutionException {
+    File file = new File("target", UUID.randomUUID().toString() + ".txt");
+    FileUtils.write(file, "content", StandardCharsets.UTF_8);
+    FilePart part = new FilePart(null, file).setDeleteAfterFinished(true);
+    new Expectations() {
+      {
+        serverRequest.getHeader(HttpHeaderNames.RANGE.toString());
+        result = "bytes=7-";
+      }
+    };
+    response = new VertxServerResponseToHttpServletResponse(serverResponse, serverRequest);
+
+    Assert.assertNull(response.sendPart(part).get());
+    Assert.assertNull(sendFileArgs);
+    Assert.assertEquals(416, response.getStatus());
+    Assert.assertEquals("bytes */7", headers.get("Content-Range"));
+    Assert.assertFalse(file.exists());
+  }
+
   @Test
   public void clearPartResource_deleteFile() throws IOException {
     File file = new File("target", UUID.randomUUID().toString() + ".txt");
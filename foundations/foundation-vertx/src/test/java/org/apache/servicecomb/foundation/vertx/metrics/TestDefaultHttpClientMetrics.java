@@ -289,4 +289,57 @@ public class TestDefaultHttpClientMetrics {
     Assert.assertEquals(2, socketMetric.getRequestBeginTime());
     Assert.assertEquals(3, socketMetric.getRequestEndTime());
   }
+
+  @Test
+  public void inflightAndPoolWait(@Mocked HttpClientRequest request) {
+    nanoTime = 2;
+    Object taskMetric = clientMetrics_a.enqueueRequest(endpointMetric_a_1);
+    Assert.assertEquals(1, endpointMetric_a_1.getQueueCount());
+
+    nanoTime = 5;
+    clientMetrics_a.dequeueRequest(endpointMetric_a_1, taskMetric);
+    Assert.assertEquals(0, endpointMetric_a_1.getQueueCount());
+    Assert.assertEquals(1, endpointMetric_a_1.getPoolWaitCount());
+    Assert.assertEquals(3, endpointMetric_a_1.getPoolWaitTime());
+
+    clientMetrics_a.requestBegin(endpointMetric_a_1, socketMetric_a_1, address1, address1, request);
+    clientMetrics_a.requestBegin(endpointMetric_a_1, socketMetric_a_1, address1, address1, request);
+    Assert.assertEquals(2, endpointMetric_a_1.getInflight());
+
+    clientMetrics_a.responseEnd(socketMetric_a_1, null);
+    clientMetrics_a.requestReset(socketMetric_a_1);
+    Assert.assertEquals(0, endpointMetric_a_1.getInflight());
+  }
+
+  @Test
+  public void getOrCreate_retired() {
+    metricsOptionsEx.setCheckClientEndpointMetricExpiredInNano(10);
+    clientMetrics_a.disconnected(socketMetric_a_1, null);
+    clientMetrics_b.disconnected(socketMetric_b_1, null);
+
+    // retired but not removed yet
+    nanoTime = 12;
+    Assert.assertTrue(endpointMetric_a_1.tryRetire(10));
+    Assert.assertFalse(endpointMetric_a_1.touch());
+    Assert.assertTrue(endpointMetric_a_1.isExpired(10));
+
+    DefaultClientEndpointMetric endpointMetric = clientMetrics_a.createEndpoint(host, port1, 0);
+    Assert.assertNotSame(endpointMetric_a_1, endpointMetric);
+    Assert.assertSame(endpointMetric,
+        defaultVertxMetrics.getClientEndpointMetricManager().getClientEndpointMetric(address1.toString()));
+  }
+
+  @Test
+  public void touched_notRetired() {
+    metricsOptionsEx.setCheckClientEndpointMetricExpiredInNano(10);
+    clientMetrics_a.disconnected(socketMetric_a_1, null);
+    clientMetrics_b.disconnected(socketMetric_b_1, null);
+
+    nanoTime = 12;
+    Assert.assertSame(endpointMetric_a_1, clientMetrics_a.createEndpoint(host, port1, 0));
+    defaultVertxMetrics.getClientEndpointMetricManager().onCheckClientEndpointMetricExpired(0);
+    Assert.assertSame(endpointMetric_a_1,
+        defaultVertxMetrics.getClientEndpointMetricManager().getClientEndpointMetric(address1.toString()));
+    Assert.assertFalse(endpointMetric_a_1.isRetired());
+  }
 }
@@ -60,7 +60,7 @@ public class TestTcpServer {
       @Mocked NetServer netServer) {
     new Expectations() {
       {
-        vertx.createNetServer();
+        vertx.createNetServer((NetServerOptions) any);
         result = netServer;
         netServer.connectHandler((Handler) any);
         netServer.listen(anyInt, anyString, (Handler) any);
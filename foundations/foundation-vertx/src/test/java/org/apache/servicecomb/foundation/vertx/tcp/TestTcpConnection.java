@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.foundation.vertx.tcp;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import io.netty.buffer.Unpooled;
+import io.vertx.core.Context;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.net.NetSocket;
+
+public class TestTcpConnection {
+  TcpConnection connection = new TcpConnection();
+
+  NetSocket netSocket = Mockito.mock(NetSocket.class);
+
+  List<String> written = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    connection.setContext(Mockito.mock(Context.class));
+    connection.netSocket = netSocket;
+    Mockito.when(netSocket.write(Mockito.any(Buffer.class))).thenAnswer(invocation -> {
+      written.add(invocation.getArguments()[0].toString());
+      return netSocket;
+    });
+  }
+
+  @After
+  public void tearDown() {
+    ArchaiusUtils.resetConfig();
+  }
+
+  private void writeQueue(int count) {
+    for (int idx = 0; idx < count; idx++) {
+      connection.write(Unpooled.wrappedBuffer(String.valueOf(idx).getBytes()));
+    }
+  }
+
+  @Test
+  public void should_merge_queued_bufs_to_one_write() {
+    long batches = TcpConnection.getWriteBatches();
+    long packages = TcpConnection.getWritePackages();
+    writeQueue(3);
+
+    connection.writeInContext();
+
+    Assert.assertEquals(1, written.size());
+    Assert.assertEquals("012", written.get(0));
+    Assert.assertEquals(1, TcpConnection.getWriteBatches() - batches);
+    Assert.assertEquals(3, TcpConnection.getWritePackages() - packages);
+  }
+
+  @Test
+  public void should_split_by_max_batch_size() {
+    ArchaiusUtils.setProperty(TcpConnection.KEY_MAX_WRITE_BATCH_SIZE, 2);
+    writeQueue(5);
+
+    connection.writeInContext();
+
+    Assert.assertEquals(3, written.size());
+    Assert.assertEquals("01", written.get(0));
+    Assert.assertEquals("23", written.get(1));
+    Assert.assertEquals("4", written.get(2));
+  }
+
+  @Test
+  public void should_not_write_when_empty() {
+    connection.writeInContext();
+
+    Assert.assertTrue(written.isEmpty());
+  }
+}
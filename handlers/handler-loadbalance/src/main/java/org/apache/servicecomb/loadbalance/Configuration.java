@@ -74,6 +74,17 @@ public final class Configuration {
 
   public static final String FILTER_CONTINUOUS_FAILURE_THRESHOLD = "continuousFailureThreshold";
 
+  // hedging configurations
+  public static final String HEDGING = "hedging.";
+
+  public static final String HEDGING_ENABLED = "enabled";
+
+  public static final String HEDGING_PERCENTILE = "percentile";
+
+  public static final String HEDGING_MIN_DELAY = "minDelayInMilliseconds";
+
+  public static final String HEDGING_MAX_EXTRA_LOAD_PERCENT = "maxExtraLoadPercent";
+
   public static final String TRANSACTIONCONTROL_OPTIONS_PREFIX_PATTERN =
       "servicecomb.loadbalance.%s.transactionControl.options";
 
@@ -230,6 +241,66 @@ public final class Configuration {
     return Boolean.parseBoolean(p);
   }
 
+  /**
+   * hedging configurations can be defined for operation, microservice or globally, eg:
+   * servicecomb.loadbalance.${microservice}.${schemaId}.${operationId}.hedging.enabled
+   * servicecomb.loadbalance.${microservice}.hedging.enabled
+   * servicecomb.loadbalance.hedging.enabled
+   */
+  private String getHedgingProperty(String defaultValue, String microservice, String schemaOperation, String key) {
+    return getStringProperty(defaultValue,
+        ROOT + microservice + "." + schemaOperation + "." + HEDGING + key,
+        ROOT + microservice + "." + HEDGING + key,
+        ROOT + HEDGING + key);
+  }
+
+  public boolean isHedgingEnabled(String microservice, String schemaOperation) {
+    String p = getHedgingProperty("false", microservice, schemaOperation, HEDGING_ENABLED);
+    return Boolean.parseBoolean(p);
+  }
+
+  public int getHedgingPercentile(String microservice, String schemaOperation) {
+    final int defaultValue = 95;
+    String p = getHedgingProperty("95", microservice, schemaOperation, HEDGING_PERCENTILE);
+    try {
+      int result = Integer.parseInt(p);
+      if (result < PERCENT && result > 0) {
+        return result;
+      }
+      return defaultValue;
+    } catch (NumberFormatException e) {
+      return defaultValue;
+    }
+  }
+
+  public int getHedgingMinDelay(String microservice, String schemaOperation) {
+    final int defaultValue = 10;
+    String p = getHedgingProperty("10", microservice, schemaOperation, HEDGING_MIN_DELAY);
+    try {
+      int result = Integer.parseInt(p);
+      if (result > 0) {
+        return result;
+      }
+      return defaultValue;
+    } catch (NumberFormatException e) {
+      return defaultValue;
+    }
+  }
+
+  public int getHedgingMaxExtraLoadPercent(String microservice, String schemaOperation) {
+    final int defaultValue = 10;
+    String p = getHedgingProperty("10", microservice, schemaOperation, HEDGING_MAX_EXTRA_LOAD_PERCENT);
+    try {
+      int result = Integer.parseInt(p);
+      if (result <= PERCENT && result >= 0) {
+        return result;
+      }
+      return defaultValue;
+    } catch (NumberFormatException e) {
+      return defaultValue;
+    }
+  }
+
   public Map<String, String> getFlowsplitFilterOptions(String microservice) {
     String keyPrefix = String.format(TRANSACTIONCONTROL_OPTIONS_PREFIX_PATTERN, microservice);
     return ConfigurePropertyUtils.getPropertiesWithPrefix(keyPrefix);
@@ -25,7 +25,11 @@ import java.util.Objects;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.ws.rs.core.Response.Status;
@@ -36,11 +40,14 @@ import org.apache.servicecomb.core.Handler;
 import org.apache.servicecomb.core.Invocation;
 import org.apache.servicecomb.core.SCBEngine;
 import org.apache.servicecomb.core.Transport;
+import org.apache.servicecomb.core.definition.OperationMeta;
 import org.apache.servicecomb.core.provider.consumer.SyncResponseExecutor;
 import org.apache.servicecomb.foundation.common.cache.VersionedCache;
 import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
 import org.apache.servicecomb.foundation.common.utils.ExceptionUtils;
 import org.apache.servicecomb.loadbalance.filter.ServerDiscoveryFilter;
+import org.apache.servicecomb.loadbalance.hedging.HedgingPolicy;
+import org.apache.servicecomb.loadbalance.hedging.HedgingPolicyManager;
 import org.apache.servicecomb.registry.discovery.DiscoveryContext;
 import org.apache.servicecomb.registry.discovery.DiscoveryFilter;
 import org.apache.servicecomb.registry.discovery.DiscoveryTree;
@@ -151,6 +158,156 @@ public class LoadbalanceHandler implements Handler {
     }
   });
 
+  private static final ScheduledExecutorService HEDGING_TIMER = Executors.newSingleThreadScheduledExecutor(r -> {
+    Thread thread = new Thread(r, "hedging-timer-thread");
+    // avoid block shutdown
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  // send the same request to another server if no response in hedging delay, the first response wins
+  // every request runs handlers after loadbalance on its own attempt invocation, only the winner is merged back
+  class HedgedInvocation {
+    final Invocation invocation;
+
+    final AsyncResponse asyncResp;
+
+    final LoadBalancer chosenLB;
+
+    final HedgingPolicy hedgingPolicy;
+
+    final long startTime = System.currentTimeMillis();
+
+    final Executor originalExecutor;
+
+    final AtomicBoolean completed = new AtomicBoolean();
+
+    final AtomicInteger pending = new AtomicInteger();
+
+    ServiceCombServer firstServer;
+
+    volatile ScheduledFuture<?> hedgeFuture;
+
+    HedgedInvocation(Invocation invocation, AsyncResponse asyncResp, LoadBalancer chosenLB,
+        HedgingPolicy hedgingPolicy) {
+      this.invocation = invocation;
+      this.asyncResp = asyncResp;
+      this.chosenLB = chosenLB;
+      this.hedgingPolicy = hedgingPolicy;
+      this.originalExecutor = invocation.getResponseExecutor();
+      if (originalExecutor instanceof SyncResponseExecutor) {
+        // SyncResponseExecutor can only accept one response, but both requests may be answered
+        // and the responses can not be processed in network thread
+        invocation.setResponseExecutor(RETRY_POOL::execute);
+      }
+    }
+
+    void start(ServiceCombServer server) {
+      firstServer = server;
+      long time = System.currentTimeMillis();
+      try {
+        send(server, false);
+      } catch (Throwable e) {
+        // no hedge scheduled yet, the failure is the only response
+        invocation.getTraceIdLogger()
+            .error(LOGGER, "send error, msg is {}", ExceptionUtils.getExceptionMessageWithoutTrace(e));
+        onResponse(null, server, false, time, Response.createConsumerFail(e));
+        return;
+      }
+
+      // schedule after send returned, the response may have arrived already
+      hedgeFuture = HEDGING_TIMER.schedule(() -> RETRY_POOL.execute(this::hedge),
+          hedgingPolicy.getHedgingDelay(), TimeUnit.MILLISECONDS);
+      if (completed.get()) {
+        hedgeFuture.cancel(false);
+      }
+    }
+
+    void send(ServiceCombServer server, boolean hedge) throws Exception {
+      long time = System.currentTimeMillis();
+      pending.incrementAndGet();
+      chosenLB.getLoadBalancerStats().incrementNumRequests(server);
+      Invocation attempt = invocation.createAttempt();
+      attempt.setEndpoint(server.getEndpoint());
+      attempt.next(resp -> onResponse(attempt, server, hedge, time, resp));
+    }
+
+    void hedge() {
+      if (completed.get()) {
+        return;
+      }
+
+      ServiceCombServer server = chooseAnotherServer();
+      if (server == null || !hedgingPolicy.tryAcquireHedge()) {
+        return;
+      }
+
+      invocation.getTraceIdLogger().info(LOGGER, "hedge to instance [{}]", server.getHostPort());
+      long time = System.currentTimeMillis();
+      try {
+        send(server, true);
+      } catch (Throwable e) {
+        invocation.getTraceIdLogger()
+            .error(LOGGER, "hedge error, msg is {}", ExceptionUtils.getExceptionMessageWithoutTrace(e));
+        onResponse(null, server, true, time, Response.createConsumerFail(e));
+      }
+    }
+
+    ServiceCombServer chooseAnotherServer() {
+      for (int i = 0; i < RetryLoadBalancer.COUNT; i++) {
+        ServiceCombServer server = chosenLB.chooseServer(invocation);
+        if (server == null) {
+          return null;
+        }
+        if (!server.equals(firstServer)) {
+          return server;
+        }
+      }
+      return null;
+    }
+
+    void onResponse(Invocation attempt, ServiceCombServer server, boolean hedge, long time, Response resp) {
+      chosenLB.getLoadBalancerStats().noteResponseTime(server, (System.currentTimeMillis() - time));
+      boolean failed = isFailedResponse(resp);
+      if (failed) {
+        chosenLB.getLoadBalancerStats().incrementSuccessiveConnectionFailureCount(server);
+        ServiceCombLoadBalancerStats.INSTANCE.markFailure(server);
+      } else {
+        chosenLB.getLoadBalancerStats().incrementActiveRequestsCount(server);
+        ServiceCombLoadBalancerStats.INSTANCE.markSuccess(server);
+        if (!hedge) {
+          // latency without hedging, even the response is dropped
+          hedgingPolicy.recordLatency(System.currentTimeMillis() - startTime);
+        }
+      }
+
+      // failed response wins only when there is no other pending request
+      if (pending.decrementAndGet() > 0 && failed) {
+        return;
+      }
+      if (!completed.compareAndSet(false, true)) {
+        // the loser, just drop the response
+        return;
+      }
+
+      ScheduledFuture<?> future = hedgeFuture;
+      if (future != null) {
+        future.cancel(false);
+      }
+      if (hedge) {
+        hedgingPolicy.onHedgeWin();
+      }
+      if (attempt != null) {
+        invocation.mergeAttempt(attempt);
+      }
+      if (originalExecutor instanceof SyncResponseExecutor) {
+        originalExecutor.execute(() -> asyncResp.handle(resp));
+        return;
+      }
+      asyncResp.handle(resp);
+    }
+  }
+
   private DiscoveryTree discoveryTree = new DiscoveryTree();
 
   // key为grouping filter qualified name
@@ -214,6 +371,11 @@ public class LoadbalanceHandler implements Handler {
 
     LoadBalancer loadBalancer = getOrCreateLoadBalancer(invocation);
 
+    if (isHedgingEnabled(invocation)) {
+      sendWithHedging(invocation, asyncResp, loadBalancer);
+      return;
+    }
+
     if (!Configuration.INSTANCE.isRetryEnabled(invocation.getMicroserviceName())) {
       send(invocation, asyncResp, loadBalancer);
     } else {
@@ -293,6 +455,26 @@ public class LoadbalanceHandler implements Handler {
     });
   }
 
+  private boolean isHedgingEnabled(Invocation invocation) {
+    // empty invocation has no operation
+    OperationMeta operationMeta = invocation.getOperationMeta();
+    return operationMeta != null && Configuration.INSTANCE
+        .isHedgingEnabled(invocation.getMicroserviceName(), operationMeta.getSchemaQualifiedName());
+  }
+
+  private void sendWithHedging(Invocation invocation, AsyncResponse asyncResp, LoadBalancer chosenLB)
+      throws Exception {
+    ServiceCombServer server = chosenLB.chooseServer(invocation);
+    if (null == server) {
+      asyncResp.consumerFail(new InvocationException(Status.INTERNAL_SERVER_ERROR, "No available address found."));
+      return;
+    }
+
+    HedgingPolicy hedgingPolicy = HedgingPolicyManager.INSTANCE.getOrCreatePolicy(invocation.getOperationMeta());
+    hedgingPolicy.onRequest();
+    new HedgedInvocation(invocation, asyncResp, chosenLB, hedgingPolicy).start(server);
+  }
+
   private void sendWithRetry(Invocation invocation, AsyncResponse asyncResp,
       LoadBalancer chosenLB) throws Exception {
     long time = System.currentTimeMillis();
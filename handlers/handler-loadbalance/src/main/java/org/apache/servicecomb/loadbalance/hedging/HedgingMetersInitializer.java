@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.loadbalance.hedging;
+
+import org.apache.servicecomb.foundation.metrics.MetricsBootstrapConfig;
+import org.apache.servicecomb.foundation.metrics.MetricsInitializer;
+import org.apache.servicecomb.foundation.metrics.registry.GlobalRegistry;
+
+import com.google.common.eventbus.EventBus;
+import com.netflix.spectator.api.Id;
+import com.netflix.spectator.api.Registry;
+import com.netflix.spectator.api.patterns.PolledMeter;
+
+public class HedgingMetersInitializer implements MetricsInitializer {
+  public static final String HEDGING = "servicecomb.loadbalance.hedging";
+
+  public static final String TAG_OPERATION = "operation";
+
+  public static final String TAG_STATISTIC = "statistic";
+
+  private Registry registry;
+
+  @Override
+  public void init(GlobalRegistry globalRegistry, EventBus eventBus, MetricsBootstrapConfig config) {
+    registry = globalRegistry.getDefaultRegistry();
+    HedgingPolicyManager.INSTANCE.setPolicyCreatedListener(this::createMeters);
+  }
+
+  @Override
+  public void destroy() {
+    HedgingPolicyManager.INSTANCE.setPolicyCreatedListener(null);
+  }
+
+  protected void createMeters(HedgingPolicy policy) {
+    Id id = registry.createId(HEDGING, TAG_OPERATION, policy.getMicroserviceQualifiedName());
+
+    PolledMeter.using(registry)
+        .withId(id.withTag(TAG_STATISTIC, "requests"))
+        .monitorMonotonicCounter(policy, HedgingPolicy::getRequests);
+    PolledMeter.using(registry)
+        .withId(id.withTag(TAG_STATISTIC, "hedged"))
+        .monitorMonotonicCounter(policy, HedgingPolicy::getHedgedRequests);
+    PolledMeter.using(registry)
+        .withId(id.withTag(TAG_STATISTIC, "hedgeWins"))
+        .monitorMonotonicCounter(policy, HedgingPolicy::getHedgeWins);
+    PolledMeter.using(registry)
+        .withId(id.withTag(TAG_STATISTIC, "budgetExhausted"))
+        .monitorMonotonicCounter(policy, HedgingPolicy::getBudgetExhausted);
+    PolledMeter.using(registry)
+        .withId(id.withTag(TAG_STATISTIC, "delay"))
+        .monitorValue(policy, HedgingPolicy::getHedgingDelay);
+  }
+}
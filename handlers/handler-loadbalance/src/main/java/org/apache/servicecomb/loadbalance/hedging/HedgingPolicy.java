@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.loadbalance.hedging;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.servicecomb.loadbalance.Configuration;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * <pre>
+ * hedging statistics and budget of one operation
+ *
+ * delay: the configured percentile of latency of recent invocations, not less than min delay
+ * budget: every request earns maxExtraLoadPercent/100 token, every hedged request costs one token,
+ *   so hedged requests never exceed maxExtraLoadPercent of all requests in the long run
+ * </pre>
+ */
+public class HedgingPolicy {
+  // must be power of 2
+  static final int SAMPLE_SIZE = 1024;
+
+  // use min delay until collected enough samples
+  static final int MIN_SAMPLES = 100;
+
+  static final long DELAY_REFRESH_INTERVAL = 1000;
+
+  // budget is measured in thousandths of request
+  static final long TOKEN_UNIT = 1000;
+
+  // allow a small burst of hedged requests
+  static final long MAX_TOKENS = 10 * TOKEN_UNIT;
+
+  private final String microserviceName;
+
+  private final String schemaOperation;
+
+  private final String microserviceQualifiedName;
+
+  private final AtomicLongArray samples = new AtomicLongArray(SAMPLE_SIZE);
+
+  private final AtomicLong sampleCount = new AtomicLong();
+
+  private final AtomicBoolean refreshing = new AtomicBoolean();
+
+  private volatile long percentileLatency = -1;
+
+  private volatile long lastRefreshTime;
+
+  private final AtomicLong tokens = new AtomicLong();
+
+  private final LongAdder requests = new LongAdder();
+
+  private final LongAdder hedgedRequests = new LongAdder();
+
+  private final LongAdder hedgeWins = new LongAdder();
+
+  private final LongAdder budgetExhausted = new LongAdder();
+
+  public HedgingPolicy(String microserviceName, String schemaOperation, String microserviceQualifiedName) {
+    this.microserviceName = microserviceName;
+    this.schemaOperation = schemaOperation;
+    this.microserviceQualifiedName = microserviceQualifiedName;
+  }
+
+  public String getMicroserviceQualifiedName() {
+    return microserviceQualifiedName;
+  }
+
+  public void onRequest() {
+    requests.increment();
+
+    long earned = Configuration.INSTANCE.getHedgingMaxExtraLoadPercent(microserviceName, schemaOperation)
+        * TOKEN_UNIT / 100;
+    if (earned == 0) {
+      return;
+    }
+    tokens.getAndUpdate(current -> Math.min(MAX_TOKENS, current + earned));
+  }
+
+  public boolean tryAcquireHedge() {
+    for (; ; ) {
+      long current = tokens.get();
+      if (current < TOKEN_UNIT) {
+        budgetExhausted.increment();
+        return false;
+      }
+      if (tokens.compareAndSet(current, current - TOKEN_UNIT)) {
+        hedgedRequests.increment();
+        return true;
+      }
+    }
+  }
+
+  public void onHedgeWin() {
+    hedgeWins.increment();
+  }
+
+  public void recordLatency(long latency) {
+    long idx = sampleCount.getAndIncrement();
+    samples.lazySet((int) (idx & (SAMPLE_SIZE - 1)), latency);
+  }
+
+  public long getHedgingDelay() {
+    return getHedgingDelay(System.currentTimeMillis());
+  }
+
+  @VisibleForTesting
+  long getHedgingDelay(long now) {
+    long minDelay = Configuration.INSTANCE.getHedgingMinDelay(microserviceName, schemaOperation);
+    if (now - lastRefreshTime >= DELAY_REFRESH_INTERVAL && refreshing.compareAndSet(false, true)) {
+      try {
+        percentileLatency = computePercentileLatency();
+        lastRefreshTime = now;
+      } finally {
+        refreshing.set(false);
+      }
+    }
+
+    return Math.max(minDelay, percentileLatency);
+  }
+
+  private long computePercentileLatency() {
+    int count = (int) Math.min(sampleCount.get(), SAMPLE_SIZE);
+    if (count < MIN_SAMPLES) {
+      return -1;
+    }
+
+    long[] sorted = new long[count];
+    for (int idx = 0; idx < count; idx++) {
+      sorted[idx] = samples.get(idx);
+    }
+    Arrays.sort(sorted);
+
+    int percentile = Configuration.INSTANCE.getHedgingPercentile(microserviceName, schemaOperation);
+    int idx = (int) Math.ceil(percentile * count / 100.0) - 1;
+    return sorted[Math.max(0, idx)];
+  }
+
+  public long getRequests() {
+    return requests.sum();
+  }
+
+  public long getHedgedRequests() {
+    return hedgedRequests.sum();
+  }
+
+  public long getHedgeWins() {
+    return hedgeWins.sum();
+  }
+
+  public long getBudgetExhausted() {
+    return budgetExhausted.sum();
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.loadbalance.hedging;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.apache.servicecomb.core.definition.OperationMeta;
+import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
+
+public class HedgingPolicyManager {
+  public static final HedgingPolicyManager INSTANCE = new HedgingPolicyManager();
+
+  // key is microserviceQualifiedName
+  private final Map<String, HedgingPolicy> policies = new ConcurrentHashMapEx<>();
+
+  private volatile Consumer<HedgingPolicy> policyCreatedListener;
+
+  public HedgingPolicy getOrCreatePolicy(OperationMeta operationMeta) {
+    return policies.computeIfAbsent(operationMeta.getMicroserviceQualifiedName(), name -> {
+      HedgingPolicy policy = new HedgingPolicy(operationMeta.getMicroserviceName(),
+          operationMeta.getSchemaQualifiedName(), name);
+      Consumer<HedgingPolicy> listener = policyCreatedListener;
+      if (listener != null) {
+        listener.accept(policy);
+      }
+      return policy;
+    });
+  }
+
+  public Collection<HedgingPolicy> getPolicies() {
+    return policies.values();
+  }
+
+  /**
+   * listener is invoked for existing and new created policies
+   */
+  public synchronized void setPolicyCreatedListener(Consumer<HedgingPolicy> policyCreatedListener) {
+    this.policyCreatedListener = policyCreatedListener;
+    if (policyCreatedListener != null) {
+      policies.values().forEach(policyCreatedListener);
+    }
+  }
+}
@@ -23,6 +23,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.servicecomb.config.ConfigUtil;
 import org.apache.servicecomb.core.Endpoint;
@@ -44,6 +47,8 @@ import org.apache.servicecomb.loadbalance.event.IsolationServerEvent;
 import org.apache.servicecomb.loadbalance.filter.IsolationDiscoveryFilter;
 import org.apache.servicecomb.loadbalance.filter.ServerDiscoveryFilter;
 import org.apache.servicecomb.loadbalance.filter.ZoneAwareDiscoveryFilter;
+import org.apache.servicecomb.loadbalance.hedging.HedgingPolicy;
+import org.apache.servicecomb.loadbalance.hedging.HedgingPolicyManager;
 import org.apache.servicecomb.localregistry.LocalRegistryStore;
 import org.apache.servicecomb.registry.DiscoveryManager;
 import org.apache.servicecomb.registry.api.registry.DataCenterInfo;
@@ -53,6 +58,7 @@ import org.apache.servicecomb.registry.cache.InstanceCacheManager;
 import org.apache.servicecomb.registry.discovery.DiscoveryTree;
 import org.apache.servicecomb.registry.discovery.DiscoveryTreeNode;
 import org.apache.servicecomb.swagger.invocation.AsyncResponse;
+import org.apache.servicecomb.swagger.invocation.Response;
 import org.apache.servicecomb.swagger.invocation.exception.InvocationException;
 import org.junit.After;
 import org.junit.AfterClass;
@@ -938,6 +944,122 @@ public class TestLoadBalanceHandler2 {
     Assert.assertTrue(ServiceCombServerStats.isolatedServerCanTry());
   }
 
+  /**
+   * First request gets no response in hedging delay, hedged request to another instance wins,
+   * and the late response of the first request is dropped.
+   */
+  @Test
+  public void hedged_request_wins() throws Exception {
+    ArchaiusUtils.setProperty("servicecomb.loadbalance.hedging.enabled", true);
+    ArchaiusUtils.setProperty("servicecomb.loadbalance.hedging.maxExtraLoadPercent", 100);
+
+    try {
+      ArrayList<ServiceCombServer> servers = new ArrayList<>();
+      servers.add(createMockedServer("instanceId0", "rest://127.0.0.1:8080"));
+      servers.add(createMockedServer("instanceId1", "rest://127.0.0.1:8081"));
+      LoadbalanceHandler handler = new LoadbalanceHandler(createMockedDiscoveryTree(servers));
+
+      OperationMeta operationMeta = Mockito.mock(OperationMeta.class);
+      when(operationMeta.getMicroserviceName()).thenReturn("testMicroserviceName");
+      when(operationMeta.getSchemaQualifiedName()).thenReturn("schema.hedging");
+      when(operationMeta.getMicroserviceQualifiedName()).thenReturn("testMicroserviceName.schema.hedging");
+
+      List<AsyncResponse> slowResponses = new CopyOnWriteArrayList<>();
+      List<String> endpoints = new CopyOnWriteArrayList<>();
+      List<Invocation> attempts = new CopyOnWriteArrayList<>();
+      Invocation invocation = new NonSwaggerInvocation("testApp", "testMicroserviceName", "0.0.0+",
+          (inv, aysnc) -> {
+            attempts.add(inv);
+            endpoints.add(inv.getEndpoint().getEndpoint());
+            if (endpoints.size() == 1) {
+              slowResponses.add(aysnc);
+              return;
+            }
+            aysnc.success(inv.getEndpoint().getEndpoint());
+          }) {
+        @Override
+        public OperationMeta getOperationMeta() {
+          return operationMeta;
+        }
+      };
+
+      List<Response> responses = new CopyOnWriteArrayList<>();
+      CountDownLatch latch = new CountDownLatch(1);
+      handler.handle(invocation, response -> {
+        responses.add(response);
+        latch.countDown();
+      });
+
+      Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+      Assert.assertEquals(2, endpoints.size());
+      Assert.assertNotEquals(endpoints.get(0), endpoints.get(1));
+      Assert.assertEquals(endpoints.get(1), responses.get(0).getResult());
+      // every request has its own invocation, the winner is merged back
+      Assert.assertNotSame(invocation, attempts.get(0));
+      Assert.assertNotSame(invocation, attempts.get(1));
+      Assert.assertNotSame(attempts.get(0), attempts.get(1));
+      Assert.assertEquals(endpoints.get(1), invocation.getEndpoint().getEndpoint());
+
+      slowResponses.get(0).success("late");
+      Assert.assertEquals(1, responses.size());
+
+      HedgingPolicy policy = HedgingPolicyManager.INSTANCE.getOrCreatePolicy(operationMeta);
+      Assert.assertEquals(1, policy.getHedgedRequests());
+      Assert.assertEquals(1, policy.getHedgeWins());
+    } finally {
+      ArchaiusUtils.setProperty("servicecomb.loadbalance.hedging.enabled", null);
+      ArchaiusUtils.setProperty("servicecomb.loadbalance.hedging.maxExtraLoadPercent", null);
+    }
+  }
+
+  /**
+   * First request throws synchronously, the failure is the only response and no hedged request is sent.
+   */
+  @Test
+  public void hedged_first_send_throws() throws Exception {
+    ArchaiusUtils.setProperty("servicecomb.loadbalance.hedging.enabled", true);
+    ArchaiusUtils.setProperty("servicecomb.loadbalance.hedging.maxExtraLoadPercent", 100);
+
+    try {
+      ArrayList<ServiceCombServer> servers = new ArrayList<>();
+      servers.add(createMockedServer("instanceId0", "rest://127.0.0.1:8080"));
+      servers.add(createMockedServer("instanceId1", "rest://127.0.0.1:8081"));
+      LoadbalanceHandler handler = new LoadbalanceHandler(createMockedDiscoveryTree(servers));
+
+      OperationMeta operationMeta = Mockito.mock(OperationMeta.class);
+      when(operationMeta.getMicroserviceName()).thenReturn("testMicroserviceName");
+      when(operationMeta.getSchemaQualifiedName()).thenReturn("schema.hedgingSendThrows");
+      when(operationMeta.getMicroserviceQualifiedName()).thenReturn("testMicroserviceName.schema.hedgingSendThrows");
+
+      List<String> endpoints = new CopyOnWriteArrayList<>();
+      Invocation invocation = new NonSwaggerInvocation("testApp", "testMicroserviceName", "0.0.0+",
+          (inv, aysnc) -> {
+            endpoints.add(inv.getEndpoint().getEndpoint());
+            throw new IllegalStateException("send failed");
+          }) {
+        @Override
+        public OperationMeta getOperationMeta() {
+          return operationMeta;
+        }
+      };
+
+      List<Response> responses = new CopyOnWriteArrayList<>();
+      handler.handle(invocation, responses::add);
+
+      // longer than the min hedging delay
+      Thread.sleep(200);
+      Assert.assertEquals(1, endpoints.size());
+      Assert.assertEquals(1, responses.size());
+      Assert.assertTrue(responses.get(0).isFailed());
+
+      HedgingPolicy policy = HedgingPolicyManager.INSTANCE.getOrCreatePolicy(operationMeta);
+      Assert.assertEquals(0, policy.getHedgedRequests());
+    } finally {
+      ArchaiusUtils.setProperty("servicecomb.loadbalance.hedging.enabled", null);
+      ArchaiusUtils.setProperty("servicecomb.loadbalance.hedging.maxExtraLoadPercent", null);
+    }
+  }
+
   /**
    * Mock the statistics of the specified {@code serviceCombServer}, set the failureCount and status.
    * @return the ServiceCombServerStats object corresponding to the param {@code serviceCombServer}
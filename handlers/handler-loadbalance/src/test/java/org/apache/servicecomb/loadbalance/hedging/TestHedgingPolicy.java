@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.loadbalance.hedging;
+
+import org.apache.servicecomb.config.ConfigUtil;
+import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
+import org.apache.servicecomb.loadbalance.Configuration;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestHedgingPolicy {
+  HedgingPolicy policy = new HedgingPolicy("ms", "schema.op", "ms.schema.op");
+
+  @Before
+  public void setUp() {
+    ConfigUtil.installDynamicConfig();
+  }
+
+  @After
+  public void tearDown() {
+    ArchaiusUtils.resetConfig();
+  }
+
+  @Test
+  public void enabled() {
+    Assert.assertFalse(Configuration.INSTANCE.isHedgingEnabled("ms", "schema.op"));
+
+    ArchaiusUtils.setProperty("servicecomb.loadbalance.ms.hedging.enabled", "true");
+    Assert.assertTrue(Configuration.INSTANCE.isHedgingEnabled("ms", "schema.op"));
+
+    ArchaiusUtils.setProperty("servicecomb.loadbalance.ms.schema.op.hedging.enabled", "false");
+    Assert.assertFalse(Configuration.INSTANCE.isHedgingEnabled("ms", "schema.op"));
+  }
+
+  @Test
+  public void budget() {
+    // default 10%, every 10 requests earn one hedge
+    for (int idx = 0; idx < 9; idx++) {
+      policy.onRequest();
+    }
+    Assert.assertFalse(policy.tryAcquireHedge());
+
+    policy.onRequest();
+    Assert.assertTrue(policy.tryAcquireHedge());
+    Assert.assertFalse(policy.tryAcquireHedge());
+
+    Assert.assertEquals(10, policy.getRequests());
+    Assert.assertEquals(1, policy.getHedgedRequests());
+    Assert.assertEquals(2, policy.getBudgetExhausted());
+  }
+
+  @Test
+  public void budget_limitBurst() {
+    ArchaiusUtils.setProperty("servicecomb.loadbalance.hedging.maxExtraLoadPercent", "100");
+    for (int idx = 0; idx < 100; idx++) {
+      policy.onRequest();
+    }
+
+    int hedged = 0;
+    while (policy.tryAcquireHedge()) {
+      hedged++;
+    }
+    Assert.assertEquals(HedgingPolicy.MAX_TOKENS / HedgingPolicy.TOKEN_UNIT, hedged);
+  }
+
+  @Test
+  public void budget_disabled() {
+    ArchaiusUtils.setProperty("servicecomb.loadbalance.hedging.maxExtraLoadPercent", "0");
+    for (int idx = 0; idx < 100; idx++) {
+      policy.onRequest();
+    }
+    Assert.assertFalse(policy.tryAcquireHedge());
+  }
+
+  @Test
+  public void delay_notEnoughSamples() {
+    policy.recordLatency(1000);
+    Assert.assertEquals(10, policy.getHedgingDelay(System.currentTimeMillis()));
+  }
+
+  @Test
+  public void delay_percentile() {
+    for (int idx = 1; idx <= 200; idx++) {
+      policy.recordLatency(idx);
+    }
+
+    long now = System.currentTimeMillis();
+    Assert.assertEquals(190, policy.getHedgingDelay(now));
+
+    ArchaiusUtils.setProperty("servicecomb.loadbalance.hedging.percentile", "50");
+    // not refreshed in refresh interval
+    Assert.assertEquals(190, policy.getHedgingDelay(now + 1));
+    Assert.assertEquals(100, policy.getHedgingDelay(now + HedgingPolicy.DELAY_REFRESH_INTERVAL));
+  }
+
+  @Test
+  public void delay_notLessThanMinDelay() {
+    for (int idx = 0; idx < 200; idx++) {
+      policy.recordLatency(1);
+    }
+    ArchaiusUtils.setProperty("servicecomb.loadbalance.hedging.minDelayInMilliseconds", "20");
+    Assert.assertEquals(20, policy.getHedgingDelay(System.currentTimeMillis()));
+  }
+}
@@ -49,10 +49,12 @@ import org.apache.servicecomb.config.ConfigUtil;
 import org.apache.servicecomb.config.priority.PriorityProperty;
 import org.apache.servicecomb.config.priority.PriorityPropertyFactory;
 import org.apache.servicecomb.core.Const;
+import org.apache.servicecomb.core.Invocation;
 import org.apache.servicecomb.core.SCBEngine;
 import org.apache.servicecomb.core.Transport;
 import org.apache.servicecomb.foundation.common.part.InputStreamPart;
 import org.apache.servicecomb.foundation.common.utils.ClassLoaderScopeContext;
+import org.apache.servicecomb.foundation.vertx.http.HttpServletRequestEx;
 import org.apache.servicecomb.inspector.internal.model.DynamicPropertyView;
 import org.apache.servicecomb.inspector.internal.model.PriorityPropertyView;
 import org.apache.servicecomb.inspector.internal.swagger.AppendStyleProcessor;
@@ -61,6 +63,8 @@ import org.apache.servicecomb.registry.RegistrationManager;
 import org.apache.servicecomb.registry.definition.DefinitionConst;
 import org.apache.servicecomb.swagger.SwaggerUtils;
 import org.apache.servicecomb.swagger.invocation.Response;
+import org.apache.servicecomb.swagger.invocation.context.ContextUtils;
+import org.apache.servicecomb.swagger.invocation.context.InvocationContext;
 import org.apache.servicecomb.swagger.invocation.exception.InvocationException;
 import org.asciidoctor.Asciidoctor;
 import org.asciidoctor.Asciidoctor.Factory;
@@ -264,7 +268,21 @@ public class InspectorImpl {
   @GET
   @ApiResponse(code = 200, message = "", response = File.class)
   public Response getStaticResource(@PathParam("path") String path) {
-    return resourceHandler.handle(path);
+    // conditional and encoding headers are not part of the schema, read them from the raw request
+    HttpServletRequestEx requestEx = findRequestEx();
+    if (requestEx == null) {
+      return resourceHandler.handle(path);
+    }
+
+    return resourceHandler.handle(path,
+        requestEx.getHeader(HttpHeaders.IF_NONE_MATCH),
+        requestEx.getHeader(HttpHeaders.IF_MODIFIED_SINCE),
+        requestEx.getHeader(HttpHeaders.ACCEPT_ENCODING));
+  }
+
+  private HttpServletRequestEx findRequestEx() {
+    InvocationContext context = ContextUtils.getInvocationContext();
+    return context instanceof Invocation ? ((Invocation) context).getRequestEx() : null;
   }
 
   @Path("/dynamicProperties")
@@ -38,6 +38,7 @@ import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.servicecomb.config.ConfigUtil;
 import org.apache.servicecomb.config.priority.PriorityPropertyFactory;
+import org.apache.servicecomb.core.Invocation;
 import org.apache.servicecomb.core.SCBEngine;
 import org.apache.servicecomb.core.Transport;
 import org.apache.servicecomb.core.bootstrap.SCBBootstrap;
@@ -45,6 +46,7 @@ import org.apache.servicecomb.foundation.common.utils.ClassLoaderScopeContext;
 import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
 import org.apache.servicecomb.foundation.test.scaffolding.exception.RuntimeExceptionWithoutStackTrace;
 import org.apache.servicecomb.foundation.test.scaffolding.log.LogCollector;
+import org.apache.servicecomb.foundation.vertx.http.HttpServletRequestEx;
 import org.apache.servicecomb.inspector.internal.model.DynamicPropertyView;
 import org.apache.servicecomb.inspector.internal.model.PriorityPropertyView;
 import org.apache.servicecomb.inspector.internal.swagger.SchemaFormat;
@@ -52,6 +54,7 @@ import org.apache.servicecomb.registry.RegistrationManager;
 import org.apache.servicecomb.registry.api.registry.Microservice;
 import org.apache.servicecomb.registry.definition.DefinitionConst;
 import org.apache.servicecomb.swagger.invocation.Response;
+import org.apache.servicecomb.swagger.invocation.context.ContextUtils;
 import org.apache.servicecomb.swagger.invocation.exception.CommonExceptionData;
 import org.apache.servicecomb.swagger.invocation.exception.InvocationException;
 import org.apache.servicecomb.transport.rest.servlet.ServletRestTransport;
@@ -326,6 +329,29 @@ public class TestInspectorImpl {
     }
   }
 
+  @Test
+  public void getStaticResource_notModified(@Mocked Invocation invocation, @Mocked HttpServletRequestEx requestEx) {
+    String etag = inspector.getStaticResource("index.html").getHeader(HttpHeaders.ETAG);
+    new Expectations() {
+      {
+        invocation.getRequestEx();
+        result = requestEx;
+        requestEx.getHeader(HttpHeaders.IF_NONE_MATCH);
+        result = etag;
+      }
+    };
+
+    ContextUtils.setInvocationContext(invocation);
+    try {
+      Response response = inspector.getStaticResource("index.html");
+
+      Assert.assertEquals(304, response.getStatusCode());
+      Assert.assertEquals(etag, response.getHeader(HttpHeaders.ETAG));
+    } finally {
+      ContextUtils.removeInvocationContext();
+    }
+  }
+
   @Test
   public void dynamicProperties() {
     DynamicProperty.getInstance("zzz");
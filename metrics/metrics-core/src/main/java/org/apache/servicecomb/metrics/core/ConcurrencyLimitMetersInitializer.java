@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.metrics.core;
+
+import org.apache.servicecomb.core.filter.impl.AdaptiveConcurrencyLimitFilter;
+import org.apache.servicecomb.foundation.common.utils.BeanUtils;
+import org.apache.servicecomb.foundation.metrics.MetricsBootstrapConfig;
+import org.apache.servicecomb.foundation.metrics.MetricsInitializer;
+import org.apache.servicecomb.foundation.metrics.registry.GlobalRegistry;
+import org.apache.servicecomb.metrics.core.meter.ConcurrencyLimitMeter;
+import org.apache.servicecomb.swagger.invocation.InvocationType;
+
+import com.google.common.eventbus.EventBus;
+import com.netflix.spectator.api.Id;
+import com.netflix.spectator.api.Registry;
+import com.netflix.spectator.api.SpectatorUtils;
+
+public class ConcurrencyLimitMetersInitializer implements MetricsInitializer {
+  public static final String CONCURRENCY_LIMIT = "servicecomb.concurrency.limit";
+
+  public static final String TYPE = "type";
+
+  @Override
+  public void init(GlobalRegistry globalRegistry, EventBus eventBus, MetricsBootstrapConfig config) {
+    if (BeanUtils.getContext() == null) {
+      return;
+    }
+
+    Registry registry = globalRegistry.getDefaultRegistry();
+    Id id = registry.createId(CONCURRENCY_LIMIT);
+    for (AdaptiveConcurrencyLimitFilter filter : BeanUtils.getContext()
+        .getBeansOfType(AdaptiveConcurrencyLimitFilter.class).values()) {
+      for (InvocationType invocationType : InvocationType.values()) {
+        SpectatorUtils.registerMeter(registry, new ConcurrencyLimitMeter(
+            id.withTag(TYPE, invocationType.name().toLowerCase()), filter.getLimiters(invocationType)));
+      }
+    }
+  }
+}
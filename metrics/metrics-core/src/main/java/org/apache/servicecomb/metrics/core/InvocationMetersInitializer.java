@@ -17,8 +17,8 @@
 package org.apache.servicecomb.metrics.core;
 
 import org.apache.servicecomb.core.Invocation;
-import org.apache.servicecomb.core.event.InvocationFinishEvent;
-import org.apache.servicecomb.core.event.InvocationStartEvent;
+import org.apache.servicecomb.core.invocation.InvocationLifecycleListener;
+import org.apache.servicecomb.core.invocation.InvocationLifecycleListeners;
 import org.apache.servicecomb.foundation.metrics.MetricsBootstrapConfig;
 import org.apache.servicecomb.foundation.metrics.MetricsInitializer;
 import org.apache.servicecomb.foundation.metrics.registry.GlobalRegistry;
@@ -26,13 +26,15 @@ import org.apache.servicecomb.metrics.core.meter.ConsumerMeters;
 import org.apache.servicecomb.metrics.core.meter.EdgeMeters;
 import org.apache.servicecomb.metrics.core.meter.ProducerMeters;
 import org.apache.servicecomb.metrics.core.meter.invocation.AbstractInvocationMeters;
+import org.apache.servicecomb.swagger.invocation.Response;
 
-import com.google.common.eventbus.AllowConcurrentEvents;
 import com.google.common.eventbus.EventBus;
-import com.google.common.eventbus.Subscribe;
 import com.netflix.spectator.api.Registry;
 
-public class InvocationMetersInitializer implements MetricsInitializer {
+/**
+ * record invocation meters directly from the invocation lifecycle, not depend on invocation events
+ */
+public class InvocationMetersInitializer implements MetricsInitializer, InvocationLifecycleListener {
   private ConsumerMeters consumerMeters;
 
   private ProducerMeters producerMeters;
@@ -47,7 +49,17 @@ public class InvocationMetersInitializer implements MetricsInitializer {
     producerMeters = new ProducerMeters(registry);
     edgeMeters = new EdgeMeters(registry);
 
-    eventBus.register(this);
+    InvocationLifecycleListeners.register(this);
+  }
+
+  @Override
+  public void destroy() {
+    InvocationLifecycleListeners.unregister(this);
+  }
+
+  @Override
+  public int getOrder() {
+    return MetricsInitializer.super.getOrder();
   }
 
   protected AbstractInvocationMeters findInvocationMeters(Invocation invocation) {
@@ -61,17 +73,9 @@ public class InvocationMetersInitializer implements MetricsInitializer {
     return producerMeters.getInvocationMeters();
   }
 
-  @Subscribe
-  @AllowConcurrentEvents
-  public void onInvocationStart(InvocationStartEvent event) {
-    AbstractInvocationMeters invocationMeters = findInvocationMeters(event.getInvocation());
-    invocationMeters.onInvocationStart(event);
-  }
-
-  @Subscribe
-  @AllowConcurrentEvents
-  public void onInvocationFinish(InvocationFinishEvent event) {
-    AbstractInvocationMeters invocationMeters = findInvocationMeters(event.getInvocation());
-    invocationMeters.onInvocationFinish(event);
+  @Override
+  public void onFinish(Invocation invocation, Response response) {
+    AbstractInvocationMeters invocationMeters = findInvocationMeters(invocation);
+    invocationMeters.onInvocationFinish(invocation, response);
   }
 }
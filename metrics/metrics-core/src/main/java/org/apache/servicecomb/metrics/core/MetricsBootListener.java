@@ -54,12 +54,15 @@ public class MetricsBootListener implements BootListener {
 
   @Override
   public void onAfterRegistry(BootEvent event) {
-    slowInvocationLogger = new SlowInvocationLogger(event.getScbEngine());
+    slowInvocationLogger = new SlowInvocationLogger();
     metricsBootstrap.start(new GlobalRegistry(), EventManager.getEventBus());
   }
 
   @Override
   public void onBeforeClose(BootEvent event) {
+    if (slowInvocationLogger != null) {
+      slowInvocationLogger.destroy();
+    }
     metricsBootstrap.shutdown();
   }
 }
@@ -26,6 +26,7 @@ import org.apache.servicecomb.core.SCBEngine;
 import org.apache.servicecomb.core.definition.MicroserviceMeta;
 import org.apache.servicecomb.core.definition.OperationMeta;
 import org.apache.servicecomb.core.executor.GroupExecutor;
+import org.apache.servicecomb.core.executor.PriorityBlockingQueueEx;
 import org.apache.servicecomb.core.executor.ThreadPoolExecutorEx;
 import org.apache.servicecomb.foundation.common.utils.BeanUtils;
 import org.apache.servicecomb.foundation.metrics.MetricsBootstrapConfig;
@@ -42,6 +43,8 @@ import com.netflix.spectator.api.patterns.ThreadPoolMonitor;
 public class ThreadPoolMetersInitializer implements MetricsInitializer {
   public static String REJECTED_COUNT = "threadpool.rejectedCount";
 
+  public static String SHED_COUNT = "threadpool.shedCount";
+
   private Registry registry;
 
   @Override
@@ -102,6 +105,14 @@ public class ThreadPoolMetersInitializer implements MetricsInitializer {
           .withName(REJECTED_COUNT)
           .withTag(idTag)
           .monitorMonotonicCounter((ThreadPoolExecutorEx) executor, ThreadPoolExecutorEx::getRejectedCount);
+
+      if (((ThreadPoolExecutorEx) executor).getQueue() instanceof PriorityBlockingQueueEx) {
+        PolledMeter.using(registry)
+            .withName(SHED_COUNT)
+            .withTag(idTag)
+            .monitorMonotonicCounter((PriorityBlockingQueueEx) ((ThreadPoolExecutorEx) executor).getQueue(),
+                PriorityBlockingQueueEx::getShedCount);
+      }
     }
   }
 }
@@ -20,8 +20,13 @@ import org.apache.servicecomb.foundation.metrics.MetricsBootstrapConfig;
 import org.apache.servicecomb.foundation.metrics.MetricsInitializer;
 import org.apache.servicecomb.foundation.metrics.registry.GlobalRegistry;
 import org.apache.servicecomb.foundation.vertx.SharedVertxFactory;
+import org.apache.servicecomb.foundation.vertx.client.http.HttpClients;
+import org.apache.servicecomb.foundation.vertx.client.tcp.AbstractTcpClientConnectionPool;
+import org.apache.servicecomb.metrics.core.meter.vertx.Http2ConnectionsMeter;
 import org.apache.servicecomb.metrics.core.meter.vertx.HttpClientEndpointsMeter;
 import org.apache.servicecomb.metrics.core.meter.vertx.ServerEndpointsMeter;
+import org.apache.servicecomb.metrics.core.meter.vertx.TcpClientConnectionsMeter;
+import org.apache.servicecomb.metrics.core.meter.vertx.TcpWriteBatchMeter;
 import org.apache.servicecomb.metrics.core.meter.vertx.VertxEndpointsMeter;
 
 import com.google.common.eventbus.EventBus;
@@ -32,6 +37,12 @@ import com.netflix.spectator.api.SpectatorUtils;
 public class VertxMetersInitializer implements MetricsInitializer {
   public static final String VERTX_ENDPOINTS = "servicecomb.vertx.endpoints";
 
+  public static final String VERTX_HTTP2_CONNECTIONS = "servicecomb.vertx.http2.connections";
+
+  public static final String VERTX_TCP_WRITE_BATCH = "servicecomb.vertx.tcp.writeBatch";
+
+  public static final String VERTX_TCP_CLIENT_CONNECTIONS = "servicecomb.vertx.tcp.client.connections";
+
   public static final String ENDPOINTS_TYPE = "type";
 
   public static final String ENDPOINTS_CLINET = "client";
@@ -57,5 +68,12 @@ public class VertxMetersInitializer implements MetricsInitializer {
             .getVertxMetrics()
             .getServerEndpointMetricMap());
     SpectatorUtils.registerMeter(registry, serverMeter);
+
+    SpectatorUtils.registerMeter(registry,
+        new Http2ConnectionsMeter(registry.createId(VERTX_HTTP2_CONNECTIONS), HttpClients.getHttp2ClientPools()));
+
+    SpectatorUtils.registerMeter(registry, new TcpWriteBatchMeter(registry.createId(VERTX_TCP_WRITE_BATCH)));
+    SpectatorUtils.registerMeter(registry, new TcpClientConnectionsMeter(
+        registry.createId(VERTX_TCP_CLIENT_CONNECTIONS), AbstractTcpClientConnectionPool.getPools()));
   }
 }
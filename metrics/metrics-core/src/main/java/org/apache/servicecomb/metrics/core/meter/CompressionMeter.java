@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.metrics.core.meter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.servicecomb.common.rest.compression.CompressionPolicy;
+import org.apache.servicecomb.foundation.metrics.meter.AbstractPeriodMeter;
+
+import com.netflix.spectator.api.Id;
+import com.netflix.spectator.api.Measurement;
+
+/**
+ * statistics of body compressed by servicecomb in the last period, not include compressed by vertx
+ */
+public class CompressionMeter extends AbstractPeriodMeter {
+  public static final String STATISTIC = "statistic";
+
+  public static final String COUNT = "count";
+
+  // compressed bytes / original bytes
+  public static final String RATIO = "ratio";
+
+  // milliseconds
+  public static final String AVERAGE_CPU_TIME = "averageCpuTime";
+
+  private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final CompressionPolicy policy;
+
+  private long lastCompressed;
+
+  private long lastOriginalBytes;
+
+  private long lastCompressedBytes;
+
+  private long lastCompressNanos;
+
+  public CompressionMeter(Id id, CompressionPolicy policy) {
+    this.id = id;
+    this.policy = policy;
+    this.lastCompressed = policy.getCompressed();
+    this.lastOriginalBytes = policy.getOriginalBytes();
+    this.lastCompressedBytes = policy.getCompressedBytes();
+    this.lastCompressNanos = policy.getCompressNanos();
+  }
+
+  @Override
+  public void calcMeasurements(long msNow, long secondInterval) {
+    List<Measurement> measurements = new ArrayList<>();
+    calcMeasurements(measurements, msNow, secondInterval);
+    allMeasurements = measurements;
+  }
+
+  @Override
+  public void calcMeasurements(List<Measurement> measurements, long msNow, long secondInterval) {
+    long compressed = policy.getCompressed();
+    long originalBytes = policy.getOriginalBytes();
+    long compressedBytes = policy.getCompressedBytes();
+    long compressNanos = policy.getCompressNanos();
+    long periodCompressed = compressed - lastCompressed;
+    long periodOriginalBytes = originalBytes - lastOriginalBytes;
+    long periodCompressedBytes = compressedBytes - lastCompressedBytes;
+    long periodCompressNanos = compressNanos - lastCompressNanos;
+    lastCompressed = compressed;
+    lastOriginalBytes = originalBytes;
+    lastCompressedBytes = compressedBytes;
+    lastCompressNanos = compressNanos;
+
+    measurements.add(new Measurement(id.withTag(STATISTIC, COUNT), msNow, periodCompressed));
+    measurements.add(new Measurement(id.withTag(STATISTIC, RATIO), msNow,
+        periodOriginalBytes == 0 ? 0 : (double) periodCompressedBytes / periodOriginalBytes));
+    measurements.add(new Measurement(id.withTag(STATISTIC, AVERAGE_CPU_TIME), msNow,
+        periodCompressed == 0 ? 0 : (double) periodCompressNanos / periodCompressed / NANOS_PER_MILLI));
+  }
+}
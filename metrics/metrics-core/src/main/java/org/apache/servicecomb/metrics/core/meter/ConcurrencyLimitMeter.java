@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.metrics.core.meter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.apache.servicecomb.core.filter.impl.GradientConcurrencyLimiter;
+import org.apache.servicecomb.foundation.metrics.meter.AbstractPeriodMeter;
+
+import com.netflix.spectator.api.Id;
+import com.netflix.spectator.api.Measurement;
+
+public class ConcurrencyLimitMeter extends AbstractPeriodMeter {
+  public static final String OPERATION = "operation";
+
+  public static final String STATISTIC = "statistic";
+
+  public static final String LIMIT = "limit";
+
+  public static final String INFLIGHT = "inflight";
+
+  public static final String REJECTED = "rejected";
+
+  private final Map<String, GradientConcurrencyLimiter> limiters;
+
+  public ConcurrencyLimitMeter(Id id, Map<String, GradientConcurrencyLimiter> limiters) {
+    this.id = id;
+    this.limiters = limiters;
+  }
+
+  @Override
+  public void calcMeasurements(long msNow, long secondInterval) {
+    List<Measurement> measurements = new ArrayList<>();
+    calcMeasurements(measurements, msNow, secondInterval);
+    allMeasurements = measurements;
+  }
+
+  @Override
+  public void calcMeasurements(List<Measurement> measurements, long msNow, long secondInterval) {
+    for (Entry<String, GradientConcurrencyLimiter> entry : limiters.entrySet()) {
+      Id operationId = id.withTag(OPERATION, entry.getKey());
+      GradientConcurrencyLimiter limiter = entry.getValue();
+
+      measurements.add(new Measurement(operationId.withTag(STATISTIC, LIMIT), msNow, limiter.getLimit()));
+      measurements.add(new Measurement(operationId.withTag(STATISTIC, INFLIGHT), msNow, limiter.getInflight()));
+      measurements.add(new Measurement(operationId.withTag(STATISTIC, REJECTED), msNow, limiter.getRejected()));
+    }
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.metrics.core.meter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.apache.servicecomb.core.filter.impl.ResponseCache;
+import org.apache.servicecomb.foundation.metrics.meter.AbstractPeriodMeter;
+
+import com.netflix.spectator.api.Id;
+import com.netflix.spectator.api.Measurement;
+
+public class ResponseCacheMeter extends AbstractPeriodMeter {
+  public static final String OPERATION = "operation";
+
+  public static final String STATISTIC = "statistic";
+
+  public static final String HITS = "hits";
+
+  public static final String MISSES = "misses";
+
+  public static final String SIZE = "size";
+
+  private final Map<String, ResponseCache> caches;
+
+  public ResponseCacheMeter(Id id, Map<String, ResponseCache> caches) {
+    this.id = id;
+    this.caches = caches;
+  }
+
+  @Override
+  public void calcMeasurements(long msNow, long secondInterval) {
+    List<Measurement> measurements = new ArrayList<>();
+    calcMeasurements(measurements, msNow, secondInterval);
+    allMeasurements = measurements;
+  }
+
+  @Override
+  public void calcMeasurements(List<Measurement> measurements, long msNow, long secondInterval) {
+    for (Entry<String, ResponseCache> entry : caches.entrySet()) {
+      Id operationId = id.withTag(OPERATION, entry.getKey());
+      ResponseCache cache = entry.getValue();
+
+      measurements.add(new Measurement(operationId.withTag(STATISTIC, HITS), msNow, cache.getHits()));
+      measurements.add(new Measurement(operationId.withTag(STATISTIC, MISSES), msNow, cache.getMisses()));
+      measurements.add(new Measurement(operationId.withTag(STATISTIC, SIZE), msNow, cache.getSize()));
+    }
+  }
+}
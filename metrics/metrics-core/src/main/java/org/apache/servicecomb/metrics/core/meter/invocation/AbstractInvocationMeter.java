@@ -19,11 +19,12 @@ package org.apache.servicecomb.metrics.core.meter.invocation;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.apache.servicecomb.core.event.InvocationFinishEvent;
+import org.apache.servicecomb.core.Invocation;
 import org.apache.servicecomb.core.invocation.InvocationStageTrace;
 import org.apache.servicecomb.foundation.metrics.meter.AbstractPeriodMeter;
 import org.apache.servicecomb.foundation.metrics.meter.LatencyDistributionMeter;
 import org.apache.servicecomb.foundation.metrics.meter.SimpleTimer;
+import org.apache.servicecomb.swagger.invocation.Response;
 
 import com.netflix.config.DynamicPropertyFactory;
 import com.netflix.spectator.api.Id;
@@ -80,10 +81,10 @@ public abstract class AbstractInvocationMeter extends AbstractPeriodMeter {
     return new SimpleTimer(timerId);
   }
 
-  public void onInvocationFinish(InvocationFinishEvent event) {
+  public void onInvocationFinish(Invocation invocation, Response response) {
     lastUpdated = registry.clock().wallTime();
 
-    InvocationStageTrace stageTrace = event.getInvocation().getInvocationStageTrace();
+    InvocationStageTrace stageTrace = invocation.getInvocationStageTrace();
     latencyDistributionMeter.record((long) stageTrace.calcTotalTime());
     totalTimer.record((long) stageTrace.calcTotalTime());
     handlersRequestTimer.record((long) stageTrace.calcHandlersRequestTime());
@@ -19,8 +19,6 @@ package org.apache.servicecomb.metrics.core.meter.invocation;
 import java.util.Map;
 
 import org.apache.servicecomb.core.Invocation;
-import org.apache.servicecomb.core.event.InvocationFinishEvent;
-import org.apache.servicecomb.core.event.InvocationStartEvent;
 import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
 import org.apache.servicecomb.swagger.invocation.Response;
 
@@ -79,11 +77,11 @@ public abstract class AbstractInvocationMeters {
 
   protected abstract AbstractInvocationMeter createMeter(Id id);
 
-  public void onInvocationStart(InvocationStartEvent event) {
+  public void onInvocationStart(Invocation invocation) {
   }
 
-  public void onInvocationFinish(InvocationFinishEvent event) {
-    AbstractInvocationMeter meters = getOrCreateMeters(event.getInvocation(), event.getResponse());
-    meters.onInvocationFinish(event);
+  public void onInvocationFinish(Invocation invocation, Response response) {
+    AbstractInvocationMeter meters = getOrCreateMeters(invocation, response);
+    meters.onInvocationFinish(invocation, response);
   }
 }
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.metrics.core.meter.vertx;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.apache.servicecomb.foundation.metrics.meter.AbstractPeriodMeter;
+import org.apache.servicecomb.foundation.vertx.client.http.Http2ClientConnection;
+import org.apache.servicecomb.foundation.vertx.client.http.Http2ClientPool;
+import org.apache.servicecomb.foundation.vertx.client.http.Http2EndpointPool;
+
+import com.netflix.spectator.api.Id;
+import com.netflix.spectator.api.Measurement;
+
+/**
+ * stream statistics of every connection in http2 multiplexed pools
+ */
+public class Http2ConnectionsMeter extends AbstractPeriodMeter {
+  public static final String CLIENT = "client";
+
+  public static final String ADDRESS = "address";
+
+  public static final String CONNECTION = "connection";
+
+  public static final String STATISTIC = "statistic";
+
+  public static final String ACTIVE_STREAMS = "activeStreams";
+
+  public static final String TOTAL_STREAMS = "totalStreams";
+
+  private final Map<String, Http2ClientPool> pools;
+
+  public Http2ConnectionsMeter(Id id, Map<String, Http2ClientPool> pools) {
+    this.id = id;
+    this.pools = pools;
+  }
+
+  @Override
+  public void calcMeasurements(long msNow, long secondInterval) {
+    List<Measurement> measurements = new ArrayList<>();
+    calcMeasurements(measurements, msNow, secondInterval);
+    allMeasurements = measurements;
+  }
+
+  @Override
+  public void calcMeasurements(List<Measurement> measurements, long msNow, long secondInterval) {
+    for (Entry<String, Http2ClientPool> entry : pools.entrySet()) {
+      Id clientId = id.withTag(CLIENT, entry.getKey());
+      for (Http2EndpointPool endpointPool : entry.getValue().getEndpointPools().values()) {
+        Id addressId = clientId.withTag(ADDRESS, endpointPool.getAddress());
+        List<Http2ClientConnection> connections = endpointPool.getConnections();
+        for (int idx = 0; idx < connections.size(); idx++) {
+          Http2ClientConnection connection = connections.get(idx);
+          Id connectionId = addressId.withTag(CONNECTION, String.valueOf(idx));
+          measurements.add(new Measurement(connectionId.withTag(STATISTIC, ACTIVE_STREAMS), msNow,
+              connection.getActiveStreams()));
+          measurements.add(new Measurement(connectionId.withTag(STATISTIC, TOTAL_STREAMS), msNow,
+              connection.getTotalStreams()));
+        }
+      }
+    }
+  }
+
+  @Override
+  public Iterable<Measurement> measure() {
+    return allMeasurements;
+  }
+
+  @Override
+  public boolean hasExpired() {
+    return false;
+  }
+}
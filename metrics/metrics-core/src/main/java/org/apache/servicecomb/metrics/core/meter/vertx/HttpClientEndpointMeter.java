@@ -17,28 +17,74 @@
 package org.apache.servicecomb.metrics.core.meter.vertx;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+import org.apache.commons.lang3.StringUtils;
+import org.apache.servicecomb.foundation.metrics.meter.LatencyDistributionMeter;
 import org.apache.servicecomb.foundation.vertx.metrics.metric.DefaultClientEndpointMetric;
 import org.apache.servicecomb.foundation.vertx.metrics.metric.DefaultEndpointMetric;
 
+import com.netflix.config.DynamicPropertyFactory;
 import com.netflix.spectator.api.Id;
 import com.netflix.spectator.api.Measurement;
 
 public class HttpClientEndpointMeter extends EndpointMeter {
+  private static final double SNV_MILLI_SECONDS = 1.0 / TimeUnit.MILLISECONDS.toNanos(1L);
+
+  public static final String CONFIG_LATENCY_DISTRIBUTION = "servicecomb.metrics.endpoint.latencyDistribution";
+
   public static final String QUEUE_COUNT = "queueCount";
 
+  public static final String INFLIGHT = "inflight";
+
+  public static final String POOL_WAIT_TIME = "poolWaitTime";
+
+  public static final String LATENCY_DISTRIBUTION = "latencyDistribution";
+
   private Id idQueueCount;
 
+  private Id idInflight;
+
+  private Id idPoolWaitTime;
+
+  // null if not configured
+  private LatencyDistributionMeter latencyDistributionMeter;
+
+  private long lastPoolWaitCount;
+
+  private long lastPoolWaitTime;
+
   public HttpClientEndpointMeter(Id id, DefaultEndpointMetric metric) {
     super(id, metric);
     idQueueCount = this.id.withTag(STATISTIC, QUEUE_COUNT);
+    idInflight = this.id.withTag(STATISTIC, INFLIGHT);
+    idPoolWaitTime = this.id.withTag(STATISTIC, POOL_WAIT_TIME);
+
+    String config = DynamicPropertyFactory.getInstance().getStringProperty(CONFIG_LATENCY_DISTRIBUTION, null).get();
+    if (StringUtils.isNotEmpty(config)) {
+      latencyDistributionMeter = new LatencyDistributionMeter(this.id.withTag(STATISTIC, LATENCY_DISTRIBUTION),
+          config);
+      metric.setLatencyRecorder(latencyDistributionMeter::record);
+    }
   }
 
   @Override
   public void calcMeasurements(List<Measurement> measurements, long msNow, double secondInterval) {
     super.calcMeasurements(measurements, msNow, secondInterval);
 
-    long queueCount = ((DefaultClientEndpointMetric) metric).getQueueCount();
-    measurements.add(newMeasurement(idQueueCount, msNow, queueCount));
+    DefaultClientEndpointMetric clientMetric = (DefaultClientEndpointMetric) metric;
+    measurements.add(newMeasurement(idQueueCount, msNow, clientMetric.getQueueCount()));
+    measurements.add(newMeasurement(idInflight, msNow, clientMetric.getInflight()));
+
+    long poolWaitCount = clientMetric.getPoolWaitCount();
+    long poolWaitTime = clientMetric.getPoolWaitTime();
+    measurements.add(newMeasurement(idPoolWaitTime, msNow, poolWaitCount == lastPoolWaitCount ? 0 :
+        (double) (poolWaitTime - lastPoolWaitTime) / (poolWaitCount - lastPoolWaitCount) * SNV_MILLI_SECONDS));
+    this.lastPoolWaitCount = poolWaitCount;
+    this.lastPoolWaitTime = poolWaitTime;
+
+    if (latencyDistributionMeter != null) {
+      latencyDistributionMeter.calcMeasurements(measurements, msNow, (long) secondInterval);
+    }
   }
 }
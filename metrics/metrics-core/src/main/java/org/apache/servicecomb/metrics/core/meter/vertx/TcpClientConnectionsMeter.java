@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.metrics.core.meter.vertx;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+
+import org.apache.servicecomb.foundation.metrics.meter.AbstractPeriodMeter;
+import org.apache.servicecomb.foundation.vertx.client.tcp.AbstractTcpClientConnectionPool;
+import org.apache.servicecomb.foundation.vertx.client.tcp.TcpClientConnection;
+
+import com.netflix.spectator.api.Id;
+import com.netflix.spectator.api.Measurement;
+
+/**
+ * in-flight statistics of every tcp client connection
+ */
+public class TcpClientConnectionsMeter extends AbstractPeriodMeter {
+  public static final String ADDRESS = "address";
+
+  public static final String POOL = "pool";
+
+  public static final String CONNECTION = "connection";
+
+  public static final String STATISTIC = "statistic";
+
+  public static final String PENDING_REQUESTS = "pendingRequests";
+
+  public static final String WRITE_QUEUE = "writeQueue";
+
+  private final List<AbstractTcpClientConnectionPool<?>> pools;
+
+  public TcpClientConnectionsMeter(Id id, List<AbstractTcpClientConnectionPool<?>> pools) {
+    this.id = id;
+    this.pools = pools;
+  }
+
+  @Override
+  public void calcMeasurements(long msNow, long secondInterval) {
+    List<Measurement> measurements = new ArrayList<>();
+    calcMeasurements(measurements, msNow, secondInterval);
+    allMeasurements = measurements;
+  }
+
+  @Override
+  public void calcMeasurements(List<Measurement> measurements, long msNow, long secondInterval) {
+    for (int poolIdx = 0; poolIdx < pools.size(); poolIdx++) {
+      for (Entry<String, ? extends List<? extends TcpClientConnection>> entry : pools.get(poolIdx).getClients()
+          .entrySet()) {
+        Id addressId = id.withTag(ADDRESS, entry.getKey()).withTag(POOL, String.valueOf(poolIdx));
+        List<? extends TcpClientConnection> connections = entry.getValue();
+        for (int idx = 0; idx < connections.size(); idx++) {
+          TcpClientConnection connection = connections.get(idx);
+          Id connectionId = addressId.withTag(CONNECTION, String.valueOf(idx));
+          measurements.add(new Measurement(connectionId.withTag(STATISTIC, PENDING_REQUESTS), msNow,
+              connection.getPendingRequestCount()));
+          measurements.add(new Measurement(connectionId.withTag(STATISTIC, WRITE_QUEUE), msNow,
+              connection.getWriteQueueSize()));
+        }
+      }
+    }
+  }
+
+  @Override
+  public Iterable<Measurement> measure() {
+    return allMeasurements;
+  }
+
+  @Override
+  public boolean hasExpired() {
+    return false;
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.metrics.core.meter.vertx;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.servicecomb.foundation.metrics.meter.AbstractPeriodMeter;
+import org.apache.servicecomb.foundation.vertx.tcp.TcpConnection;
+
+import com.netflix.spectator.api.Id;
+import com.netflix.spectator.api.Measurement;
+
+/**
+ * statistics of merged writes of all tcp connections in the last period
+ */
+public class TcpWriteBatchMeter extends AbstractPeriodMeter {
+  public static final String STATISTIC = "statistic";
+
+  public static final String BATCHES = "batches";
+
+  public static final String PACKAGES = "packages";
+
+  public static final String AVERAGE_BATCH_SIZE = "averageBatchSize";
+
+  private long lastBatches = TcpConnection.getWriteBatches();
+
+  private long lastPackages = TcpConnection.getWritePackages();
+
+  public TcpWriteBatchMeter(Id id) {
+    this.id = id;
+  }
+
+  @Override
+  public void calcMeasurements(long msNow, long secondInterval) {
+    List<Measurement> measurements = new ArrayList<>();
+    calcMeasurements(measurements, msNow, secondInterval);
+    allMeasurements = measurements;
+  }
+
+  @Override
+  public void calcMeasurements(List<Measurement> measurements, long msNow, long secondInterval) {
+    long batches = TcpConnection.getWriteBatches();
+    long packages = TcpConnection.getWritePackages();
+    long periodBatches = batches - lastBatches;
+    long periodPackages = packages - lastPackages;
+    lastBatches = batches;
+    lastPackages = packages;
+
+    measurements.add(new Measurement(id.withTag(STATISTIC, BATCHES), msNow, periodBatches));
+    measurements.add(new Measurement(id.withTag(STATISTIC, PACKAGES), msNow, periodPackages));
+    measurements.add(new Measurement(id.withTag(STATISTIC, AVERAGE_BATCH_SIZE), msNow,
+        periodBatches == 0 ? 0 : (double) periodPackages / periodBatches));
+  }
+
+  @Override
+  public Iterable<Measurement> measure() {
+    return allMeasurements;
+  }
+
+  @Override
+  public boolean hasExpired() {
+    return false;
+  }
+}
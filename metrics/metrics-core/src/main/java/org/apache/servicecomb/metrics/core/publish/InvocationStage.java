@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.metrics.core.publish;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.invocation.InvocationStageTrace;
+
+/**
+ * stages shown by {@link SlowInvocationLogger} and {@link SlowInvocationFlightRecorder}
+ */
+public enum InvocationStage {
+  PREPARE("prepare", "prepare", InvocationStageTrace::calcInvocationPrepareTime),
+  THREAD_POOL_QUEUE("threadPoolQueue", "threadPoolQueue", InvocationStageTrace::calcThreadPoolQueueTime),
+  SERVER_FILTERS_REQUEST("serverFiltersRequest", "server filters request",
+      InvocationStageTrace::calcServerFiltersRequestTime),
+  HANDLERS_REQUEST("handlersRequest", "handlers request", InvocationStageTrace::calcHandlersRequestTime),
+  BUSINESS_EXECUTE("businessExecute", "business execute", InvocationStageTrace::calcBusinessTime),
+  CLIENT_FILTERS_REQUEST("clientFiltersRequest", "client filters request",
+      InvocationStageTrace::calcClientFiltersRequestTime),
+  SEND_REQUEST("sendRequest", "send request", InvocationStageTrace::calcSendRequestTime),
+  GET_CONNECTION("getConnection", "get connection", InvocationStageTrace::calcGetConnectionTime),
+  WRITE_TO_BUF("writeToBuf", "write to buf", InvocationStageTrace::calcWriteToBufferTime),
+  WAIT_RESPONSE("waitResponse", "wait response", InvocationStageTrace::calcReceiveResponseTime),
+  WAKE_CONSUMER("wakeConsumer", "wake consumer", InvocationStageTrace::calcWakeConsumer),
+  CLIENT_FILTERS_RESPONSE("clientFiltersResponse", "client filters response",
+      InvocationStageTrace::calcClientFiltersResponseTime),
+  HANDLERS_RESPONSE("handlersResponse", "handlers response", InvocationStageTrace::calcHandlersResponseTime),
+  SERVER_FILTERS_RESPONSE("serverFiltersResponse", "server filters response",
+      InvocationStageTrace::calcServerFiltersResponseTime),
+  SEND_RESPONSE("sendResponse", "send response", InvocationStageTrace::calcSendResponseTime);
+
+  public static final List<InvocationStage> PRODUCER_STAGES = unmodifiableList(asList(
+      PREPARE, THREAD_POOL_QUEUE, SERVER_FILTERS_REQUEST, HANDLERS_REQUEST, BUSINESS_EXECUTE,
+      HANDLERS_RESPONSE, SERVER_FILTERS_RESPONSE, SEND_RESPONSE));
+
+  public static final List<InvocationStage> CONSUMER_STAGES = unmodifiableList(asList(
+      PREPARE, HANDLERS_REQUEST, CLIENT_FILTERS_REQUEST, SEND_REQUEST, GET_CONNECTION, WRITE_TO_BUF,
+      WAIT_RESPONSE, WAKE_CONSUMER, CLIENT_FILTERS_RESPONSE, HANDLERS_RESPONSE));
+
+  public static final List<InvocationStage> EDGE_STAGES = unmodifiableList(asList(
+      PREPARE, THREAD_POOL_QUEUE, SERVER_FILTERS_REQUEST, HANDLERS_REQUEST, CLIENT_FILTERS_REQUEST,
+      SEND_REQUEST, GET_CONNECTION, WRITE_TO_BUF, WAIT_RESPONSE, WAKE_CONSUMER, CLIENT_FILTERS_RESPONSE,
+      HANDLERS_RESPONSE, SERVER_FILTERS_RESPONSE, SEND_RESPONSE));
+
+  // key of SlowInvocationRecord stages
+  private final String key;
+
+  // label in slow invocation log
+  private final String label;
+
+  private final ToDoubleFunction<InvocationStageTrace> nanoTimeCalculator;
+
+  InvocationStage(String key, String label, ToDoubleFunction<InvocationStageTrace> nanoTimeCalculator) {
+    this.key = key;
+    this.label = label;
+    this.nanoTimeCalculator = nanoTimeCalculator;
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  public String getLabel() {
+    return label;
+  }
+
+  public double calcNanoTime(InvocationStageTrace stageTrace) {
+    return nanoTimeCalculator.applyAsDouble(stageTrace);
+  }
+
+  public static List<InvocationStage> of(Invocation invocation) {
+    if (!invocation.isConsumer()) {
+      return PRODUCER_STAGES;
+    }
+    return invocation.isEdge() ? EDGE_STAGES : CONSUMER_STAGES;
+  }
+}
@@ -17,7 +17,9 @@
 
 package org.apache.servicecomb.metrics.core.publish;
 
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -25,9 +27,11 @@ import java.util.stream.StreamSupport;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 
+import org.apache.servicecomb.foundation.common.utils.SPIServiceUtils;
 import org.apache.servicecomb.foundation.metrics.MetricsBootstrapConfig;
 import org.apache.servicecomb.foundation.metrics.MetricsInitializer;
 import org.apache.servicecomb.foundation.metrics.registry.GlobalRegistry;
+import org.apache.servicecomb.metrics.core.publish.model.SlowInvocationRecord;
 
 import com.google.common.eventbus.EventBus;
 import com.netflix.spectator.api.Id;
@@ -70,6 +74,18 @@ public class MetricsRestPublisher implements MetricsInitializer {
     return measurements;
   }
 
+  @GET
+  @Path("/slowInvocations")
+  public Map<String, List<SlowInvocationRecord>> slowInvocations() {
+    SlowInvocationFlightRecorder flightRecorder =
+        SPIServiceUtils.getTargetService(MetricsInitializer.class, SlowInvocationFlightRecorder.class);
+    if (flightRecorder == null) {
+      return Collections.emptyMap();
+    }
+
+    return flightRecorder.getRecords();
+  }
+
   // format id to string:
   // idName(tag1=value1,tag2=value2)
   protected String idToString(Id id, StringBuilder sb) {
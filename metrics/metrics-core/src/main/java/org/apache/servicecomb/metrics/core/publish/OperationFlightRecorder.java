@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.metrics.core.publish;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.apache.servicecomb.metrics.core.publish.model.SlowInvocationRecord;
+
+/**
+ * <pre>
+ * slow invocation records of one operation
+ *
+ * threshold: the configured percentile of latency of recent invocations, not less than min time
+ * records: slots of the slowest invocations exceeding threshold, the fastest record is replaced by a slower one by CAS
+ *   slots are rolled every metrics window, records of current and previous window are queried
+ * log: at most one log in every interval, count the suppressed logs
+ * </pre>
+ */
+public class OperationFlightRecorder {
+  // must be power of 2
+  static final int SAMPLE_SIZE = 1024;
+
+  // not record anything until collected enough samples
+  static final int MIN_SAMPLES = 100;
+
+  static final long THRESHOLD_REFRESH_INTERVAL = 1000;
+
+  private final AtomicLongArray samples = new AtomicLongArray(SAMPLE_SIZE);
+
+  private final AtomicLong sampleCount = new AtomicLong();
+
+  private final AtomicBoolean refreshing = new AtomicBoolean();
+
+  private volatile long percentileLatency = Long.MAX_VALUE;
+
+  private volatile long lastRefreshTime;
+
+  private final int size;
+
+  // only touched by invocations exceeding threshold
+  private volatile AtomicReferenceArray<SlowInvocationRecord> records;
+
+  private volatile AtomicReferenceArray<SlowInvocationRecord> previousRecords;
+
+  private final AtomicLong recordCount = new AtomicLong();
+
+  private final AtomicLong lastLogTime = new AtomicLong(Long.MIN_VALUE);
+
+  private final AtomicLong suppressedLogs = new AtomicLong();
+
+  public OperationFlightRecorder(int size) {
+    this.size = Math.max(1, size);
+    this.records = new AtomicReferenceArray<>(this.size);
+    this.previousRecords = new AtomicReferenceArray<>(this.size);
+  }
+
+  public void recordLatency(long nanoLatency) {
+    long idx = sampleCount.getAndIncrement();
+    samples.lazySet((int) (idx & (SAMPLE_SIZE - 1)), nanoLatency);
+  }
+
+  public long getNanoThreshold(long now, int percentile, long nanoMinTime) {
+    if (now - lastRefreshTime >= THRESHOLD_REFRESH_INTERVAL && refreshing.compareAndSet(false, true)) {
+      try {
+        percentileLatency = computePercentileLatency(percentile);
+        lastRefreshTime = now;
+      } finally {
+        refreshing.set(false);
+      }
+    }
+
+    return Math.max(nanoMinTime, percentileLatency);
+  }
+
+  private long computePercentileLatency(int percentile) {
+    int count = (int) Math.min(sampleCount.get(), SAMPLE_SIZE);
+    if (count < MIN_SAMPLES) {
+      return Long.MAX_VALUE;
+    }
+
+    long[] sorted = new long[count];
+    for (int idx = 0; idx < count; idx++) {
+      sorted[idx] = samples.get(idx);
+    }
+    Arrays.sort(sorted);
+
+    int idx = (int) Math.ceil(percentile * count / 100.0) - 1;
+    return sorted[Math.max(0, idx)];
+  }
+
+  public void addRecord(SlowInvocationRecord record) {
+    recordCount.incrementAndGet();
+    AtomicReferenceArray<SlowInvocationRecord> slots = records;
+    for (; ; ) {
+      // find an empty slot or the fastest record
+      int fastestIdx = 0;
+      SlowInvocationRecord fastest = slots.get(0);
+      for (int idx = 1; idx < size && fastest != null; idx++) {
+        SlowInvocationRecord slot = slots.get(idx);
+        if (slot == null || slot.getTotal() < fastest.getTotal()) {
+          fastestIdx = idx;
+          fastest = slot;
+        }
+      }
+
+      if (fastest != null && record.getTotal() <= fastest.getTotal()) {
+        return;
+      }
+      if (slots.compareAndSet(fastestIdx, fastest, record)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * records of previous window are dropped, records of current window become previous
+   */
+  public void rollWindow() {
+    previousRecords = records;
+    records = new AtomicReferenceArray<>(size);
+  }
+
+  /**
+   * @return -1 if should not log now, otherwise the count of logs suppressed since last log
+   */
+  public long tryAcquireLog(long now, long logInterval) {
+    long last = lastLogTime.get();
+    if (last != Long.MIN_VALUE && now - last < logInterval || !lastLogTime.compareAndSet(last, now)) {
+      suppressedLogs.incrementAndGet();
+      return -1;
+    }
+
+    return suppressedLogs.getAndSet(0);
+  }
+
+  public long getRecordCount() {
+    return recordCount.get();
+  }
+
+  /**
+   * @return the slowest records of current and previous window, sorted by total time, slowest first
+   */
+  public List<SlowInvocationRecord> getRecords() {
+    List<SlowInvocationRecord> result = new ArrayList<>();
+    collectRecords(previousRecords, result);
+    collectRecords(records, result);
+    result.sort(Comparator.comparingDouble(SlowInvocationRecord::getTotal).reversed());
+    return result.size() > size ? new ArrayList<>(result.subList(0, size)) : result;
+  }
+
+  private void collectRecords(AtomicReferenceArray<SlowInvocationRecord> slots, List<SlowInvocationRecord> result) {
+    for (int idx = 0; idx < size; idx++) {
+      SlowInvocationRecord record = slots.get(idx);
+      if (record != null) {
+        result.add(record);
+      }
+    }
+  }
+}
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.metrics.core.publish;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.servicecomb.core.Endpoint;
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.invocation.InvocationLifecycleListener;
+import org.apache.servicecomb.core.invocation.InvocationLifecycleListeners;
+import org.apache.servicecomb.core.invocation.InvocationStageTrace;
+import org.apache.servicecomb.foundation.metrics.MetricsBootstrapConfig;
+import org.apache.servicecomb.foundation.metrics.MetricsInitializer;
+import org.apache.servicecomb.foundation.metrics.PolledEvent;
+import org.apache.servicecomb.foundation.metrics.registry.GlobalRegistry;
+import org.apache.servicecomb.foundation.vertx.http.HttpServletRequestEx;
+import org.apache.servicecomb.metrics.core.publish.model.SlowInvocationRecord;
+import org.apache.servicecomb.swagger.invocation.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import com.netflix.config.DynamicBooleanProperty;
+import com.netflix.config.DynamicIntProperty;
+import com.netflix.config.DynamicPropertyFactory;
+
+/**
+ * <pre>
+ * keep stage details of the slowest invocations of every operation, query by /metrics/slowInvocations
+ * different from {@link SlowInvocationLogger}, threshold is dynamic, defaults to p99 latency of the operation
+ * </pre>
+ */
+public class SlowInvocationFlightRecorder implements MetricsInitializer, InvocationLifecycleListener {
+  private static final Logger LOGGER = LoggerFactory.getLogger(SlowInvocationFlightRecorder.class);
+
+  public static final String CONFIG_PREFIX = "servicecomb.metrics.flightRecorder.";
+
+  private final Map<String, OperationFlightRecorder> recorders = new ConcurrentHashMap<>();
+
+  private final DynamicBooleanProperty enabled = getBooleanProperty("enabled", false);
+
+  private final DynamicIntProperty size = getIntProperty("size", 10);
+
+  private final DynamicIntProperty percentile = getIntProperty("percentile", 99);
+
+  private final DynamicIntProperty msMinTime = getIntProperty("msMinTime", 100);
+
+  private final DynamicIntProperty logIntervalInMilliseconds = getIntProperty("logIntervalInMilliseconds", 10000);
+
+  private EventBus eventBus;
+
+  @Override
+  public int getOrder() {
+    return MetricsInitializer.super.getOrder();
+  }
+
+  @Override
+  public void init(GlobalRegistry globalRegistry, EventBus eventBus, MetricsBootstrapConfig config) {
+    this.eventBus = eventBus;
+    eventBus.register(this);
+    InvocationLifecycleListeners.register(this);
+  }
+
+  @Override
+  public void destroy() {
+    InvocationLifecycleListeners.unregister(this);
+    if (eventBus != null) {
+      eventBus.unregister(this);
+    }
+  }
+
+  // records are kept for at most two metrics windows
+  @Subscribe
+  public void onPolledEvent(PolledEvent event) {
+    recorders.values().forEach(OperationFlightRecorder::rollWindow);
+  }
+
+  private static DynamicBooleanProperty getBooleanProperty(String key, boolean defaultValue) {
+    return DynamicPropertyFactory.getInstance().getBooleanProperty(CONFIG_PREFIX + key, defaultValue);
+  }
+
+  private static DynamicIntProperty getIntProperty(String key, int defaultValue) {
+    return DynamicPropertyFactory.getInstance().getIntProperty(CONFIG_PREFIX + key, defaultValue);
+  }
+
+  protected long currentTimeMillis() {
+    return System.currentTimeMillis();
+  }
+
+  @Override
+  public void onFinish(Invocation invocation, Response response) {
+    if (!enabled.get()) {
+      return;
+    }
+
+    long nanoTotal = (long) invocation.getInvocationStageTrace().calcTotalTime();
+    OperationFlightRecorder recorder = recorders.computeIfAbsent(invocation.getInvocationQualifiedName(),
+        name -> new OperationFlightRecorder(size.get()));
+
+    long now = currentTimeMillis();
+    long nanoThreshold = recorder.getNanoThreshold(now, percentile.get(),
+        TimeUnit.MILLISECONDS.toNanos(msMinTime.get()));
+    recorder.recordLatency(nanoTotal);
+    if (nanoTotal < nanoThreshold) {
+      return;
+    }
+
+    SlowInvocationRecord record = createRecord(invocation, response, nanoThreshold);
+    recorder.addRecord(record);
+
+    long suppressed = recorder.tryAcquireLog(now, logIntervalInMilliseconds.get());
+    if (suppressed < 0) {
+      return;
+    }
+    invocation.getTraceIdLogger().warn(LOGGER,
+        "slow invocation recorded, {}, total: {} ms, threshold: {} ms, suppressed logs: {}, "
+            + "query /metrics/slowInvocations for details.",
+        invocation.getInvocationQualifiedName(),
+        record.getTotal(),
+        record.getThreshold(),
+        suppressed);
+  }
+
+  /**
+   * @return invocationQualifiedName to records, records are sorted by total time, slowest first
+   */
+  public Map<String, List<SlowInvocationRecord>> getRecords() {
+    Map<String, List<SlowInvocationRecord>> result = new TreeMap<>();
+    for (Entry<String, OperationFlightRecorder> entry : recorders.entrySet()) {
+      List<SlowInvocationRecord> records = entry.getValue().getRecords();
+      if (!records.isEmpty()) {
+        result.put(entry.getKey(), records);
+      }
+    }
+    return result;
+  }
+
+  private static double toMs(double nano) {
+    return TimeUnit.NANOSECONDS.toMicros((long) nano) / 1000.0;
+  }
+
+  protected SlowInvocationRecord createRecord(Invocation invocation, Response response, long nanoThreshold) {
+    InvocationStageTrace stageTrace = invocation.getInvocationStageTrace();
+    SlowInvocationRecord record = new SlowInvocationRecord();
+    record.setTraceId(invocation.getTraceId());
+    record.setStartTimeMillis(stageTrace.getStartTimeMillis());
+    record.setStatusCode(response.getStatusCode());
+    record.setThreshold(toMs(nanoThreshold));
+    record.setTotal(toMs(stageTrace.calcTotalTime()));
+    record.setPeer(invocation.isConsumer() ? collectTargetAddress(invocation) : collectClientAddress(invocation));
+
+    Map<String, Double> stages = record.getStages();
+    for (InvocationStage stage : InvocationStage.of(invocation)) {
+      stages.put(stage.getKey(), toMs(stage.calcNanoTime(stageTrace)));
+    }
+    return record;
+  }
+
+  private String collectClientAddress(Invocation invocation) {
+    HttpServletRequestEx requestEx = invocation.getRequestEx();
+    return requestEx == null ? "unknown" : requestEx.getRemoteAddr() + ":" + requestEx.getRemotePort();
+  }
+
+  private String collectTargetAddress(Invocation invocation) {
+    Endpoint endpoint = invocation.getEndpoint();
+    return endpoint == null ? "unknown" : endpoint.getEndpoint();
+  }
+}
@@ -16,35 +16,55 @@
  */
 package org.apache.servicecomb.metrics.core.publish;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.servicecomb.common.rest.RestConst;
 import org.apache.servicecomb.common.rest.definition.RestOperationMeta;
 import org.apache.servicecomb.core.Endpoint;
 import org.apache.servicecomb.core.Invocation;
-import org.apache.servicecomb.core.SCBEngine;
 import org.apache.servicecomb.core.definition.OperationConfig;
-import org.apache.servicecomb.core.event.InvocationFinishEvent;
+import org.apache.servicecomb.core.invocation.InvocationLifecycleListener;
+import org.apache.servicecomb.core.invocation.InvocationLifecycleListeners;
 import org.apache.servicecomb.core.invocation.InvocationStageTrace;
 import org.apache.servicecomb.foundation.vertx.http.HttpServletRequestEx;
 import org.apache.servicecomb.swagger.invocation.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.eventbus.AllowConcurrentEvents;
-import com.google.common.eventbus.Subscribe;
-
-public class SlowInvocationLogger {
+public class SlowInvocationLogger implements InvocationLifecycleListener {
   private static final Logger LOGGER = LoggerFactory.getLogger(SlowInvocationLogger.class);
 
-  public SlowInvocationLogger(SCBEngine scbEngine) {
-    scbEngine.getEventBus().register(this);
+  private static final String PRODUCER_FORMAT = createFormat("client     ", InvocationStage.PRODUCER_STAGES);
+
+  private static final String CONSUMER_FORMAT = createFormat("server     ", InvocationStage.CONSUMER_STAGES);
+
+  private static final String EDGE_FORMAT = createFormat("server     ", InvocationStage.EDGE_STAGES);
+
+  public SlowInvocationLogger() {
+    InvocationLifecycleListeners.register(this);
+  }
+
+  public void destroy() {
+    InvocationLifecycleListeners.unregister(this);
+  }
+
+  private static String createFormat(String peerTitle, List<InvocationStage> stages) {
+    StringBuilder sb = new StringBuilder()
+        .append("slow({} ms) invocation, {}:\n")
+        .append("  http method: {}\n")
+        .append("  url        : {}\n")
+        .append("  ").append(peerTitle).append(": {}\n")
+        .append("  status code: {}\n")
+        .append("  total      : {} ms");
+    for (InvocationStage stage : stages) {
+      sb.append("\n    ").append(String.format("%-23s", stage.getLabel())).append(": {} ms");
+    }
+    return sb.toString();
   }
 
-  @Subscribe
-  @AllowConcurrentEvents
-  public void onInvocationFinish(InvocationFinishEvent event) {
-    Invocation invocation = event.getInvocation();
+  @Override
+  public void onFinish(Invocation invocation, Response response) {
     OperationConfig operationConfig = invocation.getOperationMeta().getConfig();
     if (!operationConfig.isSlowInvocationEnabled() ||
         invocation.getInvocationStageTrace().calcTotalTime() < operationConfig.getNanoSlowInvocation()) {
@@ -52,16 +72,19 @@ public class SlowInvocationLogger {
     }
 
     if (!invocation.isConsumer()) {
-      logSlowProducer(invocation, event.getResponse(), operationConfig);
+      logSlowInvocation(invocation, response, operationConfig,
+          PRODUCER_FORMAT, InvocationStage.PRODUCER_STAGES, collectClientAddress(invocation));
       return;
     }
 
     if (invocation.isEdge()) {
-      logSlowEdge(invocation, event.getResponse(), operationConfig);
+      logSlowInvocation(invocation, response, operationConfig,
+          EDGE_FORMAT, InvocationStage.EDGE_STAGES, collectTargetAddress(invocation));
       return;
     }
 
-    logSlowConsumer(invocation, event.getResponse(), operationConfig);
+    logSlowInvocation(invocation, response, operationConfig,
+        CONSUMER_FORMAT, InvocationStage.CONSUMER_STAGES, collectTargetAddress(invocation));
   }
 
   private String collectClientAddress(Invocation invocation) {
@@ -79,127 +102,22 @@ public class SlowInvocationLogger {
     return micros / 1000 + "." + micros % 1000;
   }
 
-  private void logSlowProducer(Invocation invocation, Response response, OperationConfig operationConfig) {
+  private void logSlowInvocation(Invocation invocation, Response response, OperationConfig operationConfig,
+      String format, List<InvocationStage> stages, String peer) {
     RestOperationMeta restOperationMeta = invocation.getOperationMeta().getExtData(RestConst.SWAGGER_REST_OPERATION);
     InvocationStageTrace stageTrace = invocation.getInvocationStageTrace();
-    invocation.getTraceIdLogger().warn(LOGGER, ""
-            + "slow({} ms) invocation, {}:\n"
-            + "  http method: {}\n"
-            + "  url        : {}\n"
-            + "  client     : {}\n"
-            + "  status code: {}\n"
-            + "  total      : {} ms\n"
-            + "    prepare                : {} ms\n"
-            + "    threadPoolQueue        : {} ms\n"
-            + "    server filters request : {} ms\n"
-            + "    handlers request       : {} ms\n"
-            + "    business execute       : {} ms\n"
-            + "    handlers response      : {} ms\n"
-            + "    server filters response: {} ms\n"
-            + "    send response          : {} ms",
-        operationConfig.getMsSlowInvocation(),
-        invocation.getInvocationQualifiedName(),
-        restOperationMeta.getHttpMethod(),
-        restOperationMeta.getAbsolutePath(),
-        collectClientAddress(invocation),
-        response.getStatusCode(),
-        formatTime(stageTrace.calcTotalTime()),
-        formatTime(stageTrace.calcInvocationPrepareTime()),
-        formatTime(stageTrace.calcThreadPoolQueueTime()),
-        formatTime(stageTrace.calcServerFiltersRequestTime()),
-        formatTime(stageTrace.calcHandlersRequestTime()),
-        formatTime(stageTrace.calcBusinessTime()),
-        formatTime(stageTrace.calcHandlersResponseTime()),
-        formatTime(stageTrace.calcServerFiltersResponseTime()),
-        formatTime(stageTrace.calcSendResponseTime())
-    );
-  }
-
-  private void logSlowConsumer(Invocation invocation, Response response, OperationConfig operationConfig) {
-    RestOperationMeta restOperationMeta = invocation.getOperationMeta().getExtData(RestConst.SWAGGER_REST_OPERATION);
-    InvocationStageTrace stageTrace = invocation.getInvocationStageTrace();
-    invocation.getTraceIdLogger().warn(LOGGER, ""
-            + "slow({} ms) invocation, {}:\n"
-            + "  http method: {}\n"
-            + "  url        : {}\n"
-            + "  server     : {}\n"
-            + "  status code: {}\n"
-            + "  total      : {} ms\n"
-            + "    prepare                : {} ms\n"
-            + "    handlers request       : {} ms\n"
-            + "    client filters request : {} ms\n"
-            + "    send request           : {} ms\n"
-            + "    get connection         : {} ms\n"
-            + "    write to buf           : {} ms\n"
-            + "    wait response          : {} ms\n"
-            + "    wake consumer          : {} ms\n"
-            + "    client filters response: {} ms\n"
-            + "    handlers response      : {} ms",
-        operationConfig.getMsSlowInvocation(),
-        invocation.getInvocationQualifiedName(),
-        restOperationMeta.getHttpMethod(),
-        restOperationMeta.getAbsolutePath(),
-        collectTargetAddress(invocation),
-        response.getStatusCode(),
-        formatTime(stageTrace.calcTotalTime()),
-        formatTime(stageTrace.calcInvocationPrepareTime()),
-        formatTime(stageTrace.calcHandlersRequestTime()),
-        formatTime(stageTrace.calcClientFiltersRequestTime()),
-        formatTime(stageTrace.calcSendRequestTime()),
-        formatTime(stageTrace.calcGetConnectionTime()),
-        formatTime(stageTrace.calcWriteToBufferTime()),
-        formatTime(stageTrace.calcReceiveResponseTime()),
-        formatTime(stageTrace.calcWakeConsumer()),
-        formatTime(stageTrace.calcClientFiltersResponseTime()),
-        formatTime(stageTrace.calcHandlersResponseTime())
-    );
-  }
 
-  private void logSlowEdge(Invocation invocation, Response response, OperationConfig operationConfig) {
-    RestOperationMeta restOperationMeta = invocation.getOperationMeta().getExtData(RestConst.SWAGGER_REST_OPERATION);
-    InvocationStageTrace stageTrace = invocation.getInvocationStageTrace();
-    invocation.getTraceIdLogger().warn(LOGGER, ""
-            + "slow({} ms) invocation, {}:\n"
-            + "  http method: {}\n"
-            + "  url        : {}\n"
-            + "  server     : {}\n"
-            + "  status code: {}\n"
-            + "  total      : {} ms\n"
-            + "    prepare                : {} ms\n"
-            + "    threadPoolQueue        : {} ms\n"
-            + "    server filters request : {} ms\n"
-            + "    handlers request       : {} ms\n"
-            + "    client filters request : {} ms\n"
-            + "    send request           : {} ms\n"
-            + "    get connection         : {} ms\n"
-            + "    write to buf           : {} ms\n"
-            + "    wait response          : {} ms\n"
-            + "    wake consumer          : {} ms\n"
-            + "    client filters response: {} ms\n"
-            + "    handlers response      : {} ms\n"
-            + "    server filters response: {} ms\n"
-            + "    send response          : {} ms",
-        operationConfig.getMsSlowInvocation(),
-        invocation.getInvocationQualifiedName(),
-        restOperationMeta.getHttpMethod(),
-        restOperationMeta.getAbsolutePath(),
-        collectTargetAddress(invocation),
-        response.getStatusCode(),
-        formatTime(stageTrace.calcTotalTime()),
-        formatTime(stageTrace.calcInvocationPrepareTime()),
-        formatTime(stageTrace.calcThreadPoolQueueTime()),
-        formatTime(stageTrace.calcServerFiltersRequestTime()),
-        formatTime(stageTrace.calcHandlersRequestTime()),
-        formatTime(stageTrace.calcClientFiltersRequestTime()),
-        formatTime(stageTrace.calcSendRequestTime()),
-        formatTime(stageTrace.calcGetConnectionTime()),
-        formatTime(stageTrace.calcWriteToBufferTime()),
-        formatTime(stageTrace.calcReceiveResponseTime()),
-        formatTime(stageTrace.calcWakeConsumer()),
-        formatTime(stageTrace.calcClientFiltersResponseTime()),
-        formatTime(stageTrace.calcHandlersResponseTime()),
-        formatTime(stageTrace.calcServerFiltersResponseTime()),
-        formatTime(stageTrace.calcSendResponseTime())
-    );
+    Object[] arguments = new Object[7 + stages.size()];
+    arguments[0] = operationConfig.getMsSlowInvocation();
+    arguments[1] = invocation.getInvocationQualifiedName();
+    arguments[2] = restOperationMeta.getHttpMethod();
+    arguments[3] = restOperationMeta.getAbsolutePath();
+    arguments[4] = peer;
+    arguments[5] = response.getStatusCode();
+    arguments[6] = formatTime(stageTrace.calcTotalTime());
+    for (int idx = 0; idx < stages.size(); idx++) {
+      arguments[7 + idx] = formatTime(stages.get(idx).calcNanoTime(stageTrace));
+    }
+    invocation.getTraceIdLogger().warn(LOGGER, format, arguments);
   }
 }
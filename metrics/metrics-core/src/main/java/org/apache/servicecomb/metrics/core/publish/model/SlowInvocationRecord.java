@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.metrics.core.publish.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * snapshot of one slow invocation, all times are in milliseconds
+ */
+public class SlowInvocationRecord {
+  private String traceId;
+
+  private long startTimeMillis;
+
+  private String peer;
+
+  private int statusCode;
+
+  private double threshold;
+
+  private double total;
+
+  private Map<String, Double> stages = new LinkedHashMap<>();
+
+  public String getTraceId() {
+    return traceId;
+  }
+
+  public void setTraceId(String traceId) {
+    this.traceId = traceId;
+  }
+
+  public long getStartTimeMillis() {
+    return startTimeMillis;
+  }
+
+  public void setStartTimeMillis(long startTimeMillis) {
+    this.startTimeMillis = startTimeMillis;
+  }
+
+  public String getPeer() {
+    return peer;
+  }
+
+  public void setPeer(String peer) {
+    this.peer = peer;
+  }
+
+  public int getStatusCode() {
+    return statusCode;
+  }
+
+  public void setStatusCode(int statusCode) {
+    this.statusCode = statusCode;
+  }
+
+  public double getThreshold() {
+    return threshold;
+  }
+
+  public void setThreshold(double threshold) {
+    this.threshold = threshold;
+  }
+
+  public double getTotal() {
+    return total;
+  }
+
+  public void setTotal(double total) {
+    this.total = total;
+  }
+
+  public Map<String, Double> getStages() {
+    return stages;
+  }
+
+  public void setStages(Map<String, Double> stages) {
+    this.stages = stages;
+  }
+}
@@ -17,16 +17,19 @@
 package org.apache.servicecomb.metrics.core;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import org.apache.servicecomb.core.Const;
 import org.apache.servicecomb.core.Invocation;
-import org.apache.servicecomb.core.event.InvocationFinishEvent;
+import org.apache.servicecomb.core.invocation.InvocationLifecycleListeners;
 import org.apache.servicecomb.foundation.metrics.publish.spectator.MeasurementGroupConfig;
 import org.apache.servicecomb.foundation.metrics.publish.spectator.MeasurementTree;
 import org.apache.servicecomb.foundation.metrics.registry.GlobalRegistry;
 import org.apache.servicecomb.metrics.core.meter.invocation.MeterInvocationConst;
 import org.apache.servicecomb.swagger.invocation.InvocationType;
 import org.apache.servicecomb.swagger.invocation.Response;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -59,8 +62,21 @@ public class TestInvocationMetersInitializer {
     invocationMetersInitializer.init(globalRegistry, eventBus, null);
   }
 
+  @After
+  public void teardown() {
+    invocationMetersInitializer.destroy();
+  }
+
   @Test
-  public void consumerInvocation(@Mocked InvocationFinishEvent event) {
+  public void registerToInvocationLifecycle() {
+    assertTrue(InvocationLifecycleListeners.getListeners().contains(invocationMetersInitializer));
+
+    invocationMetersInitializer.destroy();
+    assertFalse(InvocationLifecycleListeners.getListeners().contains(invocationMetersInitializer));
+  }
+
+  @Test
+  public void consumerInvocation() {
     new Expectations() {
       {
         invocation.isConsumer();
@@ -93,14 +109,11 @@ public class TestInvocationMetersInitializer {
         result = 9;
         invocation.getInvocationStageTrace().calcHandlersResponseTime();
         result = 9;
-
-        event.getInvocation();
-        result = invocation;
       }
     };
 
-    eventBus.post(event);
-    eventBus.post(event);
+    invocationMetersInitializer.onFinish(invocation, response);
+    invocationMetersInitializer.onFinish(invocation, response);
 
     globalRegistry.poll(1);
 
@@ -144,7 +157,7 @@ public class TestInvocationMetersInitializer {
   }
 
   @Test
-  public void edgeInvocation(@Mocked InvocationFinishEvent event) {
+  public void edgeInvocation() {
     new Expectations() {
       {
         invocation.isConsumer();
@@ -185,13 +198,11 @@ public class TestInvocationMetersInitializer {
         result = 9;
         invocation.getInvocationStageTrace().calcServerFiltersResponseTime();
         result = 9;
-        event.getInvocation();
-        result = invocation;
       }
     };
 
-    eventBus.post(event);
-    eventBus.post(event);
+    invocationMetersInitializer.onFinish(invocation, response);
+    invocationMetersInitializer.onFinish(invocation, response);
 
     globalRegistry.poll(1);
 
@@ -247,7 +258,7 @@ public class TestInvocationMetersInitializer {
   }
 
   @Test
-  public void producerInvocation(@Mocked InvocationFinishEvent event) {
+  public void producerInvocation() {
     new Expectations() {
       {
         invocation.isConsumer();
@@ -276,13 +287,11 @@ public class TestInvocationMetersInitializer {
         result = 9;
         invocation.getInvocationStageTrace().calcSendResponseTime();
         result = 9;
-        event.getInvocation();
-        result = invocation;
       }
     };
 
-    eventBus.post(event);
-    eventBus.post(event);
+    invocationMetersInitializer.onFinish(invocation, response);
+    invocationMetersInitializer.onFinish(invocation, response);
 
     globalRegistry.poll(1);
 
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.metrics.core.meter.vertx;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
+import org.apache.servicecomb.foundation.vertx.metrics.metric.DefaultClientEndpointMetric;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.netflix.spectator.api.DefaultRegistry;
+import com.netflix.spectator.api.Id;
+import com.netflix.spectator.api.Measurement;
+import com.netflix.spectator.api.Tag;
+
+public class TestHttpClientEndpointMeter {
+  Id id = new DefaultRegistry().createId("servicecomb.vertx.endpoints");
+
+  DefaultClientEndpointMetric metric = new DefaultClientEndpointMetric("127.0.0.1:8080");
+
+  @After
+  public void tearDown() {
+    ArchaiusUtils.resetConfig();
+  }
+
+  private double findValue(List<Measurement> measurements, String statistic, String scope) {
+    return measurements.stream()
+        .filter(measurement -> statistic.equals(findTag(measurement.id(), EndpointMeter.STATISTIC)))
+        .filter(measurement -> scope == null || scope.equals(findTag(measurement.id(), "scope")))
+        .findFirst()
+        .get()
+        .value();
+  }
+
+  private String findTag(Id id, String key) {
+    for (Tag tag : id.tags()) {
+      if (tag.key().equals(key)) {
+        return tag.value();
+      }
+    }
+    return null;
+  }
+
+  @Test
+  public void measure() {
+    HttpClientEndpointMeter meter = new HttpClientEndpointMeter(id, metric);
+    metric.incrementInflight();
+    metric.incrementInflight();
+    metric.addPoolWaitTime(TimeUnit.MILLISECONDS.toNanos(1));
+    metric.addPoolWaitTime(TimeUnit.MILLISECONDS.toNanos(3));
+
+    List<Measurement> measurements = new ArrayList<>();
+    meter.calcMeasurements(measurements, 0, 1);
+    Assert.assertEquals(2, findValue(measurements, HttpClientEndpointMeter.INFLIGHT, null), 0);
+    Assert.assertEquals(2, findValue(measurements, HttpClientEndpointMeter.POOL_WAIT_TIME, null), 0);
+    Assert.assertTrue(measurements.stream()
+        .noneMatch(measurement -> HttpClientEndpointMeter.LATENCY_DISTRIBUTION
+            .equals(findTag(measurement.id(), EndpointMeter.STATISTIC))));
+
+    // no wait in this interval
+    measurements.clear();
+    meter.calcMeasurements(measurements, 0, 1);
+    Assert.assertEquals(0, findValue(measurements, HttpClientEndpointMeter.POOL_WAIT_TIME, null), 0);
+  }
+
+  @Test
+  public void latencyDistribution() {
+    ArchaiusUtils.setProperty(HttpClientEndpointMeter.CONFIG_LATENCY_DISTRIBUTION, "0,10,100");
+    HttpClientEndpointMeter meter = new HttpClientEndpointMeter(id, metric);
+
+    metric.addLatency(TimeUnit.MILLISECONDS.toNanos(1));
+    metric.addLatency(TimeUnit.MILLISECONDS.toNanos(20));
+    metric.addLatency(TimeUnit.MILLISECONDS.toNanos(30));
+    metric.addLatency(TimeUnit.MILLISECONDS.toNanos(200));
+
+    List<Measurement> measurements = new ArrayList<>();
+    meter.calcMeasurements(measurements, 0, 1);
+    Assert.assertEquals(1, findValue(measurements, HttpClientEndpointMeter.LATENCY_DISTRIBUTION, "[0,10)"), 0);
+    Assert.assertEquals(2, findValue(measurements, HttpClientEndpointMeter.LATENCY_DISTRIBUTION, "[10,100)"), 0);
+    Assert.assertEquals(1, findValue(measurements, HttpClientEndpointMeter.LATENCY_DISTRIBUTION, "[100,)"), 0);
+  }
+}
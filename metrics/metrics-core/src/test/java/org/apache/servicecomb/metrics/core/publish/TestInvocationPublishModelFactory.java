@@ -18,7 +18,6 @@ package org.apache.servicecomb.metrics.core.publish;
 
 import org.apache.servicecomb.core.Const;
 import org.apache.servicecomb.core.Invocation;
-import org.apache.servicecomb.core.event.InvocationFinishEvent;
 import org.apache.servicecomb.core.invocation.InvocationStageTrace;
 import org.apache.servicecomb.foundation.metrics.registry.GlobalRegistry;
 import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
@@ -382,10 +381,9 @@ public class TestInvocationPublishModelFactory {
         result = 200;
       }
     };
-    InvocationFinishEvent finishEvent = new InvocationFinishEvent(invocation, response);
-    eventBus.post(finishEvent);
+    invocationMetersInitializer.onFinish(invocation, response);
 
     invocationType = InvocationType.PRODUCER;
-    eventBus.post(finishEvent);
+    invocationMetersInitializer.onFinish(invocation, response);
   }
 }
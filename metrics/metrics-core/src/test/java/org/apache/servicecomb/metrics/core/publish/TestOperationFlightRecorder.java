@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.metrics.core.publish;
+
+import java.util.List;
+
+import org.apache.servicecomb.metrics.core.publish.model.SlowInvocationRecord;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestOperationFlightRecorder {
+  OperationFlightRecorder recorder = new OperationFlightRecorder(3);
+
+  private SlowInvocationRecord createRecord(double total) {
+    SlowInvocationRecord record = new SlowInvocationRecord();
+    record.setTotal(total);
+    return record;
+  }
+
+  @Test
+  public void threshold_notEnoughSamples() {
+    recorder.recordLatency(1000);
+    Assert.assertEquals(Long.MAX_VALUE, recorder.getNanoThreshold(System.currentTimeMillis(), 99, 0));
+  }
+
+  @Test
+  public void threshold_percentile() {
+    for (int idx = 1; idx <= 200; idx++) {
+      recorder.recordLatency(idx);
+    }
+
+    long now = System.currentTimeMillis();
+    Assert.assertEquals(198, recorder.getNanoThreshold(now, 99, 0));
+    // not refreshed in refresh interval
+    Assert.assertEquals(198, recorder.getNanoThreshold(now + 1, 50, 0));
+    Assert.assertEquals(100,
+        recorder.getNanoThreshold(now + OperationFlightRecorder.THRESHOLD_REFRESH_INTERVAL, 50, 0));
+  }
+
+  @Test
+  public void threshold_notLessThanMinTime() {
+    for (int idx = 0; idx < 200; idx++) {
+      recorder.recordLatency(1);
+    }
+    Assert.assertEquals(20, recorder.getNanoThreshold(System.currentTimeMillis(), 99, 20));
+  }
+
+  @Test
+  public void records_keepSlowest() {
+    recorder.addRecord(createRecord(1));
+    recorder.addRecord(createRecord(5));
+    Assert.assertEquals(2, recorder.getRecords().size());
+
+    recorder.addRecord(createRecord(3));
+    recorder.addRecord(createRecord(4));
+    // faster than all kept records, dropped even it's the latest
+    recorder.addRecord(createRecord(2));
+
+    List<SlowInvocationRecord> records = recorder.getRecords();
+    Assert.assertEquals(5, recorder.getRecordCount());
+    Assert.assertEquals(3, records.size());
+    Assert.assertEquals(5, records.get(0).getTotal(), 0);
+    Assert.assertEquals(4, records.get(1).getTotal(), 0);
+    Assert.assertEquals(3, records.get(2).getTotal(), 0);
+  }
+
+  @Test
+  public void records_agedOutByWindow() {
+    recorder.addRecord(createRecord(5));
+    recorder.rollWindow();
+    recorder.addRecord(createRecord(1));
+    recorder.addRecord(createRecord(2));
+    recorder.addRecord(createRecord(3));
+    recorder.addRecord(createRecord(4));
+
+    // slowest of current and previous window
+    List<SlowInvocationRecord> records = recorder.getRecords();
+    Assert.assertEquals(3, records.size());
+    Assert.assertEquals(5, records.get(0).getTotal(), 0);
+    Assert.assertEquals(4, records.get(1).getTotal(), 0);
+    Assert.assertEquals(3, records.get(2).getTotal(), 0);
+
+    recorder.rollWindow();
+    records = recorder.getRecords();
+    Assert.assertEquals(3, records.size());
+    Assert.assertEquals(4, records.get(0).getTotal(), 0);
+
+    recorder.rollWindow();
+    Assert.assertTrue(recorder.getRecords().isEmpty());
+  }
+
+  @Test
+  public void log_rateLimited() {
+    Assert.assertEquals(0, recorder.tryAcquireLog(0, 1000));
+    Assert.assertEquals(-1, recorder.tryAcquireLog(1, 1000));
+    Assert.assertEquals(-1, recorder.tryAcquireLog(999, 1000));
+    Assert.assertEquals(2, recorder.tryAcquireLog(1000, 1000));
+    Assert.assertEquals(-1, recorder.tryAcquireLog(1001, 1000));
+  }
+}
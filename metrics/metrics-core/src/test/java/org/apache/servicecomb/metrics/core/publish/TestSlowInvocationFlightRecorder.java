@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.metrics.core.publish;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.log4j.spi.LoggingEvent;
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.invocation.InvocationStageTrace;
+import org.apache.servicecomb.core.tracing.TraceIdLogger;
+import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
+import org.apache.servicecomb.foundation.test.scaffolding.log.LogCollector;
+import org.apache.servicecomb.metrics.core.publish.model.SlowInvocationRecord;
+import org.apache.servicecomb.swagger.invocation.Response;
+import org.hamcrest.Matchers;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import mockit.Delegate;
+import mockit.Expectations;
+import mockit.Mocked;
+
+public class TestSlowInvocationFlightRecorder {
+  static final String NAME = "PRODUCER rest ms.schema.op";
+
+  @Mocked
+  Invocation invocation;
+
+  @Mocked
+  Response response;
+
+  @Mocked
+  InvocationStageTrace stageTrace;
+
+  long now;
+
+  double nanoTotal;
+
+  SlowInvocationFlightRecorder flightRecorder;
+
+  LogCollector logCollector;
+
+  @Before
+  public void setup() {
+    ArchaiusUtils.resetConfig();
+    logCollector = new LogCollector();
+    flightRecorder = new SlowInvocationFlightRecorder() {
+      @Override
+      protected long currentTimeMillis() {
+        return now;
+      }
+    };
+
+    new Expectations() {
+      {
+        invocation.getInvocationQualifiedName();
+        result = NAME;
+        minTimes = 0;
+        invocation.getTraceId();
+        result = "traceId";
+        minTimes = 0;
+        invocation.getTraceIdLogger();
+        result = new TraceIdLogger(invocation);
+        minTimes = 0;
+        stageTrace.calcTotalTime();
+        result = new Delegate<Object>() {
+          @SuppressWarnings("unused")
+          double calcTotalTime() {
+            return nanoTotal;
+          }
+        };
+        minTimes = 0;
+      }
+    };
+  }
+
+  @After
+  public void teardown() {
+    logCollector.teardown();
+    ArchaiusUtils.resetConfig();
+  }
+
+  private List<LoggingEvent> collectEvents() {
+    return logCollector.getEvents().stream()
+        .filter(e -> e.getLoggerName().equals(SlowInvocationFlightRecorder.class.getName()))
+        .collect(Collectors.toList());
+  }
+
+  private void finish(int count, long msTotal) {
+    nanoTotal = msTotal * 1000_000;
+    for (int idx = 0; idx < count; idx++) {
+      flightRecorder.onFinish(invocation, response);
+    }
+  }
+
+  @Test
+  public void disabled() {
+    finish(OperationFlightRecorder.MIN_SAMPLES, 1000);
+    now = OperationFlightRecorder.THRESHOLD_REFRESH_INTERVAL;
+    finish(1, 1000);
+
+    Assert.assertTrue(flightRecorder.getRecords().isEmpty());
+    Assert.assertTrue(collectEvents().isEmpty());
+  }
+
+  @Test
+  public void recordAboveDynamicThreshold() {
+    ArchaiusUtils.setProperty(SlowInvocationFlightRecorder.CONFIG_PREFIX + "enabled", true);
+    ArchaiusUtils.setProperty(SlowInvocationFlightRecorder.CONFIG_PREFIX + "msMinTime", 0);
+
+    // not enough samples to calculate threshold
+    finish(OperationFlightRecorder.MIN_SAMPLES, 1);
+    Assert.assertTrue(flightRecorder.getRecords().isEmpty());
+
+    now = OperationFlightRecorder.THRESHOLD_REFRESH_INTERVAL;
+    finish(1, 10);
+    finish(1, 20);
+
+    Map<String, List<SlowInvocationRecord>> records = flightRecorder.getRecords();
+    Assert.assertThat(records.keySet(), Matchers.contains(NAME));
+    List<SlowInvocationRecord> operationRecords = records.get(NAME);
+    Assert.assertEquals(2, operationRecords.size());
+
+    SlowInvocationRecord record = operationRecords.get(0);
+    Assert.assertEquals("traceId", record.getTraceId());
+    Assert.assertEquals(20, record.getTotal(), 0);
+    Assert.assertEquals(1, record.getThreshold(), 0);
+    Assert.assertThat(record.getStages().keySet(), Matchers.contains("prepare", "threadPoolQueue",
+        "serverFiltersRequest", "handlersRequest", "businessExecute", "handlersResponse",
+        "serverFiltersResponse", "sendResponse"));
+    Assert.assertEquals(10, operationRecords.get(1).getTotal(), 0);
+
+    // second log suppressed
+    List<LoggingEvent> events = collectEvents();
+    Assert.assertEquals(1, events.size());
+    Assert.assertEquals("slow invocation recorded, " + NAME + ", total: 10.0 ms, threshold: 1.0 ms, "
+            + "suppressed logs: 0, query /metrics/slowInvocations for details.",
+        events.get(0).getRenderedMessage());
+  }
+
+  @Test
+  public void notRecordBelowMinTime() {
+    ArchaiusUtils.setProperty(SlowInvocationFlightRecorder.CONFIG_PREFIX + "enabled", true);
+
+    finish(OperationFlightRecorder.MIN_SAMPLES, 1);
+    now = OperationFlightRecorder.THRESHOLD_REFRESH_INTERVAL;
+    finish(1, 10);
+
+    Assert.assertTrue(flightRecorder.getRecords().isEmpty());
+  }
+}
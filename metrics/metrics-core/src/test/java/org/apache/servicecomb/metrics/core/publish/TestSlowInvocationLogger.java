@@ -20,10 +20,8 @@ import org.apache.servicecomb.common.rest.RestConst;
 import org.apache.servicecomb.common.rest.definition.RestOperationMeta;
 import org.apache.servicecomb.core.Endpoint;
 import org.apache.servicecomb.core.Invocation;
-import org.apache.servicecomb.core.SCBEngine;
 import org.apache.servicecomb.core.definition.OperationConfig;
 import org.apache.servicecomb.core.definition.OperationMeta;
-import org.apache.servicecomb.core.event.InvocationFinishEvent;
 import org.apache.servicecomb.core.invocation.InvocationStageTrace;
 import org.apache.servicecomb.core.tracing.TraceIdLogger;
 import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
@@ -39,9 +37,6 @@ import mockit.Expectations;
 import mockit.Mocked;
 
 public class TestSlowInvocationLogger {
-  @Mocked
-  SCBEngine scbEngine;
-
   @Mocked
   Invocation invocation;
 
@@ -60,29 +55,27 @@ public class TestSlowInvocationLogger {
   @Mocked
   InvocationStageTrace stageTrace;
 
-  InvocationFinishEvent event;
-
   SlowInvocationLogger logger;
 
   LogCollector logCollector;
 
   @Before
   public void setup() {
-    logger = new SlowInvocationLogger(scbEngine);
-    event = new InvocationFinishEvent(invocation, response);
+    logger = new SlowInvocationLogger();
     ArchaiusUtils.resetConfig();
     logCollector = new LogCollector();
   }
 
   @After
   public void teardown() {
+    logger.destroy();
     logCollector.teardown();
     ArchaiusUtils.resetConfig();
   }
 
   @Test
   public void disable() {
-    logger.onInvocationFinish(event);
+    logger.onFinish(invocation, response);
 
     Assert.assertTrue(logCollector.getEvents().isEmpty());
   }
@@ -99,7 +92,7 @@ public class TestSlowInvocationLogger {
         result = 1;
       }
     };
-    logger.onInvocationFinish(event);
+    logger.onFinish(invocation, response);
 
     Assert.assertTrue(logCollector.getEvents().isEmpty());
   }
@@ -126,7 +119,7 @@ public class TestSlowInvocationLogger {
         result = 1;
       }
     };
-    logger.onInvocationFinish(event);
+    logger.onFinish(invocation, response);
 
     Assert.assertEquals(""
             + "slow(0 ms) invocation, null:\n"
@@ -172,7 +165,7 @@ public class TestSlowInvocationLogger {
         result = 1;
       }
     };
-    logger.onInvocationFinish(event);
+    logger.onFinish(invocation, response);
 
     Assert.assertEquals(""
             + "slow(0 ms) invocation, null:\n"
@@ -222,7 +215,7 @@ public class TestSlowInvocationLogger {
         result = 1;
       }
     };
-    logger.onInvocationFinish(event);
+    logger.onFinish(invocation, response);
 
     Assert.assertEquals(""
             + "slow(0 ms) invocation, null:\n"
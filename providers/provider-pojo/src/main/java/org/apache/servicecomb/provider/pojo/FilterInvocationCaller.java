@@ -26,6 +26,7 @@ import javax.annotation.Nonnull;
 import org.apache.servicecomb.core.exception.Exceptions;
 import org.apache.servicecomb.core.provider.consumer.InvokerUtils;
 import org.apache.servicecomb.foundation.common.utils.AsyncUtils;
+import org.apache.servicecomb.swagger.invocation.exception.InvocationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,12 +37,18 @@ public class FilterInvocationCaller implements InvocationCaller {
   @Override
   public Object call(Method method, PojoConsumerMetaRefresher metaRefresher, PojoInvocationCreator invocationCreator,
       Object[] args) {
-    CompletableFuture<Object> future = AsyncUtils
-        .tryCatchSupplier(() -> invocationCreator.create(method, metaRefresher, args))
-        .exceptionally(throwable -> logCreateInvocationException(method, throwable))
-        .thenCompose(this::doCall);
-
-    return isAsyncMethod(method) ? future : AsyncUtils.toSync(future);
+    PojoInvocation invocation;
+    try {
+      invocation = invocationCreator.create(method, metaRefresher, args);
+    } catch (Throwable throwable) {
+      CompletableFuture<Object> future = AsyncUtils
+          .completeExceptionally(logCreateInvocationException(method, throwable));
+      return isAsyncMethod(method) ? future : AsyncUtils.toSync(future);
+    }
+
+    // sync flag is resolved when building the operation meta, no need to check method again
+    CompletableFuture<Object> future = AsyncUtils.tryCatchSupplierFuture(() -> doCall(invocation));
+    return invocation.isSync() ? AsyncUtils.toSync(future) : future;
   }
 
   protected CompletableFuture<Object> doCall(@Nonnull PojoInvocation invocation) {
@@ -49,8 +56,8 @@ public class FilterInvocationCaller implements InvocationCaller {
         .thenApply(invocation::convertResponse);
   }
 
-  protected PojoInvocation logCreateInvocationException(Method method, Throwable throwable) {
+  protected InvocationException logCreateInvocationException(Method method, Throwable throwable) {
     LOGGER.error("failed to create invocation, method=", method);
-    throw Exceptions.consumer("SCB_PROVIDER_POJO.400000001", "failed to create invocation.", throwable);
+    return Exceptions.consumer("SCB_PROVIDER_POJO.400000001", "failed to create invocation.", throwable);
   }
 }
@@ -16,23 +16,35 @@
  */
 package org.apache.servicecomb.provider.pojo;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 import javax.ws.rs.core.Response.Status;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.servicecomb.core.SCBEngine;
 import org.apache.servicecomb.core.definition.MicroserviceMeta;
 import org.apache.servicecomb.core.definition.SchemaMeta;
+import org.apache.servicecomb.core.event.SCBStatusChangedEvent;
 import org.apache.servicecomb.core.provider.consumer.MicroserviceReferenceConfig;
 import org.apache.servicecomb.provider.pojo.definition.PojoConsumerMeta;
+import org.apache.servicecomb.registry.api.event.MicroserviceVersionsChangedEvent;
 import org.apache.servicecomb.swagger.engine.SwaggerConsumer;
 import org.apache.servicecomb.swagger.invocation.exception.CommonExceptionData;
 import org.apache.servicecomb.swagger.invocation.exception.InvocationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.eventbus.Subscribe;
+
 public class PojoConsumerMetaRefresher {
   private static final Logger LOGGER = LoggerFactory.getLogger(PojoConsumerMetaRefresher.class);
 
+  // changed after SCBEngine status or any MicroserviceVersions changed
+  // a meta validated in current generation can be used without checking status and expiration again
+  private static final AtomicLong GENERATION = new AtomicLong();
+
+  private static final GenerationUpdater GENERATION_UPDATER = new GenerationUpdater();
+
   protected final String microserviceName;
 
   // can be null, should find SchemaMeta by consumerIntf in this time
@@ -47,6 +59,8 @@ public class PojoConsumerMetaRefresher {
   //  to avoid limit producer to only allow append parameter
   protected PojoConsumerMeta consumerMeta;
 
+  private volatile ValidatedMeta validatedMeta;
+
   public PojoConsumerMetaRefresher(String microserviceName, String schemaId, Class<?> consumerIntf) {
     this.microserviceName = microserviceName;
     this.schemaId = schemaId;
@@ -54,9 +68,17 @@ public class PojoConsumerMetaRefresher {
   }
 
   public PojoConsumerMeta getLatestMeta() {
+    ValidatedMeta validated = validatedMeta;
+    long generation = GENERATION.get();
+    if (validated != null && validated.generation == generation) {
+      return validated.consumerMeta;
+    }
+
     ensureStatusUp();
     ensureMetaAvailable();
-    return consumerMeta;
+    PojoConsumerMeta latestMeta = consumerMeta;
+    validatedMeta = new ValidatedMeta(generation, latestMeta);
+    return latestMeta;
   }
 
   private void ensureStatusUp() {
@@ -69,6 +91,8 @@ public class PojoConsumerMetaRefresher {
       }
 
       this.scbEngine = SCBEngine.getInstance();
+      // register again is ignored by the event bus
+      scbEngine.getEventBus().register(GENERATION_UPDATER);
     }
 
     scbEngine.ensureStatusUp();
@@ -124,4 +148,27 @@ public class PojoConsumerMetaRefresher {
     // try interface name second
     return microserviceMeta.findSchemaMeta(consumerIntf.getName());
   }
+
+  private static class ValidatedMeta {
+    final long generation;
+
+    final PojoConsumerMeta consumerMeta;
+
+    ValidatedMeta(long generation, PojoConsumerMeta consumerMeta) {
+      this.generation = generation;
+      this.consumerMeta = consumerMeta;
+    }
+  }
+
+  public static class GenerationUpdater {
+    @Subscribe
+    public void onSCBStatusChanged(SCBStatusChangedEvent event) {
+      GENERATION.incrementAndGet();
+    }
+
+    @Subscribe
+    public void onMicroserviceVersionsChanged(MicroserviceVersionsChangedEvent event) {
+      GENERATION.incrementAndGet();
+    }
+  }
 }
@@ -18,7 +18,6 @@ package org.apache.servicecomb.provider.pojo;
 
 import org.apache.servicecomb.core.Invocation;
 import org.apache.servicecomb.core.invocation.InvocationFactory;
-import org.apache.servicecomb.core.provider.consumer.ReferenceConfig;
 import org.apache.servicecomb.provider.pojo.definition.PojoConsumerOperationMeta;
 import org.apache.servicecomb.swagger.invocation.Response;
 
@@ -34,10 +33,6 @@ public class PojoInvocation extends Invocation {
     InvocationFactory.setSrcMicroservice(this);
   }
 
-  public ReferenceConfig getReferenceConfig() {
-    return referenceConfig;
-  }
-
   public Object convertResponse(Response response) {
     return consumerOperationMeta.getSwaggerConsumerOperation().getResponseMapper().mapResponse(response);
   }
@@ -17,14 +17,19 @@
 package org.apache.servicecomb.provider.pojo;
 
 import java.lang.reflect.Method;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 import org.apache.servicecomb.provider.pojo.definition.PojoConsumerMeta;
 import org.apache.servicecomb.provider.pojo.definition.PojoConsumerOperationMeta;
 
 public class PojoInvocationCreator {
+  // consumer methods bound to operations of one consumer meta, only rebind after the meta refreshed
+  private volatile BoundOperations boundOperations;
+
   public PojoInvocation create(Method method, PojoConsumerMetaRefresher metaRefresher, Object[] args) {
     PojoConsumerMeta pojoConsumerMeta = metaRefresher.getLatestMeta();
-    PojoConsumerOperationMeta consumerOperationMeta = pojoConsumerMeta.ensureFindOperationMeta(method);
+    PojoConsumerOperationMeta consumerOperationMeta = findOperationMeta(pojoConsumerMeta, method);
 
     PojoInvocation invocation = new PojoInvocation(consumerOperationMeta);
     invocation.setSuccessResponseType(consumerOperationMeta.getResponsesType());
@@ -33,4 +38,34 @@ public class PojoInvocationCreator {
 
     return invocation;
   }
+
+  protected PojoConsumerOperationMeta findOperationMeta(PojoConsumerMeta pojoConsumerMeta, Method method) {
+    BoundOperations bound = boundOperations;
+    if (bound == null || bound.consumerMeta != pojoConsumerMeta) {
+      bound = new BoundOperations(pojoConsumerMeta, new IdentityHashMap<>());
+    }
+
+    PojoConsumerOperationMeta consumerOperationMeta = bound.operations.get(method);
+    if (consumerOperationMeta != null) {
+      return consumerOperationMeta;
+    }
+
+    // proxy always pass the same Method instance, so bind by identity and copy on write
+    consumerOperationMeta = pojoConsumerMeta.ensureFindOperationMeta(method);
+    Map<Method, PojoConsumerOperationMeta> operations = new IdentityHashMap<>(bound.operations);
+    operations.put(method, consumerOperationMeta);
+    boundOperations = new BoundOperations(pojoConsumerMeta, operations);
+    return consumerOperationMeta;
+  }
+
+  private static class BoundOperations {
+    final PojoConsumerMeta consumerMeta;
+
+    final Map<Method, PojoConsumerOperationMeta> operations;
+
+    BoundOperations(PojoConsumerMeta consumerMeta, Map<Method, PojoConsumerOperationMeta> operations) {
+      this.consumerMeta = consumerMeta;
+      this.operations = operations;
+    }
+  }
 }
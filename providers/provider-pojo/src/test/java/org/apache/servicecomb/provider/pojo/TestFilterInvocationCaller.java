@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.provider.pojo;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.apache.servicecomb.swagger.invocation.exception.InvocationException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import mockit.Injectable;
+
+public class TestFilterInvocationCaller {
+  public interface AsyncIntf {
+    CompletableFuture<String> sayHi();
+  }
+
+  Method method = AsyncIntf.class.getMethods()[0];
+
+  @Test
+  public void call_asyncMethodFailedWhenCreateInvocation() {
+    PojoInvocationCreator invocationCreator = new PojoInvocationCreator() {
+      @Override
+      public PojoInvocation create(Method method, PojoConsumerMetaRefresher metaRefresher, Object[] args) {
+        throw new IllegalStateException("schema not exist");
+      }
+    };
+
+    CompletableFuture<?> future = (CompletableFuture<?>) new FilterInvocationCaller()
+        .call(method, null, invocationCreator, null);
+
+    Throwable cause = joinFailed(future);
+    Assert.assertTrue(cause instanceof InvocationException);
+    Assert.assertEquals("schema not exist", cause.getCause().getMessage());
+  }
+
+  @Test
+  public void call_asyncMethodFailedWhenInvoke(@Injectable PojoInvocation invocation) {
+    PojoInvocationCreator invocationCreator = new PojoInvocationCreator() {
+      @Override
+      public PojoInvocation create(Method method, PojoConsumerMetaRefresher metaRefresher, Object[] args) {
+        return invocation;
+      }
+    };
+    FilterInvocationCaller caller = new FilterInvocationCaller() {
+      @Override
+      protected CompletableFuture<Object> doCall(PojoInvocation invocation) {
+        throw new IllegalStateException("filter failed");
+      }
+    };
+
+    CompletableFuture<?> future = (CompletableFuture<?>) caller.call(method, null, invocationCreator, null);
+
+    Assert.assertEquals("filter failed", joinFailed(future).getMessage());
+  }
+
+  private Throwable joinFailed(CompletableFuture<?> future) {
+    Assert.assertTrue(future.isCompletedExceptionally());
+    try {
+      future.join();
+      Assert.fail("must throw exception");
+      return null;
+    } catch (CompletionException e) {
+      return e.getCause();
+    }
+  }
+}
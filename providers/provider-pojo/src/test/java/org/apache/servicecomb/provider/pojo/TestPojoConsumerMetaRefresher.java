@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.provider.pojo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.servicecomb.config.ConfigUtil;
+import org.apache.servicecomb.core.SCBEngine;
+import org.apache.servicecomb.core.SCBStatus;
+import org.apache.servicecomb.core.bootstrap.SCBBootstrap;
+import org.apache.servicecomb.foundation.common.event.EventManager;
+import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
+import org.apache.servicecomb.provider.pojo.TestInvoker.DownloadIntf;
+import org.apache.servicecomb.provider.pojo.definition.PojoConsumerMeta;
+import org.apache.servicecomb.registry.DiscoveryManager;
+import org.apache.servicecomb.registry.api.event.MicroserviceVersionsChangedEvent;
+import org.apache.servicecomb.swagger.invocation.exception.InvocationException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import mockit.Expectations;
+import mockit.Injectable;
+
+public class TestPojoConsumerMetaRefresher {
+  @Before
+  public void setUp() {
+    ConfigUtil.installDynamicConfig();
+    DiscoveryManager.renewInstance();
+  }
+
+  @After
+  public void teardown() {
+    ArchaiusUtils.resetConfig();
+  }
+
+  @Test
+  public void getLatestMeta_validateAgainOnlyAfterChanged(@Injectable PojoConsumerMeta meta,
+      @Injectable PojoConsumerMeta newMeta) {
+    SCBEngine scbEngine = SCBBootstrap.createSCBEngineForTest();
+    scbEngine.setStatus(SCBStatus.UP);
+    new Expectations() {
+      {
+        meta.isExpired();
+        result = true;
+        minTimes = 0;
+      }
+    };
+    List<PojoConsumerMeta> metas = new ArrayList<>(Arrays.asList(meta, newMeta));
+    PojoConsumerMetaRefresher refresher = new PojoConsumerMetaRefresher("ms", "download", DownloadIntf.class) {
+      @Override
+      protected PojoConsumerMeta refreshMeta() {
+        return metas.remove(0);
+      }
+    };
+
+    Assert.assertSame(meta, refresher.getLatestMeta());
+    // expired but not notified yet
+    Assert.assertSame(meta, refresher.getLatestMeta());
+
+    EventManager.post(new MicroserviceVersionsChangedEvent(null));
+    Assert.assertSame(newMeta, refresher.getLatestMeta());
+    Assert.assertSame(newMeta, refresher.getLatestMeta());
+
+    scbEngine.setStatus(SCBStatus.STOPPING);
+    try {
+      refresher.getLatestMeta();
+      Assert.fail("must throw exception");
+    } catch (InvocationException e) {
+      Assert.assertEquals(503, e.getStatusCode());
+    }
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.provider.pojo;
+
+import java.lang.reflect.Method;
+
+import org.apache.servicecomb.provider.pojo.definition.PojoConsumerMeta;
+import org.apache.servicecomb.provider.pojo.definition.PojoConsumerOperationMeta;
+import org.junit.Assert;
+import org.junit.Test;
+
+import mockit.Expectations;
+import mockit.Injectable;
+
+public class TestPojoInvocationCreator {
+  PojoInvocationCreator creator = new PojoInvocationCreator();
+
+  Method method = TestInvoker.DownloadIntf.class.getMethods()[0];
+
+  @Test
+  public void findOperationMeta_boundUntilMetaChanged(@Injectable PojoConsumerMeta meta,
+      @Injectable PojoConsumerOperationMeta operationMeta,
+      @Injectable PojoConsumerMeta newMeta,
+      @Injectable PojoConsumerOperationMeta newOperationMeta) {
+    new Expectations() {
+      {
+        meta.ensureFindOperationMeta(method);
+        result = operationMeta;
+        times = 1;
+        newMeta.ensureFindOperationMeta(method);
+        result = newOperationMeta;
+        times = 1;
+      }
+    };
+
+    Assert.assertSame(operationMeta, creator.findOperationMeta(meta, method));
+    Assert.assertSame(operationMeta, creator.findOperationMeta(meta, method));
+
+    Assert.assertSame(newOperationMeta, creator.findOperationMeta(newMeta, method));
+    Assert.assertSame(newOperationMeta, creator.findOperationMeta(newMeta, method));
+  }
+
+  @Test
+  public void findOperationMeta_notExist(@Injectable PojoConsumerMeta meta) {
+    new Expectations() {
+      {
+        meta.ensureFindOperationMeta(method);
+        result = new IllegalStateException("not exist");
+      }
+    };
+
+    try {
+      creator.findOperationMeta(meta, method);
+      Assert.fail("must throw exception");
+    } catch (IllegalStateException e) {
+      Assert.assertEquals("not exist", e.getMessage());
+    }
+  }
+}
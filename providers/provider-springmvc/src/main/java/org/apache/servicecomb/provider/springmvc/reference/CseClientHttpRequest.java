@@ -18,10 +18,13 @@
 package org.apache.servicecomb.provider.springmvc.reference;
 
 import java.io.OutputStream;
+import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.net.URI;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.Part;
@@ -39,6 +42,7 @@ import org.apache.servicecomb.core.invocation.InvocationFactory;
 import org.apache.servicecomb.core.provider.consumer.InvokerUtils;
 import org.apache.servicecomb.core.provider.consumer.MicroserviceReferenceConfig;
 import org.apache.servicecomb.core.provider.consumer.ReferenceConfig;
+import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
 import org.apache.servicecomb.swagger.invocation.Response;
 import org.apache.servicecomb.swagger.invocation.context.InvocationContext;
 import org.apache.servicecomb.swagger.invocation.exception.ExceptionFactory;
@@ -56,6 +60,57 @@ import io.netty.handler.codec.http.QueryStringDecoder;
 public class CseClientHttpRequest implements ClientHttpRequest {
   private static final Logger LOGGER = LoggerFactory.getLogger(CseClientHttpRequest.class);
 
+  // templates are almost always constants, just a protection for templates built dynamically
+  private static final int MAX_REQUEST_PLANS = 4096;
+
+  private static final Map<RequestPlanKey, RequestPlan> REQUEST_PLANS = new ConcurrentHashMapEx<>();
+
+  // plan replaces createRequestMeta and collectArguments, so not work for sub classes override them
+  private static final ClassValue<Boolean> REQUEST_PLAN_SUPPORTED = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      for (Class<?> cls = type; cls != CseClientHttpRequest.class; cls = cls.getSuperclass()) {
+        for (Method method : cls.getDeclaredMethods()) {
+          if (method.getName().equals("createRequestMeta") || method.getName().equals("collectArguments")) {
+            return false;
+          }
+        }
+      }
+      return true;
+    }
+  };
+
+  private static class RequestPlanKey {
+    final Class<?> requestClass;
+
+    final HttpMethod method;
+
+    final String uriTemplate;
+
+    RequestPlanKey(Class<?> requestClass, HttpMethod method, String uriTemplate) {
+      this.requestClass = requestClass;
+      this.method = method;
+      this.uriTemplate = uriTemplate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof RequestPlanKey)) {
+        return false;
+      }
+      RequestPlanKey other = (RequestPlanKey) o;
+      return requestClass == other.requestClass && method == other.method && uriTemplate.equals(other.uriTemplate);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(requestClass, method, uriTemplate);
+    }
+  }
+
   // URL format：cse://microserviceName/business url
   private URI uri;
 
@@ -165,16 +220,66 @@ public class CseClientHttpRequest implements ClientHttpRequest {
 
   @Override
   public ClientHttpResponse execute() {
+    Map<String, Object> swaggerArguments = this.prepareArguments();
+
+    // 异常流程，直接抛异常出去
+    return this.invoke(swaggerArguments);
+  }
+
+  protected Map<String, Object> prepareArguments() {
     path = findUriPath(uri);
+    queryParams = decodeQueryParams(uri);
+
+    RequestPlan plan = findRequestPlan();
+    if (plan != null) {
+      Map<String, String> pathParams = plan.matchPath(path);
+      if (pathParams != null) {
+        requestMeta = plan.createRequestMeta(pathParams);
+        return plan.bindArguments(pathParams, queryParams, httpHeaders, requestBody);
+      }
+    }
+
     requestMeta = createRequestMeta(method.name(), uri);
+    return this.collectArguments();
+  }
 
-    QueryStringDecoder queryStringDecoder = new QueryStringDecoder(uri.getRawSchemeSpecificPart());
-    queryParams = queryStringDecoder.parameters();
+  /**
+   * @return null if the uri is not expanded from template by {@link CseUriTemplateHandler}
+   */
+  protected RequestPlan findRequestPlan() {
+    String uriTemplate = CseUriTemplateHandler.takeUriTemplate(uri);
+    if (uriTemplate == null || !REQUEST_PLAN_SUPPORTED.get(getClass())) {
+      return null;
+    }
 
-    Map<String, Object> swaggerArguments = this.collectArguments();
+    RequestPlanKey key = new RequestPlanKey(getClass(), method, uriTemplate);
+    RequestPlan plan = REQUEST_PLANS.get(key);
+    if (plan != null && !plan.isExpired()) {
+      // microservice name maybe a variable of the template
+      return plan.isSameMicroservice(uri.getAuthority()) ? plan : null;
+    }
 
-    // 异常流程，直接抛异常出去
-    return this.invoke(swaggerArguments);
+    if (plan == null && REQUEST_PLANS.size() >= MAX_REQUEST_PLANS) {
+      return null;
+    }
+
+    String microserviceName = uri.getAuthority();
+    MicroserviceReferenceConfig microserviceReferenceConfig = SCBEngine.getInstance()
+        .createMicroserviceReferenceConfig(microserviceName);
+    OperationLocator locator = locateOperation(microserviceReferenceConfig, method.name());
+    plan = new RequestPlan(SCBEngine.getInstance(), microserviceName, microserviceReferenceConfig,
+        locator.getOperation());
+    REQUEST_PLANS.put(key, plan);
+    return plan;
+  }
+
+  protected Map<String, List<String>> decodeQueryParams(URI uri) {
+    if (uri.getRawQuery() == null) {
+      return Collections.emptyMap();
+    }
+
+    QueryStringDecoder queryStringDecoder = new QueryStringDecoder(uri.getRawSchemeSpecificPart());
+    return queryStringDecoder.parameters();
   }
 
   protected RequestMeta createRequestMeta(String httpMethod, URI uri) {
@@ -182,6 +287,18 @@ public class CseClientHttpRequest implements ClientHttpRequest {
 
     MicroserviceReferenceConfig microserviceReferenceConfig = SCBEngine.getInstance()
         .createMicroserviceReferenceConfig(microserviceName);
+    OperationLocator locator = locateOperation(microserviceReferenceConfig, httpMethod);
+    RestOperationMeta swaggerRestOperation = locator.getOperation();
+
+    OperationMeta operationMeta = locator.getOperation().getOperationMeta();
+    ReferenceConfig referenceConfig = microserviceReferenceConfig.createReferenceConfig(operationMeta);
+
+    Map<String, String> pathParams = locator.getPathVarMap();
+    return new RequestMeta(referenceConfig, swaggerRestOperation, pathParams);
+  }
+
+  private OperationLocator locateOperation(MicroserviceReferenceConfig microserviceReferenceConfig,
+      String httpMethod) {
     MicroserviceMeta microserviceMeta = microserviceReferenceConfig.getLatestMicroserviceMeta();
 
     ServicePathManager servicePathManager = ServicePathManager.getServicePathManager(microserviceMeta);
@@ -191,14 +308,7 @@ public class CseClientHttpRequest implements ClientHttpRequest {
           microserviceMeta.getMicroserviceName()));
     }
 
-    OperationLocator locator = servicePathManager.consumerLocateOperation(path, httpMethod);
-    RestOperationMeta swaggerRestOperation = locator.getOperation();
-
-    OperationMeta operationMeta = locator.getOperation().getOperationMeta();
-    ReferenceConfig referenceConfig = microserviceReferenceConfig.createReferenceConfig(operationMeta);
-
-    Map<String, String> pathParams = locator.getPathVarMap();
-    return new RequestMeta(referenceConfig, swaggerRestOperation, pathParams);
+    return servicePathManager.consumerLocateOperation(path, httpMethod);
   }
 
   protected String findUriPath(URI uri) {
@@ -244,6 +354,8 @@ public class CseClientHttpRequest implements ClientHttpRequest {
     return InvokerUtils.innerSyncInvoke(invocation);
   }
 
+  // param processors only read from the parsed path/query/header maps through this view, so binding shares
+  // required, default value, collection format and cookie handling with producer without parsing again
   protected Map<String, Object> collectArguments() {
     HttpServletRequest mockRequest = new CommonToHttpServletRequest(requestMeta.getPathParams(), queryParams,
         httpHeaders, requestBody, requestMeta.getSwaggerRestOperation().isFormData(),
@@ -57,22 +57,53 @@ public class CseUriTemplateHandler extends org.springframework.web.util.DefaultU
       "^(" + SCHEME_PATTERN + ")?" + "(//(" + USERINFO_PATTERN + "@)?" + HOST_PATTERN + "(:" + PORT_PATTERN +
           ")?" + ")?" + PATH_PATTERN + "(\\?" + QUERY_PATTERN + ")?" + "(#" + LAST_PATTERN + ")?");
 
+  // RestTemplate expand and execute in the same thread, CseClientHttpRequest find request plan by the template
+  private static final ThreadLocal<ExpandedUri> LAST_EXPANDED = ThreadLocal.withInitial(ExpandedUri::new);
+
+  private static class ExpandedUri {
+    URI uri;
+
+    String uriTemplate;
+  }
+
   public CseUriTemplateHandler() {
     setStrictEncoding(true);
   }
 
+  /**
+   * @return template of the uri if the uri is just expanded in this thread, otherwise null
+   */
+  public static String takeUriTemplate(URI uri) {
+    ExpandedUri expanded = LAST_EXPANDED.get();
+    if (expanded.uri != uri) {
+      return null;
+    }
+
+    String uriTemplate = expanded.uriTemplate;
+    expanded.uri = null;
+    expanded.uriTemplate = null;
+    return uriTemplate;
+  }
+
+  private static URI recordUriTemplate(String uriTemplate, URI uri) {
+    ExpandedUri expanded = LAST_EXPANDED.get();
+    expanded.uri = uri;
+    expanded.uriTemplate = uriTemplate;
+    return uri;
+  }
+
   @Override
   protected URI expandInternal(String uriTemplate, Map<String, ?> uriVariables) {
     UriComponentsBuilder uriComponentsBuilder = initUriComponentsBuilder(uriTemplate);
     UriComponents uriComponents = expandAndEncode(uriComponentsBuilder, uriVariables);
-    return createUri(uriTemplate, uriComponents);
+    return recordUriTemplate(uriTemplate, createUri(uriTemplate, uriComponents));
   }
 
   @Override
   protected URI expandInternal(String uriTemplate, Object... uriVariables) {
     UriComponentsBuilder uriComponentsBuilder = initUriComponentsBuilder(uriTemplate);
     UriComponents uriComponents = expandAndEncode(uriComponentsBuilder, uriVariables);
-    return createUri(uriTemplate, uriComponents);
+    return recordUriTemplate(uriTemplate, createUri(uriTemplate, uriComponents));
   }
 
   private URI createUri(String uriTemplate, UriComponents uriComponents) {
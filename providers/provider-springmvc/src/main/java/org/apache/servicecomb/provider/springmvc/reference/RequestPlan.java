@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.provider.springmvc.reference;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.apache.servicecomb.common.rest.codec.RestCodec;
+import org.apache.servicecomb.common.rest.codec.param.BodyProcessorCreator.BodyProcessor;
+import org.apache.servicecomb.common.rest.codec.param.ParamValueProcessor;
+import org.apache.servicecomb.common.rest.codec.param.PathProcessorCreator.PathProcessor;
+import org.apache.servicecomb.common.rest.codec.param.QueryProcessorCreator.QueryProcessor;
+import org.apache.servicecomb.common.rest.definition.RestOperationMeta;
+import org.apache.servicecomb.common.rest.definition.RestParam;
+import org.apache.servicecomb.common.rest.locator.MicroservicePaths;
+import org.apache.servicecomb.common.rest.locator.OperationGroup;
+import org.apache.servicecomb.common.rest.locator.OperationLocator;
+import org.apache.servicecomb.common.rest.locator.ServicePathManager;
+import org.apache.servicecomb.core.SCBEngine;
+import org.apache.servicecomb.core.provider.consumer.MicroserviceReferenceConfig;
+import org.apache.servicecomb.core.provider.consumer.ReferenceConfig;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * <pre>
+ * plan of RestTemplate requests with the same uri template and http method
+ * the operation is predicted by the template, but the path of every request is still verified,
+ * so the result is always the same as {@link ServicePathManager#consumerLocateOperation(String, String)}:
+ *   static operation: path equals to the operation path
+ *   dynamic operation: not a static path of the same method, not matched by dynamic operations of the same
+ *     method with higher priority, and matched by the operation
+ *
+ * path, query and body arguments are bound directly,
+ * other arguments still read from {@link CommonToHttpServletRequest}, created only when needed
+ * </pre>
+ */
+public class RequestPlan {
+  interface ParamBinder {
+    Object bind(RequestValues values) throws Exception;
+  }
+
+  static class RequestValues {
+    final Map<String, String> pathParams;
+
+    final Map<String, List<String>> queryParams;
+
+    final HttpHeaders httpHeaders;
+
+    final Object requestBody;
+
+    final RestOperationMeta restOperation;
+
+    HttpServletRequest servletRequest;
+
+    RequestValues(Map<String, String> pathParams, Map<String, List<String>> queryParams, HttpHeaders httpHeaders,
+        Object requestBody, RestOperationMeta restOperation) {
+      this.pathParams = pathParams;
+      this.queryParams = queryParams;
+      this.httpHeaders = httpHeaders;
+      this.requestBody = requestBody;
+      this.restOperation = restOperation;
+    }
+
+    HttpServletRequest getServletRequest() {
+      if (servletRequest == null) {
+        servletRequest = new CommonToHttpServletRequest(pathParams, queryParams, httpHeaders, requestBody,
+            restOperation.isFormData(), restOperation.getFileKeys());
+      }
+      return servletRequest;
+    }
+  }
+
+  private final SCBEngine scbEngine;
+
+  private final String microserviceName;
+
+  private final MicroserviceReferenceConfig microserviceReferenceConfig;
+
+  private final RestOperationMeta restOperation;
+
+  private final ReferenceConfig referenceConfig;
+
+  // static paths of the same method, can be matched by this dynamic operation
+  private final Set<String> staticPaths = new HashSet<>();
+
+  // dynamic operations of the same method, have higher priority than this operation
+  private final List<RestOperationMeta> higherPriorityOperations = new ArrayList<>();
+
+  private final ParamBinder[] binders;
+
+  public RequestPlan(SCBEngine scbEngine, String microserviceName,
+      MicroserviceReferenceConfig microserviceReferenceConfig, RestOperationMeta restOperation) {
+    this.scbEngine = scbEngine;
+    this.microserviceName = microserviceName;
+    this.microserviceReferenceConfig = microserviceReferenceConfig;
+    this.restOperation = restOperation;
+    this.referenceConfig = microserviceReferenceConfig.createReferenceConfig(restOperation.getOperationMeta());
+
+    if (!restOperation.isAbsoluteStaticPath()) {
+      collectCompetitors();
+    }
+
+    List<RestParam> paramList = restOperation.getParamList();
+    binders = new ParamBinder[paramList.size()];
+    for (int idx = 0; idx < binders.length; idx++) {
+      binders[idx] = createBinder(paramList.get(idx).getParamProcessor());
+    }
+  }
+
+  private void collectCompetitors() {
+    MicroservicePaths paths = ServicePathManager
+        .getServicePathManager(restOperation.getOperationMeta().getMicroserviceMeta())
+        .getConsumerPaths();
+    String httpMethod = restOperation.getHttpMethod();
+    for (Entry<String, OperationGroup> entry : paths.getStaticPathOperationMap().entrySet()) {
+      if (entry.getValue().findValue(httpMethod) != null
+          && "".equals(restOperation.getAbsolutePathRegExp().match(entry.getKey(), new HashMap<>()))) {
+        staticPaths.add(entry.getKey());
+      }
+    }
+
+    for (RestOperationMeta operation : paths.getDynamicPathOperationList()) {
+      if (operation == restOperation) {
+        break;
+      }
+      if (operation.getHttpMethod().equals(httpMethod)) {
+        higherPriorityOperations.add(operation);
+      }
+    }
+  }
+
+  private ParamBinder createBinder(ParamValueProcessor processor) {
+    if (processor instanceof PathProcessor) {
+      return values -> ((PathProcessor) processor).getValue(values.pathParams);
+    }
+
+    if (processor instanceof QueryProcessor && ((QueryProcessor) processor).isValuesDecodable()) {
+      return values -> ((QueryProcessor) processor).getValue(values.queryParams);
+    }
+
+    if (processor instanceof BodyProcessor && !restOperation.isFormData()) {
+      return values -> {
+        if (values.requestBody != null) {
+          return ((BodyProcessor) processor).convertBody(values.requestBody);
+        }
+        return processor.getValue(values.getServletRequest());
+      };
+    }
+
+    return values -> processor.getValue(values.getServletRequest());
+  }
+
+  public RestOperationMeta getRestOperation() {
+    return restOperation;
+  }
+
+  /**
+   * microservice meta refreshed or SCBEngine restarted, the plan should be rebuilt
+   */
+  public boolean isExpired() {
+    return scbEngine != SCBEngine.getInstance() || microserviceReferenceConfig.isExpired();
+  }
+
+  public boolean isSameMicroservice(String microserviceName) {
+    return this.microserviceName.equals(microserviceName);
+  }
+
+  /**
+   * @return path variables, or null if the path is not located to this operation
+   */
+  public Map<String, String> matchPath(String path) {
+    String standardPath = OperationLocator.getStandardPath(path);
+    if (restOperation.isAbsoluteStaticPath()) {
+      return standardPath.equals(restOperation.getAbsolutePath()) ? Collections.emptyMap() : null;
+    }
+
+    if (staticPaths.contains(standardPath)) {
+      return null;
+    }
+
+    // same as OperationLocator, path variables of previous partial matches are kept
+    Map<String, String> pathVarMap = new HashMap<>();
+    for (RestOperationMeta operation : higherPriorityOperations) {
+      if ("".equals(operation.getAbsolutePathRegExp().match(standardPath, pathVarMap))) {
+        return null;
+      }
+    }
+    return "".equals(restOperation.getAbsolutePathRegExp().match(standardPath, pathVarMap)) ? pathVarMap : null;
+  }
+
+  public RequestMeta createRequestMeta(Map<String, String> pathParams) {
+    scbEngine.ensureStatusUp();
+    return new RequestMeta(referenceConfig, restOperation, pathParams);
+  }
+
+  public Map<String, Object> bindArguments(Map<String, String> pathParams, Map<String, List<String>> queryParams,
+      HttpHeaders httpHeaders, Object requestBody) {
+    RequestValues values = new RequestValues(pathParams, queryParams, httpHeaders, requestBody, restOperation);
+    Map<String, Object> swaggerArguments = restOperation.createSwaggerArguments();
+    List<RestParam> paramList = restOperation.getParamList();
+    for (int idx = 0; idx < binders.length; idx++) {
+      RestParam param = paramList.get(idx);
+      try {
+        swaggerArguments.put(param.getParamName(), binders[idx].bind(values));
+      } catch (Exception e) {
+        throw RestCodec.createInvalidParamException(restOperation, param, e);
+      }
+    }
+    return swaggerArguments;
+  }
+}
@@ -33,8 +33,6 @@ import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.util.concurrent.CompletableToListenableFutureAdapter;
 import org.springframework.util.concurrent.ListenableFuture;
 
-import io.netty.handler.codec.http.QueryStringDecoder;
-
 @SuppressWarnings("deprecation")
 // TODO : upgrade to spring 5 will having warning's , we'll fix it later
 public class CseAsyncClientHttpRequest extends CseClientHttpRequest implements
@@ -74,11 +72,7 @@ public class CseAsyncClientHttpRequest extends CseClientHttpRequest implements
 
   @Override
   public ListenableFuture<ClientHttpResponse> executeAsync() {
-    this.setPath(findUriPath(this.getURI()));
-    this.setRequestMeta(createRequestMeta(this.getMethod().name(), this.getURI()));
-    QueryStringDecoder queryStringDecoder = new QueryStringDecoder(this.getURI().getRawSchemeSpecificPart());
-    this.setQueryParams(queryStringDecoder.parameters());
-    Map<String, Object> swaggerArguments = this.collectArguments();
+    Map<String, Object> swaggerArguments = this.prepareArguments();
     return this.invoke(swaggerArguments);
   }
 }
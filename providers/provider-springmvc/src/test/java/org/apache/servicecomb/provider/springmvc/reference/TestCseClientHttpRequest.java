@@ -17,6 +17,8 @@
 package org.apache.servicecomb.provider.springmvc.reference;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.servicecomb.config.ConfigUtil;
 import org.apache.servicecomb.core.Invocation;
@@ -32,10 +34,12 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 
 public class TestCseClientHttpRequest {
   static SCBEngine scbEngine;
@@ -62,6 +66,16 @@ public class TestCseClientHttpRequest {
       input[0] = (byte) (input[0] + 1);
       return input;
     }
+
+    @RequestMapping(path = "/query/{id}", method = RequestMethod.GET)
+    public String query(@PathVariable("id") String id, @RequestParam("name") String name) {
+      return id + name;
+    }
+
+    @RequestMapping(path = "/query/static", method = RequestMethod.GET)
+    public String queryStatic(@RequestParam("name") String name) {
+      return name;
+    }
   }
 
   @Test
@@ -92,4 +106,48 @@ public class TestCseClientHttpRequest {
     Assert.assertArrayEquals(body, (byte[]) holder.value.getInvocationArguments().get("input"));
     Assert.assertEquals("123", holder.value.getInvocationArguments().get("token"));
   }
+
+  private Invocation executeTemplate(String uriTemplate, Object... uriVariables) {
+    List<Invocation> invocations = new ArrayList<>();
+    URI uri = new CseUriTemplateHandler().expand(uriTemplate, uriVariables);
+    CseClientHttpRequest client = new CseClientHttpRequest(uri, HttpMethod.GET) {
+      @Override
+      protected Response doInvoke(Invocation invocation) {
+        invocations.add(invocation);
+        return Response.ok("result");
+      }
+    };
+    client.execute();
+
+    // template is consumed by the request plan
+    Assert.assertNull(CseUriTemplateHandler.takeUriTemplate(uri));
+    return invocations.get(0);
+  }
+
+  @Test
+  public void should_bind_arguments_by_request_plan() {
+    String uriTemplate = "cse://defaultMicroservice/" + SpringmvcImpl.class.getSimpleName() + "/query/{id}?name={name}";
+
+    Invocation invocation = executeTemplate(uriTemplate, "1", "a b");
+    Assert.assertEquals("query", invocation.getOperationMeta().getOperationId());
+    Assert.assertEquals("1", invocation.getInvocationArguments().get("id"));
+    Assert.assertEquals("a b", invocation.getInvocationArguments().get("name"));
+
+    invocation = executeTemplate(uriTemplate, "2", "c");
+    Assert.assertEquals("query", invocation.getOperationMeta().getOperationId());
+    Assert.assertEquals("2", invocation.getInvocationArguments().get("id"));
+    Assert.assertEquals("c", invocation.getInvocationArguments().get("name"));
+  }
+
+  @Test
+  public void should_not_use_request_plan_when_path_located_to_another_operation() {
+    String uriTemplate = "cse://defaultMicroservice/" + SpringmvcImpl.class.getSimpleName() + "/query/{id}?name={name}";
+
+    Invocation invocation = executeTemplate(uriTemplate, "1", "a");
+    Assert.assertEquals("query", invocation.getOperationMeta().getOperationId());
+
+    invocation = executeTemplate(uriTemplate, "static", "b");
+    Assert.assertEquals("queryStatic", invocation.getOperationMeta().getOperationId());
+    Assert.assertEquals("b", invocation.getInvocationArguments().get("name"));
+  }
 }
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.swagger.invocation.arguments;
+
+import java.util.Arrays;
+
+/**
+ * <pre>
+ * argument names of one operation, resolved to slot index when the operation meta is created
+ *
+ * arguments of an invocation are stored in an Object[] indexed by slot,
+ * and exposed as a map only for compatibility, see {@link SlotArguments}
+ *
+ * argument names are mostly the same String instances during boot and runtime,
+ * so lookup compares by reference first and by equals only when reference not matched
+ * </pre>
+ */
+public class ArgumentSlots {
+  // slot assignment is tracked by a long bit mask
+  public static final int MAX_SLOTS = Long.SIZE;
+
+  private final String[] names;
+
+  public ArgumentSlots(String... names) {
+    if (names.length > MAX_SLOTS) {
+      throw new IllegalArgumentException(
+          String.format("too many arguments, max=%d, actual=%d.", MAX_SLOTS, names.length));
+    }
+    this.names = names;
+  }
+
+  public static boolean isSupported(int size) {
+    return size <= MAX_SLOTS;
+  }
+
+  public int size() {
+    return names.length;
+  }
+
+  public String getName(int idx) {
+    return names[idx];
+  }
+
+  public int indexOf(Object name) {
+    for (int idx = 0; idx < names.length; idx++) {
+      if (names[idx] == name) {
+        return idx;
+      }
+    }
+
+    for (int idx = 0; idx < names.length; idx++) {
+      if (names[idx].equals(name)) {
+        return idx;
+      }
+    }
+    return -1;
+  }
+
+  public SlotArguments createArguments() {
+    return new SlotArguments(this);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(names);
+  }
+}
@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.swagger.invocation.arguments;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * <pre>
+ * arguments stored in slots of {@link ArgumentSlots}, and viewed as a map
+ *
+ * names not belong to the slots, eg: added by user filters, are stored in a lazy created overflow map,
+ * so all map semantics are kept for old code that access arguments by name
+ * </pre>
+ */
+public class SlotArguments extends AbstractMap<String, Object> {
+  private final ArgumentSlots slots;
+
+  private final Object[] values;
+
+  // bit n means slot n is assigned, even assigned to null
+  private long assigned;
+
+  private Map<String, Object> overflow;
+
+  private Set<Entry<String, Object>> entrySet;
+
+  public SlotArguments(ArgumentSlots slots) {
+    this.slots = slots;
+    this.values = new Object[slots.size()];
+  }
+
+  public ArgumentSlots getSlots() {
+    return slots;
+  }
+
+  /**
+   * @return the backing array, not a copy, unassigned slots are null
+   */
+  public Object[] getValues() {
+    return values;
+  }
+
+  public Object getValue(int idx) {
+    return values[idx];
+  }
+
+  public void setValue(int idx, Object value) {
+    values[idx] = value;
+    assigned |= 1L << idx;
+  }
+
+  private boolean isAssigned(int idx) {
+    return (assigned & (1L << idx)) != 0;
+  }
+
+  @Override
+  public int size() {
+    return Long.bitCount(assigned) + (overflow == null ? 0 : overflow.size());
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    int idx = slots.indexOf(key);
+    if (idx >= 0) {
+      return isAssigned(idx);
+    }
+    return overflow != null && overflow.containsKey(key);
+  }
+
+  @Override
+  public Object get(Object key) {
+    int idx = slots.indexOf(key);
+    if (idx >= 0) {
+      return values[idx];
+    }
+    return overflow == null ? null : overflow.get(key);
+  }
+
+  @Override
+  public Object put(String key, Object value) {
+    int idx = slots.indexOf(key);
+    if (idx >= 0) {
+      Object old = values[idx];
+      setValue(idx, value);
+      return old;
+    }
+
+    if (overflow == null) {
+      overflow = new HashMap<>();
+    }
+    return overflow.put(key, value);
+  }
+
+  @Override
+  public Object remove(Object key) {
+    int idx = slots.indexOf(key);
+    if (idx >= 0) {
+      Object old = values[idx];
+      clearSlot(idx);
+      return old;
+    }
+    return overflow == null ? null : overflow.remove(key);
+  }
+
+  private void clearSlot(int idx) {
+    values[idx] = null;
+    assigned &= ~(1L << idx);
+  }
+
+  @Override
+  public void clear() {
+    for (int idx = 0; idx < values.length; idx++) {
+      values[idx] = null;
+    }
+    assigned = 0;
+    overflow = null;
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    if (entrySet == null) {
+      entrySet = new EntrySet();
+    }
+    return entrySet;
+  }
+
+  private class SlotEntry implements Entry<String, Object> {
+    private final int idx;
+
+    SlotEntry(int idx) {
+      this.idx = idx;
+    }
+
+    @Override
+    public String getKey() {
+      return slots.getName(idx);
+    }
+
+    @Override
+    public Object getValue() {
+      return values[idx];
+    }
+
+    @Override
+    public Object setValue(Object value) {
+      Object old = values[idx];
+      values[idx] = value;
+      return old;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Entry)) {
+        return false;
+      }
+      Entry<?, ?> e = (Entry<?, ?>) o;
+      return getKey().equals(e.getKey()) &&
+          (getValue() == null ? e.getValue() == null : getValue().equals(e.getValue()));
+    }
+
+    @Override
+    public int hashCode() {
+      return getKey().hashCode() ^ (getValue() == null ? 0 : getValue().hashCode());
+    }
+
+    @Override
+    public String toString() {
+      return getKey() + "=" + getValue();
+    }
+  }
+
+  private class EntrySet extends AbstractSet<Entry<String, Object>> {
+    @Override
+    public int size() {
+      return SlotArguments.this.size();
+    }
+
+    @Override
+    public Iterator<Entry<String, Object>> iterator() {
+      return new Iterator<Entry<String, Object>>() {
+        private int nextIdx = findAssigned(0);
+
+        // slot of the entry returned by last next(), -1 if not a slot entry or already removed
+        private int lastIdx = -1;
+
+        private boolean lastFromOverflow;
+
+        private Iterator<Entry<String, Object>> overflowIterator;
+
+        private int findAssigned(int from) {
+          for (int idx = from; idx < values.length; idx++) {
+            if (isAssigned(idx)) {
+              return idx;
+            }
+          }
+          return -1;
+        }
+
+        private Iterator<Entry<String, Object>> overflowIterator() {
+          if (overflowIterator == null && overflow != null) {
+            overflowIterator = overflow.entrySet().iterator();
+          }
+          return overflowIterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+          if (nextIdx >= 0) {
+            return true;
+          }
+          Iterator<Entry<String, Object>> it = overflowIterator();
+          return it != null && it.hasNext();
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+          if (nextIdx >= 0) {
+            Entry<String, Object> entry = new SlotEntry(nextIdx);
+            lastIdx = nextIdx;
+            lastFromOverflow = false;
+            nextIdx = findAssigned(nextIdx + 1);
+            return entry;
+          }
+
+          Iterator<Entry<String, Object>> it = overflowIterator();
+          if (it == null) {
+            throw new NoSuchElementException();
+          }
+          Entry<String, Object> entry = it.next();
+          lastIdx = -1;
+          lastFromOverflow = true;
+          return entry;
+        }
+
+        @Override
+        public void remove() {
+          if (lastFromOverflow) {
+            lastFromOverflow = false;
+            overflowIterator.remove();
+            return;
+          }
+
+          if (lastIdx < 0) {
+            throw new IllegalStateException();
+          }
+          clearSlot(lastIdx);
+          lastIdx = -1;
+        }
+      };
+    }
+  }
+}
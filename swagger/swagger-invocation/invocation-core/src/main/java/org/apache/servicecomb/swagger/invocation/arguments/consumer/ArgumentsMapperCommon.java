@@ -22,6 +22,7 @@ import java.util.Map;
 
 import org.apache.servicecomb.swagger.invocation.SwaggerInvocation;
 import org.apache.servicecomb.swagger.invocation.arguments.ArgumentMapper;
+import org.apache.servicecomb.swagger.invocation.arguments.ArgumentSlots;
 import org.apache.servicecomb.swagger.invocation.arguments.ArgumentsMapper;
 
 /**
@@ -30,14 +31,27 @@ import org.apache.servicecomb.swagger.invocation.arguments.ArgumentsMapper;
 public class ArgumentsMapperCommon implements ArgumentsMapper {
   private List<ArgumentMapper> mappers;
 
+  // slots of swagger parameters, null means too many parameters to use slots
+  private ArgumentSlots swaggerArgumentSlots;
+
   public ArgumentsMapperCommon(List<ArgumentMapper> mappers) {
+    this(mappers, null);
+  }
+
+  public ArgumentsMapperCommon(List<ArgumentMapper> mappers, ArgumentSlots swaggerArgumentSlots) {
     this.mappers = mappers;
+    this.swaggerArgumentSlots = swaggerArgumentSlots;
+  }
+
+  public ArgumentSlots getSwaggerArgumentSlots() {
+    return swaggerArgumentSlots;
   }
 
   @Override
   public Map<String, Object> invocationArgumentToSwaggerArguments(SwaggerInvocation swaggerInvocation,
       Map<String, Object> invocationArguments) {
-    Map<String, Object> swaggerParameters = new HashMap<>(invocationArguments.size());
+    Map<String, Object> swaggerParameters = swaggerArgumentSlots != null ?
+        swaggerArgumentSlots.createArguments() : new HashMap<>(invocationArguments.size());
     for (ArgumentMapper argMapper : mappers) {
       argMapper.invocationArgumentToSwaggerArguments(swaggerInvocation, swaggerParameters, invocationArguments);
     }
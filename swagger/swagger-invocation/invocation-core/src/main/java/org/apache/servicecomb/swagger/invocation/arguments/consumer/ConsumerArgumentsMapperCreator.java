@@ -26,6 +26,7 @@ import org.apache.servicecomb.foundation.common.utils.LambdaMetafactoryUtils;
 import org.apache.servicecomb.swagger.generator.core.model.SwaggerOperation;
 import org.apache.servicecomb.swagger.invocation.arguments.AbstractArgumentsMapperCreator;
 import org.apache.servicecomb.swagger.invocation.arguments.ArgumentMapper;
+import org.apache.servicecomb.swagger.invocation.arguments.ArgumentSlots;
 import org.apache.servicecomb.swagger.invocation.arguments.ArgumentsMapper;
 import org.apache.servicecomb.swagger.invocation.arguments.ContextArgumentMapperFactory;
 import org.slf4j.Logger;
@@ -71,7 +72,19 @@ public class ConsumerArgumentsMapperCreator extends AbstractArgumentsMapperCreat
       return new ArgumentsMapperDirectReuse();
     }
 
-    return new ArgumentsMapperCommon(mappers);
+    return new ArgumentsMapperCommon(mappers, createSwaggerArgumentSlots());
+  }
+
+  protected ArgumentSlots createSwaggerArgumentSlots() {
+    if (!ArgumentSlots.isSupported(swaggerParameters.size())) {
+      return null;
+    }
+
+    String[] names = new String[swaggerParameters.size()];
+    for (int idx = 0; idx < names.length; idx++) {
+      names[idx] = swaggerParameters.get(idx).getName();
+    }
+    return new ArgumentSlots(names);
   }
 
   @Override
@@ -23,6 +23,7 @@ import java.util.Map;
 
 import org.apache.servicecomb.swagger.invocation.SwaggerInvocation;
 import org.apache.servicecomb.swagger.invocation.arguments.ArgumentMapper;
+import org.apache.servicecomb.swagger.invocation.arguments.ArgumentSlots;
 import org.apache.servicecomb.swagger.invocation.arguments.ArgumentsMapper;
 
 /**
@@ -31,14 +32,27 @@ import org.apache.servicecomb.swagger.invocation.arguments.ArgumentsMapper;
 public class ProducerArgumentsMapper implements ArgumentsMapper {
   private List<ArgumentMapper> producerArgMapperList;
 
+  // slots of producer method parameters, null means too many parameters to use slots
+  private ArgumentSlots producerArgumentSlots;
+
   public ProducerArgumentsMapper(List<ArgumentMapper> producerArgMapperList) {
+    this(producerArgMapperList, null);
+  }
+
+  public ProducerArgumentsMapper(List<ArgumentMapper> producerArgMapperList, ArgumentSlots producerArgumentSlots) {
     this.producerArgMapperList = producerArgMapperList;
+    this.producerArgumentSlots = producerArgumentSlots;
+  }
+
+  public ArgumentSlots getProducerArgumentSlots() {
+    return producerArgumentSlots;
   }
 
   @Override
   public Map<String, Object> swaggerArgumentToInvocationArguments(SwaggerInvocation invocation,
       Map<String, Object> swaggerArguments) {
-    Map<String, Object> invocationArguments = new HashMap<>(swaggerArguments.size());
+    Map<String, Object> invocationArguments = producerArgumentSlots != null ?
+        producerArgumentSlots.createArguments() : new HashMap<>(swaggerArguments.size());
     for (ArgumentMapper argMapper : producerArgMapperList) {
       argMapper.swaggerArgumentToInvocationArguments(invocation, swaggerArguments, invocationArguments);
     }
@@ -29,6 +29,7 @@ import org.apache.servicecomb.foundation.common.utils.LambdaMetafactoryUtils;
 import org.apache.servicecomb.swagger.generator.core.model.SwaggerOperation;
 import org.apache.servicecomb.swagger.invocation.arguments.AbstractArgumentsMapperCreator;
 import org.apache.servicecomb.swagger.invocation.arguments.ArgumentMapper;
+import org.apache.servicecomb.swagger.invocation.arguments.ArgumentSlots;
 import org.apache.servicecomb.swagger.invocation.arguments.ContextArgumentMapperFactory;
 
 import com.fasterxml.jackson.databind.JavaType;
@@ -57,7 +58,20 @@ public class ProducerArgumentsMapperCreator extends AbstractArgumentsMapperCreat
 
   public ProducerArgumentsMapper createArgumentsMapper() {
     doCreateArgumentsMapper();
-    return new ProducerArgumentsMapper(mappers);
+    return new ProducerArgumentsMapper(mappers, createProducerArgumentSlots());
+  }
+
+  protected ArgumentSlots createProducerArgumentSlots() {
+    Parameter[] parameters = providerMethod.getParameters();
+    if (!ArgumentSlots.isSupported(parameters.length)) {
+      return null;
+    }
+
+    String[] names = new String[parameters.length];
+    for (int idx = 0; idx < parameters.length; idx++) {
+      names[idx] = parameters[idx].getName();
+    }
+    return new ArgumentSlots(names);
   }
 
   @Override
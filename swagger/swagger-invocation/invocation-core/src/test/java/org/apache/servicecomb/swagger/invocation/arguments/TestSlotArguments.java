@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.swagger.invocation.arguments;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestSlotArguments {
+  ArgumentSlots slots = new ArgumentSlots("x", "y", "z");
+
+  @Test
+  public void indexOf() {
+    Assert.assertEquals(1, slots.indexOf("y"));
+    Assert.assertEquals(1, slots.indexOf(new String("y")));
+    Assert.assertEquals(-1, slots.indexOf("notExist"));
+  }
+
+  @Test
+  public void putAndGet() {
+    SlotArguments arguments = slots.createArguments();
+    Assert.assertTrue(arguments.isEmpty());
+
+    arguments.put("x", 1);
+    arguments.put("z", null);
+    Assert.assertEquals(2, arguments.size());
+    Assert.assertEquals(1, arguments.get("x"));
+    Assert.assertTrue(arguments.containsKey("z"));
+    Assert.assertFalse(arguments.containsKey("y"));
+    Assert.assertArrayEquals(new Object[] {1, null, null}, arguments.getValues());
+
+    arguments.remove("x");
+    Assert.assertEquals(1, arguments.size());
+    Assert.assertNull(arguments.get("x"));
+  }
+
+  @Test
+  public void overflow() {
+    SlotArguments arguments = slots.createArguments();
+    arguments.setValue(0, 1);
+    arguments.put("other", 2);
+
+    Map<String, Object> expected = new HashMap<>();
+    expected.put("x", 1);
+    expected.put("other", 2);
+    Assert.assertEquals(expected, arguments);
+    Assert.assertEquals(expected, new HashMap<>(arguments));
+  }
+
+  @Test
+  public void tooManySlots() {
+    Assert.assertTrue(ArgumentSlots.isSupported(ArgumentSlots.MAX_SLOTS));
+    Assert.assertFalse(ArgumentSlots.isSupported(ArgumentSlots.MAX_SLOTS + 1));
+  }
+
+  @Test
+  public void iteratorRemove() {
+    SlotArguments arguments = slots.createArguments();
+    arguments.setValue(0, 1);
+    arguments.setValue(1, 2);
+    arguments.put("other", 3);
+
+    arguments.entrySet().removeIf(entry -> entry.getKey().equals("x") || entry.getKey().equals("other"));
+    Assert.assertEquals(Collections.singletonMap("y", 2), arguments);
+
+    arguments.values().remove(2);
+    Assert.assertTrue(arguments.isEmpty());
+    Assert.assertNull(arguments.get("y"));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void iteratorRemoveWithoutNext() {
+    slots.createArguments().entrySet().iterator().remove();
+  }
+}
@@ -70,6 +70,7 @@ public class HighwayClient {
     // global request timeout to be login timeout
     tcpClientConfig.setMsLoginTimeout(DynamicPropertyFactory.getInstance()
         .getLongProperty("servicecomb.request.timeout", TcpClientConfig.DEFAULT_LOGIN_TIMEOUT).get());
+    tcpClientConfig.setConnectionsPerEndpoint(HighwayConfig.getClientConnectionsPerEndpoint());
 
     SSLOptionFactory factory =
         SSLOptionFactory.createSSLOptionFactory(SSL_KEY, null);
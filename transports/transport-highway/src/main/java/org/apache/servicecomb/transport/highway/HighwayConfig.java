@@ -43,4 +43,9 @@ public final class HighwayConfig {
         "servicecomb.highway.client.verticle-count",
         "servicecomb.highway.client.thread-count");
   }
+
+  public static int getClientConnectionsPerEndpoint() {
+    return DynamicPropertyFactory.getInstance()
+        .getIntProperty("servicecomb.highway.client.connectionsPerEndpoint", 1).get();
+  }
 }
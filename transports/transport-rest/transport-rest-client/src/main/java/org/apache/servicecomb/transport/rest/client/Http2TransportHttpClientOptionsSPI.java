@@ -62,6 +62,11 @@ public class Http2TransportHttpClientOptionsSPI extends HttpTransportHttpClientO
     return TransportClientConfig.getHttp2ConnectionMaxPoolSize();
   }
 
+  @Override
+  public boolean isHttp2MultiplexedPoolEnabled() {
+    return TransportClientConfig.isHttp2MultiplexedPoolEnabled();
+  }
+
   @Override
   public int getIdleTimeoutInSeconds() {
     return TransportClientConfig.getHttp2ConnectionIdleTimeoutInSeconds();
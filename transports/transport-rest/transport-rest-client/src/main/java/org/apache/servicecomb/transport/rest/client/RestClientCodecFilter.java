@@ -24,6 +24,7 @@ import org.apache.servicecomb.core.Invocation;
 import org.apache.servicecomb.core.filter.ConsumerFilter;
 import org.apache.servicecomb.core.filter.FilterNode;
 import org.apache.servicecomb.swagger.invocation.Response;
+import org.apache.servicecomb.swagger.invocation.context.TransportContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -70,7 +71,10 @@ public class RestClientCodecFilter implements ConsumerFilter {
         .thenAccept(v -> encoder.encode(invocation))
         .thenCompose(v -> nextNode.onFilter(invocation))
         .thenApply(response -> decoder.decode(invocation, response))
-        .whenComplete((response, throwable) -> finishClientFiltersResponse(invocation));
+        .whenComplete((response, throwable) -> {
+          releaseHttp2Stream(invocation);
+          finishClientFiltersResponse(invocation);
+        });
   }
 
   protected void startClientFiltersRequest(Invocation invocation) {
@@ -78,10 +82,20 @@ public class RestClientCodecFilter implements ConsumerFilter {
   }
 
   protected void prepareTransportContext(Invocation invocation) {
+    // retry replaces the transport context, the stream of the previous request is not used any more
+    releaseHttp2Stream(invocation);
+
     RestClientTransportContext transportContext = transportContextFactory.create(invocation);
     invocation.setTransportContext(transportContext);
   }
 
+  protected void releaseHttp2Stream(Invocation invocation) {
+    TransportContext transportContext = invocation.getTransportContext();
+    if (transportContext instanceof RestClientTransportContext) {
+      ((RestClientTransportContext) transportContext).releaseHttp2Stream();
+    }
+  }
+
   protected void finishClientFiltersResponse(Invocation invocation) {
     invocation.getInvocationStageTrace().finishClientFiltersResponse();
   }
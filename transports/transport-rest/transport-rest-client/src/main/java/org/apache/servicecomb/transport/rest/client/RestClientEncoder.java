@@ -32,8 +32,8 @@ import javax.servlet.http.Part;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 
+import org.apache.servicecomb.common.rest.codec.InvocationContextCodec;
 import org.apache.servicecomb.common.rest.codec.RestCodec;
-import org.apache.servicecomb.common.rest.codec.RestObjectMapperFactory;
 import org.apache.servicecomb.common.rest.codec.query.QueryCodec;
 import org.apache.servicecomb.core.Const;
 import org.apache.servicecomb.core.Invocation;
@@ -128,8 +128,7 @@ public class RestClientEncoder {
       }
 
       httpClientRequest.putHeader(Const.TARGET_MICROSERVICE, invocation.getMicroserviceName());
-      httpClientRequest.putHeader(Const.CSE_CONTEXT,
-          RestObjectMapperFactory.getRestObjectMapper().writeValueAsString(invocation.getContext()));
+      httpClientRequest.putHeader(Const.CSE_CONTEXT, InvocationContextCodec.encode(invocation));
     }
 
     protected void writeForm(@Nullable Map<String, Object> formMap) throws Exception {
@@ -19,6 +19,7 @@ package org.apache.servicecomb.transport.rest.client;
 import java.util.Optional;
 
 import org.apache.servicecomb.common.rest.definition.RestOperationMeta;
+import org.apache.servicecomb.foundation.vertx.client.http.Http2ClientConnection;
 import org.apache.servicecomb.swagger.invocation.context.VertxTransportContext;
 
 import io.vertx.core.Context;
@@ -41,6 +42,9 @@ public class RestClientTransportContext implements VertxTransportContext {
 
   protected HttpClientResponse httpClientResponse;
 
+  // not null when use http2 multiplexed pool, the stream must be released after invocation finished
+  protected Http2ClientConnection http2Connection;
+
   public RestClientTransportContext(RestOperationMeta restOperationMeta, Context vertxContext,
       HttpClientRequest httpClientRequest, BoundaryFactory boundaryFactory) {
     this.restOperationMeta = restOperationMeta;
@@ -88,6 +92,26 @@ public class RestClientTransportContext implements VertxTransportContext {
     return this;
   }
 
+  public Http2ClientConnection getHttp2Connection() {
+    return http2Connection;
+  }
+
+  public RestClientTransportContext setHttp2Connection(Http2ClientConnection http2Connection) {
+    this.http2Connection = http2Connection;
+    return this;
+  }
+
+  /**
+   * release the acquired stream only once
+   */
+  public void releaseHttp2Stream() {
+    Http2ClientConnection connection = http2Connection;
+    if (connection != null) {
+      http2Connection = null;
+      connection.releaseStream();
+    }
+  }
+
   public String getLocalAddress() {
     return Optional.ofNullable(httpClientRequest.connection())
         .map(HttpConnection::localAddress)
@@ -24,6 +24,8 @@ import org.apache.servicecomb.common.rest.definition.RestMetaUtils;
 import org.apache.servicecomb.common.rest.definition.RestOperationMeta;
 import org.apache.servicecomb.core.Invocation;
 import org.apache.servicecomb.foundation.common.net.URIEndpointObject;
+import org.apache.servicecomb.foundation.vertx.client.http.Http2ClientConnection;
+import org.apache.servicecomb.foundation.vertx.client.http.Http2ClientPool;
 import org.apache.servicecomb.foundation.vertx.client.http.HttpClientWithContext;
 import org.apache.servicecomb.foundation.vertx.client.http.HttpClients;
 import org.apache.servicecomb.registry.definition.DefinitionConst;
@@ -67,17 +69,34 @@ public class RestClientTransportContextFactory {
     RestOperationMeta restOperationMeta = RestMetaUtils.getRestOperationMeta(invocation.getOperationMeta());
 
     HttpClientWithContext httpClientWithContext = findHttpClientPool(invocation);
-    HttpClientRequest httpClientRequest = createHttpClientRequest(invocation, restOperationMeta,
-        httpClientWithContext.getHttpClient());
-    return new RestClientTransportContext(restOperationMeta,
+    HttpClientRequest httpClientRequest;
+    try {
+      httpClientRequest = createHttpClientRequest(invocation, restOperationMeta,
+          httpClientWithContext.getHttpClient());
+    } catch (Exception e) {
+      if (httpClientWithContext instanceof Http2ClientConnection) {
+        ((Http2ClientConnection) httpClientWithContext).releaseStream();
+      }
+      throw e;
+    }
+
+    RestClientTransportContext transportContext = new RestClientTransportContext(restOperationMeta,
         httpClientWithContext.context(),
         httpClientRequest,
         boundaryFactory);
+    if (httpClientWithContext instanceof Http2ClientConnection) {
+      transportContext.setHttp2Connection((Http2ClientConnection) httpClientWithContext);
+    }
+    return transportContext;
   }
 
   protected HttpClientWithContext findHttpClientPool(Invocation invocation) {
     URIEndpointObject endpoint = (URIEndpointObject) invocation.getEndpoint().getAddress();
     if (endpoint.isHttp2Enabled()) {
+      Http2ClientPool http2ClientPool = HttpClients.getHttp2ClientPool(Http2TransportHttpClientOptionsSPI.CLIENT_NAME);
+      if (http2ClientPool != null) {
+        return http2ClientPool.acquire(endpoint.getHostOrIp(), endpoint.getPort());
+      }
       return HttpClients.getClient(Http2TransportHttpClientOptionsSPI.CLIENT_NAME, invocation.isSync());
     }
 
@@ -62,6 +62,12 @@ public final class TransportClientConfig {
         .get();
   }
 
+  public static boolean isHttp2MultiplexedPoolEnabled() {
+    return DynamicPropertyFactory.getInstance()
+        .getBooleanProperty("servicecomb.rest.client.http2.multiplexedPool.enabled", false)
+        .get();
+  }
+
   public static boolean getUseAlpn() {
     return DynamicPropertyFactory.getInstance()
         .getBooleanProperty("servicecomb.rest.client.http2.useAlpnEnabled", true)
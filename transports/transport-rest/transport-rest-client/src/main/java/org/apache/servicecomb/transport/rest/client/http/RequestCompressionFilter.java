@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.transport.rest.client.http;
+
+import org.apache.servicecomb.common.rest.RestConst;
+import org.apache.servicecomb.common.rest.codec.param.RestClientRequestImpl;
+import org.apache.servicecomb.common.rest.compression.CompressionPolicy;
+import org.apache.servicecomb.common.rest.filter.HttpClientFilter;
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.definition.OperationConfig;
+import org.apache.servicecomb.foundation.vertx.http.HttpServletRequestEx;
+import org.apache.servicecomb.foundation.vertx.http.HttpServletResponseEx;
+import org.apache.servicecomb.swagger.invocation.Response;
+import org.apache.servicecomb.swagger.invocation.exception.ExceptionFactory;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+
+/**
+ * compress request body by gzip when {@link OperationConfig#isRequestCompressionEnabled()}<br>
+ * producer must enable servicecomb.rest.server.decompression
+ */
+public class RequestCompressionFilter implements HttpClientFilter {
+  private final CompressionPolicy policy = CompressionPolicy.CLIENT;
+
+  @Override
+  public int getOrder() {
+    // after all filters that may change the body
+    return Integer.MAX_VALUE;
+  }
+
+  @Override
+  public void beforeSendRequest(Invocation invocation, HttpServletRequestEx requestEx) {
+    OperationConfig operationConfig = invocation.getOperationMeta().getConfig();
+    if (!operationConfig.isRequestCompressionEnabled()
+        || requestEx.getHeader(HttpHeaders.CONTENT_ENCODING.toString()) != null) {
+      return;
+    }
+
+    RestClientRequestImpl restClientRequest = (RestClientRequestImpl) invocation.getHandlerContext()
+        .get(RestConst.INVOCATION_HANDLER_REQUESTCLIENT);
+    if (restClientRequest == null || restClientRequest.hasUploads()) {
+      return;
+    }
+
+    try {
+      Buffer body = restClientRequest.getBodyBuffer();
+      if (body == null || !policy.isCompressible(requestEx.getContentType(), body.length(),
+          operationConfig.getCompressionMinSize())) {
+        return;
+      }
+
+      Buffer compressed = policy.compress(body);
+      restClientRequest.write(compressed);
+      requestEx.setBodyBuffer(compressed);
+      requestEx.setHeader(HttpHeaders.CONTENT_ENCODING.toString(), CompressionPolicy.GZIP);
+    } catch (Throwable e) {
+      throw ExceptionFactory.convertConsumerException(e);
+    }
+  }
+
+  @Override
+  public Response afterReceiveResponse(Invocation invocation, HttpServletResponseEx responseEx) {
+    return null;
+  }
+}
@@ -23,6 +23,7 @@ import java.util.concurrent.TimeoutException;
 import javax.ws.rs.core.Response.Status;
 
 import org.apache.servicecomb.common.rest.RestConst;
+import org.apache.servicecomb.common.rest.codec.InvocationContextCodec;
 import org.apache.servicecomb.common.rest.codec.param.RestClientRequestImpl;
 import org.apache.servicecomb.common.rest.definition.RestOperationMeta;
 import org.apache.servicecomb.common.rest.filter.HttpClientFilter;
@@ -35,7 +36,6 @@ import org.apache.servicecomb.foundation.common.http.HttpStatus;
 import org.apache.servicecomb.foundation.common.net.IpPort;
 import org.apache.servicecomb.foundation.common.net.URIEndpointObject;
 import org.apache.servicecomb.foundation.common.utils.ExceptionUtils;
-import org.apache.servicecomb.foundation.common.utils.JsonUtils;
 import org.apache.servicecomb.foundation.vertx.client.http.HttpClientWithContext;
 import org.apache.servicecomb.foundation.vertx.http.HttpServletRequestEx;
 import org.apache.servicecomb.foundation.vertx.http.HttpServletResponseEx;
@@ -301,7 +301,7 @@ public class RestClientInvocation {
 
   protected void setCseContext() {
     try {
-      clientRequest.putHeader(Const.CSE_CONTEXT, JsonUtils.writeValueAsString(invocation.getContext()));
+      clientRequest.putHeader(Const.CSE_CONTEXT, InvocationContextCodec.encode(invocation));
     } catch (Throwable e) {
       invocation.getTraceIdLogger().error(LOGGER, "Failed to encode and set cseContext, message={}."
           , ExceptionUtils.getExceptionMessageWithoutTrace(e));
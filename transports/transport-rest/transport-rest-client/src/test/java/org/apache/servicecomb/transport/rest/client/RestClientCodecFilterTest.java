@@ -30,6 +30,7 @@ import org.apache.servicecomb.foundation.common.utils.AsyncUtils;
 import org.apache.servicecomb.foundation.test.scaffolding.exception.RuntimeExceptionWithoutStackTrace;
 import org.apache.servicecomb.swagger.invocation.Response;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
 class RestClientCodecFilterTest extends RestClientTestBase {
   RestClientEncoder encoder = new RestClientEncoder();
@@ -70,4 +71,16 @@ class RestClientCodecFilterTest extends RestClientTestBase {
     assertThat(invocation.getInvocationStageTrace().getStartClientFiltersRequest()).isNotEqualTo(0);
     assertThat(invocation.getInvocationStageTrace().getFinishClientFiltersResponse()).isNotEqualTo(0);
   }
+
+  @Test
+  void should_release_stream_of_replaced_transport_context() {
+    init("query", null, false);
+    RestClientTransportContext previous = Mockito.mock(RestClientTransportContext.class);
+    invocation.setTransportContext(previous);
+
+    codecFilter.onFilter(invocation, FilterNode.EMPTY).join();
+
+    Mockito.verify(previous).releaseHttp2Stream();
+    assertThat((Object) invocation.getTransportContext()).isNotSameAs(previous);
+  }
 }
\ No newline at end of file
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.transport.rest.client.http;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import javax.ws.rs.core.MediaType;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.servicecomb.common.rest.RestConst;
+import org.apache.servicecomb.common.rest.codec.param.RestClientRequestImpl;
+import org.apache.servicecomb.common.rest.compression.CompressionPolicy;
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.definition.OperationConfig;
+import org.apache.servicecomb.core.definition.OperationMeta;
+import org.apache.servicecomb.foundation.vertx.http.VertxClientRequestToHttpServletRequest;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpHeaders;
+import mockit.Expectations;
+import mockit.Mock;
+import mockit.MockUp;
+import mockit.Mocked;
+
+public class TestRequestCompressionFilter {
+  static final String BODY = StringUtils.repeat("{\"name\":\"value\"}", 100);
+
+  @Mocked
+  Invocation invocation;
+
+  @Mocked
+  OperationMeta operationMeta;
+
+  MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+
+  OperationConfig operationConfig = new OperationConfig();
+
+  Map<String, Object> handlerContext = new HashMap<>();
+
+  RestClientRequestImpl restClientRequest;
+
+  VertxClientRequestToHttpServletRequest requestEx;
+
+  RequestCompressionFilter filter = new RequestCompressionFilter();
+
+  @Before
+  public void setUp() {
+    operationConfig.setRequestCompressionEnabled(true);
+    operationConfig.setCompressionMinSize(1024);
+
+    HttpClientRequest clientRequest = new MockUp<HttpClientRequest>() {
+      @Mock
+      MultiMap headers() {
+        return headers;
+      }
+    }.getMockInstance();
+    headers.set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
+    restClientRequest = new RestClientRequestImpl(clientRequest, null, null);
+    restClientRequest.write(Buffer.buffer(BODY));
+    requestEx = new VertxClientRequestToHttpServletRequest(clientRequest, Buffer.buffer(BODY));
+    handlerContext.put(RestConst.INVOCATION_HANDLER_REQUESTCLIENT, restClientRequest);
+
+    new Expectations() {
+      {
+        invocation.getOperationMeta();
+        result = operationMeta;
+        operationMeta.getConfig();
+        result = operationConfig;
+        invocation.getHandlerContext();
+        result = handlerContext;
+        minTimes = 0;
+      }
+    };
+  }
+
+  @Test
+  public void compressed() throws Exception {
+    long compressed = CompressionPolicy.CLIENT.getCompressed();
+    filter.beforeSendRequest(invocation, requestEx);
+
+    Assert.assertEquals(CompressionPolicy.GZIP, headers.get(HttpHeaders.CONTENT_ENCODING));
+    Assert.assertSame(restClientRequest.getBodyBuffer(), requestEx.getBodyBuffer());
+    try (GZIPInputStream input = new GZIPInputStream(
+        new ByteArrayInputStream(restClientRequest.getBodyBuffer().getBytes()))) {
+      Assert.assertEquals(BODY, IOUtils.toString(input, StandardCharsets.UTF_8));
+    }
+    Assert.assertEquals(compressed + 1, CompressionPolicy.CLIENT.getCompressed());
+  }
+
+  private void checkNotCompressed() throws Exception {
+    filter.beforeSendRequest(invocation, requestEx);
+
+    Assert.assertNull(headers.get(HttpHeaders.CONTENT_ENCODING));
+    Assert.assertEquals(BODY, restClientRequest.getBodyBuffer().toString());
+  }
+
+  @Test
+  public void operationDisabled() throws Exception {
+    operationConfig.setRequestCompressionEnabled(false);
+    checkNotCompressed();
+  }
+
+  @Test
+  public void smallBody() throws Exception {
+    operationConfig.setCompressionMinSize(BODY.length() + 1);
+    checkNotCompressed();
+  }
+
+  @Test
+  public void mimeTypeNotAllowed() throws Exception {
+    headers.set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_OCTET_STREAM);
+    checkNotCompressed();
+  }
+}
@@ -32,6 +32,7 @@ import javax.servlet.http.Part;
 
 import org.apache.log4j.Level;
 import org.apache.servicecomb.common.rest.RestConst;
+import org.apache.servicecomb.common.rest.codec.InvocationContextCodec;
 import org.apache.servicecomb.common.rest.definition.RestOperationMeta;
 import org.apache.servicecomb.common.rest.definition.path.URLPathBuilder;
 import org.apache.servicecomb.common.rest.filter.HttpClientFilter;
@@ -43,7 +44,6 @@ import org.apache.servicecomb.core.executor.ReactiveExecutor;
 import org.apache.servicecomb.core.invocation.InvocationStageTrace;
 import org.apache.servicecomb.core.tracing.TraceIdLogger;
 import org.apache.servicecomb.foundation.common.net.URIEndpointObject;
-import org.apache.servicecomb.foundation.common.utils.JsonUtils;
 import org.apache.servicecomb.foundation.test.scaffolding.exception.RuntimeExceptionWithoutStackTrace;
 import org.apache.servicecomb.foundation.test.scaffolding.log.LogCollector;
 import org.apache.servicecomb.foundation.vertx.client.http.HttpClientWithContext;
@@ -52,6 +52,7 @@ import org.apache.servicecomb.foundation.vertx.metrics.metric.DefaultHttpSocketM
 import org.apache.servicecomb.registry.definition.DefinitionConst;
 import org.apache.servicecomb.swagger.invocation.AsyncResponse;
 import org.apache.servicecomb.swagger.invocation.Response;
+import org.apache.servicecomb.swagger.invocation.context.InvocationContext;
 import org.apache.servicecomb.swagger.invocation.exception.InvocationException;
 import org.hamcrest.Matchers;
 import org.junit.Assert;
@@ -269,9 +270,9 @@ public class TestRestClientInvocation {
     LogCollector logCollector = new LogCollector();
     logCollector.setLogLevel(RestClientInvocation.class.getName(), Level.DEBUG);
 
-    new Expectations(JsonUtils.class) {
+    new Expectations(InvocationContextCodec.class) {
       {
-        JsonUtils.writeValueAsString(any);
+        InvocationContextCodec.encode((InvocationContext) any);
         result = new RuntimeExceptionWithoutStackTrace();
       }
     };
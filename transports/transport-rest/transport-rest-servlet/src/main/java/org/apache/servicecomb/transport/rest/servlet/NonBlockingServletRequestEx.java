@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.transport.rest.servlet;
+
+import java.io.IOException;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+
+import org.apache.servicecomb.foundation.vertx.http.StandardHttpServletRequestEx;
+import org.apache.servicecomb.foundation.vertx.stream.BufferInputStream;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * body is read by {@link ServletBodyReader} before dispatch, so getInputStream never blocks
+ */
+public class NonBlockingServletRequestEx extends StandardHttpServletRequestEx {
+  private final AsyncContext asyncContext;
+
+  private ServletInputStream bodyInputStream;
+
+  public NonBlockingServletRequestEx(HttpServletRequest request, AsyncContext asyncContext,
+      NonBlockingServletResponseEx responseEx) {
+    super(request);
+    this.asyncContext = new WriteAwareAsyncContext(asyncContext, responseEx);
+  }
+
+  @Override
+  public ServletInputStream getInputStream() throws IOException {
+    Buffer body = getBodyBuffer();
+    if (body == null) {
+      return super.getInputStream();
+    }
+
+    if (bodyInputStream == null) {
+      bodyInputStream = new BufferInputStream(body.getByteBuf());
+    }
+    return bodyInputStream;
+  }
+
+  @Override
+  public AsyncContext getAsyncContext() {
+    return asyncContext;
+  }
+
+  static class WriteAwareAsyncContext implements AsyncContext {
+    private final AsyncContext asyncContext;
+
+    private final NonBlockingServletResponseEx responseEx;
+
+    WriteAwareAsyncContext(AsyncContext asyncContext, NonBlockingServletResponseEx responseEx) {
+      this.asyncContext = asyncContext;
+      this.responseEx = responseEx;
+    }
+
+    @Override
+    public void complete() {
+      responseEx.getWriteFuture().whenComplete((v, e) -> asyncContext.complete());
+    }
+
+    @Override
+    public ServletRequest getRequest() {
+      return asyncContext.getRequest();
+    }
+
+    @Override
+    public ServletResponse getResponse() {
+      return asyncContext.getResponse();
+    }
+
+    @Override
+    public boolean hasOriginalRequestAndResponse() {
+      return asyncContext.hasOriginalRequestAndResponse();
+    }
+
+    @Override
+    public void dispatch() {
+      asyncContext.dispatch();
+    }
+
+    @Override
+    public void dispatch(String path) {
+      asyncContext.dispatch(path);
+    }
+
+    @Override
+    public void dispatch(ServletContext context, String path) {
+      asyncContext.dispatch(context, path);
+    }
+
+    @Override
+    public void start(Runnable run) {
+      asyncContext.start(run);
+    }
+
+    @Override
+    public void addListener(AsyncListener listener) {
+      asyncContext.addListener(listener);
+    }
+
+    @Override
+    public void addListener(AsyncListener listener, ServletRequest servletRequest, ServletResponse servletResponse) {
+      asyncContext.addListener(listener, servletRequest, servletResponse);
+    }
+
+    @Override
+    public <T extends AsyncListener> T createListener(Class<T> clazz) throws ServletException {
+      return asyncContext.createListener(clazz);
+    }
+
+    @Override
+    public void setTimeout(long timeout) {
+      asyncContext.setTimeout(timeout);
+    }
+
+    @Override
+    public long getTimeout() {
+      return asyncContext.getTimeout();
+    }
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.transport.rest.servlet;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.servicecomb.foundation.vertx.http.StandardHttpServletResponseEx;
+
+/**
+ * flushBuffer start to write body without blocking, {@link NonBlockingServletRequestEx} will delay
+ * AsyncContext.complete until the write finished
+ */
+public class NonBlockingServletResponseEx extends StandardHttpServletResponseEx {
+  private CompletableFuture<Void> writeFuture = CompletableFuture.completedFuture(null);
+
+  public NonBlockingServletResponseEx(HttpServletResponse response) {
+    super(response);
+  }
+
+  public CompletableFuture<Void> getWriteFuture() {
+    return writeFuture;
+  }
+
+  @Override
+  public void flushBuffer() throws IOException {
+    byte[] bytes = getBodyBytes();
+    if (bytes == null) {
+      super.flushBuffer();
+      return;
+    }
+
+    writeFuture = new ServletBodyWriter(getResponse().getOutputStream(), bytes, getBodyBytesLength()).write();
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.transport.rest.servlet;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.MediaType;
+
+import org.apache.commons.lang3.StringUtils;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * read request body by servlet 3.1 non-blocking io, container thread is released when waiting for data
+ */
+public class ServletBodyReader implements ReadListener {
+  private static final int READ_BUFFER_SIZE = 8192;
+
+  private final ServletInputStream inputStream;
+
+  private final Buffer body = Buffer.buffer();
+
+  private final byte[] readBuffer = new byte[READ_BUFFER_SIZE];
+
+  private final CompletableFuture<Buffer> future = new CompletableFuture<>();
+
+  public ServletBodyReader(ServletInputStream inputStream) {
+    this.inputStream = inputStream;
+  }
+
+  /**
+   * form and multipart body are parsed by servlet container, must leave the stream to container
+   */
+  public static boolean isBodyReadable(HttpServletRequest request) {
+    if (request.getContentLengthLong() == 0) {
+      return false;
+    }
+
+    String contentType = request.getContentType();
+    return !StringUtils.startsWithIgnoreCase(contentType, MediaType.APPLICATION_FORM_URLENCODED)
+        && !StringUtils.startsWithIgnoreCase(contentType, MediaType.MULTIPART_FORM_DATA);
+  }
+
+  public static CompletableFuture<Buffer> read(HttpServletRequest request) {
+    try {
+      ServletBodyReader reader = new ServletBodyReader(request.getInputStream());
+      reader.inputStream.setReadListener(reader);
+      return reader.future;
+    } catch (Throwable e) {
+      CompletableFuture<Buffer> future = new CompletableFuture<>();
+      future.completeExceptionally(e);
+      return future;
+    }
+  }
+
+  public CompletableFuture<Buffer> getFuture() {
+    return future;
+  }
+
+  @Override
+  public void onDataAvailable() throws IOException {
+    while (inputStream.isReady()) {
+      int len = inputStream.read(readBuffer);
+      if (len == -1) {
+        return;
+      }
+      body.appendBytes(readBuffer, 0, len);
+    }
+  }
+
+  @Override
+  public void onAllDataRead() {
+    future.complete(body);
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    future.completeExceptionally(throwable);
+  }
+}
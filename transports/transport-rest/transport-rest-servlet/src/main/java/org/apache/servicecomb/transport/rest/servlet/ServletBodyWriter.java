@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.transport.rest.servlet;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+
+/**
+ * write response body by servlet 3.1 non-blocking io, the caller thread is not blocked by slow client
+ */
+public class ServletBodyWriter implements WriteListener {
+  private static final int WRITE_CHUNK_SIZE = 8192;
+
+  private final ServletOutputStream outputStream;
+
+  private final byte[] bytes;
+
+  private final int length;
+
+  private int offset;
+
+  private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+  public ServletBodyWriter(ServletOutputStream outputStream, byte[] bytes, int length) {
+    this.outputStream = outputStream;
+    this.bytes = bytes;
+    this.length = length;
+  }
+
+  public CompletableFuture<Void> write() {
+    outputStream.setWriteListener(this);
+    return future;
+  }
+
+  @Override
+  public void onWritePossible() throws IOException {
+    while (outputStream.isReady()) {
+      if (offset >= length) {
+        future.complete(null);
+        return;
+      }
+
+      int chunk = Math.min(WRITE_CHUNK_SIZE, length - offset);
+      outputStream.write(bytes, offset, chunk);
+      offset += chunk;
+    }
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    future.completeExceptionally(throwable);
+  }
+}
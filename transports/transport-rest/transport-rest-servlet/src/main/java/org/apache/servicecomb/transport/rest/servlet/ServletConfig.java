@@ -30,6 +30,8 @@ public final class ServletConfig {
 
   public static final String KEY_SERVICECOMB_ASYC_SERVLET_TIMEOUT = "servicecomb.rest.server.timeout";
 
+  public static final String KEY_SERVICECOMB_NON_BLOCKING_IO_ENABLED = "servicecomb.rest.servlet.nonBlockingIO.enabled";
+
   public static final String DEFAULT_URL_PATTERN = "/*";
 
   private static final DynamicLongProperty asyncServletTimeoutProperty =
@@ -43,6 +45,10 @@ public final class ServletConfig {
     return asyncServletTimeoutProperty.get();
   }
 
+  public static boolean isNonBlockingIOEnabled() {
+    return DynamicPropertyFactory.getInstance().getBooleanProperty(KEY_SERVICECOMB_NON_BLOCKING_IO_ENABLED, false).get();
+  }
+
   public static String getLocalServerAddress() {
     DynamicStringProperty address =
         DynamicPropertyFactory.getInstance().getStringProperty(SERVICECOMB_REST_ADDRESS, null);
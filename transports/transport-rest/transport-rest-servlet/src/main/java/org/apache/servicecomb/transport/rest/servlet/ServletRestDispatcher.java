@@ -22,6 +22,7 @@ import java.util.List;
 import javax.servlet.AsyncContext;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import javax.ws.rs.core.Response.Status;
 
 import org.apache.servicecomb.common.rest.RestProducerInvocationFlow;
 import org.apache.servicecomb.common.rest.filter.HttpServerFilter;
@@ -35,8 +36,12 @@ import org.apache.servicecomb.foundation.vertx.http.HttpServletRequestEx;
 import org.apache.servicecomb.foundation.vertx.http.HttpServletResponseEx;
 import org.apache.servicecomb.foundation.vertx.http.StandardHttpServletRequestEx;
 import org.apache.servicecomb.foundation.vertx.http.StandardHttpServletResponseEx;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class ServletRestDispatcher {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ServletRestDispatcher.class);
+
   private RestAsyncListener restAsyncListener = new RestAsyncListener();
 
   private Transport transport;
@@ -56,9 +61,39 @@ public class ServletRestDispatcher {
     asyncCtx.addListener(restAsyncListener);
     asyncCtx.setTimeout(ServletConfig.getAsyncServletTimeout());
 
+    if (ServletConfig.isNonBlockingIOEnabled()) {
+      serviceNonBlocking(request, response, asyncCtx);
+      return;
+    }
+
     HttpServletRequestEx requestEx = new StandardHttpServletRequestEx(request);
     HttpServletResponseEx responseEx = new StandardHttpServletResponseEx(response);
+    dispatch(requestEx, responseEx);
+  }
+
+  protected void serviceNonBlocking(HttpServletRequest request, HttpServletResponse response, AsyncContext asyncCtx) {
+    NonBlockingServletResponseEx responseEx = new NonBlockingServletResponseEx(response);
+    NonBlockingServletRequestEx requestEx = new NonBlockingServletRequestEx(request, asyncCtx, responseEx);
+    if (!ServletBodyReader.isBodyReadable(request)) {
+      dispatch(requestEx, responseEx);
+      return;
+    }
+
+    ServletBodyReader.read(request).whenComplete((body, throwable) -> {
+      if (throwable != null) {
+        LOGGER.error("Failed to read rest request body, method {}, path {}.",
+            request.getMethod(), request.getRequestURI(), throwable);
+        response.setStatus(Status.BAD_REQUEST.getStatusCode());
+        asyncCtx.complete();
+        return;
+      }
+
+      requestEx.setBodyBuffer(body);
+      dispatch(requestEx, responseEx);
+    });
+  }
 
+  protected void dispatch(HttpServletRequestEx requestEx, HttpServletResponseEx responseEx) {
     if (SCBEngine.getInstance().isFilterChainEnabled()) {
       ((StandardHttpServletRequestEx) requestEx).setCacheRequest(true);
       InvocationCreator creator = new RestServletProducerInvocationCreator(microserviceMeta, transport.getEndpoint(),
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.transport.rest.servlet;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.MediaType;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import io.vertx.core.buffer.Buffer;
+
+public class TestServletBodyReader {
+  HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+
+  ServletInputStream inputStream = Mockito.mock(ServletInputStream.class);
+
+  @Test
+  public void isBodyReadable() {
+    Mockito.when(request.getContentLengthLong()).thenReturn(-1L);
+    Mockito.when(request.getContentType()).thenReturn(MediaType.APPLICATION_JSON);
+    Assert.assertTrue(ServletBodyReader.isBodyReadable(request));
+
+    Mockito.when(request.getContentType()).thenReturn(MediaType.MULTIPART_FORM_DATA + "; boundary=x");
+    Assert.assertFalse(ServletBodyReader.isBodyReadable(request));
+
+    Mockito.when(request.getContentType()).thenReturn(MediaType.APPLICATION_FORM_URLENCODED);
+    Assert.assertFalse(ServletBodyReader.isBodyReadable(request));
+
+    Mockito.when(request.getContentType()).thenReturn(MediaType.APPLICATION_JSON);
+    Mockito.when(request.getContentLengthLong()).thenReturn(0L);
+    Assert.assertFalse(ServletBodyReader.isBodyReadable(request));
+  }
+
+  @Test
+  public void read() throws IOException {
+    Mockito.when(request.getInputStream()).thenReturn(inputStream);
+    CompletableFuture<Buffer> future = ServletBodyReader.read(request);
+    ArgumentCaptor<ReadListener> captor = ArgumentCaptor.forClass(ReadListener.class);
+    Mockito.verify(inputStream).setReadListener(captor.capture());
+    ServletBodyReader reader = (ServletBodyReader) captor.getValue();
+
+    // first part, then not ready
+    Mockito.when(inputStream.isReady()).thenReturn(true, false);
+    Mockito.when(inputStream.read(Mockito.any(byte[].class))).thenAnswer(invocation -> {
+      byte[] buf = (byte[]) invocation.getArguments()[0];
+      buf[0] = 'a';
+      buf[1] = 'b';
+      return 2;
+    });
+    reader.onDataAvailable();
+    Assert.assertFalse(future.isDone());
+
+    // second part, then eof
+    Mockito.when(inputStream.isReady()).thenReturn(true, true);
+    Mockito.doAnswer(invocation -> {
+      byte[] buf = (byte[]) invocation.getArguments()[0];
+      buf[0] = 'c';
+      return 1;
+    }).doReturn(-1).when(inputStream).read(Mockito.any(byte[].class));
+    reader.onDataAvailable();
+    reader.onAllDataRead();
+
+    Assert.assertEquals("abc", future.join().toString());
+  }
+
+  @Test
+  public void onError() {
+    ServletBodyReader reader = new ServletBodyReader(inputStream);
+    IOException error = new IOException("broken");
+    reader.onError(error);
+
+    Assert.assertTrue(reader.getFuture().isCompletedExceptionally());
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.transport.rest.servlet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+import javax.servlet.ServletOutputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class TestServletBodyWriter {
+  ByteArrayOutputStream written = new ByteArrayOutputStream();
+
+  ServletOutputStream outputStream = Mockito.mock(ServletOutputStream.class);
+
+  @Test
+  public void write_when_ready() throws IOException {
+    Mockito.doAnswer(invocation -> {
+      Object[] args = invocation.getArguments();
+      written.write((byte[]) args[0], (int) args[1], (int) args[2]);
+      return null;
+    }).when(outputStream).write(Mockito.any(byte[].class), Mockito.anyInt(), Mockito.anyInt());
+
+    byte[] bytes = new byte[20000];
+    bytes[19999] = 1;
+    ServletBodyWriter writer = new ServletBodyWriter(outputStream, bytes, bytes.length);
+    CompletableFuture<Void> future = writer.write();
+    Mockito.verify(outputStream).setWriteListener(writer);
+
+    // write one chunk, then client is slow
+    Mockito.when(outputStream.isReady()).thenReturn(true, false);
+    writer.onWritePossible();
+    Assert.assertEquals(8192, written.size());
+    Assert.assertFalse(future.isDone());
+
+    Mockito.when(outputStream.isReady()).thenReturn(true);
+    writer.onWritePossible();
+    Assert.assertTrue(future.isDone());
+    Assert.assertArrayEquals(bytes, written.toByteArray());
+  }
+
+  @Test
+  public void onError() {
+    ServletBodyWriter writer = new ServletBodyWriter(outputStream, new byte[0], 0);
+    CompletableFuture<Void> future = writer.write();
+    writer.onError(new IOException("broken"));
+
+    Assert.assertTrue(future.isCompletedExceptionally());
+  }
+}
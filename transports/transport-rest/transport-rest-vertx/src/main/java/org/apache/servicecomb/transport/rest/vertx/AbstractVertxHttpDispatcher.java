@@ -40,6 +40,7 @@ public abstract class AbstractVertxHttpDispatcher implements VertxHttpDispatcher
     bodyHandler.setUploadsDirectory(uploadConfig.getLocation());
     bodyHandler.setDeleteUploadedFilesOnEnd(true);
     bodyHandler.setBodyLimit(uploadConfig.getMaxSize());
+    bodyHandler.setOffHeapThreshold(TransportConfig.getBodyOffHeapThreshold());
 
     if (uploadConfig.toMultipartConfigElement() != null) {
       LOGGER.info("set uploads directory to \"{}\".", uploadConfig.getLocation());
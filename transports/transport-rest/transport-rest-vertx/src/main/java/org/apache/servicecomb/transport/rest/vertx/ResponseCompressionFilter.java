@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.transport.rest.vertx;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.servicecomb.common.rest.compression.CompressionPolicy;
+import org.apache.servicecomb.common.rest.filter.HttpServerFilter;
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.definition.OperationConfig;
+import org.apache.servicecomb.foundation.common.utils.ExceptionUtils;
+import org.apache.servicecomb.foundation.vertx.http.HttpServletRequestEx;
+import org.apache.servicecomb.foundation.vertx.http.HttpServletResponseEx;
+import org.apache.servicecomb.foundation.vertx.http.VertxServerResponseToHttpServletResponse;
+import org.apache.servicecomb.swagger.invocation.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+
+/**
+ * <pre>
+ * when rest server compression is enabled, vertx compress all responses in event loop
+ * this filter make the decision by {@link CompressionPolicy}:
+ *   1.not compressible: mark identity encoding, vertx will skip it
+ *   2.small body: leave it to vertx
+ *   3.large body: compress it out of event loop, vertx will skip it too
+ * </pre>
+ */
+public class ResponseCompressionFilter implements HttpServerFilter {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ResponseCompressionFilter.class);
+
+  private final CompressionPolicy policy = CompressionPolicy.SERVER;
+
+  @Override
+  public int getOrder() {
+    // after all filters that may change the body
+    return Integer.MAX_VALUE;
+  }
+
+  @Override
+  public boolean enabled() {
+    return TransportConfig.getCompressed();
+  }
+
+  @Override
+  public Response afterReceiveRequest(Invocation invocation, HttpServletRequestEx requestEx) {
+    return null;
+  }
+
+  @Override
+  public CompletableFuture<Void> beforeSendResponseAsync(Invocation invocation, HttpServletResponseEx responseEx) {
+    Buffer body = responseEx.getBodyBuffer();
+    if (invocation == null || body == null
+        || !(responseEx instanceof VertxServerResponseToHttpServletResponse)
+        || responseEx.getHeader(HttpHeaders.CONTENT_ENCODING.toString()) != null) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    OperationConfig operationConfig = invocation.getOperationMeta().getConfig();
+    if (!operationConfig.isResponseCompressionEnabled() || !policy.isCompressible(responseEx.getContentType(),
+        body.length(), operationConfig.getCompressionMinSize())) {
+      responseEx.setHeader(HttpHeaders.CONTENT_ENCODING.toString(), CompressionPolicy.IDENTITY);
+      return CompletableFuture.completedFuture(null);
+    }
+
+    if (body.length() < policy.getLargeSize() || !isGzipAccepted(invocation.getRequestEx())) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    if (!Context.isOnEventLoopThread()) {
+      onCompressed(responseEx, compress(body));
+      return CompletableFuture.completedFuture(null);
+    }
+
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    Vertx.currentContext().<Buffer>executeBlocking(promise -> promise.complete(compress(body)), false, ar -> {
+      onCompressed(responseEx, ar.result());
+      future.complete(null);
+    });
+    return future;
+  }
+
+  protected boolean isGzipAccepted(HttpServletRequestEx requestEx) {
+    return requestEx != null
+        && StringUtils.containsIgnoreCase(requestEx.getHeader(HttpHeaders.ACCEPT_ENCODING.toString()),
+        CompressionPolicy.GZIP);
+  }
+
+  private Buffer compress(Buffer body) {
+    try {
+      return policy.compress(body);
+    } catch (Throwable e) {
+      // vertx will try again in event loop
+      LOGGER.warn("failed to compress response body, message={}.", ExceptionUtils.getExceptionMessageWithoutTrace(e));
+      return null;
+    }
+  }
+
+  private void onCompressed(HttpServletResponseEx responseEx, Buffer compressed) {
+    if (compressed == null) {
+      return;
+    }
+
+    responseEx.setBodyBuffer(compressed);
+    responseEx.setHeader(HttpHeaders.CONTENT_ENCODING.toString(), CompressionPolicy.GZIP);
+  }
+}
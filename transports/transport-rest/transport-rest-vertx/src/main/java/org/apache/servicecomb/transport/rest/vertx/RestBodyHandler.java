@@ -33,6 +33,9 @@ import org.apache.servicecomb.swagger.invocation.exception.CommonExceptionData;
 import org.apache.servicecomb.swagger.invocation.exception.ExceptionFactory;
 import org.apache.servicecomb.swagger.invocation.exception.InvocationException;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
@@ -52,6 +55,7 @@ import io.vertx.ext.web.impl.FileUploadImpl;
  * and modified.
  *
  * allowed to disable fileupload by setUploadsDirectory(null)
+ * allowed to save large body in pooled direct buffers by setOffHeapThreshold
  */
 public class RestBodyHandler implements BodyHandler {
 
@@ -73,6 +77,11 @@ public class RestBodyHandler implements BodyHandler {
 
   private static final int DEFAULT_INITIAL_BODY_BUFFER_SIZE = 1024; //bytes
 
+  private static final int OFF_HEAP_CHUNK_SIZE = 64 * 1024;
+
+  // body larger than this will be moved to off heap, -1 means never
+  private long offHeapThreshold = -1;
+
   public static final String BYPASS_BODY_HANDLER = "__bypass_body_handler";
 
   public RestBodyHandler() {
@@ -160,6 +169,11 @@ public class RestBodyHandler implements BodyHandler {
     return this;
   }
 
+  public RestBodyHandler setOffHeapThreshold(long offHeapThreshold) {
+    this.offHeapThreshold = offHeapThreshold;
+    return this;
+  }
+
   private long parseContentLengthHeader(HttpServerRequest request) {
     String contentLength = request.getHeader(HttpHeaders.CONTENT_LENGTH);
     if (contentLength == null || contentLength.isEmpty()) {
@@ -180,6 +194,14 @@ public class RestBodyHandler implements BodyHandler {
 
     private Buffer body;
 
+    // not null after body size exceed offHeapThreshold, released when response ended or closed
+    private CompositeByteBuf offHeapBody;
+
+    private ByteBuf offHeapChunk;
+
+    // response end, response close and exception handlers may all try to release
+    private final AtomicBoolean offHeapReleased = new AtomicBoolean();
+
     private boolean failed;
 
     private AtomicInteger uploadCount = new AtomicInteger();
@@ -251,6 +273,7 @@ public class RestBodyHandler implements BodyHandler {
       }
       context.request().exceptionHandler(t -> {
         deleteFileUploads();
+        releaseOffHeapBody();
         context.fail(t);
       });
     }
@@ -301,8 +324,53 @@ public class RestBodyHandler implements BodyHandler {
         // url encoded should also not, however jQuery by default
         // post in urlencoded even if the payload is something else
         if (!isMultipart /* && !isUrlEncoded */) {
+          appendBody(buff);
+        }
+      }
+    }
+
+    private void appendBody(Buffer buff) {
+      if (offHeapBody == null) {
+        if (offHeapThreshold < 0 || body.length() + buff.length() <= offHeapThreshold) {
           body.appendBuffer(buff);
+          return;
         }
+
+        offHeapBody = PooledByteBufAllocator.DEFAULT.compositeDirectBuffer(Integer.MAX_VALUE);
+        appendOffHeap(body.getByteBuf());
+        body = null;
+      }
+
+      appendOffHeap(buff.getByteBuf());
+    }
+
+    // copy to fixed size chunks, avoid too many components
+    private void appendOffHeap(ByteBuf buf) {
+      while (buf.isReadable()) {
+        if (offHeapChunk == null) {
+          offHeapChunk = PooledByteBufAllocator.DEFAULT.directBuffer(OFF_HEAP_CHUNK_SIZE, OFF_HEAP_CHUNK_SIZE);
+        }
+
+        offHeapChunk.writeBytes(buf, Math.min(buf.readableBytes(), offHeapChunk.writableBytes()));
+        if (!offHeapChunk.isWritable()) {
+          offHeapBody.addComponent(true, offHeapChunk);
+          offHeapChunk = null;
+        }
+      }
+    }
+
+    private void releaseOffHeapBody() {
+      if (offHeapBody == null && offHeapChunk == null || !offHeapReleased.compareAndSet(false, true)) {
+        return;
+      }
+
+      if (offHeapChunk != null) {
+        offHeapChunk.release();
+        offHeapChunk = null;
+      }
+      if (offHeapBody != null) {
+        offHeapBody.release();
+        offHeapBody = null;
       }
     }
 
@@ -328,6 +396,7 @@ public class RestBodyHandler implements BodyHandler {
     void doEnd() {
       if (failed) {
         deleteFileUploads();
+        releaseOffHeapBody();
         return;
       }
 
@@ -339,6 +408,17 @@ public class RestBodyHandler implements BodyHandler {
       if (mergeFormAttributes && req.isExpectMultipart()) {
         req.params().addAll(req.formAttributes());
       }
+      if (offHeapBody != null) {
+        if (offHeapChunk != null) {
+          offHeapBody.addComponent(true, offHeapChunk);
+          offHeapChunk = null;
+        }
+        body = Buffer.buffer(offHeapBody);
+        // body end handler is not invoked if the connection closed before response ended
+        context.addBodyEndHandler(x -> releaseOffHeapBody());
+        context.response().closeHandler(x -> releaseOffHeapBody());
+        context.response().exceptionHandler(x -> releaseOffHeapBody());
+      }
       context.setBody(body);
       context.next();
     }
@@ -78,6 +78,15 @@ public final class TransportConfig {
         .get();
   }
 
+  /**
+   * accept compressed request body, required when consumers enable request compression
+   */
+  public static boolean getDecompressionSupported() {
+    return DynamicPropertyFactory.getInstance()
+        .getBooleanProperty("servicecomb.rest.server.decompression", false)
+        .get();
+  }
+
   public static long getMaxConcurrentStreams() {
     return DynamicPropertyFactory.getInstance()
         .getLongProperty("servicecomb.rest.server.http2.concurrentStreams",
@@ -158,4 +167,13 @@ public final class TransportConfig {
             HttpServerOptions.DEFAULT_MAX_INITIAL_LINE_LENGTH)
         .get();
   }
+
+  /**
+   * request body larger than this will be saved in pooled direct buffers instead of heap, -1 means disabled
+   */
+  public static long getBodyOffHeapThreshold() {
+    return DynamicPropertyFactory.getInstance()
+        .getLongProperty("servicecomb.rest.server.body.offHeapThreshold", -1)
+        .get();
+  }
 }
@@ -203,7 +203,7 @@ public class VertxRestDispatcher extends AbstractVertxHttpDispatcher {
       microserviceMeta = SCBEngine.getInstance().getProducerMicroserviceMeta();
     }
     HttpServletRequestEx requestEx = new VertxServerRequestToHttpServletRequest(context);
-    HttpServletResponseEx responseEx = new VertxServerResponseToHttpServletResponse(context.response());
+    HttpServletResponseEx responseEx = new VertxServerResponseToHttpServletResponse(context.response(), context.request());
 
     if (SCBEngine.getInstance().isFilterChainEnabled()) {
       InvocationCreator creator = new RestVertxProducerInvocationCreator(context,
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.transport.rest.vertx;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.servicecomb.common.rest.compression.CompressionPolicy;
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.definition.OperationConfig;
+import org.apache.servicecomb.core.definition.OperationMeta;
+import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
+import org.apache.servicecomb.foundation.vertx.http.HttpServletRequestEx;
+import org.apache.servicecomb.foundation.vertx.http.VertxServerResponseToHttpServletResponse;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.core.Context;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import mockit.Expectations;
+import mockit.Mock;
+import mockit.MockUp;
+import mockit.Mocked;
+
+public class TestResponseCompressionFilter {
+  static final String BODY = StringUtils.repeat("{\"name\":\"value\"}", 100);
+
+  @Mocked
+  Vertx vertx;
+
+  @Mocked
+  Context context;
+
+  @Mocked
+  Invocation invocation;
+
+  @Mocked
+  OperationMeta operationMeta;
+
+  @Mocked
+  HttpServletRequestEx requestEx;
+
+  MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+
+  OperationConfig operationConfig = new OperationConfig();
+
+  VertxServerResponseToHttpServletResponse responseEx;
+
+  ResponseCompressionFilter filter = new ResponseCompressionFilter();
+
+  @Before
+  public void setUp() {
+    ArchaiusUtils.resetConfig();
+    operationConfig.setResponseCompressionEnabled(true);
+    operationConfig.setCompressionMinSize(1024);
+
+    HttpServerResponse serverResponse = new MockUp<HttpServerResponse>() {
+      @Mock
+      MultiMap headers() {
+        return headers;
+      }
+    }.getMockInstance();
+    responseEx = new VertxServerResponseToHttpServletResponse(serverResponse);
+    responseEx.setContentType("application/json; charset=utf-8");
+    responseEx.setBodyBuffer(Buffer.buffer(BODY));
+
+    new Expectations() {
+      {
+        invocation.getOperationMeta();
+        result = operationMeta;
+        minTimes = 0;
+        operationMeta.getConfig();
+        result = operationConfig;
+        minTimes = 0;
+        invocation.getRequestEx();
+        result = requestEx;
+        minTimes = 0;
+        requestEx.getHeader(HttpHeaders.ACCEPT_ENCODING.toString());
+        result = "gzip, deflate";
+        minTimes = 0;
+      }
+    };
+  }
+
+  @After
+  public void tearDown() {
+    ArchaiusUtils.resetConfig();
+  }
+
+  private void runFilter() {
+    Assert.assertTrue(filter.beforeSendResponseAsync(invocation, responseEx).isDone());
+  }
+
+  @Test
+  public void enabled() {
+    Assert.assertFalse(filter.enabled());
+
+    ArchaiusUtils.setProperty("servicecomb.rest.server.compression", true);
+    Assert.assertTrue(filter.enabled());
+  }
+
+  @Test
+  public void smallBody() {
+    operationConfig.setCompressionMinSize(BODY.length() + 1);
+    runFilter();
+
+    Assert.assertEquals(CompressionPolicy.IDENTITY, headers.get(HttpHeaders.CONTENT_ENCODING));
+    Assert.assertEquals(BODY, responseEx.getBodyBuffer().toString());
+  }
+
+  @Test
+  public void mimeTypeNotAllowed() {
+    responseEx.setContentType("image/png");
+    runFilter();
+
+    Assert.assertEquals(CompressionPolicy.IDENTITY, headers.get(HttpHeaders.CONTENT_ENCODING));
+  }
+
+  @Test
+  public void operationDisabled() {
+    operationConfig.setResponseCompressionEnabled(false);
+    runFilter();
+
+    Assert.assertEquals(CompressionPolicy.IDENTITY, headers.get(HttpHeaders.CONTENT_ENCODING));
+  }
+
+  @Test
+  public void alreadyEncoded() {
+    headers.set(HttpHeaders.CONTENT_ENCODING, "br");
+    operationConfig.setResponseCompressionEnabled(false);
+    runFilter();
+
+    Assert.assertEquals("br", headers.get(HttpHeaders.CONTENT_ENCODING));
+  }
+
+  @Test
+  public void mediumBody_compressedByVertx() {
+    runFilter();
+
+    Assert.assertNull(headers.get(HttpHeaders.CONTENT_ENCODING));
+    Assert.assertEquals(BODY, responseEx.getBodyBuffer().toString());
+  }
+
+  @Test
+  public void largeBody_compressed() throws IOException {
+    ArchaiusUtils.setProperty("servicecomb.rest.server.compressionPolicy.largeSize", BODY.length());
+    long compressed = CompressionPolicy.SERVER.getCompressed();
+    runFilter();
+
+    Assert.assertEquals(CompressionPolicy.GZIP, headers.get(HttpHeaders.CONTENT_ENCODING));
+    try (GZIPInputStream input = new GZIPInputStream(
+        new ByteArrayInputStream(responseEx.getBodyBuffer().getBytes()))) {
+      Assert.assertEquals(BODY, IOUtils.toString(input, StandardCharsets.UTF_8));
+    }
+    Assert.assertEquals(compressed + 1, CompressionPolicy.SERVER.getCompressed());
+  }
+
+  @Test
+  public void largeBody_gzipNotAccepted() {
+    ArchaiusUtils.setProperty("servicecomb.rest.server.compressionPolicy.largeSize", BODY.length());
+    new Expectations() {
+      {
+        requestEx.getHeader(HttpHeaders.ACCEPT_ENCODING.toString());
+        result = null;
+      }
+    };
+    runFilter();
+
+    Assert.assertNull(headers.get(HttpHeaders.CONTENT_ENCODING));
+    Assert.assertEquals(BODY, responseEx.getBodyBuffer().toString());
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.transport.rest.vertx;
+
+import java.util.HashSet;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+public class TestRestBodyHandler {
+  RestBodyHandler bodyHandler = new RestBodyHandler(false);
+
+  RoutingContext context = Mockito.mock(RoutingContext.class);
+
+  HttpServerRequest request = Mockito.mock(HttpServerRequest.class);
+
+  HttpServerResponse response = Mockito.mock(HttpServerResponse.class);
+
+  Handler<Buffer> dataHandler;
+
+  Handler<Void> endHandler;
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  @Before
+  public void setUp() {
+    Mockito.when(context.request()).thenReturn(request);
+    Mockito.when(context.response()).thenReturn(response);
+    Mockito.when(context.fileUploads()).thenReturn(new HashSet<>());
+    Mockito.when(request.headers()).thenReturn(MultiMap.caseInsensitiveMultiMap());
+
+    bodyHandler.setBodyLimit(-1);
+    bodyHandler.handle(context);
+
+    ArgumentCaptor<Handler<Buffer>> dataCaptor = (ArgumentCaptor) ArgumentCaptor.forClass(Handler.class);
+    Mockito.verify(request).handler(dataCaptor.capture());
+    dataHandler = dataCaptor.getValue();
+
+    ArgumentCaptor<Handler<Void>> endCaptor = (ArgumentCaptor) ArgumentCaptor.forClass(Handler.class);
+    Mockito.verify(request).endHandler(endCaptor.capture());
+    endHandler = endCaptor.getValue();
+  }
+
+  private Buffer endAndGetBody() {
+    endHandler.handle(null);
+    ArgumentCaptor<Buffer> bodyCaptor = ArgumentCaptor.forClass(Buffer.class);
+    Mockito.verify(context).setBody(bodyCaptor.capture());
+    return bodyCaptor.getValue();
+  }
+
+  @Test
+  public void should_keep_body_in_heap_by_default() {
+    dataHandler.handle(Buffer.buffer("abc"));
+
+    Buffer body = endAndGetBody();
+    Assert.assertEquals("abc", body.toString());
+    Assert.assertFalse(body.getByteBuf().isDirect());
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  @Test
+  public void should_move_body_off_heap_when_exceed_threshold() {
+    bodyHandler.setOffHeapThreshold(4);
+    byte[] large = new byte[100 * 1024];
+    large[large.length - 1] = 1;
+
+    dataHandler.handle(Buffer.buffer("abc"));
+    dataHandler.handle(Buffer.buffer(large));
+
+    Buffer body = endAndGetBody();
+    ByteBuf byteBuf = body.getByteBuf();
+    Assert.assertTrue(byteBuf.isDirect());
+    Assert.assertEquals(3 + large.length, body.length());
+    Assert.assertEquals("abc", body.getString(0, 3));
+    Assert.assertEquals(1, body.getByte(body.length() - 1));
+
+    ArgumentCaptor<Handler<Void>> bodyEndCaptor = (ArgumentCaptor) ArgumentCaptor.forClass(Handler.class);
+    Mockito.verify(context).addBodyEndHandler(bodyEndCaptor.capture());
+    bodyEndCaptor.getValue().handle(null);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  @Test
+  public void should_release_off_heap_body_once_when_response_closed() {
+    bodyHandler.setOffHeapThreshold(4);
+    dataHandler.handle(Buffer.buffer(new byte[100 * 1024]));
+
+    ByteBuf byteBuf = endAndGetBody().getByteBuf();
+    Assert.assertEquals(1, byteBuf.refCnt());
+
+    ArgumentCaptor<Handler<Void>> closeCaptor = (ArgumentCaptor) ArgumentCaptor.forClass(Handler.class);
+    Mockito.verify(response).closeHandler(closeCaptor.capture());
+    closeCaptor.getValue().handle(null);
+    Assert.assertEquals(0, byteBuf.refCnt());
+
+    // not release again
+    ArgumentCaptor<Handler<Throwable>> exceptionCaptor = (ArgumentCaptor) ArgumentCaptor.forClass(Handler.class);
+    Mockito.verify(response).exceptionHandler(exceptionCaptor.capture());
+    exceptionCaptor.getValue().handle(new IllegalStateException());
+    ArgumentCaptor<Handler<Void>> bodyEndCaptor = (ArgumentCaptor) ArgumentCaptor.forClass(Handler.class);
+    Mockito.verify(context).addBodyEndHandler(bodyEndCaptor.capture());
+    bodyEndCaptor.getValue().handle(null);
+  }
+}
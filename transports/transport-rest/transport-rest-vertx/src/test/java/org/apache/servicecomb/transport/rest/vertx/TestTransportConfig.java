@@ -164,6 +164,13 @@ public class TestTransportConfig {
     Assert.assertFalse(TransportConfig.getUseAlpn());
   }
 
+  @Test
+  public void testGetBodyOffHeapThreshold() {
+    Assert.assertEquals(-1, TransportConfig.getBodyOffHeapThreshold());
+    ArchaiusUtils.setProperty("servicecomb.rest.server.body.offHeapThreshold", 1024);
+    Assert.assertEquals(1024, TransportConfig.getBodyOffHeapThreshold());
+  }
+
   @Test
   public void testGetMaxInitialLineLength() {
     Assert.assertEquals(4096, TransportConfig.getMaxInitialLineLength());